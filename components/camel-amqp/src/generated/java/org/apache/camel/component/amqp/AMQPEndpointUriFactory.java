@@ -21,7 +21,7 @@ public class AMQPEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(98);
+        Set<String> props = new HashSet<>(99);
         props.add("acceptMessagesWhileStopping");
         props.add("acknowledgementModeName");
         props.add("allowAdditionalHeaders");
@@ -97,6 +97,7 @@ public class AMQPEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("replyToOnTimeoutMaxConcurrentConsumers");
         props.add("replyToOverride");
         props.add("replyToSameDestinationAllowed");
+        props.add("replyToShards");
         props.add("replyToType");
         props.add("requestTimeout");
         props.add("requestTimeoutCheckerInterval");
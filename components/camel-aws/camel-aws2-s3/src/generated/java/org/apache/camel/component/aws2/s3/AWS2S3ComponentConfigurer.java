@@ -84,6 +84,8 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "moveAfterRead": getOrCreateConfiguration(target).setMoveAfterRead(property(camelContext, boolean.class, value)); return true;
         case "multipartupload":
         case "multiPartUpload": getOrCreateConfiguration(target).setMultiPartUpload(property(camelContext, boolean.class, value)); return true;
+        case "multipartuploadconcurrency":
+        case "multiPartUploadConcurrency": getOrCreateConfiguration(target).setMultiPartUploadConcurrency(property(camelContext, int.class, value)); return true;
         case "namingstrategy":
         case "namingStrategy": getOrCreateConfiguration(target).setNamingStrategy(property(camelContext, org.apache.camel.component.aws2.s3.stream.AWSS3NamingStrategyEnum.class, value)); return true;
         case "operation": getOrCreateConfiguration(target).setOperation(property(camelContext, org.apache.camel.component.aws2.s3.AWS2S3Operations.class, value)); return true;
@@ -101,6 +103,10 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "proxyPort": getOrCreateConfiguration(target).setProxyPort(property(camelContext, java.lang.Integer.class, value)); return true;
         case "proxyprotocol":
         case "proxyProtocol": getOrCreateConfiguration(target).setProxyProtocol(property(camelContext, software.amazon.awssdk.core.Protocol.class, value)); return true;
+        case "rangedownloadconcurrency":
+        case "rangeDownloadConcurrency": getOrCreateConfiguration(target).setRangeDownloadConcurrency(property(camelContext, int.class, value)); return true;
+        case "rangedownloadpartsize":
+        case "rangeDownloadPartSize": getOrCreateConfiguration(target).setRangeDownloadPartSize(property(camelContext, long.class, value)); return true;
         case "region": getOrCreateConfiguration(target).setRegion(property(camelContext, java.lang.String.class, value)); return true;
         case "restartingpolicy":
         case "restartingPolicy": getOrCreateConfiguration(target).setRestartingPolicy(property(camelContext, org.apache.camel.component.aws2.s3.stream.AWSS3RestartingPolicyEnum.class, value)); return true;
@@ -192,6 +198,8 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "moveAfterRead": return boolean.class;
         case "multipartupload":
         case "multiPartUpload": return boolean.class;
+        case "multipartuploadconcurrency":
+        case "multiPartUploadConcurrency": return int.class;
         case "namingstrategy":
         case "namingStrategy": return org.apache.camel.component.aws2.s3.stream.AWSS3NamingStrategyEnum.class;
         case "operation": return org.apache.camel.component.aws2.s3.AWS2S3Operations.class;
@@ -209,6 +217,10 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "proxyPort": return java.lang.Integer.class;
         case "proxyprotocol":
         case "proxyProtocol": return software.amazon.awssdk.core.Protocol.class;
+        case "rangedownloadconcurrency":
+        case "rangeDownloadConcurrency": return int.class;
+        case "rangedownloadpartsize":
+        case "rangeDownloadPartSize": return long.class;
         case "region": return java.lang.String.class;
         case "restartingpolicy":
         case "restartingPolicy": return org.apache.camel.component.aws2.s3.stream.AWSS3RestartingPolicyEnum.class;
@@ -296,6 +308,8 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "moveAfterRead": return getOrCreateConfiguration(target).isMoveAfterRead();
         case "multipartupload":
         case "multiPartUpload": return getOrCreateConfiguration(target).isMultiPartUpload();
+        case "multipartuploadconcurrency":
+        case "multiPartUploadConcurrency": return getOrCreateConfiguration(target).getMultiPartUploadConcurrency();
         case "namingstrategy":
         case "namingStrategy": return getOrCreateConfiguration(target).getNamingStrategy();
         case "operation": return getOrCreateConfiguration(target).getOperation();
@@ -313,6 +327,10 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "proxyPort": return getOrCreateConfiguration(target).getProxyPort();
         case "proxyprotocol":
         case "proxyProtocol": return getOrCreateConfiguration(target).getProxyProtocol();
+        case "rangedownloadconcurrency":
+        case "rangeDownloadConcurrency": return getOrCreateConfiguration(target).getRangeDownloadConcurrency();
+        case "rangedownloadpartsize":
+        case "rangeDownloadPartSize": return getOrCreateConfiguration(target).getRangeDownloadPartSize();
         case "region": return getOrCreateConfiguration(target).getRegion();
         case "restartingpolicy":
         case "restartingPolicy": return getOrCreateConfiguration(target).getRestartingPolicy();
@@ -92,6 +92,8 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "moveAfterRead": target.getConfiguration().setMoveAfterRead(property(camelContext, boolean.class, value)); return true;
         case "multipartupload":
         case "multiPartUpload": target.getConfiguration().setMultiPartUpload(property(camelContext, boolean.class, value)); return true;
+        case "multipartuploadconcurrency":
+        case "multiPartUploadConcurrency": target.getConfiguration().setMultiPartUploadConcurrency(property(camelContext, int.class, value)); return true;
         case "namingstrategy":
         case "namingStrategy": target.getConfiguration().setNamingStrategy(property(camelContext, org.apache.camel.component.aws2.s3.stream.AWSS3NamingStrategyEnum.class, value)); return true;
         case "operation": target.getConfiguration().setOperation(property(camelContext, org.apache.camel.component.aws2.s3.AWS2S3Operations.class, value)); return true;
@@ -111,6 +113,10 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "proxyPort": target.getConfiguration().setProxyPort(property(camelContext, java.lang.Integer.class, value)); return true;
         case "proxyprotocol":
         case "proxyProtocol": target.getConfiguration().setProxyProtocol(property(camelContext, software.amazon.awssdk.core.Protocol.class, value)); return true;
+        case "rangedownloadconcurrency":
+        case "rangeDownloadConcurrency": target.getConfiguration().setRangeDownloadConcurrency(property(camelContext, int.class, value)); return true;
+        case "rangedownloadpartsize":
+        case "rangeDownloadPartSize": target.getConfiguration().setRangeDownloadPartSize(property(camelContext, long.class, value)); return true;
         case "region": target.getConfiguration().setRegion(property(camelContext, java.lang.String.class, value)); return true;
         case "repeatcount":
         case "repeatCount": target.setRepeatCount(property(camelContext, long.class, value)); return true;
@@ -234,6 +240,8 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "moveAfterRead": return boolean.class;
         case "multipartupload":
         case "multiPartUpload": return boolean.class;
+        case "multipartuploadconcurrency":
+        case "multiPartUploadConcurrency": return int.class;
         case "namingstrategy":
         case "namingStrategy": return org.apache.camel.component.aws2.s3.stream.AWSS3NamingStrategyEnum.class;
         case "operation": return org.apache.camel.component.aws2.s3.AWS2S3Operations.class;
@@ -253,6 +261,10 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "proxyPort": return java.lang.Integer.class;
         case "proxyprotocol":
         case "proxyProtocol": return software.amazon.awssdk.core.Protocol.class;
+        case "rangedownloadconcurrency":
+        case "rangeDownloadConcurrency": return int.class;
+        case "rangedownloadpartsize":
+        case "rangeDownloadPartSize": return long.class;
         case "region": return java.lang.String.class;
         case "repeatcount":
         case "repeatCount": return long.class;
@@ -372,6 +384,8 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "moveAfterRead": return target.getConfiguration().isMoveAfterRead();
         case "multipartupload":
         case "multiPartUpload": return target.getConfiguration().isMultiPartUpload();
+        case "multipartuploadconcurrency":
+        case "multiPartUploadConcurrency": return target.getConfiguration().getMultiPartUploadConcurrency();
         case "namingstrategy":
         case "namingStrategy": return target.getConfiguration().getNamingStrategy();
         case "operation": return target.getConfiguration().getOperation();
@@ -391,6 +405,10 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "proxyPort": return target.getConfiguration().getProxyPort();
         case "proxyprotocol":
         case "proxyProtocol": return target.getConfiguration().getProxyProtocol();
+        case "rangedownloadconcurrency":
+        case "rangeDownloadConcurrency": return target.getConfiguration().getRangeDownloadConcurrency();
+        case "rangedownloadpartsize":
+        case "rangeDownloadPartSize": return target.getConfiguration().getRangeDownloadPartSize();
         case "region": return target.getConfiguration().getRegion();
         case "repeatcount":
         case "repeatCount": return target.getRepeatCount();
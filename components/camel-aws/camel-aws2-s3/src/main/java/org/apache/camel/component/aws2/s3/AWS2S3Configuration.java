@@ -68,6 +68,12 @@ public class AWS2S3Configuration implements Cloneable {
     private boolean multiPartUpload;
     @UriParam(label = "producer", defaultValue = "" + 25 * 1024 * 1024)
     private long partSize = 25 * 1024 * 1024;
+    @UriParam(label = "producer", defaultValue = "1")
+    private int multiPartUploadConcurrency = 1;
+    @UriParam(label = "consumer", defaultValue = "1")
+    private int rangeDownloadConcurrency = 1;
+    @UriParam(label = "consumer", defaultValue = "" + 25 * 1024 * 1024)
+    private long rangeDownloadPartSize = 25 * 1024 * 1024;
     @UriParam
     private String policy;
     @UriParam(label = "producer")
@@ -152,6 +158,44 @@ public class AWS2S3Configuration implements Cloneable {
         this.multiPartUpload = multiPartUpload;
     }
 
+    public int getMultiPartUploadConcurrency() {
+        return multiPartUploadConcurrency;
+    }
+
+    /**
+     * The number of parts to upload in parallel when using multi part upload. The parts being uploaded are read from
+     * the file, so the memory used is bounded by this number of parts of `partSize`. The default is 1, which uploads the
+     * parts one by one.
+     */
+    public void setMultiPartUploadConcurrency(int multiPartUploadConcurrency) {
+        this.multiPartUploadConcurrency = multiPartUploadConcurrency;
+    }
+
+    public int getRangeDownloadConcurrency() {
+        return rangeDownloadConcurrency;
+    }
+
+    /**
+     * If set greater than 1, then objects larger than `rangeDownloadPartSize` are downloaded using this number of
+     * parallel byte range requests. The ranges are downloaded when the body is read, and at most this number of ranges
+     * are kept in memory at the same time.
+     */
+    public void setRangeDownloadConcurrency(int rangeDownloadConcurrency) {
+        this.rangeDownloadConcurrency = rangeDownloadConcurrency;
+    }
+
+    public long getRangeDownloadPartSize() {
+        return rangeDownloadPartSize;
+    }
+
+    /**
+     * The size of each of the byte ranges when downloading objects in parallel using `rangeDownloadConcurrency`, the
+     * default size is 25M.
+     */
+    public void setRangeDownloadPartSize(long rangeDownloadPartSize) {
+        this.rangeDownloadPartSize = rangeDownloadPartSize;
+    }
+
     public String getAccessKey() {
         return accessKey;
     }
@@ -17,12 +17,14 @@
 package org.apache.camel.component.aws2.s3;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
@@ -44,6 +46,7 @@ import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
@@ -69,6 +72,7 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
 
     private String marker;
     private transient String s3ConsumerToString;
+    private ExecutorService rangeDownloadExecutorService;
 
     public AWS2S3Consumer(AWS2S3Endpoint endpoint, Processor processor) {
         super(endpoint, processor);
@@ -78,6 +82,11 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
     protected void doStart() throws Exception {
         super.doStart();
 
+        if (getConfiguration().getRangeDownloadConcurrency() > 1) {
+            rangeDownloadExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "AWS2S3RangeDownload", getConfiguration().getRangeDownloadConcurrency());
+        }
+
         if (getConfiguration().isMoveAfterRead()) {
             try {
                 getAmazonS3Client()
@@ -109,6 +118,16 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
         }
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        if (rangeDownloadExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(rangeDownloadExecutorService);
+            rangeDownloadExecutorService = null;
+        }
+
+        super.doStop();
+    }
+
     @Override
     protected int poll() throws Exception {
         // must reset for each poll
@@ -213,8 +232,13 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
                         getRequest.sseCustomerAlgorithm(getConfiguration().getCustomerAlgorithm());
                     }
                 }
-                ResponseInputStream<GetObjectResponse> s3Object
-                        = getAmazonS3Client().getObject(getRequest.build(), ResponseTransformer.toInputStream());
+                ResponseInputStream<GetObjectResponse> s3Object;
+                if (isRangeDownload(s3ObjectSummary)) {
+                    // large objects are downloaded using parallel byte range requests when the body is read
+                    s3Object = getObjectInRanges(getRequest, s3ObjectSummary);
+                } else {
+                    s3Object = getAmazonS3Client().getObject(getRequest.build(), ResponseTransformer.toInputStream());
+                }
 
                 if (includeS3Object(s3Object)) {
                     s3Objects.add(s3Object);
@@ -237,6 +261,39 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
         return answer;
     }
 
+    private boolean isRangeDownload(S3Object s3ObjectSummary) {
+        return rangeDownloadExecutorService != null && !getConfiguration().isIgnoreBody()
+                && s3ObjectSummary.size() != null && s3ObjectSummary.size() > getConfiguration().getRangeDownloadPartSize();
+    }
+
+    /**
+     * Gets the object using byte range requests. The first range is requested now, to get the metadata of the object,
+     * and the body of the first range is streamed when read. The next ranges are only downloaded when the body is read.
+     */
+    private ResponseInputStream<GetObjectResponse> getObjectInRanges(Builder getRequest, S3Object s3ObjectSummary) {
+        final long partSize = getConfiguration().getRangeDownloadPartSize();
+        final GetObjectRequest request = getRequest.build();
+
+        LOG.trace("Getting object with key [{}] using byte ranges of {} bytes", s3ObjectSummary.key(), partSize);
+
+        ResponseInputStream<GetObjectResponse> first = getAmazonS3Client().getObject(
+                request.toBuilder().range("bytes=0-" + (partSize - 1)).build(), ResponseTransformer.toInputStream());
+        // the content range of the first range has the size of the entire object, such as bytes 0-1023/146515
+        long size = s3ObjectSummary.size();
+        String contentRange = first.response().contentRange();
+        if (contentRange != null && contentRange.indexOf('/') != -1) {
+            size = Long.parseLong(contentRange.substring(contentRange.lastIndexOf('/') + 1));
+        }
+        GetObjectResponse response = first.response().toBuilder().contentLength(size).contentRange(null).build();
+        // all the ranges must be of the same version of the object
+        GetObjectRequest rangeRequest = request.toBuilder().ifMatch(response.eTag()).build();
+
+        InputStream body = new AWS2S3RangeInputStream(
+                getAmazonS3Client(), rangeDownloadExecutorService, rangeRequest, first, size, partSize,
+                getConfiguration().getRangeDownloadConcurrency());
+        return new ResponseInputStream<>(response, AbortableInputStream.create(body, first::abort));
+    }
+
     /**
      * Decide whether to include the S3Objects in the results
      *
@@ -20,14 +20,21 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import org.apache.camel.CamelExecutionException;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
@@ -82,10 +89,32 @@ public class AWS2S3Producer extends DefaultProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(AWS2S3Producer.class);
 
+    private ExecutorService multiPartExecutorService;
+
     public AWS2S3Producer(final Endpoint endpoint) {
         super(endpoint);
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (getConfiguration().isMultiPartUpload() && getConfiguration().getMultiPartUploadConcurrency() > 1) {
+            multiPartExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "AWS2S3MultiPartUpload", getConfiguration().getMultiPartUploadConcurrency());
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (multiPartExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(multiPartExecutorService);
+            multiPartExecutorService = null;
+        }
+
+        super.doStop();
+    }
+
     @Override
     public void process(final Exchange exchange) throws Exception {
         AWS2S3Operations operation = determineOperation(exchange);
@@ -128,7 +157,7 @@ public class AWS2S3Producer extends DefaultProducer {
     }
 
     public void processMultiPart(final Exchange exchange) throws Exception {
-        File filePayload = null;
+        final File filePayload;
         Object obj = exchange.getIn().getMandatoryBody();
         // Need to check if the message body is WrappedFile
         if (obj instanceof WrappedFile) {
@@ -184,47 +213,45 @@ public class AWS2S3Producer extends DefaultProducer {
         CreateMultipartUploadResponse initResponse
                 = getEndpoint().getS3Client().createMultipartUpload(createMultipartUploadRequest.build());
         final long contentLength = Long.parseLong(objectMetadata.get("Content-Length"));
+        final long partSize = getConfiguration().getPartSize();
+        final String uploadId = initResponse.uploadId();
         List<CompletedPart> completedParts = new ArrayList<CompletedPart>();
-        long partSize = getConfiguration().getPartSize();
         CompleteMultipartUploadResponse uploadResult = null;
 
-        long filePosition = 0;
-
+        Deque<Future<CompletedPart>> pendingParts = new ArrayDeque<>();
         try {
-            for (int part = 1; filePosition < contentLength; part++) {
-                partSize = Math.min(partSize, contentLength - filePosition);
-
-                UploadPartRequest uploadRequest = UploadPartRequest.builder().bucket(getConfiguration().getBucketName())
-                        .key(keyName).uploadId(initResponse.uploadId())
-                        .partNumber(part).build();
-
-                LOG.trace("Uploading part [{}] for {}", part, keyName);
-                try (InputStream fileInputStream = new FileInputStream(filePayload)) {
-                    if (filePosition > 0) {
-                        long skipped = fileInputStream.skip(filePosition);
-                        if (skipped == 0) {
-                            LOG.warn("While trying to upload the file {} file, 0 bytes were skipped", keyName);
-                        }
+            int part = 1;
+            for (long filePosition = 0; filePosition < contentLength; filePosition += partSize, part++) {
+                final int partNumber = part;
+                final long position = filePosition;
+                final long size = Math.min(partSize, contentLength - filePosition);
+                if (multiPartExecutorService != null) {
+                    // bound the number of parts in flight by waiting for the oldest part
+                    if (pendingParts.size() >= getConfiguration().getMultiPartUploadConcurrency()) {
+                        completedParts.add(getCompletedPart(exchange, pendingParts.poll()));
                     }
-
-                    String etag = getEndpoint().getS3Client()
-                            .uploadPart(uploadRequest, RequestBody.fromInputStream(fileInputStream, partSize)).eTag();
-                    CompletedPart partUpload = CompletedPart.builder().partNumber(part).eTag(etag).build();
-                    completedParts.add(partUpload);
-                    filePosition += partSize;
+                    pendingParts.add(multiPartExecutorService
+                            .submit(() -> uploadPart(filePayload, keyName, uploadId, partNumber, position, size)));
+                } else {
+                    completedParts.add(uploadPart(filePayload, keyName, uploadId, partNumber, position, size));
                 }
             }
+            while (!pendingParts.isEmpty()) {
+                completedParts.add(getCompletedPart(exchange, pendingParts.poll()));
+            }
             CompletedMultipartUpload completeMultipartUpload = CompletedMultipartUpload.builder().parts(completedParts).build();
             CompleteMultipartUploadRequest compRequest
                     = CompleteMultipartUploadRequest.builder().multipartUpload(completeMultipartUpload)
-                            .bucket(getConfiguration().getBucketName()).key(keyName).uploadId(initResponse.uploadId()).build();
+                            .bucket(getConfiguration().getBucketName()).key(keyName).uploadId(uploadId).build();
 
             uploadResult = getEndpoint().getS3Client().completeMultipartUpload(compRequest);
 
         } catch (Exception e) {
+            // the parts which are not uploaded yet are no longer needed
+            pendingParts.forEach(f -> f.cancel(true));
             getEndpoint().getS3Client()
                     .abortMultipartUpload(AbortMultipartUploadRequest.builder().bucket(getConfiguration().getBucketName())
-                            .key(keyName).uploadId(initResponse.uploadId()).build());
+                            .key(keyName).uploadId(uploadId).build());
             throw e;
         }
 
@@ -239,6 +266,38 @@ public class AWS2S3Producer extends DefaultProducer {
         }
     }
 
+    private CompletedPart getCompletedPart(Exchange exchange, Future<CompletedPart> pendingPart) throws Exception {
+        try {
+            return pendingPart.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw CamelExecutionException.wrapCamelExecutionException(exchange, e.getCause());
+        }
+    }
+
+    private CompletedPart uploadPart(File filePayload, String keyName, String uploadId, int part, long position, long size)
+            throws IOException {
+        UploadPartRequest uploadRequest = UploadPartRequest.builder().bucket(getConfiguration().getBucketName())
+                .key(keyName).uploadId(uploadId)
+                .partNumber(part).build();
+
+        LOG.trace("Uploading part [{}] for {}", part, keyName);
+        try (InputStream fileInputStream = new FileInputStream(filePayload)) {
+            if (position > 0) {
+                long skipped = fileInputStream.skip(position);
+                if (skipped == 0) {
+                    LOG.warn("While trying to upload the file {} file, 0 bytes were skipped", keyName);
+                }
+            }
+
+            String etag = getEndpoint().getS3Client()
+                    .uploadPart(uploadRequest, RequestBody.fromInputStream(fileInputStream, size)).eTag();
+            return CompletedPart.builder().partNumber(part).eTag(etag).build();
+        }
+    }
+
     public void processSingleOp(final Exchange exchange) throws Exception {
         PutObjectRequest.Builder putObjectRequest = PutObjectRequest.builder();
 
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.camel.util.IOHelper;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+/**
+ * An {@link InputStream} of an S3 object which is downloaded using byte range requests.
+ * <p/>
+ * The first range is streamed from the given input stream, and the next ranges are only downloaded once the stream is
+ * read. While a range is being read, the following ranges are downloaded in parallel, so at most the given concurrency
+ * of ranges are downloaded or kept in memory at the same time.
+ */
+class AWS2S3RangeInputStream extends InputStream {
+
+    private final S3Client client;
+    private final ExecutorService executorService;
+    private final GetObjectRequest request;
+    private final long size;
+    private final long partSize;
+    private final int concurrency;
+    private final Deque<Future<ResponseBytes<GetObjectResponse>>> pending = new ArrayDeque<>();
+    private InputStream current;
+    private long position;
+    private boolean closed;
+
+    /**
+     * @param client          the S3 client
+     * @param executorService the executor service to download the ranges
+     * @param request         the request of the object, which is used for each range
+     * @param first           the stream of the first range of the object
+     * @param size            the size of the object
+     * @param partSize        the size of each range
+     * @param concurrency     the number of ranges to download or keep in memory at the same time
+     */
+    AWS2S3RangeInputStream(S3Client client, ExecutorService executorService, GetObjectRequest request,
+                           InputStream first, long size, long partSize, int concurrency) {
+        this.client = client;
+        this.executorService = executorService;
+        this.request = request;
+        this.current = first;
+        this.size = size;
+        this.partSize = partSize;
+        this.concurrency = concurrency;
+        this.position = Math.min(partSize, size);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int n = read(b, 0, 1);
+        return n == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        while (current != null) {
+            // download the next ranges while the current range is read
+            submitRanges();
+            int n = current.read(b, off, len);
+            if (n != -1) {
+                return n;
+            }
+            IOHelper.close(current);
+            current = nextRange();
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            pending.forEach(f -> f.cancel(true));
+            pending.clear();
+            if (current != null) {
+                current.close();
+                current = null;
+            }
+        }
+    }
+
+    private void submitRanges() {
+        // the range being read is one of the ranges kept in memory
+        while (position < size && pending.size() < concurrency - 1) {
+            String range = "bytes=" + position + "-" + (Math.min(position + partSize, size) - 1);
+            pending.add(executorService.submit(
+                    () -> client.getObject(request.toBuilder().range(range).build(), ResponseTransformer.toBytes())));
+            position += partSize;
+        }
+    }
+
+    private InputStream nextRange() throws IOException {
+        submitRanges();
+        Future<ResponseBytes<GetObjectResponse>> next = pending.poll();
+        if (next == null) {
+            return null;
+        }
+        try {
+            return new ByteArrayInputStream(next.get().asByteArrayUnsafe());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while downloading range of " + request.key());
+        } catch (ExecutionException e) {
+            throw new IOException(
+                    "Error downloading range of " + request.key() + " due " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.s3.integration;
+
+import java.util.Random;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.aws2.s3.AWS2S3Constants;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class S3ConsumerRangeDownloadIT extends Aws2S3Base {
+
+    @EndpointInject
+    private ProducerTemplate template;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint result;
+
+    @Test
+    public void sendIn() throws Exception {
+        result.expectedMessageCount(1);
+
+        // downloaded as 4 ranges of 1MB and a last smaller range
+        byte[] data = new byte[4 * 1024 * 1024 + 1000];
+        new Random().nextBytes(data);
+
+        template.send("direct:putObject", exchange -> {
+            exchange.getIn().setHeader(AWS2S3Constants.KEY, "large.bin");
+            exchange.getIn().setBody(data);
+        });
+
+        assertMockEndpointsSatisfied();
+
+        assertArrayEquals(data, result.getExchanges().get(0).getIn().getBody(byte[].class));
+        assertEquals((long) data.length, result.getExchanges().get(0).getIn().getHeader(AWS2S3Constants.CONTENT_LENGTH));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                String awsEndpoint = "aws2-s3://mycamel?autoCreateBucket=true";
+
+                from("direct:putObject").startupOrder(1).to(awsEndpoint);
+
+                from("aws2-s3://mycamel?includeBody=false&rangeDownloadConcurrency=3&rangeDownloadPartSize=1048576"
+                     + "&autoCreateBucket=true")
+                        .startupOrder(2).convertBodyTo(byte[].class).to("mock:result");
+
+            }
+        };
+    }
+}
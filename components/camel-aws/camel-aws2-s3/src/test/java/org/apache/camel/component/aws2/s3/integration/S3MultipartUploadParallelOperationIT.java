@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.s3.integration;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.aws2.s3.AWS2S3Constants;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.infra.aws2.clients.AWSSDKClientUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class S3MultipartUploadParallelOperationIT extends Aws2S3Base {
+
+    @EndpointInject
+    private ProducerTemplate template;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint result;
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void sendIn() throws Exception {
+        result.expectedMessageCount(1);
+
+        // 4 parts of 5MB (the minimum part size) and a last smaller part
+        byte[] data = new byte[22 * 1024 * 1024];
+        new Random().nextBytes(data);
+        File file = new File(tempDir, "parallel.bin");
+        Files.write(file.toPath(), data);
+
+        template.send("direct:putObject", exchange -> {
+            exchange.getIn().setHeader(AWS2S3Constants.KEY, "parallel.bin");
+            exchange.getIn().setBody(file);
+        });
+
+        assertMockEndpointsSatisfied();
+
+        S3Client s = AWSSDKClientUtils.newS3Client();
+        ResponseBytes<GetObjectResponse> response
+                = s.getObjectAsBytes(GetObjectRequest.builder().bucket("mycamel").key("parallel.bin").build());
+        assertArrayEquals(data, response.asByteArray());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                String awsEndpoint = "aws2-s3://mycamel?multiPartUpload=true&partSize=5242880&multiPartUploadConcurrency=3"
+                                     + "&autoCreateBucket=true";
+
+                from("direct:putObject").to(awsEndpoint).to("mock:result");
+
+            }
+        };
+    }
+}
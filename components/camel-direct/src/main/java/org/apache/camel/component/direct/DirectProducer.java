@@ -51,7 +51,7 @@ public class DirectProducer extends DefaultAsyncProducer {
     public void process(Exchange exchange) throws Exception {
         if (consumer == null || stateCounter != component.getStateCounter()) {
             stateCounter = component.getStateCounter();
-            consumer = component.getConsumer(key, block, timeout);
+            consumer = lookupConsumer();
         }
         if (consumer == null) {
             if (endpoint.isFailIfNoConsumers()) {
@@ -75,7 +75,7 @@ public class DirectProducer extends DefaultAsyncProducer {
             }
             if (consumer == null || stateCounter != component.getStateCounter()) {
                 stateCounter = component.getStateCounter();
-                consumer = component.getConsumer(key, block, timeout);
+                consumer = lookupConsumer();
             }
             if (consumer == null) {
                 if (endpoint.isFailIfNoConsumers()) {
@@ -103,4 +103,14 @@ public class DirectProducer extends DefaultAsyncProducer {
         }
     }
 
+    private DirectConsumer lookupConsumer() throws Exception {
+        DirectConsumer answer = component.getConsumer(key, false, 0);
+        if (answer == null) {
+            // the route consuming from this endpoint may be pending lazy start
+            endpoint.getCamelContext().getRouteController().startLazyRoute(endpoint);
+            answer = component.getConsumer(key, block, timeout);
+        }
+        return answer;
+    }
+
 }
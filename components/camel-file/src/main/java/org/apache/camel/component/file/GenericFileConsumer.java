@@ -438,7 +438,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
                 boolean retrieved;
                 Exception cause = null;
                 try {
-                    retrieved = operations.retrieveFile(name, exchange, target.getFileLength());
+                    retrieved = retrieveFile(name, exchange, target.getFileLength());
                 } catch (Exception e) {
                     retrieved = false;
                     cause = e;
@@ -509,6 +509,20 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         return true;
     }
 
+    /**
+     * Retrieves the file using the operations. Override to retrieve files in a different way, such as from a pool of
+     * connections.
+     *
+     * @param  name                                the absolute name of the file to retrieve
+     * @param  exchange                            the exchange
+     * @param  size                                the file size, or -1 if not known
+     * @return                                     <tt>true</tt> if the file was retrieved
+     * @throws GenericFileOperationFailedException can be thrown
+     */
+    protected boolean retrieveFile(String name, Exchange exchange, long size) throws GenericFileOperationFailedException {
+        return operations.retrieveFile(name, exchange, size);
+    }
+
     /**
      * Updates the information on {@link Message} after we have acquired read-lock and can begin process the file.
      *
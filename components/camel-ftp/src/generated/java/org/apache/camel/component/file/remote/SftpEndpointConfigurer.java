@@ -140,6 +140,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "noop": target.setNoop(property(camelContext, boolean.class, value)); return true;
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": target.setOnCompletionExceptionHandler(property(camelContext, org.apache.camel.spi.ExceptionHandler.class, value)); return true;
+        case "paralleldownloads":
+        case "parallelDownloads": target.setParallelDownloads(property(camelContext, int.class, value)); return true;
         case "passivemode":
         case "passiveMode": target.getConfiguration().setPassiveMode(property(camelContext, boolean.class, value)); return true;
         case "password": target.getConfiguration().setPassword(property(camelContext, java.lang.String.class, value)); return true;
@@ -366,6 +368,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "noop": return boolean.class;
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": return org.apache.camel.spi.ExceptionHandler.class;
+        case "paralleldownloads":
+        case "parallelDownloads": return int.class;
         case "passivemode":
         case "passiveMode": return boolean.class;
         case "password": return java.lang.String.class;
@@ -593,6 +597,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "noop": return target.isNoop();
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": return target.getOnCompletionExceptionHandler();
+        case "paralleldownloads":
+        case "parallelDownloads": return target.getParallelDownloads();
         case "passivemode":
         case "passiveMode": return target.getConfiguration().isPassiveMode();
         case "password": return target.getConfiguration().getPassword();
@@ -102,6 +102,10 @@ public class FtpEndpoint<T extends FTPFile> extends RemoteFileEndpoint<FTPFile>
         if (isResumeDownload() && !getConfiguration().isBinary()) {
             throw new IllegalArgumentException("The option binary must be enabled when resumeDownload=true");
         }
+        if (ftpClient != null && getParallelDownloads() > 1) {
+            throw new IllegalArgumentException(
+                    "You cannot both set a custom ftpClient and parallelDownloads as each download connection needs its own client");
+        }
         return super.createConsumer(processor);
     }
 
@@ -16,18 +16,32 @@
  */
 package org.apache.camel.component.file.remote;
 
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Ordered;
 import org.apache.camel.Processor;
+import org.apache.camel.component.file.FileComponent;
 import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.component.file.GenericFileConsumer;
 import org.apache.camel.component.file.GenericFileOperationFailedException;
 import org.apache.camel.component.file.GenericFileProcessStrategy;
 import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +56,13 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
     protected transient boolean loggedIn;
     protected transient boolean loggedInWarning;
 
+    // used for parallel downloads where the next files of the batch are downloaded ahead using a pool of operations
+    private final Map<String, Download> downloads = new HashMap<>();
+    private final Deque<Exchange> pendingDownloads = new ArrayDeque<>();
+    private BlockingQueue<RemoteFileOperations<T>> downloadOperations;
+    private List<RemoteFileOperations<T>> allDownloadOperations;
+    private ExecutorService downloadExecutorService;
+
     public RemoteFileConsumer(RemoteFileEndpoint<T> endpoint, Processor processor, RemoteFileOperations<T> operations,
                               GenericFileProcessStrategy processStrategy) {
         super(endpoint, processor, operations, processStrategy);
@@ -116,8 +137,56 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         }
     }
 
+    @Override
+    public int processBatch(Queue<Object> exchanges) {
+        if (downloadExecutorService == null || customProcessor != null) {
+            return super.processBatch(exchanges);
+        }
+
+        int total = exchanges.size();
+        if (maxMessagesPerPoll > 0 && total > maxMessagesPerPoll) {
+            total = maxMessagesPerPoll;
+        }
+        for (Object exchange : exchanges) {
+            if (pendingDownloads.size() >= total) {
+                break;
+            }
+            pendingDownloads.add((Exchange) exchange);
+        }
+
+        try {
+            scheduleDownloads();
+            return super.processBatch(exchanges);
+        } finally {
+            // discard downloads of files that was not processed (such as when the consumer is being stopped)
+            pendingDownloads.clear();
+            for (Download download : downloads.values()) {
+                download.discard();
+            }
+            downloads.clear();
+        }
+    }
+
     @Override
     protected boolean processExchange(Exchange exchange) {
+        if (downloadExecutorService != null) {
+            String name = getExchangeFile(exchange).getAbsoluteFilePath();
+            try {
+                return doProcessExchange(exchange);
+            } finally {
+                // the file may not have been retrieved (such as begin failed) so discard its download if still
+                // pending, and download the next file in the batch
+                Download download = downloads.remove(name);
+                if (download != null) {
+                    download.discard();
+                }
+                scheduleDownloads();
+            }
+        }
+        return doProcessExchange(exchange);
+    }
+
+    private boolean doProcessExchange(Exchange exchange) {
         // defer disconnect til the UoW is complete - but only the last exchange
         // from the batch should do that
         boolean isLast = exchange.getProperty(ExchangePropertyKey.BATCH_COMPLETE, true, Boolean.class);
@@ -127,6 +196,7 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
                 public void onDone(Exchange exchange) {
                     LOG.trace("processExchange disconnect from: {}", getEndpoint());
                     disconnect();
+                    disconnectDownloadOperations();
                 }
 
                 @Override
@@ -156,6 +226,120 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         return getEndpoint().isDownload();
     }
 
+    @Override
+    protected boolean retrieveFile(String name, Exchange exchange, long size) throws GenericFileOperationFailedException {
+        Download download = downloads.remove(name);
+        if (download == null) {
+            return super.retrieveFile(name, exchange, size);
+        }
+
+        Exchange downloaded;
+        try {
+            downloaded = download.future.get();
+        } catch (InterruptedException e) {
+            download.discard();
+            Thread.currentThread().interrupt();
+            throw new GenericFileOperationFailedException("Interrupted while downloading file: " + name, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof GenericFileOperationFailedException) {
+                throw (GenericFileOperationFailedException) cause;
+            }
+            throw new GenericFileOperationFailedException("Cannot retrieve file: " + name + " from: " + endpoint, cause);
+        }
+        if (downloaded == null) {
+            return false;
+        }
+
+        // transfer the downloaded body and headers (such as the local work path) to the exchange being routed
+        getExchangeFile(exchange).setBody(getExchangeFile(downloaded).getBody());
+        exchange.getIn().getHeaders().putAll(downloaded.getIn().getHeaders());
+        return true;
+    }
+
+    /**
+     * Whether the consumer downloads the files of a poll in parallel.
+     */
+    protected boolean isParallelDownloads() {
+        return downloadExecutorService != null;
+    }
+
+    private void scheduleDownloads() {
+        int max = getEndpoint().getParallelDownloads();
+        while (downloads.size() < max && !pendingDownloads.isEmpty()) {
+            Exchange exchange = pendingDownloads.poll();
+            GenericFile<T> file = getExchangeFile(exchange);
+            String name = file.getAbsoluteFilePath();
+            if (!downloads.containsKey(name)) {
+                Download download = new Download(file);
+                download.future = downloadExecutorService.submit(download::download);
+                downloads.put(name, download);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private GenericFile<T> getExchangeFile(Exchange exchange) {
+        return (GenericFile<T>) exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE);
+    }
+
+    /**
+     * Disconnects the download connections, which are taken from the pool first, so a download of the batch that is
+     * still running (such as a discarded download) is completed before its connection is disconnected.
+     */
+    private void disconnectDownloadOperations() {
+        BlockingQueue<RemoteFileOperations<T>> pool = downloadOperations;
+        List<RemoteFileOperations<T>> all = allDownloadOperations;
+        if (pool == null || all == null) {
+            return;
+        }
+        List<RemoteFileOperations<T>> taken = new ArrayList<>(all.size());
+        try {
+            for (int i = 0; i < all.size(); i++) {
+                taken.add(pool.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            taken.forEach(this::disconnectDownloadOperation);
+            pool.addAll(taken);
+        }
+    }
+
+    private void disconnectDownloadOperation(RemoteFileOperations<T> operations) {
+        try {
+            if (operations.isConnected()) {
+                LOG.trace("Disconnecting download connection from: {}", remoteServer());
+                operations.disconnect();
+            }
+        } catch (Exception e) {
+            LOG.debug("Error occurred while disconnecting download connection from {} due: {} This exception will be ignored.",
+                    remoteServer(), e.getMessage(), e);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        int size = getEndpoint().getParallelDownloads();
+        if (size > 1 && isRetrieveFile()) {
+            if (getEndpoint().getPreMove() != null || !"none".equals(getEndpoint().getReadLock())) {
+                LOG.info("Parallel downloads is not in use as readLock={} and preMove={} on: {}",
+                        getEndpoint().getReadLock(), getEndpoint().getPreMove(), getEndpoint());
+            } else {
+                allDownloadOperations = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    allDownloadOperations.add(getEndpoint().createRemoteFileOperations());
+                }
+                downloadOperations = new ArrayBlockingQueue<>(size, false, allDownloadOperations);
+                downloadExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                        .newFixedThreadPool(this, "RemoteFileDownload", size);
+                LOG.debug("Using {} parallel downloads on: {}", size, getEndpoint());
+            }
+        }
+    }
+
     /**
      * Whether there is a starting directory configured.
      */
@@ -172,6 +356,17 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
     protected void doStop() throws Exception {
         super.doStop();
         disconnect();
+
+        if (downloadExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(downloadExecutorService);
+            downloadExecutorService = null;
+        }
+        if (allDownloadOperations != null) {
+            // the downloads have been stopped so disconnect all the connections, also those that are still in use
+            allDownloadOperations.forEach(this::disconnectDownloadOperation);
+            allDownloadOperations = null;
+            downloadOperations = null;
+        }
     }
 
     protected void disconnect() {
@@ -288,4 +483,89 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
      *                      been hit
      */
     protected abstract boolean doPollDirectory(String absolutePath, String dirName, List<GenericFile<T>> fileList, int depth);
+
+    /**
+     * A file being downloaded ahead using one of the pooled operations.
+     */
+    private final class Download {
+
+        private final GenericFile<T> file;
+        private final BlockingQueue<RemoteFileOperations<T>> pool = downloadOperations;
+        private Future<Exchange> future;
+        private boolean discarded;
+        private boolean completed;
+        private Exchange result;
+
+        Download(GenericFile<T> file) {
+            this.file = file;
+        }
+
+        Exchange download() throws Exception {
+            RemoteFileOperations<T> operations = pool.take();
+            Exchange answer = null;
+            try {
+                boolean connected = false;
+                try {
+                    connected = operations.isConnected() && operations.sendNoop();
+                } catch (Exception e) {
+                    LOG.debug("Exception checking download connection status: {}", e.getMessage());
+                }
+                if (!connected) {
+                    LOG.debug("Download connection not connected/logged in, connecting to: {}", remoteServer());
+                    operations.connect(getEndpoint().getConfiguration(), null);
+                }
+
+                // download to a separate exchange as the exchange of the file is not yet being routed
+                GenericFile<T> target = operations.newGenericFile();
+                target.setAbsoluteFilePath(file.getAbsoluteFilePath());
+                target.setRelativeFilePath(file.getRelativeFilePath());
+                target.setFileName(file.getFileName());
+                target.setFileNameOnly(file.getFileNameOnly());
+                target.setFileLength(file.getFileLength());
+                target.setFile(file.getFile());
+                Exchange exchange = getEndpoint().createExchange();
+                exchange.setProperty(FileComponent.FILE_EXCHANGE_FILE, target);
+
+                LOG.trace("Downloading file: {} from: {}", file.getAbsoluteFilePath(), getEndpoint());
+                if (operations.retrieveFile(file.getAbsoluteFilePath(), exchange, file.getFileLength())) {
+                    answer = exchange;
+                }
+            } finally {
+                // the pool has room for all the operations, and add does not fail if the download has been interrupted
+                pool.add(operations);
+            }
+
+            synchronized (this) {
+                completed = true;
+                result = answer;
+                if (discarded) {
+                    release(answer);
+                    return null;
+                }
+            }
+            return answer;
+        }
+
+        void discard() {
+            Exchange downloaded;
+            synchronized (this) {
+                discarded = true;
+                if (!completed) {
+                    // a running download releases its resources when it completes
+                    future.cancel(false);
+                    return;
+                }
+                downloaded = result;
+            }
+            release(downloaded);
+        }
+
+        private void release(Exchange exchange) {
+            String path = exchange != null ? exchange.getIn().getHeader(FtpConstants.FILE_LOCAL_WORK_PATH, String.class) : null;
+            if (path != null) {
+                LOG.trace("Deleting local work file: {} of discarded download", path);
+                FileUtil.deleteFile(new File(path));
+            }
+        }
+    }
 }
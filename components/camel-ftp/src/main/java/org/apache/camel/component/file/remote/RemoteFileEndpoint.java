@@ -66,6 +66,13 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
                                                          + "Exchange that has details about the file such as file name, file size, etc. It's just that the file will "
                                                          + "not be downloaded.")
     private boolean download = true;
+    @UriParam(label = "consumer,advanced", description = "Number of additional connections the consumer uses to download "
+                                                         + "the files of a poll in parallel. The files are still routed one at a time in the order they were polled, "
+                                                         + "and the commit (move, delete, idempotent) is still done on the consumer connection, but the next files "
+                                                         + "are downloaded ahead while the current file is being routed. Parallel downloads are only in use when "
+                                                         + "readLock=none and preMove is not in use, and cannot be used together with streamDownload. "
+                                                         + "Use 0 or 1 to download the files one by one.")
+    private int parallelDownloads;
 
     public RemoteFileEndpoint() {
         // ftp must be synchronous as the ftp-client is not thread-safe
@@ -152,6 +159,10 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
             idempotentRepository = MemoryIdempotentRepository.memoryIdempotentRepository(DEFAULT_IDEMPOTENT_CACHE_SIZE);
         }
 
+        if (parallelDownloads > 1 && getConfiguration().isStreamDownload()) {
+            throw new IllegalArgumentException("You cannot both set parallelDownloads and streamDownload=true options");
+        }
+
         if (!getConfiguration().isUseList() && getFileName() == null) {
             throw new IllegalArgumentException(
                     "Endpoint is configured with useList=false, then fileName must be configured also");
@@ -319,4 +330,19 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
         this.download = download;
     }
 
+    public int getParallelDownloads() {
+        return parallelDownloads;
+    }
+
+    /**
+     * Number of additional connections the consumer uses to download the files of a poll in parallel. The files are
+     * still routed one at a time in the order they were polled, and the commit (move, delete, idempotent) is still done
+     * on the consumer connection, but the next files are downloaded ahead while the current file is being routed.
+     * Parallel downloads are only in use when readLock=none and preMove is not in use, and cannot be used together with
+     * streamDownload. Use 0 or 1 to download the files one by one.
+     */
+    public void setParallelDownloads(int parallelDownloads) {
+        this.parallelDownloads = parallelDownloads;
+    }
+
 }
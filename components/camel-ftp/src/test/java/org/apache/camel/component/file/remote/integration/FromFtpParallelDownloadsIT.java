@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote.integration;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for consuming files from FTP using parallel downloads.
+ */
+public class FromFtpParallelDownloadsIT extends FtpServerTestSupport {
+
+    private final AtomicInteger maxConnections = new AtomicInteger();
+
+    private String getFtpUrl(String dir) {
+        return "ftp://admin@localhost:{{ftp.server.port}}/" + dir + "?password=admin&delete=true"
+               + "&parallelDownloads=3&localWorkDirectory=" + testDirectory("lwd");
+    }
+
+    @Test
+    public void testParallelDownloads() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+        // the files are routed in the order they were polled
+        mock.expectedBodiesReceived("Hello 0", "Hello 1", "Hello 2", "Hello 3", "Hello 4", "Hello 5", "Hello 6",
+                "Hello 7", "Hello 8", "Hello 9");
+
+        createFiles("parallel");
+        context.getRouteController().startRoute("foo");
+
+        mock.assertIsSatisfied();
+
+        // the files were downloaded by the download connections while the consumer connection was in use
+        assertTrue(maxConnections.get() > 1, "Should use download connections, was: " + maxConnections.get());
+
+        // the files should be deleted on the ftp server after they have been routed
+        for (int i = 0; i < 10; i++) {
+            final int index = i;
+            await().atMost(5, TimeUnit.SECONDS)
+                    .untilAsserted(() -> assertFalse(ftpFile("parallel/hello" + index + ".txt").toFile().exists()));
+        }
+    }
+
+    @Test
+    public void testParallelDownloadsDisconnect() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+
+        createFiles("disconnect");
+        context.getRouteController().startRoute("bar");
+
+        mock.assertIsSatisfied();
+
+        assertTrue(maxConnections.get() > 1, "Should use download connections, was: " + maxConnections.get());
+
+        // both the consumer and the download connections are disconnected when the batch is complete
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(0, service.countConnections()));
+    }
+
+    private void createFiles(String dir) throws Exception {
+        // create the files directly so no producer connection is counted
+        Path path = Files.createDirectories(ftpFile(dir));
+        for (int i = 0; i < 10; i++) {
+            Files.write(path.resolve("hello" + i + ".txt"), ("Hello " + i).getBytes());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from(getFtpUrl("parallel") + "&sortBy=file:name").routeId("foo").noAutoStartup()
+                        .process(e -> maxConnections.accumulateAndGet(service.countConnections(), Math::max))
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(getFtpUrl("disconnect") + "&disconnect=true").routeId("bar").noAutoStartup()
+                        .process(e -> maxConnections.accumulateAndGet(service.countConnections(), Math::max))
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
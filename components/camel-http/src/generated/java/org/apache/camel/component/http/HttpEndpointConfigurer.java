@@ -21,6 +21,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         HttpEndpoint target = (HttpEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncproducer":
+        case "asyncProducer": target.setAsyncProducer(property(camelContext, boolean.class, value)); return true;
         case "authdomain":
         case "authDomain": target.setAuthDomain(property(camelContext, java.lang.String.class, value)); return true;
         case "authhost":
@@ -63,6 +65,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "getWithBody": target.setGetWithBody(property(camelContext, boolean.class, value)); return true;
         case "headerfilterstrategy":
         case "headerFilterStrategy": target.setHeaderFilterStrategy(property(camelContext, org.apache.camel.spi.HeaderFilterStrategy.class, value)); return true;
+        case "httpasyncclient":
+        case "httpAsyncClient": target.setHttpAsyncClient(property(camelContext, org.apache.http.nio.client.HttpAsyncClient.class, value)); return true;
         case "httpclient":
         case "httpClient": target.setHttpClient(property(camelContext, org.apache.http.client.HttpClient.class, value)); return true;
         case "httpclientconfigurer":
@@ -124,6 +128,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncproducer":
+        case "asyncProducer": return boolean.class;
         case "authdomain":
         case "authDomain": return java.lang.String.class;
         case "authhost":
@@ -166,6 +172,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "getWithBody": return boolean.class;
         case "headerfilterstrategy":
         case "headerFilterStrategy": return org.apache.camel.spi.HeaderFilterStrategy.class;
+        case "httpasyncclient":
+        case "httpAsyncClient": return org.apache.http.nio.client.HttpAsyncClient.class;
         case "httpclient":
         case "httpClient": return org.apache.http.client.HttpClient.class;
         case "httpclientconfigurer":
@@ -228,6 +236,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         HttpEndpoint target = (HttpEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncproducer":
+        case "asyncProducer": return target.isAsyncProducer();
         case "authdomain":
         case "authDomain": return target.getAuthDomain();
         case "authhost":
@@ -270,6 +280,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "getWithBody": return target.isGetWithBody();
         case "headerfilterstrategy":
         case "headerFilterStrategy": return target.getHeaderFilterStrategy();
+        case "httpasyncclient":
+        case "httpAsyncClient": return target.getHttpAsyncClient();
         case "httpclient":
         case "httpClient": return target.getHttpClient();
         case "httpclientconfigurer":
@@ -22,7 +22,8 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(49);
+        Set<String> props = new HashSet<>(51);
+        props.add("asyncProducer");
         props.add("authDomain");
         props.add("authHost");
         props.add("authMethod");
@@ -44,6 +45,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("disableStreamCache");
         props.add("getWithBody");
         props.add("headerFilterStrategy");
+        props.add("httpAsyncClient");
         props.add("httpClient");
         props.add("httpClientConfigurer");
         props.add("httpClientOptions");
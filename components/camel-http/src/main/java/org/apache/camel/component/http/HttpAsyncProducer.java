@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.converter.stream.CachedOutputStream;
+import org.apache.camel.support.DefaultAsyncProducer;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.IOHelper;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.client.HttpAsyncClient;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HTTP producer which sends the requests using the non-blocking Apache HttpAsyncClient, so the calling thread is not
+ * blocked while waiting for the response.
+ * <p/>
+ * The response body is received by the I/O reactor into a stream cache (spooled to disk if large), and the exchange
+ * continues routing from a thread pool when the response is complete, so the I/O reactor threads are never blocked by
+ * the rest of the route.
+ */
+public class HttpAsyncProducer extends DefaultAsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpAsyncProducer.class);
+
+    private final HttpProducer delegate;
+    private HttpAsyncClient httpAsyncClient;
+    private boolean endpointHttpAsyncClient;
+    private ExecutorService executorService;
+    private boolean shutdownExecutorService;
+
+    public HttpAsyncProducer(HttpEndpoint endpoint) {
+        super(endpoint);
+        // the blocking producer is used for creating the requests and populating the responses
+        this.delegate = new HttpProducer(endpoint);
+    }
+
+    @Override
+    public HttpEndpoint getEndpoint() {
+        return (HttpEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+        ServiceHelper.initService(delegate);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        ServiceHelper.startService(delegate);
+        if (httpAsyncClient == null) {
+            httpAsyncClient = getEndpoint().getHttpAsyncClient();
+            endpointHttpAsyncClient = true;
+        }
+        if (executorService == null) {
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newDefaultThreadPool(this, "HttpAsyncProducer");
+            shutdownExecutorService = true;
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (executorService != null && shutdownExecutorService) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+        if (endpointHttpAsyncClient) {
+            // the endpoint closes its client when stopped, so get the client from the endpoint again when started
+            httpAsyncClient = null;
+            endpointHttpAsyncClient = false;
+        }
+        ServiceHelper.stopService(delegate);
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        final HttpRequestBase httpRequest;
+        final HttpHost httpHost;
+        try {
+            httpRequest = delegate.createRequest(exchange);
+            httpHost = delegate.createHost(httpRequest, exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getURI());
+        }
+        try {
+            httpAsyncClient.execute(HttpAsyncMethods.create(httpHost, httpRequest),
+                    new StreamCachingResponseConsumer(exchange), delegate.createHttpContext(),
+                    new FutureCallback<HttpResponse>() {
+                        @Override
+                        public void completed(HttpResponse httpResponse) {
+                            continueRouting(exchange, callback, () -> {
+                                try {
+                                    delegate.handleResponse(exchange, httpRequest, httpResponse);
+                                } catch (Exception e) {
+                                    exchange.setException(e);
+                                } finally {
+                                    delegate.releaseResponse(exchange, httpResponse);
+                                }
+                            });
+                        }
+
+                        @Override
+                        public void failed(Exception e) {
+                            continueRouting(exchange, callback, () -> exchange.setException(e));
+                        }
+
+                        @Override
+                        public void cancelled() {
+                            continueRouting(exchange, callback, () -> exchange
+                                    .setException(new CamelExchangeException("HTTP request cancelled", exchange)));
+                        }
+                    });
+        } catch (Exception e) {
+            // the request could not be executed, such as when the client is closed
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Hands over the outcome of the request from the I/O reactor thread to the thread pool, which then continues
+     * routing the exchange.
+     */
+    private void continueRouting(Exchange exchange, AsyncCallback callback, Runnable task) {
+        Runnable done = () -> {
+            try {
+                task.run();
+            } finally {
+                callback.done(false);
+            }
+        };
+        try {
+            executorService.execute(done);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Thread pool rejected task, continue routing exchange {} on the I/O thread", exchange.getExchangeId());
+            done.run();
+        }
+    }
+
+    public HttpAsyncClient getHttpAsyncClient() {
+        return httpAsyncClient;
+    }
+
+    public void setHttpAsyncClient(HttpAsyncClient httpAsyncClient) {
+        this.httpAsyncClient = httpAsyncClient;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * To use a custom thread pool for continue routing the exchanges when the responses have been received.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        this.shutdownExecutorService = false;
+    }
+
+    /**
+     * Receives the response body into a {@link CachedOutputStream} as the content arrives, so the response can be
+     * processed without blocking once it is complete. The stream cache is removed when the exchange is done.
+     */
+    private static final class StreamCachingResponseConsumer extends AbstractAsyncResponseConsumer<HttpResponse> {
+
+        private final Exchange exchange;
+        private final ByteBuffer buffer = ByteBuffer.allocate(IOHelper.DEFAULT_BUFFER_SIZE);
+        private HttpResponse response;
+        private HttpEntity entity;
+        private CachedOutputStream cos;
+        private boolean built;
+
+        StreamCachingResponseConsumer(Exchange exchange) {
+            this.exchange = exchange;
+        }
+
+        @Override
+        protected void onResponseReceived(HttpResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        protected void onEntityEnclosed(HttpEntity entity, ContentType contentType) {
+            this.entity = entity;
+            this.cos = new CachedOutputStream(exchange);
+        }
+
+        @Override
+        protected void onContentReceived(ContentDecoder decoder, IOControl ioControl) throws IOException {
+            while (decoder.read(buffer) > 0) {
+                cos.write(buffer.array(), 0, buffer.position());
+                buffer.clear();
+            }
+        }
+
+        @Override
+        protected HttpResponse buildResult(HttpContext context) throws Exception {
+            if (cos != null) {
+                BasicHttpEntity answer = new BasicHttpEntity();
+                answer.setContent((InputStream) cos.newStreamCache());
+                answer.setContentLength(entity.getContentLength());
+                answer.setContentType(entity.getContentType());
+                answer.setContentEncoding(entity.getContentEncoding());
+                response.setEntity(answer);
+            }
+            built = true;
+            return response;
+        }
+
+        @Override
+        protected void releaseResources() {
+            // when the response was built then the cached stream is released by the producer
+            if (!built) {
+                IOHelper.close(cos);
+            }
+        }
+    }
+}
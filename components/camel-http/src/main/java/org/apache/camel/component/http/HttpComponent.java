@@ -360,8 +360,14 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         String endpointUriString = endpointUri.toString();
 
         LOG.debug("Creating endpoint uri {}", endpointUriString);
+        // the connection limits are consumed by the connection manager, but the async producer needs them as well
+        int endpointMaxTotalConnections = getParameter(parameters, "maxTotalConnections", int.class, 0);
+        int endpointConnectionsPerRoute = getParameter(parameters, "connectionsPerRoute", int.class, 0);
         final HttpClientConnectionManager localConnectionManager = createConnectionManager(parameters, sslContextParameters);
         HttpEndpoint endpoint = new HttpEndpoint(endpointUriString, this, clientBuilder, localConnectionManager, configurer);
+        endpoint.setMaxTotalConnections(endpointMaxTotalConnections);
+        endpoint.setConnectionsPerRoute(endpointConnectionsPerRoute);
+        endpoint.setSslContextParameters(sslContextParameters);
         endpoint.setSocketTimeout(valSocketTimeout);
         endpoint.setConnectTimeout(valConnectTimeout);
         endpoint.setConnectionRequestTimeout(valConnectionRequestTimeout);
@@ -19,7 +19,9 @@ package org.apache.camel.component.http;
 import java.io.Closeable;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.HostnameVerifier;
 
@@ -28,6 +30,7 @@ import org.apache.camel.Consumer;
 import org.apache.camel.PollingConsumer;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.http.base.HttpHelper;
@@ -36,6 +39,7 @@ import org.apache.camel.http.common.HttpCommonEndpoint;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
+import org.apache.camel.support.PropertyBindingSupport;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -47,6 +51,9 @@ import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.nio.client.HttpAsyncClient;
 import org.apache.http.pool.ConnPoolControl;
 import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpContext;
@@ -151,6 +158,17 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     private boolean skipResponseHeaders;
     @UriParam(label = "producer,advanced", description = "To set a custom HTTP User-Agent request header")
     private String userAgent;
+    @UriParam(label = "producer,advanced",
+              description = "Whether the producer should send the requests using the non-blocking Apache HttpAsyncClient."
+                            + " When enabled the calling thread is not blocked while waiting for the response, which allows"
+                            + " a small number of threads to have many HTTP requests in flight. The response body is cached"
+                            + " in a stream cache (spooled to disk if large) as it is received. The maximum number of"
+                            + " connections is configured with the maxTotalConnections and connectionsPerRoute options.")
+    private boolean asyncProducer;
+    @UriParam(label = "producer,advanced",
+              description = "Sets a custom HttpAsyncClient to be used by the producer when asyncProducer is enabled."
+                            + " The client must be started.")
+    private HttpAsyncClient httpAsyncClient;
 
     public HttpEndpoint() {
     }
@@ -181,6 +199,9 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @Override
     public Producer createProducer() throws Exception {
+        if (asyncProducer) {
+            return new HttpAsyncProducer(this);
+        }
         return new HttpProducer(this);
     }
 
@@ -271,6 +292,116 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return clientBuilder.build();
     }
 
+    public synchronized HttpAsyncClient getHttpAsyncClient() {
+        if (httpAsyncClient == null) {
+            CloseableHttpAsyncClient client = createHttpAsyncClient();
+            client.start();
+            httpAsyncClient = client;
+        }
+        return httpAsyncClient;
+    }
+
+    /**
+     * Sets a custom HttpAsyncClient to be used by the producer when asyncProducer is enabled. The client must be
+     * started.
+     */
+    public synchronized void setHttpAsyncClient(HttpAsyncClient httpAsyncClient) {
+        this.httpAsyncClient = httpAsyncClient;
+    }
+
+    /**
+     * Factory method to create a new {@link HttpAsyncClient} instance, which is configured from the same endpoint and
+     * component options as the {@link HttpClient}.
+     * <p/>
+     * Producers should use the {@link #getHttpAsyncClient()} method instead.
+     */
+    protected CloseableHttpAsyncClient createHttpAsyncClient() {
+        HttpAsyncClientBuilder builder = HttpAsyncClientBuilder.create();
+
+        // setup the cookieStore
+        builder.setDefaultCookieStore(isBridgeEndpoint() ? new NoopCookieStore() : cookieStore);
+
+        // the request config uses the same timeouts and httpClient options as the blocking client
+        RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
+        if (httpClientOptions != null) {
+            PropertyBindingSupport.bindProperties(getCamelContext(), requestConfigBuilder, new HashMap<>(httpClientOptions));
+        }
+        builder.setDefaultRequestConfig(requestConfigBuilder.build());
+
+        HttpComponent component = getComponent();
+        int maxTotal = maxTotalConnections > 0 ? maxTotalConnections : component.getMaxTotalConnections();
+        if (maxTotal > 0) {
+            builder.setMaxConnTotal(maxTotal);
+        }
+        int perRoute = connectionsPerRoute > 0 ? connectionsPerRoute : component.getConnectionsPerRoute();
+        if (perRoute > 0) {
+            builder.setMaxConnPerRoute(perRoute);
+        }
+        if (component.getConnectionTimeToLive() > 0) {
+            builder.setConnectionTimeToLive(component.getConnectionTimeToLive(), TimeUnit.MILLISECONDS);
+        }
+
+        HostnameVerifier hostnameVerifier
+                = x509HostnameVerifier != null ? x509HostnameVerifier : component.getX509HostnameVerifier();
+        if (hostnameVerifier != null) {
+            builder.setSSLHostnameVerifier(hostnameVerifier);
+        }
+        if (sslContextParameters != null) {
+            try {
+                builder.setSSLContext(sslContextParameters.createSSLContext(getCamelContext()));
+            } catch (Exception e) {
+                throw new RuntimeCamelException("Error creating SSLContext for HttpAsyncClient", e);
+            }
+        }
+
+        if (!useSystemProperties) {
+            // configure http proxy from camelContext
+            if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost"))
+                    && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
+                String host = getCamelContext().getGlobalOption("http.proxyHost");
+                int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
+                String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
+                // fallback and use either http or https depending on secure
+                if (scheme == null) {
+                    scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
+                }
+                builder.setProxy(new HttpHost(host, port, scheme));
+            }
+        } else {
+            builder.useSystemProperties();
+        }
+
+        if (component.isCookieManagementDisabled()) {
+            builder.disableCookieManagement();
+        }
+        if (component.isAuthCachingDisabled()) {
+            builder.disableAuthCaching();
+        }
+        if (component.isConnectionStateDisabled()) {
+            builder.disableConnectionState();
+        }
+        if (component.isRedirectHandlingDisabled()) {
+            builder.setRedirectStrategy(NoopRedirectStrategy.INSTANCE);
+        }
+
+        if (isAuthenticationPreemptive()) {
+            // setup the PreemptiveAuthInterceptor here
+            builder.addInterceptorFirst(new PreemptiveAuthInterceptor());
+        }
+        String userAgent = getUserAgent();
+        if (userAgent != null) {
+            builder.setUserAgent(userAgent);
+        }
+
+        HttpClientConfigurer configurer = getHttpClientConfigurer();
+        if (configurer != null) {
+            configurer.configureHttpAsyncClient(builder);
+        }
+
+        LOG.debug("Setup the HttpAsyncClientBuilder {}", builder);
+        return builder.build();
+    }
+
     @Override
     public HttpComponent getComponent() {
         return (HttpComponent) super.getComponent();
@@ -285,6 +416,11 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         if (httpClient instanceof Closeable) {
             IOHelper.close((Closeable) httpClient);
         }
+        if (httpAsyncClient instanceof Closeable) {
+            IOHelper.close((Closeable) httpAsyncClient);
+            // the closed client cannot be started again, so a new client is created if the endpoint is restarted
+            httpAsyncClient = null;
+        }
     }
 
     // Properties
@@ -588,6 +724,22 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         this.userAgent = userAgent;
     }
 
+    public boolean isAsyncProducer() {
+        return asyncProducer;
+    }
+
+    /**
+     * Whether the producer should send the requests using the non-blocking Apache HttpAsyncClient.
+     * <p/>
+     * When enabled the calling thread is not blocked while waiting for the response, which allows a small number of
+     * threads to have many HTTP requests in flight. The response body is cached in a stream cache (spooled to disk if
+     * large) as it is received. The maximum number of connections is configured with the maxTotalConnections and
+     * connectionsPerRoute options.
+     */
+    public void setAsyncProducer(boolean asyncProducer) {
+        this.asyncProducer = asyncProducer;
+    }
+
     @ManagedAttribute(description = "Maximum number of allowed persistent connections")
     public int getClientConnectionsPoolStatsMax() {
         ConnPoolControl<?> pool = null;
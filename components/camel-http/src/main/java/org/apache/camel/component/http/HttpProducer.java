@@ -39,6 +39,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Message;
+import org.apache.camel.StreamCache;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.component.http.helper.HttpMethodHelper;
@@ -141,6 +142,30 @@ public class HttpProducer extends DefaultProducer {
 
     @Override
     public void process(Exchange exchange) throws Exception {
+        HttpRequestBase httpRequest = createRequest(exchange);
+        HttpHost httpHost = createHost(httpRequest, exchange);
+
+        // lets store the result in the output message.
+        HttpResponse httpResponse = null;
+        try {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getURI());
+            }
+            httpResponse = executeMethod(httpHost, httpRequest);
+            handleResponse(exchange, httpRequest, httpResponse);
+        } finally {
+            releaseResponse(exchange, httpResponse);
+        }
+    }
+
+    /**
+     * Creates the request to send to the remote server, including the HTTP headers and cookies from the exchange.
+     *
+     * @param  exchange  the exchange
+     * @return           the request
+     * @throws Exception is thrown if error creating the request
+     */
+    protected HttpRequestBase createRequest(Exchange exchange) throws Exception {
         boolean cookies = !getEndpoint().getComponent().isCookieManagementDisabled();
         if (cookies && getEndpoint().isClearExpiredCookies() && !getEndpoint().isBridgeEndpoint()) {
             // create the cookies before the invocation
@@ -160,7 +185,6 @@ public class HttpProducer extends DefaultProducer {
         }
 
         HttpRequestBase httpRequest = createMethod(exchange);
-        HttpHost httpHost = createHost(httpRequest, exchange);
 
         Message in = exchange.getIn();
         String httpProtocolVersion = in.getHeader(HttpConstants.HTTP_PROTOCOL_VERSION, String.class);
@@ -264,57 +288,74 @@ public class HttpProducer extends DefaultProducer {
             httpRequest.addHeader("Connection", HTTP.CONN_CLOSE);
         }
 
-        // lets store the result in the output message.
-        HttpResponse httpResponse = null;
-        try {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getURI());
-            }
-            httpResponse = executeMethod(httpHost, httpRequest);
-            int responseCode = httpResponse.getStatusLine().getStatusCode();
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Http responseCode: {}", responseCode);
-            }
+        return httpRequest;
+    }
 
-            if (!throwException) {
-                // if we do not use failed exception then populate response for all response codes
+    /**
+     * Handles the response from the remote server by populating the exchange, or throwing an
+     * {@link HttpOperationFailedException} if the response code is not accepted.
+     *
+     * @param  exchange     the exchange
+     * @param  httpRequest  the request which was sent
+     * @param  httpResponse the response
+     * @throws Exception    is thrown if the operation failed, or the response could not be read
+     */
+    protected void handleResponse(Exchange exchange, HttpRequestBase httpRequest, HttpResponse httpResponse)
+            throws Exception {
+        int responseCode = httpResponse.getStatusLine().getStatusCode();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Http responseCode: {}", responseCode);
+        }
+
+        Message in = exchange.getIn();
+        HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
+        if (!throwException) {
+            // if we do not use failed exception then populate response for all response codes
+            populateResponse(exchange, httpRequest, httpResponse, in, strategy, responseCode);
+        } else {
+            boolean ok;
+            if (minOkRange > 0) {
+                ok = responseCode >= minOkRange && responseCode <= maxOkRange;
+            } else {
+                ok = HttpHelper.isStatusCodeOk(responseCode, getEndpoint().getOkStatusCodeRange());
+            }
+            if (ok) {
+                // only populate response for OK response
                 populateResponse(exchange, httpRequest, httpResponse, in, strategy, responseCode);
             } else {
-                boolean ok;
-                if (minOkRange > 0) {
-                    ok = responseCode >= minOkRange && responseCode <= maxOkRange;
-                } else {
-                    ok = HttpHelper.isStatusCodeOk(responseCode, getEndpoint().getOkStatusCodeRange());
-                }
-                if (ok) {
-                    // only populate response for OK response
-                    populateResponse(exchange, httpRequest, httpResponse, in, strategy, responseCode);
-                } else {
-                    // operation failed so populate exception to throw
-                    throw populateHttpOperationFailedException(exchange, httpRequest, httpResponse, responseCode);
-                }
+                // operation failed so populate exception to throw
+                throw populateHttpOperationFailedException(exchange, httpRequest, httpResponse, responseCode);
             }
-        } finally {
-            final HttpResponse response = httpResponse;
-            if (httpResponse != null && getEndpoint().isDisableStreamCache()) {
-                // close the stream at the end of the exchange to ensure it gets eventually closed later
-                exchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
-                    @Override
-                    public void onDone(Exchange exchange) {
-                        try {
-                            EntityUtils.consume(response.getEntity());
-                        } catch (Exception e) {
-                            // ignore
-                        }
+        }
+    }
+
+    /**
+     * Releases the response so the underlying connection can be reused, either now or when the exchange is done if
+     * stream caching is disabled.
+     *
+     * @param exchange     the exchange
+     * @param httpResponse the response, may be <tt>null</tt>
+     */
+    protected void releaseResponse(Exchange exchange, HttpResponse httpResponse) {
+        final HttpResponse response = httpResponse;
+        if (httpResponse != null && getEndpoint().isDisableStreamCache()) {
+            // close the stream at the end of the exchange to ensure it gets eventually closed later
+            exchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
+                @Override
+                public void onDone(Exchange exchange) {
+                    try {
+                        EntityUtils.consume(response.getEntity());
+                    } catch (Exception e) {
+                        // ignore
                     }
-                });
-            } else if (httpResponse != null) {
-                // close the stream now
-                try {
-                    EntityUtils.consume(response.getEntity());
-                } catch (Exception e) {
-                    // ignore
                 }
+            });
+        } else if (httpResponse != null) {
+            // close the stream now
+            try {
+                EntityUtils.consume(response.getEntity());
+            } catch (Exception e) {
+                // ignore
             }
         }
     }
@@ -434,6 +475,13 @@ public class HttpProducer extends DefaultProducer {
      * @throws IOException can be thrown
      */
     protected HttpResponse executeMethod(HttpHost httpHost, HttpUriRequest httpRequest) throws IOException {
+        return httpClient.execute(httpHost, httpRequest, createHttpContext());
+    }
+
+    /**
+     * Creates the local context to use when executing a request.
+     */
+    protected HttpContext createHttpContext() {
         HttpContext localContext = new BasicHttpContext();
         if (getEndpoint().isAuthenticationPreemptive()) {
             BasicScheme basicAuth = new BasicScheme();
@@ -442,7 +490,7 @@ public class HttpProducer extends DefaultProducer {
         if (httpContext != null) {
             localContext = new BasicHttpContext(httpContext);
         }
-        return httpClient.execute(httpHost, httpRequest, localContext);
+        return localContext;
     }
 
     /**
@@ -527,6 +575,10 @@ public class HttpProducer extends DefaultProducer {
                         return arr;
                     }
                 }
+                if (is instanceof StreamCache) {
+                    // the response has already been cached (the async producer does this while receiving)
+                    return is;
+                }
                 // else for bigger payloads then wrap the response in a stream cache so its re-readable
                 return doExtractResponseBodyAsStream(is, exchange);
             } else {
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.http.handler.BasicValidationHandler;
+import org.apache.camel.component.http.handler.DelayValidationHandler;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.http.base.HttpOperationFailedException;
+import org.apache.camel.test.AvailablePortFinder;
+import org.apache.camel.util.StopWatch;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.component.http.HttpMethods.GET;
+import static org.apache.camel.component.http.HttpMethods.POST;
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpAsyncProducerTest extends BaseHttpTest {
+
+    private static final String LARGE_CONTENT = "0123456789".repeat(100000);
+
+    private HttpServer localServer;
+
+    private String baseUrl;
+
+    @BeforeEach
+    @Override
+    public void setUp() throws Exception {
+        localServer = ServerBootstrap.bootstrap().setHttpProcessor(getBasicHttpProcessor())
+                .setConnectionReuseStrategy(getConnectionReuseStrategy()).setResponseFactory(getHttpResponseFactory())
+                .setExpectationVerifier(getHttpExpectationVerifier()).setSslContext(getSSLContext())
+                .registerHandler("/get", new BasicValidationHandler(GET.name(), null, null, getExpectedContent()))
+                .registerHandler("/post", new BasicValidationHandler(POST.name(), null, "hello", getExpectedContent()))
+                .registerHandler("/delay", new DelayValidationHandler(GET.name(), null, null, getExpectedContent(), 1000))
+                .registerHandler("/large", (request, response, context) -> {
+                    response.setStatusCode(200);
+                    response.setEntity(new StringEntity(LARGE_CONTENT));
+                }).create();
+        localServer.start();
+
+        baseUrl = "http://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort();
+
+        super.setUp();
+    }
+
+    @AfterEach
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Override
+    protected RoutesBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:large")
+                        .to(baseUrl + "/large?asyncProducer=true")
+                        .process(exchange -> assertIsInstanceOf(StreamCache.class, exchange.getMessage().getBody()))
+                        // must not continue routing on the I/O reactor thread of the HttpAsyncClient
+                        .process(exchange -> assertFalse(Thread.currentThread().getName().startsWith("I/O dispatcher"),
+                                "Should not route on I/O thread: " + Thread.currentThread().getName()))
+                        .convertBodyTo(String.class)
+                        .to("mock:result");
+            }
+        };
+    }
+
+    @Test
+    public void testAsyncProducerCreated() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/get?asyncProducer=true", HttpEndpoint.class);
+        assertTrue(endpoint.isAsyncProducer());
+        assertIsInstanceOf(HttpAsyncProducer.class, endpoint.createProducer());
+    }
+
+    @Test
+    public void testGet() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/get?asyncProducer=true", exchange1 -> {
+        });
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void testPost() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/post?asyncProducer=true",
+                exchange1 -> exchange1.getIn().setBody("hello"));
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void testLargeResponseIsStreamCached() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived(LARGE_CONTENT);
+
+        template.sendBody("direct:large", null);
+
+        mock.assertIsSatisfied();
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        Exchange exchange = template.request(baseUrl + "/XXX?asyncProducer=true", exchange1 -> {
+        });
+
+        Exception e = exchange.getException();
+        assertNotNull(e, "Should have thrown an exception");
+        HttpOperationFailedException cause = assertIsInstanceOf(HttpOperationFailedException.class, e);
+        assertEquals(501, cause.getStatusCode());
+    }
+
+    @Test
+    public void testNoConnection() throws Exception {
+        Exchange exchange = template.request("http://localhost:" + AvailablePortFinder.getNextAvailable() + "?asyncProducer=true",
+                exchange1 -> {
+                });
+
+        assertNotNull(exchange.getException(), "Should have thrown an exception");
+    }
+
+    @Test
+    public void testConcurrentRequestsWithoutBlocking() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/delay?asyncProducer=true", HttpEndpoint.class);
+        HttpAsyncProducer producer = (HttpAsyncProducer) endpoint.createProducer();
+        producer.start();
+
+        StopWatch watch = new StopWatch();
+        List<CompletableFuture<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(producer.processAsync(producer.createExchange()));
+        }
+        for (CompletableFuture<Exchange> future : futures) {
+            assertExchange(future.get(20, TimeUnit.SECONDS));
+        }
+        producer.stop();
+
+        // the requests are sent from this single thread, so they must have been in flight at the same time
+        assertTrue(watch.taken() < 5000, "Requests should be sent concurrently, took: " + watch.taken());
+    }
+
+    @Test
+    public void testClosedClient() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/get?asyncProducer=true", HttpEndpoint.class);
+        HttpAsyncProducer producer = (HttpAsyncProducer) endpoint.createProducer();
+        CloseableHttpAsyncClient client = HttpAsyncClients.createDefault();
+        client.start();
+        client.close();
+        producer.setHttpAsyncClient(client);
+        producer.start();
+
+        // the request cannot be executed so the exchange must be done with the exception
+        Exchange exchange = producer.processAsync(producer.createExchange()).get(20, TimeUnit.SECONDS);
+        assertNotNull(exchange.getException(), "Should have thrown an exception");
+        producer.stop();
+    }
+
+    @Test
+    public void testRestartEndpoint() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/get?asyncProducer=true", HttpEndpoint.class);
+        HttpAsyncProducer producer = (HttpAsyncProducer) endpoint.createProducer();
+        producer.start();
+        assertExchange(producer.processAsync(producer.createExchange()).get(20, TimeUnit.SECONDS));
+
+        // the client is closed when the endpoint is stopped, so a new client must be used when started again
+        producer.stop();
+        endpoint.stop();
+        endpoint.start();
+        producer.start();
+        assertExchange(producer.processAsync(producer.createExchange()).get(20, TimeUnit.SECONDS));
+        producer.stop();
+    }
+}
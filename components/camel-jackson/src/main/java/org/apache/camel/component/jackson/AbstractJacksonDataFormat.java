@@ -73,6 +73,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
     private boolean prettyPrint;
     private boolean allowJmsType;
     private boolean useList;
+    private boolean usingIterator;
     private String enableFeatures;
     private String disableFeatures;
     private boolean enableJacksonTypeConverter;
@@ -177,7 +178,10 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         if (type != null) {
             clazz = exchange.getContext().getClassResolver().resolveMandatoryClass(type);
         }
-        if (collectionType != null) {
+        if (usingIterator) {
+            // stream the elements of the json array one by one (the iterator closes the stream when done)
+            return new JacksonIterator(this.objectMapper.readerFor(clazz).with(schema), stream);
+        } else if (collectionType != null) {
             CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
             return this.objectMapper.readerFor(collType).with(schema).readValue(stream);
         } else {
@@ -280,6 +284,21 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         this.useList = useList;
     }
 
+    public boolean isUsingIterator() {
+        return usingIterator;
+    }
+
+    /**
+     * If enabled then unmarshalling returns an {@link Iterator} which reads the elements of a JSON array one at a time
+     * in streaming mode, instead of loading the entire array into memory. Each element is unmarshalled to the
+     * unmarshal type, or to a {@link Map} when no type has been configured.
+     * <p/>
+     * This is intended to be used together with the splitter in streaming mode, which closes the iterator when done.
+     */
+    public void setUsingIterator(boolean usingIterator) {
+        this.usingIterator = usingIterator;
+    }
+
     public List<Module> getModules() {
         return modules;
     }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * {@link Iterator} which walks a JSON array in streaming mode using the Jackson {@link JsonParser}, binding one
+ * element at a time with the given {@link ObjectReader}.
+ * <p/>
+ * If the JSON root is not an array then the root value is returned as the only element. The iterator closes the
+ * parser and the underlying stream when all elements have been read, or when {@link #close()} is invoked (the
+ * splitter does this when it is done).
+ */
+class JacksonIterator implements Iterator<Object>, Closeable {
+
+    private final ObjectReader reader;
+    private final InputStream stream;
+    private final JsonParser parser;
+    private final boolean array;
+    private boolean first = true;
+    private boolean done;
+    private boolean hasElement;
+    private Object element;
+
+    JacksonIterator(ObjectReader reader, InputStream stream) throws IOException {
+        this.reader = reader;
+        this.stream = stream;
+        this.parser = reader.createParser(stream);
+        JsonToken token = parser.nextToken();
+        this.array = token == JsonToken.START_ARRAY;
+        if (token == null) {
+            // empty input
+            close();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!hasElement && !done) {
+            readNext();
+        }
+        return hasElement;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object answer = element;
+        element = null;
+        hasElement = false;
+        return answer;
+    }
+
+    private void readNext() {
+        try {
+            if (array) {
+                JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    close();
+                    return;
+                }
+            } else if (!first) {
+                // a non array root has only one element
+                close();
+                return;
+            }
+            first = false;
+            element = reader.readValue(parser);
+            hasElement = true;
+        } catch (IOException e) {
+            IOHelper.close(this);
+            throw new RuntimeCamelException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!done) {
+            done = true;
+            IOHelper.close(parser, stream);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.model.dataformat.JsonDataFormat;
+import org.apache.camel.model.dataformat.JsonLibrary;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.body;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JacksonUnmarshalUsingIteratorTest extends CamelTestSupport {
+
+    @Test
+    public void testUnmarshalPojo() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:pojo");
+        mock.expectedMessageCount(3);
+        mock.expectedMessagesMatches(body().isInstanceOf(TestPojo.class));
+
+        template.sendBody("direct:pojo",
+                new ByteArrayInputStream("[{\"name\":\"a\"},{\"name\":\"b\"},{\"name\":\"c\"}]".getBytes()));
+
+        assertMockEndpointsSatisfied();
+        assertEquals("a", mock.getReceivedExchanges().get(0).getIn().getBody(TestPojo.class).getName());
+        assertEquals("c", mock.getReceivedExchanges().get(2).getIn().getBody(TestPojo.class).getName());
+    }
+
+    @Test
+    public void testUnmarshalMap() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:map");
+        mock.expectedMessageCount(2);
+        mock.expectedMessagesMatches(body().isInstanceOf(Map.class));
+
+        template.sendBody("direct:map", "[{\"name\":\"a\"},{\"name\":\"b\"}]");
+
+        assertMockEndpointsSatisfied();
+        assertEquals("b", mock.getReceivedExchanges().get(1).getIn().getBody(Map.class).get("name"));
+    }
+
+    @Test
+    public void testUnmarshalUsingModel() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:model");
+        mock.expectedMessageCount(2);
+        mock.expectedMessagesMatches(body().isInstanceOf(TestPojo.class));
+
+        template.sendBody("direct:model", "[{\"name\":\"a\"},{\"name\":\"b\"}]");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testUnmarshalSingleObject() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:pojo");
+        mock.expectedMessageCount(1);
+        mock.expectedMessagesMatches(body().isInstanceOf(TestPojo.class));
+
+        template.sendBody("direct:pojo", "{\"name\":\"a\"}");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testUnmarshalEmptyArray() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:map");
+        mock.expectedMessageCount(0);
+
+        template.sendBody("direct:map", "[]");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                JacksonDataFormat pojo = new JacksonDataFormat(TestPojo.class);
+                pojo.setUsingIterator(true);
+
+                JacksonDataFormat map = new JacksonDataFormat();
+                map.setUsingIterator(true);
+
+                from("direct:pojo").unmarshal(pojo).split(body()).streaming().to("mock:pojo");
+                from("direct:map").unmarshal(map).split(body()).streaming().to("mock:map");
+
+                JsonDataFormat model = new JsonDataFormat(JsonLibrary.Jackson);
+                model.setUnmarshalType(TestPojo.class);
+                model.usingIterator(true);
+                from("direct:model").unmarshal(model).split(body()).streaming().to("mock:model");
+            }
+        };
+    }
+
+}
@@ -177,6 +177,8 @@ public class JmsComponentConfigurer extends PropertyConfigurerSupport implements
         case "replyToOverride": getOrCreateConfiguration(target).setReplyToOverride(property(camelContext, java.lang.String.class, value)); return true;
         case "replytosamedestinationallowed":
         case "replyToSameDestinationAllowed": getOrCreateConfiguration(target).setReplyToSameDestinationAllowed(property(camelContext, boolean.class, value)); return true;
+        case "replytoshards":
+        case "replyToShards": getOrCreateConfiguration(target).setReplyToShards(property(camelContext, int.class, value)); return true;
         case "replytotype":
         case "replyToType": getOrCreateConfiguration(target).setReplyToType(property(camelContext, org.apache.camel.component.jms.ReplyToType.class, value)); return true;
         case "requesttimeout":
@@ -375,6 +377,8 @@ public class JmsComponentConfigurer extends PropertyConfigurerSupport implements
         case "replyToOverride": return java.lang.String.class;
         case "replytosamedestinationallowed":
         case "replyToSameDestinationAllowed": return boolean.class;
+        case "replytoshards":
+        case "replyToShards": return int.class;
         case "replytotype":
         case "replyToType": return org.apache.camel.component.jms.ReplyToType.class;
         case "requesttimeout":
@@ -574,6 +578,8 @@ public class JmsComponentConfigurer extends PropertyConfigurerSupport implements
         case "replyToOverride": return getOrCreateConfiguration(target).getReplyToOverride();
         case "replytosamedestinationallowed":
         case "replyToSameDestinationAllowed": return getOrCreateConfiguration(target).isReplyToSameDestinationAllowed();
+        case "replytoshards":
+        case "replyToShards": return getOrCreateConfiguration(target).getReplyToShards();
         case "replytotype":
         case "replyToType": return getOrCreateConfiguration(target).getReplyToType();
         case "requesttimeout":
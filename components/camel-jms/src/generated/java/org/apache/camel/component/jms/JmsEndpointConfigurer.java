@@ -165,6 +165,8 @@ public class JmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "replyToOverride": target.getConfiguration().setReplyToOverride(property(camelContext, java.lang.String.class, value)); return true;
         case "replytosamedestinationallowed":
         case "replyToSameDestinationAllowed": target.getConfiguration().setReplyToSameDestinationAllowed(property(camelContext, boolean.class, value)); return true;
+        case "replytoshards":
+        case "replyToShards": target.getConfiguration().setReplyToShards(property(camelContext, int.class, value)); return true;
         case "replytotype":
         case "replyToType": target.getConfiguration().setReplyToType(property(camelContext, org.apache.camel.component.jms.ReplyToType.class, value)); return true;
         case "requesttimeout":
@@ -358,6 +360,8 @@ public class JmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "replyToOverride": return java.lang.String.class;
         case "replytosamedestinationallowed":
         case "replyToSameDestinationAllowed": return boolean.class;
+        case "replytoshards":
+        case "replyToShards": return int.class;
         case "replytotype":
         case "replyToType": return org.apache.camel.component.jms.ReplyToType.class;
         case "requesttimeout":
@@ -552,6 +556,8 @@ public class JmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "replyToOverride": return target.getConfiguration().getReplyToOverride();
         case "replytosamedestinationallowed":
         case "replyToSameDestinationAllowed": return target.getConfiguration().isReplyToSameDestinationAllowed();
+        case "replytoshards":
+        case "replyToShards": return target.getConfiguration().getReplyToShards();
         case "replytotype":
         case "replyToType": return target.getConfiguration().getReplyToType();
         case "requesttimeout":
@@ -21,7 +21,7 @@ public class JmsEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(98);
+        Set<String> props = new HashSet<>(99);
         props.add("acceptMessagesWhileStopping");
         props.add("acknowledgementModeName");
         props.add("allowAdditionalHeaders");
@@ -97,6 +97,7 @@ public class JmsEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("replyToOnTimeoutMaxConcurrentConsumers");
         props.add("replyToOverride");
         props.add("replyToSameDestinationAllowed");
+        props.add("replyToShards");
         props.add("replyToType");
         props.add("requestTimeout");
         props.add("requestTimeoutCheckerInterval");
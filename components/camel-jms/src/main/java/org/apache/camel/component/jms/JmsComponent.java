@@ -528,6 +528,14 @@ public class JmsComponent extends HeaderFilterStrategyComponent {
         configuration.setReplyToOnTimeoutMaxConcurrentConsumers(replyToOnTimeoutMaxConcurrentConsumers);
     }
 
+    public int getReplyToShards() {
+        return configuration.getReplyToShards();
+    }
+
+    public void setReplyToShards(int replyToShards) {
+        configuration.setReplyToShards(replyToShards);
+    }
+
     public boolean isExplicitQosEnabled() {
         return configuration.isExplicitQosEnabled();
     }
@@ -214,6 +214,13 @@ public class JmsConfiguration implements Cloneable {
     @UriParam(label = "producer", defaultValue = "1",
               description = "Specifies the maximum number of concurrent consumers for continue routing when timeout occurred when using request/reply over JMS.")
     private int replyToOnTimeoutMaxConcurrentConsumers = 1;
+    @UriParam(label = "producer,advanced", defaultValue = "1",
+              description = "Specifies the number of reply managers to use when doing request/reply over JMS."
+                            + " Each reply manager has its own reply consumer and correlation map, and the pending requests"
+                            + " are spread among the reply managers by the hash of their correlation id."
+                            + " This reduces contention when many concurrent requests are in-flight on the same endpoint."
+                            + " When using temporary reply queues then each reply manager uses its own temporary queue.")
+    private int replyToShards = 1;
     // JmsTemplate only
     @UriParam(label = "producer", defaultValue = "false",
               description = "Set if the deliveryMode, priority or timeToLive qualities of service should be used when sending messages."
@@ -1302,6 +1309,20 @@ public class JmsConfiguration implements Cloneable {
         this.replyToOnTimeoutMaxConcurrentConsumers = replyToOnTimeoutMaxConcurrentConsumers;
     }
 
+    public int getReplyToShards() {
+        return replyToShards;
+    }
+
+    /**
+     * Specifies the number of reply managers to use when doing request/reply over JMS. Each reply manager has its own
+     * reply consumer and correlation map, and the pending requests are spread among the reply managers by the hash of
+     * their correlation id. This reduces contention when many concurrent requests are in-flight on the same endpoint.
+     * When using temporary reply queues then each reply manager uses its own temporary queue.
+     */
+    public void setReplyToShards(int replyToShards) {
+        this.replyToShards = replyToShards;
+    }
+
     public boolean isExplicitQosEnabled() {
         return explicitQosEnabled != null ? explicitQosEnabled : false;
     }
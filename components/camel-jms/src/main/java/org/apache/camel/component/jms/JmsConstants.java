@@ -62,6 +62,8 @@ public final class JmsConstants {
               description = "The timeout for waiting for a reply when using the InOut Exchange Pattern (in milliseconds).",
               javaType = "long", defaultValue = "20_000")
     public static final String JMS_REQUEST_TIMEOUT = "CamelJmsRequestTimeout";
+    // the reply shard which is picked for a request when using sharded reply managers
+    public static final String JMS_REPLY_TO_SHARD = "CamelJmsReplyToShard";
 
     private JmsConstants() {
         // utility class
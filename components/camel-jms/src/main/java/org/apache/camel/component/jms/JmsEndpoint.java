@@ -564,6 +564,11 @@ public class JmsEndpoint extends DefaultEndpoint
         return getConfiguration().getReplyToOnTimeoutMaxConcurrentConsumers();
     }
 
+    @ManagedAttribute
+    public int getReplyToShards() {
+        return getConfiguration().getReplyToShards();
+    }
+
     @ManagedAttribute
     public int getMaxMessagesPerTask() {
         return getConfiguration().getMaxMessagesPerTask();
@@ -889,6 +894,11 @@ public class JmsEndpoint extends DefaultEndpoint
         getConfiguration().setReplyToMaxConcurrentConsumers(maxConcurrentConsumers);
     }
 
+    @ManagedAttribute
+    public void setReplyToShards(int replyToShards) {
+        getConfiguration().setReplyToShards(replyToShards);
+    }
+
     @ManagedAttribute
     public void setMaxMessagesPerTask(int maxMessagesPerTask) {
         getConfiguration().setMaxMessagesPerTask(maxMessagesPerTask);
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.jms;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
@@ -36,6 +38,7 @@ import org.apache.camel.RuntimeExchangeException;
 import org.apache.camel.component.jms.JmsConfiguration.CamelJmsTemplate;
 import org.apache.camel.component.jms.reply.QueueReplyManager;
 import org.apache.camel.component.jms.reply.ReplyManager;
+import org.apache.camel.component.jms.reply.ShardedReplyManager;
 import org.apache.camel.component.jms.reply.TemporaryQueueReplyManager;
 import org.apache.camel.component.jms.reply.UseMessageIdAsCorrelationIdMessageSentCallback;
 import org.apache.camel.spi.UuidGenerator;
@@ -102,7 +105,17 @@ public class JmsProducer extends DefaultAsyncProducer {
                         }
                     }
 
-                    if (endpoint.getReplyTo() != null) {
+                    if (endpoint.getReplyToShards() > 1) {
+                        List<ReplyManager> shards = new ArrayList<>(endpoint.getReplyToShards());
+                        for (int i = 0; i < endpoint.getReplyToShards(); i++) {
+                            shards.add(endpoint.getReplyTo() != null
+                                    ? createReplyManager(endpoint.getReplyTo()) : createReplyManager());
+                        }
+                        replyManager = new ShardedReplyManager(shards);
+                        ServiceHelper.startService(replyManager);
+                        LOG.debug("Using {} JmsReplyManager shards to process replies from: {}", shards.size(),
+                                endpoint.getReplyTo() != null ? endpoint.getReplyTo() : "temporary queues");
+                    } else if (endpoint.getReplyTo() != null) {
                         replyManager = createReplyManager(endpoint.getReplyTo());
                         if (LOG.isDebugEnabled()) {
                             LOG.debug("Using JmsReplyManager: {} to process replies from: {}", replyManager,
@@ -227,7 +240,7 @@ public class JmsProducer extends DefaultAsyncProducer {
                     replyTo = resolveOrCreateDestination(replyToOverride, session);
                 } else {
                     // get the reply to destination to be used from the reply manager
-                    replyTo = replyManager.getReplyTo();
+                    replyTo = replyManager.getReplyTo(exchange);
                 }
                 if (replyTo == null) {
                     throw new RuntimeExchangeException("Failed to resolve replyTo destination", exchange);
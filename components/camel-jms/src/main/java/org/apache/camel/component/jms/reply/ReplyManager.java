@@ -68,6 +68,16 @@ public interface ReplyManager extends SessionAwareMessageListener {
      */
     Destination getReplyTo();
 
+    /**
+     * Gets the reply to queue to be used for the given request.
+     * <p/>
+     * This is invoked once per request before {@link #setReplyToSelectorHeader(org.apache.camel.Message, Message)},
+     * and by default returns {@link #getReplyTo()}.
+     */
+    default Destination getReplyTo(Exchange exchange) {
+        return getReplyTo();
+    }
+
     /**
      * To be used when a reply queue is used with a custom JMS selector is being used.
      */
@@ -62,6 +62,7 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
     protected final long replyToTimeout = 10000;
     protected CorrelationTimeoutMap correlation;
     protected String correlationProperty;
+    private ShardedReplyManager shardedReplyManager;
 
     public ReplyManagerSupport(CamelContext camelContext) {
         this.camelContext = camelContext;
@@ -90,6 +91,14 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         replyToLatch.countDown();
     }
 
+    /**
+     * Sets the {@link ShardedReplyManager} this reply manager is a shard of. Received replies are then handed over to
+     * the shard owning their correlation id.
+     */
+    void setShardedReplyManager(ShardedReplyManager shardedReplyManager) {
+        this.shardedReplyManager = shardedReplyManager;
+    }
+
     @Override
     public void setCorrelationProperty(final String correlationProperty) {
         this.correlationProperty = correlationProperty;
@@ -140,27 +149,33 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
 
     @Override
     public void onMessage(Message message, Session session) throws JMSException {
-        String correlationID = null;
+        String correlationID = getCorrelationId(message);
+        if (correlationID == null) {
+            log.warn("Ignoring message with no correlationID: {}", message);
+            return;
+        }
+
+        log.debug("Received reply message with correlationID [{}] -> {}", correlationID, message);
+
+        // handle the reply message (by the shard owning the correlation id if sharded)
+        ReplyManagerSupport target = shardedReplyManager != null ? shardedReplyManager.getShardFor(correlationID) : this;
+        target.handleReplyMessage(correlationID, message, session);
+    }
 
+    /**
+     * Gets the correlation id of the reply message, or <tt>null</tt> if the message has no correlation id.
+     */
+    String getCorrelationId(Message message) {
         try {
             if (correlationProperty == null) {
-                correlationID = message.getJMSCorrelationID();
+                return message.getJMSCorrelationID();
             } else {
-                correlationID = message.getStringProperty(correlationProperty);
+                return message.getStringProperty(correlationProperty);
             }
         } catch (JMSException e) {
             // ignore
+            return null;
         }
-
-        if (correlationID == null) {
-            log.warn("Ignoring message with no correlationID: {}", message);
-            return;
-        }
-
-        log.debug("Received reply message with correlationID [{}] -> {}", correlationID, message);
-
-        // handle the reply message
-        handleReplyMessage(correlationID, message, session);
     }
 
     @Override
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms.reply;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Session;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.jms.JmsConstants;
+import org.apache.camel.component.jms.JmsEndpoint;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReplyManager} which spreads the pending requests among a number of {@link ReplyManagerSupport} shards, each
+ * with its own reply consumer and correlation map.
+ * <p/>
+ * The shard a request belongs to is chosen by the hash of its correlation id, and a reply received by any of the shard
+ * consumers is handed over to the shard owning the correlation id. The reply destinations (and the reply selector
+ * header) are used in a round-robin fashion, so the reply consumers share the load. The shard is chosen once per
+ * request, so the reply destination and the reply selector header of a request always belong to the same shard.
+ */
+public class ShardedReplyManager extends ServiceSupport implements ReplyManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShardedReplyManager.class);
+
+    private final ReplyManagerSupport[] shards;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ShardedReplyManager(List<ReplyManager> shards) {
+        this.shards = new ReplyManagerSupport[shards.size()];
+        for (int i = 0; i < shards.size(); i++) {
+            ReplyManager shard = shards.get(i);
+            if (!(shard instanceof ReplyManagerSupport)) {
+                throw new IllegalArgumentException("Reply manager shard must extend ReplyManagerSupport: " + shard);
+            }
+            this.shards[i] = (ReplyManagerSupport) shard;
+            this.shards[i].setShardedReplyManager(this);
+        }
+    }
+
+    /**
+     * Gets the shard which owns the given correlation id
+     */
+    public ReplyManager getShard(String correlationId) {
+        return getShardFor(correlationId);
+    }
+
+    /**
+     * Number of shards
+     */
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    ReplyManagerSupport getShardFor(String correlationId) {
+        return shards[Math.floorMod(correlationId.hashCode(), shards.length)];
+    }
+
+    private ReplyManagerSupport nextShard() {
+        return shards[Math.floorMod(counter.getAndIncrement(), shards.length)];
+    }
+
+    @Override
+    public void setEndpoint(JmsEndpoint endpoint) {
+        for (ReplyManagerSupport shard : shards) {
+            shard.setEndpoint(endpoint);
+        }
+    }
+
+    @Override
+    public void setReplyTo(Destination replyTo) {
+        for (ReplyManagerSupport shard : shards) {
+            shard.setReplyTo(replyTo);
+        }
+    }
+
+    @Override
+    public void setScheduledExecutorService(ScheduledExecutorService executorService) {
+        for (ReplyManagerSupport shard : shards) {
+            shard.setScheduledExecutorService(executorService);
+        }
+    }
+
+    @Override
+    public void setOnTimeoutExecutorService(ExecutorService executorService) {
+        for (ReplyManagerSupport shard : shards) {
+            shard.setOnTimeoutExecutorService(executorService);
+        }
+    }
+
+    @Override
+    public void setCorrelationProperty(String correlationProperty) {
+        for (ReplyManagerSupport shard : shards) {
+            shard.setCorrelationProperty(correlationProperty);
+        }
+    }
+
+    @Override
+    public Destination getReplyTo() {
+        return nextShard().getReplyTo();
+    }
+
+    @Override
+    public Destination getReplyTo(Exchange exchange) {
+        // remember the shard so the reply selector header is set by the same shard
+        int index = Math.floorMod(counter.getAndIncrement(), shards.length);
+        exchange.setProperty(JmsConstants.JMS_REPLY_TO_SHARD, index);
+        return shards[index].getReplyTo();
+    }
+
+    @Override
+    public void setReplyToSelectorHeader(org.apache.camel.Message camelMessage, Message jmsMessage) throws JMSException {
+        Object index = camelMessage.getExchange().removeProperty(JmsConstants.JMS_REPLY_TO_SHARD);
+        ReplyManagerSupport shard = index instanceof Integer ? shards[(Integer) index] : nextShard();
+        shard.setReplyToSelectorHeader(camelMessage, jmsMessage);
+    }
+
+    @Override
+    public String registerReply(
+            ReplyManager replyManager, Exchange exchange, AsyncCallback callback,
+            String originalCorrelationId, String correlationId, long requestTimeout) {
+        ReplyManagerSupport shard = getShardFor(correlationId);
+        return shard.registerReply(shard, exchange, callback, originalCorrelationId, correlationId, requestTimeout);
+    }
+
+    @Override
+    public void updateCorrelationId(String correlationId, String newCorrelationId, long requestTimeout) {
+        ReplyManagerSupport from = getShardFor(correlationId);
+        ReplyManagerSupport to = getShardFor(newCorrelationId);
+        if (from == to) {
+            from.updateCorrelationId(correlationId, newCorrelationId, requestTimeout);
+        } else {
+            // the real correlation id belongs to another shard, so move the handler over
+            ReplyHandler handler = from.correlation.remove(correlationId);
+            if (handler != null) {
+                to.correlation.put(newCorrelationId, handler, requestTimeout);
+            }
+        }
+    }
+
+    @Override
+    public void processReply(ReplyHolder holder) {
+        getShardFor(holder.getCorrelationId()).processReply(holder);
+    }
+
+    @Override
+    public void onMessage(Message message, Session session) throws JMSException {
+        // the correlation property is the same on all the shards
+        String correlationID = shards[0].getCorrelationId(message);
+        if (correlationID == null) {
+            LOG.warn("Ignoring message with no correlationID: {}", message);
+            return;
+        }
+        getShardFor(correlationID).handleReplyMessage(correlationID, message, session);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ServiceHelper.startService((Object[]) shards);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService((Object[]) shards);
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.ConnectionFactory;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.component.jms.JmsComponent.jmsComponentAutoAcknowledge;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JmsRequestReplyShardedReplyToTest extends CamelTestSupport {
+
+    private final int size = 50;
+    private final List<String> replyTos = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testShardedTemporaryReplyTo() throws Exception {
+        doSendMessages("direct:temporary");
+
+        // the requests should be spread evenly across the temporary reply queues of the shards
+        Map<String, Integer> counts = new HashMap<>();
+        replyTos.forEach(replyTo -> counts.merge(replyTo, 1, Integer::sum));
+        assertEquals(4, counts.size(), "Should use all shards: " + counts);
+        for (int count : counts.values()) {
+            assertTrue(count >= size / 4, "Should spread evenly across shards: " + counts);
+        }
+    }
+
+    @Test
+    public void testShardedExclusiveReplyTo() throws Exception {
+        doSendMessages("direct:exclusive");
+    }
+
+    @Test
+    public void testShardedSharedReplyTo() throws Exception {
+        doSendMessages("direct:shared");
+    }
+
+    @Test
+    public void testShardedExclusiveReplyToUseMessageIDAsCorrelationID() throws Exception {
+        doSendMessages("direct:messageId");
+    }
+
+    private void doSendMessages(String uri) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<String>> replies = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                final String body = "" + i;
+                replies.add(executor.submit(() -> template.requestBody(uri, body, String.class)));
+            }
+            for (int i = 0; i < size; i++) {
+                assertEquals("Hello " + i, replies.get(i).get(20, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camelContext = super.createCamelContext();
+        ConnectionFactory connectionFactory = CamelJmsTestHelper.createConnectionFactory();
+        camelContext.addComponent("activemq", jmsComponentAutoAcknowledge(connectionFactory));
+        return camelContext;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:temporary")
+                        .to("activemq:queue:foo?replyToShards=4");
+
+                from("direct:exclusive")
+                        .to("activemq:queue:foo?replyTo=bar&replyToType=Exclusive&replyToShards=4");
+
+                from("direct:shared")
+                        .to("activemq:queue:foo?replyTo=baz&replyToType=Shared&replyToShards=4&receiveTimeout=250");
+
+                from("direct:messageId")
+                        .to("activemq:queue:foo?replyTo=qux&replyToType=Exclusive&replyToShards=4&useMessageIDAsCorrelationID=true");
+
+                from("activemq:queue:foo?concurrentConsumers=5")
+                        .process(exchange -> replyTos.add(exchange.getIn().getHeader("JMSReplyTo", String.class)))
+                        .transform(body().prepend("Hello "));
+            }
+        };
+    }
+}
@@ -17,16 +17,25 @@
 package org.apache.camel.component.leveldb;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
@@ -39,6 +48,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * An instance of {@link org.apache.camel.spi.AggregationRepository} which is backed by a {@link LevelDBFile}.
+ * <p/>
+ * When group commit is enabled the changes are kept in memory and written to LevelDB in a single {@link WriteBatch}
+ * by a background task. A copy of the exchange is taken when it is added, which is serialized by the background task,
+ * and reading an exchange which is not yet written returns a copy of it instead of reading it back.
  */
 public class LevelDBAggregationRepository extends ServiceSupport implements RecoverableAggregationRepository {
 
@@ -56,6 +69,16 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
     private String deadLetterUri;
     private boolean allowSerializedHeaders;
     private LevelDBSerializer serializer;
+    private boolean groupCommit;
+    private long groupCommitInterval = 10;
+
+    // changes not yet written to leveldb when using group commit
+    private final Map<ByteBuffer, PendingWrite> pendingWrites = new LinkedHashMap<>();
+    private Map<ByteBuffer, PendingWrite> committingWrites;
+    private final Lock commitLock = new ReentrantLock();
+    private CamelContext camelContext;
+    private ScheduledExecutorService groupCommitExecutor;
+    private ScheduledFuture<?> groupCommitTask;
 
     /**
      * Creates an aggregation repository
@@ -104,30 +127,26 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         LOG.debug("Adding key [{}] -> {}", key, exchange);
         try {
             byte[] lDbKey = keyBuilder(repositoryName, key);
-            final byte[] exchangeBuffer = codec().marshallExchange(camelContext, exchange, allowSerializedHeaders);
 
-            byte[] rc = null;
+            // only return old exchange if enabled
+            Exchange answer = null;
             if (isReturnOldExchange()) {
-                rc = levelDBFile.getDb().get(lDbKey);
+                answer = read(camelContext, lDbKey);
             }
 
             LOG.trace("Adding key index {} for repository {}", key, repositoryName);
-            levelDBFile.getDb().put(lDbKey, exchangeBuffer, levelDBFile.getWriteOptions());
-            LOG.trace("Added key index {}", key);
-
-            if (rc == null) {
-                return null;
-            }
-
-            // only return old exchange if enabled
-            if (isReturnOldExchange()) {
-                return codec().unmarshallExchange(camelContext, rc);
+            if (groupCommit) {
+                // take a copy of the exchange, which is serialized by the group commit task
+                addPendingWrite(camelContext, lDbKey, new PendingWrite(snapshot(exchange)));
+            } else {
+                final byte[] exchangeBuffer = codec().marshallExchange(camelContext, exchange, allowSerializedHeaders);
+                levelDBFile.getDb().put(lDbKey, exchangeBuffer, levelDBFile.getWriteOptions());
             }
+            LOG.trace("Added key index {}", key);
+            return answer;
         } catch (IOException e) {
             throw new RuntimeCamelException("Error adding to repository " + repositoryName + " with key " + key, e);
         }
-
-        return null;
     }
 
     @Override
@@ -137,11 +156,7 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         try {
             byte[] lDbKey = keyBuilder(repositoryName, key);
             LOG.trace("Getting key index {}", key);
-            byte[] rc = levelDBFile.getDb().get(lDbKey);
-
-            if (rc != null) {
-                answer = codec().unmarshallExchange(camelContext, rc);
-            }
+            answer = read(camelContext, lDbKey);
         } catch (IOException e) {
             throw new RuntimeCamelException("Error getting key " + key + " from repository " + repositoryName, e);
         }
@@ -157,6 +172,22 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         try {
             byte[] lDbKey = keyBuilder(repositoryName, key);
             final String exchangeId = exchange.getExchangeId();
+
+            if (groupCommit) {
+                if (exists(lDbKey)) {
+                    byte[] confirmedLDBKey = keyBuilder(getRepositoryNameCompleted(), exchangeId);
+                    // the completed exchange continues to be routed, so a copy is taken for recovery
+                    PendingWrite completed = new PendingWrite(snapshot(exchange));
+                    synchronized (pendingWrites) {
+                        addPendingWrite(camelContext, lDbKey, PendingWrite.DELETE);
+                        addPendingWrite(camelContext, confirmedLDBKey, completed);
+                    }
+                    LOG.trace("Removed key index {} and added confirm index {} for repository {}", key, exchangeId,
+                            getRepositoryNameCompleted());
+                }
+                return;
+            }
+
             final byte[] exchangeBuffer = codec().marshallExchange(camelContext, exchange, allowSerializedHeaders);
 
             // remove the exchange
@@ -190,6 +221,14 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
 
         byte[] confirmedLDBKey = keyBuilder(getRepositoryNameCompleted(), exchangeId);
 
+        if (groupCommit) {
+            if (exists(confirmedLDBKey)) {
+                addPendingWrite(camelContext, confirmedLDBKey, PendingWrite.DELETE);
+                LOG.trace("Removed confirm index {}", exchangeId);
+            }
+            return;
+        }
+
         byte[] rc = levelDBFile.getDb().get(confirmedLDBKey);
 
         if (rc != null) {
@@ -207,6 +246,9 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
             return null;
         }
 
+        // the pending changes must be written before iterating the keys in leveldb
+        commit();
+
         DBIterator it = levelDBFile.getDb().iterator();
 
         String keyBuffer;
@@ -243,6 +285,9 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
             return null;
         }
 
+        // the pending changes must be written before iterating the keys in leveldb
+        commit();
+
         DBIterator it = levelDBFile.getDb().iterator();
 
         String keyBuffer;
@@ -284,11 +329,7 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         try {
             byte[] completedLDBKey = keyBuilder(getRepositoryNameCompleted(), exchangeId);
 
-            byte[] rc = levelDBFile.getDb().get(completedLDBKey);
-
-            if (rc != null) {
-                answer = codec().unmarshallExchange(camelContext, rc);
-            }
+            answer = read(camelContext, completedLDBKey);
         } catch (IOException e) {
             throw new RuntimeCamelException(
                     "Error recovering exchangeId " + exchangeId + " from repository " + repositoryName, e);
@@ -298,6 +339,154 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         return answer;
     }
 
+    /**
+     * Reads the exchange of the key, taking the changes which are not yet written to leveldb into account.
+     */
+    private Exchange read(CamelContext camelContext, byte[] lDbKey) throws IOException {
+        byte[] rc;
+        PendingWrite write = groupCommit ? getPendingWrite(lDbKey) : null;
+        if (write != null) {
+            // the exchange is not yet written so there is no need to read it back, but the copy taken when it was
+            // added must not be changed as it may be serialized by the group commit task
+            return write.exchange != null ? snapshot(write.exchange) : null;
+        } else {
+            rc = levelDBFile.getDb().get(lDbKey);
+        }
+        return rc != null ? codec().unmarshallExchange(camelContext, rc) : null;
+    }
+
+    /**
+     * Copy of the exchange with its own message headers and exchange properties, which is not changed when the
+     * exchange is changed afterwards. The message body is shared (stream cached bodies are copied).
+     */
+    private static Exchange snapshot(Exchange exchange) {
+        Exchange copy = ExchangeHelper.createCopy(exchange, true);
+        copy.adapt(ExtendedExchange.class).setUnitOfWork(null);
+        return copy;
+    }
+
+    private boolean exists(byte[] lDbKey) {
+        PendingWrite write = getPendingWrite(lDbKey);
+        if (write != null) {
+            return write != PendingWrite.DELETE;
+        }
+        return levelDBFile.getDb().get(lDbKey) != null;
+    }
+
+    private PendingWrite getPendingWrite(byte[] lDbKey) {
+        ByteBuffer key = ByteBuffer.wrap(lDbKey);
+        synchronized (pendingWrites) {
+            PendingWrite write = pendingWrites.get(key);
+            if (write == null && committingWrites != null) {
+                write = committingWrites.get(key);
+            }
+            return write;
+        }
+    }
+
+    private void addPendingWrite(CamelContext camelContext, byte[] lDbKey, PendingWrite write) {
+        synchronized (pendingWrites) {
+            this.camelContext = camelContext;
+            pendingWrites.put(ByteBuffer.wrap(lDbKey), write);
+            // when stopping the remaining changes are committed by doStop
+            if (groupCommitTask == null && isRunAllowed()) {
+                if (groupCommitExecutor == null) {
+                    groupCommitExecutor = camelContext.getExecutorServiceManager()
+                            .newSingleThreadScheduledExecutor(this, "LevelDBAggregationRepository[" + repositoryName + "]");
+                }
+                groupCommitTask = groupCommitExecutor.schedule(this::commit, groupCommitInterval, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Writes the changes which are not yet written to leveldb in a single write batch. This is only in use when group
+     * commit is enabled, and is otherwise a noop.
+     */
+    public void commit() {
+        if (!groupCommit) {
+            return;
+        }
+
+        commitLock.lock();
+        try {
+            Map<ByteBuffer, PendingWrite> writes;
+            synchronized (pendingWrites) {
+                groupCommitTask = null;
+                if (pendingWrites.isEmpty()) {
+                    return;
+                }
+                writes = new LinkedHashMap<>(pendingWrites);
+                committingWrites = writes;
+                pendingWrites.clear();
+            }
+
+            // the exchanges are serialized here, outside the aggregator lock
+            Map<ByteBuffer, PendingWrite> failed = null;
+            for (Map.Entry<ByteBuffer, PendingWrite> entry : writes.entrySet()) {
+                PendingWrite write = entry.getValue();
+                if (write != PendingWrite.DELETE && write.data == null) {
+                    try {
+                        write.data = codec().marshallExchange(camelContext, write.exchange, allowSerializedHeaders);
+                    } catch (Exception e) {
+                        LOG.warn("Error serializing exchange {} in repository {}. Will try again on the next commit.",
+                                write.exchange.getExchangeId(), repositoryName, e);
+                        if (failed == null) {
+                            failed = new LinkedHashMap<>();
+                        }
+                        failed.put(entry.getKey(), write);
+                    }
+                }
+            }
+            if (failed != null) {
+                synchronized (pendingWrites) {
+                    // keep the exchanges which could not be serialized pending (unless changed in the meantime), so
+                    // they are still returned when read, and serialized again when the recovery scan commits
+                    for (Map.Entry<ByteBuffer, PendingWrite> entry : failed.entrySet()) {
+                        pendingWrites.putIfAbsent(entry.getKey(), entry.getValue());
+                    }
+                    writes.keySet().removeAll(failed.keySet());
+                }
+            }
+
+            try {
+                WriteBatch batch = levelDBFile.getDb().createWriteBatch();
+                try {
+                    for (Map.Entry<ByteBuffer, PendingWrite> entry : writes.entrySet()) {
+                        byte[] lDbKey = entry.getKey().array();
+                        if (entry.getValue() == PendingWrite.DELETE) {
+                            batch.delete(lDbKey);
+                        } else {
+                            batch.put(lDbKey, entry.getValue().data);
+                        }
+                    }
+                    levelDBFile.getDb().write(batch, levelDBFile.getWriteOptions());
+                } finally {
+                    batch.close();
+                }
+                LOG.trace("Committed {} changes in repository {}", writes.size(), repositoryName);
+            } catch (Exception e) {
+                LOG.warn("Error committing {} changes in repository {}. Will try again.", writes.size(), repositoryName, e);
+                synchronized (pendingWrites) {
+                    // keep newer changes for the same keys
+                    for (Map.Entry<ByteBuffer, PendingWrite> entry : writes.entrySet()) {
+                        pendingWrites.putIfAbsent(entry.getKey(), entry.getValue());
+                    }
+                    if (groupCommitTask == null && groupCommitExecutor != null && isRunAllowed()) {
+                        groupCommitTask = groupCommitExecutor.schedule(this::commit, groupCommitInterval,
+                                TimeUnit.MILLISECONDS);
+                    }
+                }
+            } finally {
+                synchronized (pendingWrites) {
+                    committingWrites = null;
+                }
+            }
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
     private int size(final String repositoryName) {
         DBIterator it = levelDBFile.getDb().iterator();
 
@@ -416,6 +605,31 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         this.allowSerializedHeaders = allowSerializedHeaders;
     }
 
+    public boolean isGroupCommit() {
+        return groupCommit;
+    }
+
+    /**
+     * Whether to write the changes to leveldb in batches by a background task, instead of writing each change when it
+     * happens. Each batch is written with a single (optionally synced) write. Changes which are not yet written are lost
+     * if the JVM crashes.
+     */
+    public void setGroupCommit(boolean groupCommit) {
+        this.groupCommit = groupCommit;
+    }
+
+    public long getGroupCommitInterval() {
+        return groupCommitInterval;
+    }
+
+    /**
+     * The delay in millis from a change until the batch containing the change is written to leveldb, when using group
+     * commit.
+     */
+    public void setGroupCommitInterval(long groupCommitInterval) {
+        this.groupCommitInterval = groupCommitInterval;
+    }
+
     @Override
     protected void doStart() throws Exception {
         // either we have a LevelDB configured or we use a provided fileName
@@ -452,6 +666,23 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
 
     @Override
     protected void doStop() throws Exception {
+        if (groupCommitExecutor != null) {
+            // let a running commit complete
+            camelContext.getExecutorServiceManager().shutdownGraceful(groupCommitExecutor);
+            synchronized (pendingWrites) {
+                groupCommitExecutor = null;
+                groupCommitTask = null;
+            }
+        }
+        // write the remaining changes
+        commit();
+        synchronized (pendingWrites) {
+            if (!pendingWrites.isEmpty()) {
+                LOG.warn("{} changes could not be written to repository {} and are lost", pendingWrites.size(),
+                        repositoryName);
+                pendingWrites.clear();
+            }
+        }
         ServiceHelper.stopService(levelDBFile);
     }
 
@@ -481,4 +712,21 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         }
         return codec;
     }
+
+    /**
+     * A change which is not yet written to leveldb.
+     */
+    private static final class PendingWrite {
+
+        static final PendingWrite DELETE = new PendingWrite(null);
+
+        // the copy of the added exchange, or null if the key is deleted
+        private final Exchange exchange;
+        // the serialized exchange, which is set by the group commit task
+        private byte[] data;
+
+        PendingWrite(Exchange exchange) {
+            this.exchange = exchange;
+        }
+    }
 }
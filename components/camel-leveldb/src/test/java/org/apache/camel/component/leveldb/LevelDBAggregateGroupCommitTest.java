@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.leveldb;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit5.params.Parameterized;
+import org.apache.camel.test.junit5.params.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.test.junit5.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs({ OS.AIX, OS.OTHER })
+@Parameterized
+public class LevelDBAggregateGroupCommitTest extends LevelDBTestSupport {
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory("target/data");
+        super.setUp();
+    }
+
+    @Override
+    LevelDBAggregationRepository createRepo() {
+        LevelDBAggregationRepository repo = super.createRepo();
+        repo.setGroupCommit(true);
+        return repo;
+    }
+
+    @Test
+    public void testLevelDBAggregateGroupCommit() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregated");
+        mock.expectedBodiesReceivedInAnyOrder("ABCDE", "FGHIJ");
+        NotifyBuilder notify = new NotifyBuilder(context).wereSentTo("mock:aggregated").whenDone(2).create();
+
+        for (String body : new String[] { "A", "F", "B", "G", "C", "H", "D", "I", "E", "J" }) {
+            template.sendBodyAndHeader("direct:start", body, "id", body.compareTo("F") < 0 ? 1 : 2);
+        }
+
+        assertMockEndpointsSatisfied(30, TimeUnit.SECONDS);
+        assertTrue(notify.matches(30, TimeUnit.SECONDS));
+
+        // the completed exchanges are confirmed
+        assertTrue(getRepo().scan(context).isEmpty());
+        assertTrue(getRepo().getKeys().isEmpty());
+    }
+
+    @Test
+    public void testLevelDBAggregateGroupCommitOnStop() throws Exception {
+        template.sendBodyAndHeader("direct:start", "A", "id", 123);
+        template.sendBodyAndHeader("direct:start", "B", "id", 123);
+
+        // the pending changes are written when the repository is stopped
+        context.stop();
+
+        LevelDBAggregationRepository repo = new LevelDBAggregationRepository("repo1", "target/data/leveldb.dat");
+        repo.setSerializer(getSerializer());
+        repo.start();
+        try {
+            Exchange exchange = repo.get(context, "123");
+            assertEquals("AB", exchange.getIn().getBody());
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testLevelDBAggregateGroupCommitPendingExchange() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("A");
+        getRepo().add(context, "123", exchange);
+
+        // the exchange which is not yet written is returned as it was added
+        Exchange pending = getRepo().get(context, "123");
+        assertNotSame(exchange, pending);
+        assertEquals(exchange.getExchangeId(), pending.getExchangeId());
+        assertEquals("A", pending.getIn().getBody());
+
+        // changes to the exchange after it was added, or to the exchange read, are not stored
+        exchange.getIn().setBody("B");
+        exchange.getIn().setHeader("foo", "bar");
+        pending.getIn().setBody("C");
+        assertEquals("A", getRepo().get(context, "123").getIn().getBody());
+        context.stop();
+
+        LevelDBAggregationRepository repo = new LevelDBAggregationRepository("repo1", "target/data/leveldb.dat");
+        repo.setSerializer(getSerializer());
+        repo.start();
+        try {
+            Exchange stored = repo.get(context, "123");
+            assertEquals("A", stored.getIn().getBody());
+            assertNull(stored.getIn().getHeader("foo"));
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testLevelDBAggregateGroupCommitSerializationFailure() throws Exception {
+        FailingSerializer serializer = new FailingSerializer(getSerializer());
+        LevelDBAggregationRepository repo = new LevelDBAggregationRepository("repo2", "target/data/leveldb2.dat");
+        repo.setSerializer(serializer);
+        repo.setGroupCommit(true);
+        repo.start();
+        try {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody("A");
+            serializer.fail = true;
+            repo.add(context, "123", exchange);
+
+            // the exchange which could not be serialized is kept pending, so it is still returned when read
+            repo.commit();
+            assertTrue(serializer.failures > 0);
+            assertEquals("A", repo.get(context, "123").getIn().getBody());
+
+            // and is serialized again by the next commit, such as when scanning for exchanges to recover
+            serializer.fail = false;
+            repo.scan(context);
+        } finally {
+            repo.stop();
+        }
+
+        repo = new LevelDBAggregationRepository("repo2", "target/data/leveldb2.dat");
+        repo.setSerializer(getSerializer());
+        repo.start();
+        try {
+            assertEquals("A", repo.get(context, "123").getIn().getBody());
+        } finally {
+            repo.stop();
+        }
+    }
+
+    private static class FailingSerializer implements LevelDBSerializer {
+
+        private final LevelDBSerializer delegate;
+        private volatile boolean fail;
+        private volatile int failures;
+
+        FailingSerializer(LevelDBSerializer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public byte[] serializeKey(String key) throws IOException {
+            return delegate.serializeKey(key);
+        }
+
+        @Override
+        public String deserializeKey(byte[] buffer) throws IOException {
+            return delegate.deserializeKey(buffer);
+        }
+
+        @Override
+        public byte[] serializeExchange(CamelContext camelContext, Exchange exchange, boolean allowSerializedHeaders)
+                throws IOException {
+            if (fail) {
+                failures++;
+                throw new IOException("Forced");
+            }
+            return delegate.serializeExchange(camelContext, exchange, allowSerializedHeaders);
+        }
+
+        @Override
+        public Exchange deserializeExchange(CamelContext camelContext, byte[] buffer) throws IOException {
+            return delegate.deserializeExchange(camelContext, buffer);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .aggregate(header("id"), new StringAggregationStrategy())
+                        .completionSize(5).aggregationRepository(getRepo())
+                        .to("mock:aggregated");
+            }
+        };
+    }
+}
@@ -68,6 +68,8 @@ public class MllpComponentConfigurer extends PropertyConfigurerSupport implement
         case "logPhiMaxBytes": target.setLogPhiMaxBytes(property(camelContext, java.lang.Integer.class, value)); return true;
         case "maxconcurrentconsumers":
         case "maxConcurrentConsumers": getOrCreateConfiguration(target).setMaxConcurrentConsumers(property(camelContext, int.class, value)); return true;
+        case "niotransport":
+        case "nioTransport": getOrCreateConfiguration(target).setNioTransport(property(camelContext, boolean.class, value)); return true;
         case "readtimeout":
         case "readTimeout": getOrCreateConfiguration(target).setReadTimeout(property(camelContext, int.class, value)); return true;
         case "receivebuffersize":
@@ -133,6 +135,8 @@ public class MllpComponentConfigurer extends PropertyConfigurerSupport implement
         case "logPhiMaxBytes": return java.lang.Integer.class;
         case "maxconcurrentconsumers":
         case "maxConcurrentConsumers": return int.class;
+        case "niotransport":
+        case "nioTransport": return boolean.class;
         case "readtimeout":
         case "readTimeout": return int.class;
         case "receivebuffersize":
@@ -199,6 +203,8 @@ public class MllpComponentConfigurer extends PropertyConfigurerSupport implement
         case "logPhiMaxBytes": return target.getLogPhiMaxBytes();
         case "maxconcurrentconsumers":
         case "maxConcurrentConsumers": return getOrCreateConfiguration(target).getMaxConcurrentConsumers();
+        case "niotransport":
+        case "nioTransport": return getOrCreateConfiguration(target).isNioTransport();
         case "readtimeout":
         case "readTimeout": return getOrCreateConfiguration(target).getReadTimeout();
         case "receivebuffersize":
@@ -54,6 +54,8 @@ public class MllpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lenientBind": target.getConfiguration().setLenientBind(property(camelContext, boolean.class, value)); return true;
         case "maxconcurrentconsumers":
         case "maxConcurrentConsumers": target.getConfiguration().setMaxConcurrentConsumers(property(camelContext, int.class, value)); return true;
+        case "niotransport":
+        case "nioTransport": target.getConfiguration().setNioTransport(property(camelContext, boolean.class, value)); return true;
         case "readtimeout":
         case "readTimeout": target.getConfiguration().setReadTimeout(property(camelContext, int.class, value)); return true;
         case "receivebuffersize":
@@ -112,6 +114,8 @@ public class MllpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lenientBind": return boolean.class;
         case "maxconcurrentconsumers":
         case "maxConcurrentConsumers": return int.class;
+        case "niotransport":
+        case "nioTransport": return boolean.class;
         case "readtimeout":
         case "readTimeout": return int.class;
         case "receivebuffersize":
@@ -171,6 +175,8 @@ public class MllpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lenientBind": return target.getConfiguration().isLenientBind();
         case "maxconcurrentconsumers":
         case "maxConcurrentConsumers": return target.getConfiguration().getMaxConcurrentConsumers();
+        case "niotransport":
+        case "nioTransport": return target.getConfiguration().isNioTransport();
         case "readtimeout":
         case "readTimeout": return target.getConfiguration().getReadTimeout();
         case "receivebuffersize":
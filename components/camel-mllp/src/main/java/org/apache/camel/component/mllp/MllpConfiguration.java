@@ -64,6 +64,9 @@ public class MllpConfiguration implements Cloneable {
     @UriParam(label = "advanced,consumer", defaultValue = "5")
     int maxConcurrentConsumers = 5;
 
+    @UriParam(label = "advanced,consumer", defaultValue = "false")
+    boolean nioTransport;
+
     @UriParam(label = "advanced,tcp", defaultValue = "null")
     Integer idleTimeout;
 
@@ -141,6 +144,7 @@ public class MllpConfiguration implements Cloneable {
             target.validatePayload = source.validatePayload;
             target.charsetName = source.charsetName;
             target.maxConcurrentConsumers = source.maxConcurrentConsumers;
+            target.nioTransport = source.nioTransport;
         }
     }
 
@@ -309,6 +313,24 @@ public class MllpConfiguration implements Cloneable {
         this.maxConcurrentConsumers = maxConcurrentConsumers;
     }
 
+    public boolean isNioTransport() {
+        return nioTransport;
+    }
+
+    /**
+     * TCP Server Only - Use a non-blocking transport for the TCP Server, where a single selector thread reads from all
+     * the client connections and the messages are processed using a thread pool.
+     *
+     * By default each client connection is read by a dedicated thread, which is costly when many (mostly idle) clients
+     * are connected. When enabled the connections are not bound to a thread, and the maxConcurrentConsumers option
+     * still limits the number of client connections.
+     *
+     * @param nioTransport if true, the non-blocking transport is used; otherwise a thread is used for each connection
+     */
+    public void setNioTransport(boolean nioTransport) {
+        this.nioTransport = nioTransport;
+    }
+
     public boolean hasIdleTimeout() {
         return idleTimeout != null && idleTimeout > 0;
     }
@@ -541,6 +563,7 @@ public class MllpConfiguration implements Cloneable {
                 connectTimeout,
                 receiveTimeout,
                 maxConcurrentConsumers,
+                nioTransport,
                 idleTimeout,
                 idleTimeoutStrategy,
                 readTimeout,
@@ -582,6 +605,7 @@ public class MllpConfiguration implements Cloneable {
                 && requireEndOfData == rhs.requireEndOfData
                 && stringPayload == rhs.stringPayload
                 && validatePayload == rhs.validatePayload
+                && nioTransport == rhs.nioTransport
                 && idleTimeoutStrategy == rhs.idleTimeoutStrategy
                 && Objects.equals(backlog, rhs.backlog)
                 && Objects.equals(maxConcurrentConsumers, rhs.maxConcurrentConsumers)
@@ -606,6 +630,7 @@ public class MllpConfiguration implements Cloneable {
                + ", connectTimeout=" + connectTimeout
                + ", receiveTimeout=" + receiveTimeout
                + ", maxConcurrentConsumers=" + maxConcurrentConsumers
+               + ", nioTransport=" + nioTransport
                + ", idleTimeout=" + idleTimeout
                + ", idleTimeoutStrategy=" + idleTimeoutStrategy
                + ", readTimeout=" + readTimeout
@@ -297,6 +297,10 @@ public class MllpEndpoint extends DefaultEndpoint {
         configuration.setMaxConcurrentConsumers(maxConcurrentConsumers);
     }
 
+    public void setNioTransport(boolean nioTransport) {
+        configuration.setNioTransport(nioTransport);
+    }
+
     public void setIdleTimeoutStrategy(MllpIdleTimeoutStrategy strategy) {
         configuration.setIdleTimeoutStrategy(strategy);
     }
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.net.BindException;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Date;
@@ -48,11 +49,16 @@ import org.apache.camel.component.mllp.internal.Hl7Util;
 import org.apache.camel.component.mllp.internal.MllpSocketBuffer;
 import org.apache.camel.component.mllp.internal.TcpServerAcceptThread;
 import org.apache.camel.component.mllp.internal.TcpServerBindThread;
+import org.apache.camel.component.mllp.internal.TcpServerConsumerConnection;
 import org.apache.camel.component.mllp.internal.TcpServerConsumerValidationRunnable;
+import org.apache.camel.component.mllp.internal.TcpServerSelectorThread;
 import org.apache.camel.component.mllp.internal.TcpSocketConsumerRunnable;
 import org.apache.camel.processor.mllp.Hl7AcknowledgementGenerationException;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.DefaultConsumer;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,8 +76,10 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
 
     TcpServerBindThread bindThread;
     TcpServerAcceptThread acceptThread;
+    TcpServerSelectorThread selectorThread;
+    ExecutorService workerExecutor;
 
-    Map<TcpSocketConsumerRunnable, Long> consumerRunnables = new ConcurrentHashMap<>();
+    Map<TcpServerConsumerConnection, Long> consumerRunnables = new ConcurrentHashMap<>();
 
     public MllpTcpServerConsumer(MllpEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
@@ -91,8 +99,8 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
     public Map<String, Date> getLastActivityTimes() {
         Map<String, Date> answer = new HashMap<>();
 
-        for (Map.Entry<TcpSocketConsumerRunnable, Long> entry : consumerRunnables.entrySet()) {
-            TcpSocketConsumerRunnable consumerRunnable = entry.getKey();
+        for (Map.Entry<TcpServerConsumerConnection, Long> entry : consumerRunnables.entrySet()) {
+            TcpServerConsumerConnection consumerRunnable = entry.getKey();
             if (consumerRunnable != null) {
                 answer.put(consumerRunnable.getCombinedAddress(), new Date(entry.getValue()));
             }
@@ -102,7 +110,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
 
     @ManagedOperation(description = "Close Connections")
     public void closeConnections() {
-        for (TcpSocketConsumerRunnable consumerRunnable : consumerRunnables.keySet()) {
+        for (TcpServerConsumerConnection consumerRunnable : consumerRunnables.keySet()) {
             if (consumerRunnable != null) {
                 log.info("Close Connection called via JMX for address {}", consumerRunnable.getCombinedAddress());
                 consumerRunnable.closeSocket();
@@ -112,7 +120,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
 
     @ManagedOperation(description = "Reset Connections")
     public void resetConnections() {
-        for (TcpSocketConsumerRunnable consumerRunnable : consumerRunnables.keySet()) {
+        for (TcpServerConsumerConnection consumerRunnable : consumerRunnables.keySet()) {
             if (consumerRunnable != null) {
                 log.info("Reset Connection called via JMX for address {}", consumerRunnable.getCombinedAddress());
                 consumerRunnable.resetSocket();
@@ -130,7 +138,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
         log.trace("doStop()");
 
         // Close any client sockets that are currently open
-        for (TcpSocketConsumerRunnable consumerClientSocketThread : consumerRunnables.keySet()) {
+        for (TcpServerConsumerConnection consumerClientSocketThread : consumerRunnables.keySet()) {
             consumerClientSocketThread.stop();
         }
 
@@ -139,6 +147,11 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
             acceptThread = null;
         }
 
+        if (selectorThread != null) {
+            selectorThread.interrupt();
+            selectorThread = null;
+        }
+
         if (bindThread != null) {
             bindThread.interrupt();
             bindThread = null;
@@ -149,6 +162,18 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
 
     @Override
     protected void doStart() throws Exception {
+        if (getConfiguration().isNioTransport() && workerExecutor == null) {
+            // each connection submits one task at a time, so a queue for all the connections never rejects a task (and
+            // the selector thread must never run a task itself, as the default CallerRuns policy would do)
+            ExecutorServiceManager manager = getEndpoint().getCamelContext().getExecutorServiceManager();
+            ThreadPoolProfile profile = manager.getDefaultThreadPoolProfile().clone();
+            profile.setId("MllpTcpServerConsumerWorker");
+            profile.setDefaultProfile(false);
+            profile.setMaxQueueSize(Math.max(profile.getMaxQueueSize(), getConfiguration().getMaxConcurrentConsumers()));
+            profile.setRejectedPolicy(ThreadPoolRejectedPolicy.Abort);
+            workerExecutor = manager.newThreadPool(this, "MllpTcpServerConsumerWorker", profile);
+        }
+
         if (bindThread == null || !bindThread.isAlive()) {
             bindThread = new TcpServerBindThread(this);
 
@@ -159,7 +184,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
                 log.debug("doStart() - attempting to bind to port {}", getEndpoint().getPort());
                 bindThread.run();
 
-                if (this.acceptThread == null) {
+                if (this.acceptThread == null && this.selectorThread == null) {
                     throw new BindException("Failed to bind to port " + getEndpoint().getPort());
                 }
             }
@@ -175,7 +200,14 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
         if (acceptThread != null) {
             acceptThread.interrupt();
         }
+        if (selectorThread != null) {
+            selectorThread.interrupt();
+        }
         validationExecutor.shutdownNow();
+        if (workerExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(workerExecutor);
+            workerExecutor = null;
+        }
     }
 
     public void handleMessageTimeout(String message, byte[] payload, Throwable cause) {
@@ -190,10 +222,21 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
         return getEndpoint().getConfiguration();
     }
 
-    public Map<TcpSocketConsumerRunnable, Long> getConsumerRunnables() {
+    public Map<TcpServerConsumerConnection, Long> getConsumerRunnables() {
         return consumerRunnables;
     }
 
+    /**
+     * The thread pool used to process the messages received by the non-blocking TCP Server
+     */
+    public ExecutorService getWorkerExecutor() {
+        return workerExecutor;
+    }
+
+    public Hl7Util getHl7Util() {
+        return hl7Util;
+    }
+
     public void validateConsumer(Socket clientSocket) {
         MllpSocketBuffer mllpBuffer = new MllpSocketBuffer(getEndpoint());
         TcpServerConsumerValidationRunnable client = new TcpServerConsumerValidationRunnable(this, clientSocket, mllpBuffer);
@@ -208,8 +251,14 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
     }
 
     public void startAcceptThread(ServerSocket serverSocket) {
-        acceptThread = new TcpServerAcceptThread(this, serverSocket);
-        acceptThread.start();
+        ServerSocketChannel serverChannel = serverSocket.getChannel();
+        if (serverChannel != null) {
+            selectorThread = new TcpServerSelectorThread(this, serverChannel);
+            selectorThread.start();
+        } else {
+            acceptThread = new TcpServerAcceptThread(this, serverSocket);
+            acceptThread.start();
+        }
     }
 
     public void startConsumer(Socket clientSocket, MllpSocketBuffer mllpBuffer) {
@@ -227,7 +276,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
         }
     }
 
-    public void processMessage(byte[] hl7MessageBytes, TcpSocketConsumerRunnable consumerRunnable) {
+    public void processMessage(byte[] hl7MessageBytes, TcpServerConsumerConnection consumerRunnable) {
         long now = System.currentTimeMillis();
 
         getEndpoint().updateLastConnectionActivityTicks(now);
@@ -404,7 +453,8 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
 
     }
 
-    void sendAcknowledgement(byte[] originalHl7MessageBytes, Exchange exchange, TcpSocketConsumerRunnable consumerRunnable) {
+    void sendAcknowledgement(
+            byte[] originalHl7MessageBytes, Exchange exchange, TcpServerConsumerConnection consumerRunnable) {
         log.trace("sendAcknowledgement(originalHl7MessageBytes[{}], Exchange[{}], {}) - entering",
                 originalHl7MessageBytes == null ? -1 : originalHl7MessageBytes.length, exchange.getExchangeId(),
                 consumerRunnable.getSocket());
@@ -569,7 +619,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
             }
 
             try {
-                consumerRunnable.getMllpBuffer().writeTo(consumerRunnable.getSocket());
+                consumerRunnable.writeMllpBuffer();
             } catch (MllpSocketException acknowledgementDeliveryEx) {
                 Exception exchangeEx = new MllpAcknowledgementDeliveryException(
                         "Failure delivering acknowledgment", originalHl7MessageBytes, acknowledgementMessageBytes,
@@ -594,7 +644,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
 
             try {
                 consumerRunnable.getMllpBuffer().setEnvelopedMessage(acknowledgementMessageBytes);
-                consumerRunnable.getMllpBuffer().writeTo(consumerRunnable.getSocket());
+                consumerRunnable.writeMllpBuffer();
             } catch (MllpSocketException acknowledgementDeliveryEx) {
                 Exception exchangeEx = new MllpAcknowledgementDeliveryException(
                         "Failure delivering acknowledgment", originalHl7MessageBytes, acknowledgementMessageBytes,
@@ -22,6 +22,10 @@ import java.io.OutputStream;
 import java.net.Socket;
 import java.net.SocketAddress;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 
@@ -256,6 +260,111 @@ public class MllpSocketBuffer {
         LOG.trace("writeTo({}) - exiting", socket);
     }
 
+    /**
+     * Read the data available on a non-blocking SocketChannel directly into the buffer.
+     *
+     * @param  channel     the non-blocking SocketChannel
+     * @return             the number of bytes read, or END_OF_STREAM if the channel has reached end-of-stream
+     * @throws IOException if the read fails
+     */
+    public synchronized int readFrom(SocketChannel channel) throws IOException {
+        ensureCapacity(MIN_BUFFER_SIZE);
+
+        int readCount = channel.read(ByteBuffer.wrap(buffer, availableByteCount, buffer.length - availableByteCount));
+        if (readCount > 0) {
+            for (int i = 0; (startOfBlockIndex == -1 || endOfBlockIndex == -1) && i < readCount; ++i) {
+                updateIndexes(buffer[availableByteCount + i], i);
+            }
+            availableByteCount += readCount;
+            LOG.trace("readFrom({}) - read {} bytes for a total of {} bytes", channel, readCount, availableByteCount);
+        }
+
+        return readCount;
+    }
+
+    /**
+     * Write the buffer to a non-blocking SocketChannel, enveloping the payload if required, without copying the buffer.
+     *
+     * @param  channel              the non-blocking SocketChannel
+     * @param  writeTimeout         the maximum time (in milliseconds) to wait for the channel to accept more data
+     * @throws MllpSocketException if the write fails or times out
+     */
+    public synchronized void writeTo(SocketChannel channel, int writeTimeout) throws MllpSocketException {
+        Socket socket = channel.socket();
+        if (isConnectionValid(socket)) {
+            LOG.trace("writeTo({}) - entering", channel);
+            if (!isEmpty()) {
+                ByteBuffer[] buffers;
+                if (hasStartOfBlock()) {
+                    if (hasEndOfData()) {
+                        buffers = new ByteBuffer[] {
+                                ByteBuffer.wrap(buffer, startOfBlockIndex, endOfBlockIndex - startOfBlockIndex + 2) };
+                    } else if (hasEndOfBlock()) {
+                        buffers = new ByteBuffer[] {
+                                ByteBuffer.wrap(buffer, startOfBlockIndex, endOfBlockIndex - startOfBlockIndex + 1),
+                                ByteBuffer.wrap(new byte[] { MllpProtocolConstants.END_OF_DATA }) };
+                    } else {
+                        buffers = new ByteBuffer[] {
+                                ByteBuffer.wrap(buffer, startOfBlockIndex, availableByteCount - startOfBlockIndex),
+                                ByteBuffer.wrap(MllpProtocolConstants.PAYLOAD_TERMINATOR) };
+                    }
+                } else {
+                    buffers = new ByteBuffer[] {
+                            ByteBuffer.wrap(new byte[] { MllpProtocolConstants.START_OF_BLOCK }),
+                            ByteBuffer.wrap(buffer, 0, availableByteCount),
+                            ByteBuffer.wrap(MllpProtocolConstants.PAYLOAD_TERMINATOR) };
+                }
+
+                try {
+                    writeFully(channel, buffers, writeTimeout);
+                } catch (IOException ioEx) {
+                    final String exceptionMessage = String.format("writeTo(%s) - IOException encountered", channel);
+                    resetSocket(socket, exceptionMessage);
+                    throw new MllpSocketException(exceptionMessage, ioEx);
+                }
+            } else {
+                LOG.warn("writeTo({}) - no data written because buffer is empty", channel);
+            }
+        } else {
+            LOG.warn("writeTo({}) - no data written because SocketChannel is invalid", channel);
+        }
+
+        LOG.trace("writeTo({}) - exiting", channel);
+    }
+
+    /**
+     * Get the payload of the first complete MLLP envelope in the buffer, and remove the envelope (and any leading
+     * out-of-band data) from the buffer, keeping the data received after the envelope.
+     *
+     * @return the payload, or null if the buffer does not contain a complete envelope
+     */
+    public synchronized byte[] toMllpPayloadAndCompact() {
+        byte[] mllpPayload = toMllpPayload();
+        if (mllpPayload != null) {
+            int envelopeEnd = hasEndOfData() ? endOfBlockIndex + 2 : endOfBlockIndex + 1;
+            int remaining = availableByteCount - envelopeEnd;
+            if (remaining > 0) {
+                System.arraycopy(buffer, envelopeEnd, buffer, 0, remaining);
+            }
+            Arrays.fill(buffer, Math.max(remaining, 0), availableByteCount, (byte) 0);
+
+            availableByteCount = Math.max(remaining, 0);
+            startOfBlockIndex = -1;
+            endOfBlockIndex = -1;
+            for (int i = 0; (startOfBlockIndex == -1 || endOfBlockIndex == -1) && i < availableByteCount; ++i) {
+                if (startOfBlockIndex < 0) {
+                    if (buffer[i] == MllpProtocolConstants.START_OF_BLOCK) {
+                        startOfBlockIndex = i;
+                    }
+                } else if (buffer[i] == MllpProtocolConstants.END_OF_BLOCK) {
+                    endOfBlockIndex = i;
+                }
+            }
+        }
+
+        return mllpPayload;
+    }
+
     public synchronized byte[] toByteArray() {
         if (availableByteCount > 0) {
             return Arrays.copyOf(buffer, availableByteCount);
@@ -576,6 +685,29 @@ public class MllpSocketBuffer {
         }
     }
 
+    static void writeFully(SocketChannel channel, ByteBuffer[] buffers, int writeTimeout) throws IOException {
+        Selector writeSelector = null;
+        try {
+            while (buffers[buffers.length - 1].hasRemaining()) {
+                if (channel.write(buffers) == 0) {
+                    // the socket send buffer is full - wait for the channel to become writable again
+                    if (writeSelector == null) {
+                        writeSelector = Selector.open();
+                        channel.register(writeSelector, SelectionKey.OP_WRITE);
+                    }
+                    if (writeSelector.select(writeTimeout) == 0) {
+                        throw new IOException("Timeout waiting " + writeTimeout + " milliseconds to write to " + channel);
+                    }
+                    writeSelector.selectedKeys().clear();
+                }
+            }
+        } finally {
+            if (writeSelector != null) {
+                writeSelector.close();
+            }
+        }
+    }
+
     public void closeSocket(Socket socket) {
         doSocketClose(socket, null, false);
     }
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.SocketException;
+import java.nio.channels.ServerSocketChannel;
 import java.time.Duration;
 
 import org.apache.camel.Route;
@@ -70,9 +71,10 @@ public class TcpServerBindThread extends Thread {
         }
 
         try {
-            // Note: this socket is going to be closed in the TcpServerAcceptThread instance
+            // Note: this socket is going to be closed in the TcpServerAcceptThread (or TcpServerSelectorThread) instance
             // launched by the consumer
-            ServerSocket serverSocket = new ServerSocket();
+            ServerSocket serverSocket = consumer.getConfiguration().isNioTransport()
+                    ? ServerSocketChannel.open().socket() : new ServerSocket();
             InetSocketAddress socketAddress = setupSocket(serverSocket);
 
             log.debug("Attempting to bind to {}", socketAddress);
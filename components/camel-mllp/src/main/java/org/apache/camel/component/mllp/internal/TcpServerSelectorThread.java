@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp.internal;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.camel.Route;
+import org.apache.camel.component.mllp.MllpConfiguration;
+import org.apache.camel.component.mllp.MllpTcpServerConsumer;
+import org.apache.camel.spi.UnitOfWork;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Thread to handle the non-blocking TCP Server, which accepts the client connections and reads the data of all the
+ * connections using a single Selector.
+ * <p/>
+ * The received messages are processed by the worker thread pool of the consumer, so the number of threads does not
+ * depend on the number of connected clients.
+ */
+public class TcpServerSelectorThread extends Thread {
+    static final long MAX_CHECK_INTERVAL = 1000;
+    static final long MIN_CHECK_INTERVAL = 10;
+
+    Logger log = LoggerFactory.getLogger(this.getClass());
+
+    final MllpTcpServerConsumer consumer;
+    final ServerSocketChannel serverChannel;
+    final Set<TcpSocketChannelConsumerConnection> connections = new HashSet<>();
+    final Queue<TcpSocketChannelConsumerConnection> resumeQueue = new ConcurrentLinkedQueue<>();
+    final long checkInterval;
+
+    Selector selector;
+    volatile boolean running = true;
+
+    public TcpServerSelectorThread(MllpTcpServerConsumer consumer, ServerSocketChannel serverChannel) {
+        this.consumer = consumer;
+        this.serverChannel = serverChannel;
+
+        MllpConfiguration configuration = consumer.getConfiguration();
+        long interval = Math.min(MAX_CHECK_INTERVAL, configuration.getReadTimeout());
+        if (configuration.hasIdleTimeout()) {
+            interval = Math.min(interval, configuration.getIdleTimeout());
+        }
+        this.checkInterval = Math.max(MIN_CHECK_INTERVAL, interval / 2);
+
+        // Get the URI without options
+        String fullEndpointKey = consumer.getEndpoint().getEndpointKey();
+        String endpointKey;
+        if (fullEndpointKey.contains("?")) {
+            endpointKey = fullEndpointKey.substring(0, fullEndpointKey.indexOf('?'));
+        } else {
+            endpointKey = fullEndpointKey;
+        }
+
+        this.setName(String.format("%s[%s] - %s", this.getClass().getSimpleName(), endpointKey,
+                serverChannel.socket().getLocalSocketAddress()));
+    }
+
+    /**
+     * The main Selector loop
+     */
+    @Override
+    public void run() {
+        MDC.put(UnitOfWork.MDC_CAMEL_CONTEXT_ID, consumer.getEndpoint().getCamelContext().getName());
+
+        Route route = consumer.getRoute();
+        if (route != null) {
+            String routeId = route.getId();
+            if (routeId != null) {
+                MDC.put(UnitOfWork.MDC_ROUTE_ID, route.getId());
+            }
+        }
+
+        log.info("Starting ServerSocketChannel selector thread for {}", serverChannel);
+        try {
+            selector = Selector.open();
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+            long lastCheckTicks = System.currentTimeMillis();
+            while (running && serverChannel.isOpen()) {
+                selector.select(checkInterval);
+
+                TcpSocketChannelConsumerConnection resumed;
+                while ((resumed = resumeQueue.poll()) != null) {
+                    resumed.resumeReading();
+                }
+
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    try {
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else if (key.isReadable()) {
+                            ((TcpSocketChannelConsumerConnection) key.attachment()).read();
+                        }
+                    } catch (CancelledKeyException cancelledKeyEx) {
+                        log.debug("Ignoring cancelled key for {}", key.channel());
+                    } catch (RuntimeException unexpectedEx) {
+                        // only the connection which failed is closed, the selector must keep serving the others
+                        if (key.attachment() instanceof TcpSocketChannelConsumerConnection) {
+                            ((TcpSocketChannelConsumerConnection) key.attachment()).readFailed(unexpectedEx);
+                        } else {
+                            log.warn("Unexpected exception encountered accepting connection - ignoring", unexpectedEx);
+                        }
+                    }
+                }
+
+                long currentTicks = System.currentTimeMillis();
+                if (currentTicks - lastCheckTicks >= checkInterval) {
+                    lastCheckTicks = currentTicks;
+                    checkConnections(currentTicks);
+                }
+            }
+        } catch (IOException ioEx) {
+            log.error("Exception encountered selecting - closing ServerSocketChannel", ioEx);
+        } finally {
+            log.info("ServerSocketChannel selector loop finished - closing listener");
+            for (TcpSocketChannelConsumerConnection connection : connections) {
+                connection.stop();
+                consumer.getConsumerRunnables().remove(connection);
+            }
+            connections.clear();
+            try {
+                serverChannel.close();
+            } catch (IOException ex) {
+                log.debug("Exception encountered closing ServerSocketChannel after selector loop had exited - ignoring", ex);
+            }
+            if (selector != null) {
+                try {
+                    selector.close();
+                } catch (IOException ex) {
+                    log.debug("Exception encountered closing Selector after selector loop had exited - ignoring", ex);
+                }
+            }
+            MDC.remove(UnitOfWork.MDC_ROUTE_ID);
+            MDC.remove(UnitOfWork.MDC_CAMEL_CONTEXT_ID);
+        }
+    }
+
+    /**
+     * Accept all the pending connections, so the (small) accept backlog does not overflow.
+     */
+    void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            if (connections.size() >= consumer.getConfiguration().getMaxConcurrentConsumers()) {
+                checkConnections(System.currentTimeMillis());
+            }
+            if (connections.size() >= consumer.getConfiguration().getMaxConcurrentConsumers()) {
+                log.warn("accept({}) - cannot start consumer - max consumers already active", channel);
+                new MllpSocketBuffer(consumer.getEndpoint()).resetSocket(channel.socket());
+                continue;
+            }
+
+            TcpSocketChannelConsumerConnection connection
+                    = new TcpSocketChannelConsumerConnection(consumer, channel, this, consumer.getHl7Util());
+            connection.selectionKey = channel.register(selector, SelectionKey.OP_READ, connection);
+            connections.add(connection);
+
+            consumer.getConsumerRunnables().put(connection, System.currentTimeMillis());
+            consumer.getEndpoint().updateLastConnectionEstablishedTicks();
+            log.info("accept({}) - starting consumer", channel);
+        }
+    }
+
+    /**
+     * Remove the closed connections, and check the timeouts of the open connections.
+     */
+    void checkConnections(long currentTicks) {
+        Iterator<TcpSocketChannelConsumerConnection> iterator = connections.iterator();
+        while (iterator.hasNext()) {
+            TcpSocketChannelConsumerConnection connection = iterator.next();
+            connection.checkTimeouts(currentTicks);
+            if (!connection.isOpen() && !connection.processing) {
+                iterator.remove();
+                consumer.getConsumerRunnables().remove(connection);
+                log.debug("Connection {} closed", connection.getCombinedAddress());
+            }
+        }
+    }
+
+    /**
+     * Request the selector thread to resume reading from a connection once its messages have been processed.
+     */
+    void resumeReading(TcpSocketChannelConsumerConnection connection) {
+        resumeQueue.add(connection);
+        Selector current = selector;
+        if (current != null) {
+            current.wakeup();
+        }
+    }
+
+    /**
+     * Stop the selector loop.
+     * <p/>
+     * NOTE: The thread is not interrupted, since interrupting a thread closes the channel it is reading from.
+     */
+    @Override
+    public void interrupt() {
+        this.running = false;
+        Selector current = selector;
+        if (current != null) {
+            current.wakeup();
+        }
+    }
+}
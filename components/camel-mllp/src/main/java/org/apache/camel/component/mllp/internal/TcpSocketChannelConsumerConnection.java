@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp.internal;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.Route;
+import org.apache.camel.component.mllp.MllpIdleTimeoutStrategy;
+import org.apache.camel.component.mllp.MllpProtocolConstants;
+import org.apache.camel.component.mllp.MllpSocketException;
+import org.apache.camel.component.mllp.MllpTcpServerConsumer;
+import org.apache.camel.spi.UnitOfWork;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * A client connection of the non-blocking TCP Server.
+ * <p/>
+ * The data is read by the {@link TcpServerSelectorThread} into the receive buffer. When a complete MLLP envelope has
+ * been received, reading is suspended and the connection is submitted to the worker thread pool of the consumer to
+ * process the message(s) and send the acknowledgement(s), so the messages of a connection are still processed one at a
+ * time and in order. Reading is resumed once all the received messages have been processed.
+ */
+public class TcpSocketChannelConsumerConnection implements Runnable, TcpServerConsumerConnection {
+    final SocketChannel channel;
+    final Socket clientSocket;
+    final MllpSocketBuffer receiveBuffer;
+    final MllpSocketBuffer mllpBuffer;
+
+    Logger log = LoggerFactory.getLogger(this.getClass());
+    MllpTcpServerConsumer consumer;
+    TcpServerSelectorThread selectorThread;
+    SelectionKey selectionKey;
+    volatile boolean running = true;
+    volatile boolean processing;
+    long lastReadTicks;
+
+    private final String localAddress;
+    private final String remoteAddress;
+    private final String combinedAddress;
+    private final Hl7Util hl7Util;
+
+    public TcpSocketChannelConsumerConnection(MllpTcpServerConsumer consumer, SocketChannel channel,
+                                              TcpServerSelectorThread selectorThread, Hl7Util hl7Util) {
+        this.consumer = consumer;
+        this.channel = channel;
+        this.clientSocket = channel.socket();
+        this.selectorThread = selectorThread;
+        this.hl7Util = hl7Util;
+
+        SocketAddress localSocketAddress = clientSocket.getLocalSocketAddress();
+        localAddress = localSocketAddress != null ? localSocketAddress.toString() : null;
+
+        SocketAddress remoteSocketAddress = clientSocket.getRemoteSocketAddress();
+        remoteAddress = remoteSocketAddress != null ? remoteSocketAddress.toString() : null;
+
+        combinedAddress = MllpSocketBuffer.formatAddressString(remoteSocketAddress, localSocketAddress);
+
+        try {
+            if (consumer.getConfiguration().hasKeepAlive()) {
+                this.clientSocket.setKeepAlive(consumer.getConfiguration().getKeepAlive());
+            }
+            if (consumer.getConfiguration().hasTcpNoDelay()) {
+                this.clientSocket.setTcpNoDelay(consumer.getConfiguration().getTcpNoDelay());
+            }
+            if (consumer.getConfiguration().hasReceiveBufferSize()) {
+                this.clientSocket.setReceiveBufferSize(consumer.getConfiguration().getReceiveBufferSize());
+            }
+            if (consumer.getConfiguration().hasSendBufferSize()) {
+                this.clientSocket.setSendBufferSize(consumer.getConfiguration().getSendBufferSize());
+            }
+
+            this.clientSocket.setSoLinger(false, -1);
+
+            this.channel.configureBlocking(false);
+        } catch (IOException initializationException) {
+            throw new IllegalStateException("Failed to initialize " + this.getClass().getSimpleName(), initializationException);
+        }
+
+        this.receiveBuffer = new MllpSocketBuffer(consumer.getEndpoint());
+        this.mllpBuffer = new MllpSocketBuffer(consumer.getEndpoint());
+        this.lastReadTicks = System.currentTimeMillis();
+    }
+
+    /**
+     * Read the available data - called by the selector thread when the channel is readable.
+     */
+    void read() {
+        int readCount;
+        try {
+            readCount = receiveBuffer.readFrom(channel);
+        } catch (IOException ioEx) {
+            resetSocket();
+            if (!receiveBuffer.isEmpty()) {
+                consumer.handleMessageException("Exception encountered reading payload",
+                        receiveBuffer.toByteArrayAndReset(), new MllpSocketException("readFrom(" + channel + ") failed", ioEx));
+            } else {
+                log.debug("Ignoring exception encountered checking for data", ioEx);
+            }
+            return;
+        }
+
+        if (readCount == MllpProtocolConstants.END_OF_STREAM) {
+            resetSocket();
+            if (!receiveBuffer.isEmpty()) {
+                consumer.handleMessageException("Exception encountered reading payload", receiveBuffer.toByteArrayAndReset(),
+                        new MllpSocketException("END_OF_STREAM returned from SocketChannel.read() for " + combinedAddress));
+            } else {
+                log.debug("END_OF_STREAM returned from SocketChannel.read() for {} - connection closed by the client",
+                        combinedAddress);
+            }
+            return;
+        }
+
+        lastReadTicks = System.currentTimeMillis();
+        if (receiveBuffer.hasCompleteEnvelope()) {
+            // Stop reading until the message has been processed and acknowledged
+            processing = true;
+            selectionKey.interestOps(0);
+            try {
+                consumer.getWorkerExecutor().execute(this);
+            } catch (RejectedExecutionException rejectedExecutionEx) {
+                // the consumer is stopping, so the message is not acknowledged
+                processing = false;
+                log.warn("Cannot process the received message(s) - worker thread pool rejected the connection {}",
+                        combinedAddress);
+                resetSocket();
+            }
+        } else if (!receiveBuffer.hasStartOfBlock()) {
+            byte[] payload = receiveBuffer.toByteArray();
+            log.warn("Ignoring {} byte un-enveloped payload {}", payload.length,
+                    hl7Util.convertToPrintFriendlyString(payload));
+            receiveBuffer.reset();
+        }
+    }
+
+    /**
+     * Reset the connection after an unexpected exception reading the data, such as when the receive buffer exceeds its
+     * maximum size - called by the selector thread.
+     */
+    void readFailed(RuntimeException unexpectedEx) {
+        processing = false;
+        resetSocket();
+        // the exception may have been thrown by the exception handler, so the payload is only logged
+        log.warn("Unexpected exception encountered reading from {} - resetting connection and discarding {} byte payload",
+                combinedAddress, receiveBuffer.size(), unexpectedEx);
+        receiveBuffer.reset();
+    }
+
+    /**
+     * Check the idle and read timeouts - called periodically by the selector thread.
+     */
+    void checkTimeouts(long currentTicks) {
+        if (processing || !isOpen()) {
+            return;
+        }
+
+        if (receiveBuffer.isEmpty()) {
+            if (consumer.getConfiguration().hasIdleTimeout()) {
+                Long lastReceivedMessageTicks = consumer.getConsumerRunnables().get(this);
+                long idleTime = currentTicks - (lastReceivedMessageTicks != null ? lastReceivedMessageTicks : lastReadTicks);
+                if (idleTime >= consumer.getConfiguration().getIdleTimeout()) {
+                    String message = String.format("Connection idle time %d exceeded idleTimeout %d", idleTime,
+                            consumer.getConfiguration().getIdleTimeout());
+                    if (MllpIdleTimeoutStrategy.CLOSE == consumer.getConfiguration().getIdleTimeoutStrategy()) {
+                        closeSocket(message);
+                    } else {
+                        resetSocket(message);
+                    }
+                }
+            }
+        } else if (currentTicks - lastReadTicks >= consumer.getConfiguration().getReadTimeout()) {
+            resetSocket();
+            consumer.handleMessageTimeout("Timeout receiving complete message payload", receiveBuffer.toByteArrayAndReset(),
+                    new SocketTimeoutException(
+                            "No data received for " + consumer.getConfiguration().getReadTimeout() + " milliseconds"));
+        }
+    }
+
+    /**
+     * Process the received messages - called by the worker thread pool.
+     */
+    @Override
+    public void run() {
+        MDC.put(UnitOfWork.MDC_CAMEL_CONTEXT_ID, consumer.getEndpoint().getCamelContext().getName());
+        Route route = consumer.getRoute();
+        if (route != null && route.getId() != null) {
+            MDC.put(UnitOfWork.MDC_ROUTE_ID, route.getId());
+        }
+
+        try {
+            while (running && isOpen() && receiveBuffer.hasCompleteEnvelope()) {
+                if (receiveBuffer.hasLeadingOutOfBandData()) {
+                    log.warn("Ignoring leading out-of-band data: {}",
+                            hl7Util.convertToPrintFriendlyString(receiveBuffer.getLeadingOutOfBandData()));
+                }
+                byte[] hl7MessageBytes = receiveBuffer.toMllpPayloadAndCompact();
+                if (!receiveBuffer.isEmpty() && !receiveBuffer.hasStartOfBlock()) {
+                    log.warn("Ignoring trailing out-of-band data: {}",
+                            hl7Util.convertToPrintFriendlyString(receiveBuffer.toByteArrayAndReset()));
+                }
+                if (log.isDebugEnabled()) {
+                    log.debug("Received {} byte message {}", hl7MessageBytes.length,
+                            hl7Util.convertToPrintFriendlyString(hl7MessageBytes));
+                }
+
+                consumer.processMessage(hl7MessageBytes, this);
+            }
+        } catch (Exception unexpectedEx) {
+            log.error("Unexpected exception encountered processing messages", unexpectedEx);
+            resetSocket();
+        } finally {
+            MDC.remove(UnitOfWork.MDC_ROUTE_ID);
+            MDC.remove(UnitOfWork.MDC_CAMEL_CONTEXT_ID);
+
+            processing = false;
+            if (running) {
+                selectorThread.resumeReading(this);
+            } else {
+                resetSocket();
+            }
+        }
+    }
+
+    /**
+     * Resume reading after the received messages have been processed - called by the selector thread.
+     */
+    void resumeReading() {
+        if (selectionKey.isValid()) {
+            lastReadTicks = System.currentTimeMillis();
+            selectionKey.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    boolean isOpen() {
+        return channel.isOpen() && !clientSocket.isClosed();
+    }
+
+    @Override
+    public Socket getSocket() {
+        return clientSocket;
+    }
+
+    @Override
+    public MllpSocketBuffer getMllpBuffer() {
+        return mllpBuffer;
+    }
+
+    @Override
+    public void writeMllpBuffer() throws MllpSocketException {
+        mllpBuffer.writeTo(channel, consumer.getConfiguration().getReadTimeout());
+    }
+
+    @Override
+    public void closeSocket() {
+        mllpBuffer.closeSocket(clientSocket);
+    }
+
+    @Override
+    public void closeSocket(String logMessage) {
+        mllpBuffer.closeSocket(clientSocket, logMessage);
+    }
+
+    @Override
+    public void resetSocket() {
+        mllpBuffer.resetSocket(clientSocket);
+    }
+
+    @Override
+    public void resetSocket(String logMessage) {
+        mllpBuffer.resetSocket(clientSocket, logMessage);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (!processing) {
+            resetSocket();
+        }
+    }
+
+    @Override
+    public boolean hasLocalAddress() {
+        return localAddress != null && !localAddress.isEmpty();
+    }
+
+    @Override
+    public String getLocalAddress() {
+        return localAddress;
+    }
+
+    @Override
+    public boolean hasRemoteAddress() {
+        return remoteAddress != null && !remoteAddress.isEmpty();
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    @Override
+    public String getCombinedAddress() {
+        return combinedAddress;
+    }
+}
@@ -33,7 +33,7 @@ import org.slf4j.MDC;
 /**
  * Runnable to read the Socket
  */
-public class TcpSocketConsumerRunnable implements Runnable {
+public class TcpSocketConsumerRunnable implements Runnable, TcpServerConsumerConnection {
     final Socket clientSocket;
     final MllpSocketBuffer mllpBuffer;
 
@@ -223,46 +223,62 @@ public class TcpSocketConsumerRunnable implements Runnable {
         }
     }
 
+    @Override
     public Socket getSocket() {
         return clientSocket;
     }
 
+    @Override
     public MllpSocketBuffer getMllpBuffer() {
         return mllpBuffer;
     }
 
+    @Override
+    public void writeMllpBuffer() throws MllpSocketException {
+        mllpBuffer.writeTo(clientSocket);
+    }
+
+    @Override
     public void closeSocket() {
         mllpBuffer.closeSocket(clientSocket);
     }
 
+    @Override
     public void closeSocket(String logMessage) {
         mllpBuffer.closeSocket(clientSocket, logMessage);
     }
 
+    @Override
     public void resetSocket() {
         mllpBuffer.resetSocket(clientSocket);
     }
 
+    @Override
     public void resetSocket(String logMessage) {
         mllpBuffer.resetSocket(clientSocket, logMessage);
     }
 
+    @Override
     public void stop() {
         running = false;
     }
 
+    @Override
     public boolean hasLocalAddress() {
         return localAddress != null && !localAddress.isEmpty();
     }
 
+    @Override
     public String getLocalAddress() {
         return localAddress;
     }
 
+    @Override
     public boolean hasRemoteAddress() {
         return remoteAddress != null && !remoteAddress.isEmpty();
     }
 
+    @Override
     public String getRemoteAddress() {
         return remoteAddress;
     }
@@ -271,6 +287,7 @@ public class TcpSocketConsumerRunnable implements Runnable {
         return combinedAddress != null && combinedAddress.isEmpty();
     }
 
+    @Override
     public String getCombinedAddress() {
         return combinedAddress;
     }
@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.test.AvailablePortFinder;
+import org.apache.camel.test.junit.rule.mllp.MllpClientResource;
+import org.apache.camel.test.junit.rule.mllp.MllpJUnitResourceException;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.camel.test.mllp.Hl7TestMessageGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for the non-blocking TCP Server (nioTransport=true)
+ */
+public class MllpTcpServerConsumerNioTransportTest extends CamelTestSupport {
+    static final int RECEIVE_TIMEOUT = 1000;
+    static final int READ_TIMEOUT = 500;
+    static final String ROUTE_ID = "mllp-nio-receiver";
+
+    @RegisterExtension
+    public MllpClientResource mllpClient = new MllpClientResource();
+
+    @EndpointInject("mock://result")
+    MockEndpoint result;
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Override
+    protected void doPreSetup() throws Exception {
+        mllpClient.setMllpHost("localhost");
+        mllpClient.setMllpPort(AvailablePortFinder.getNextAvailable());
+
+        super.doPreSetup();
+    }
+
+    @Test
+    public void testMultipleMessages() throws Exception {
+        int messageCount = 100;
+        result.expectedMessageCount(messageCount);
+
+        addTestRoute(-1, 5);
+
+        mllpClient.connect();
+        for (int i = 1; i <= messageCount; ++i) {
+            String acknowledgement = mllpClient.sendMessageAndWaitForAcknowledgement(
+                    Hl7TestMessageGenerator.generateMessage(i), 10000);
+            assertTrue(acknowledgement.contains(String.format("MSA|AA|%05d", i)),
+                    "Should be acknowledgment for message " + i);
+        }
+
+        assertMockEndpointsSatisfied(15, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testMessageInMultiplePackets() throws Exception {
+        result.expectedMessageCount(1);
+
+        addTestRoute(-1, 5);
+
+        mllpClient.connect();
+        mllpClient.sendFramedDataInMultiplePackets(Hl7TestMessageGenerator.generateMessage(), (byte) '|');
+        String acknowledgement = mllpClient.receiveFramedData();
+        assertTrue(acknowledgement.contains("MSA|AA|00001"), "Should be acknowledgment for the message");
+
+        assertMockEndpointsSatisfied(15, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testManyConnections() throws Exception {
+        int connectionCount = 200;
+        result.expectedMessageCount(connectionCount);
+
+        addTestRoute(-1, connectionCount);
+
+        List<MllpClientResource> clients = new ArrayList<>(connectionCount);
+        try {
+            for (int i = 1; i <= connectionCount; ++i) {
+                MllpClientResource client = new MllpClientResource(mllpClient.getMllpHost(), mllpClient.getMllpPort());
+                client.connect();
+                clients.add(client);
+            }
+            for (int i = 1; i <= connectionCount; ++i) {
+                String acknowledgement = clients.get(i - 1).sendMessageAndWaitForAcknowledgement(
+                        Hl7TestMessageGenerator.generateMessage(i), 10000);
+                assertTrue(acknowledgement.contains(String.format("MSA|AA|%05d", i)),
+                        "Should be acknowledgment for message " + i);
+            }
+
+            MllpTcpServerConsumer consumer = (MllpTcpServerConsumer) context.getRoute(ROUTE_ID).getConsumer();
+            assertEquals(connectionCount, consumer.getConsumerRunnables().size());
+        } finally {
+            clients.forEach(MllpClientResource::close);
+        }
+
+        assertMockEndpointsSatisfied(15, TimeUnit.SECONDS);
+
+        MllpTcpServerConsumer consumer = (MllpTcpServerConsumer) context.getRoute(ROUTE_ID).getConsumer();
+        for (int i = 0; i < 50 && !consumer.getConsumerRunnables().isEmpty(); ++i) {
+            Thread.sleep(100);
+        }
+        assertTrue(consumer.getConsumerRunnables().isEmpty(), "The closed connections should have been removed");
+    }
+
+    @Test
+    public void testIdleConnection() throws Exception {
+        final int idleTimeout = RECEIVE_TIMEOUT * 3;
+
+        result.setExpectedCount(1);
+        result.setAssertPeriod(1000);
+
+        addTestRoute(idleTimeout, 5);
+
+        mllpClient.connect();
+        mllpClient.sendMessageAndWaitForAcknowledgement(Hl7TestMessageGenerator.generateMessage());
+        Thread.sleep(idleTimeout + RECEIVE_TIMEOUT);
+
+        try {
+            mllpClient.checkConnection();
+            fail("The MllpClientResource should have thrown an exception when writing to the reset socket");
+        } catch (MllpJUnitResourceException expectedEx) {
+            assertEquals("checkConnection failed - read() returned END_OF_STREAM", expectedEx.getMessage());
+            assertNull(expectedEx.getCause());
+        }
+
+        assertMockEndpointsSatisfied(15, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testIncompleteMessage() throws Exception {
+        result.setExpectedCount(0);
+        result.setAssertPeriod(1000);
+
+        addTestRoute(-1, 5);
+
+        mllpClient.setSendEndOfBlock(false);
+        mllpClient.setSendEndOfData(false);
+        mllpClient.connect();
+        mllpClient.sendFramedData(Hl7TestMessageGenerator.generateMessage());
+        Thread.sleep(READ_TIMEOUT + RECEIVE_TIMEOUT);
+
+        try {
+            mllpClient.checkConnection();
+            fail("The MllpClientResource should have thrown an exception when writing to the reset socket");
+        } catch (MllpJUnitResourceException expectedEx) {
+            assertEquals("checkConnection failed - read() returned END_OF_STREAM", expectedEx.getMessage());
+        }
+
+        assertMockEndpointsSatisfied(15, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testWorkerThreadPool() throws Exception {
+        int maxConcurrentConsumers = 2000;
+        addTestRoute(-1, maxConcurrentConsumers);
+
+        // the selector thread must never process messages itself, so the worker thread pool must not reject the tasks
+        // of the connections and must not run the rejected tasks in the calling thread
+        MllpTcpServerConsumer consumer = (MllpTcpServerConsumer) context.getRoute(ROUTE_ID).getConsumer();
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) consumer.getWorkerExecutor();
+        assertEquals("Abort", executor.getRejectedExecutionHandler().toString());
+        assertTrue(executor.getQueue().remainingCapacity() >= maxConcurrentConsumers,
+                "The queue should have room for a task of each connection");
+    }
+
+    @Test
+    public void testReadFailureOnlyClosesConnection() throws Exception {
+        result.expectedMessageCount(1);
+
+        // the exception handler is called by the selector thread when a connection is closed with a partial message
+        context.getRegistry().bind("failingExceptionHandler", (ExceptionHandler) new ExceptionHandler() {
+            @Override
+            public void handleException(Throwable exception) {
+                throw new IllegalStateException("Forced failure", exception);
+            }
+
+            @Override
+            public void handleException(String message, Throwable exception) {
+                handleException(exception);
+            }
+
+            @Override
+            public void handleException(String message, Exchange exchange, Throwable exception) {
+                handleException(exception);
+            }
+        });
+        addTestRoute(-1, 5, "&exceptionHandler=#failingExceptionHandler");
+
+        MllpClientResource failingClient = new MllpClientResource(mllpClient.getMllpHost(), mllpClient.getMllpPort());
+        failingClient.setSendEndOfBlock(false);
+        failingClient.setSendEndOfData(false);
+        failingClient.connect();
+        failingClient.sendFramedData(Hl7TestMessageGenerator.generateMessage(1));
+        Thread.sleep(RECEIVE_TIMEOUT / 2);
+        failingClient.close();
+        Thread.sleep(RECEIVE_TIMEOUT / 2);
+
+        // the selector must still serve the other connections
+        mllpClient.connect();
+        String acknowledgement = mllpClient.sendMessageAndWaitForAcknowledgement(
+                Hl7TestMessageGenerator.generateMessage(2), 10000);
+        assertTrue(acknowledgement.contains("MSA|AA|00002"), "Should be acknowledgment for the message");
+
+        assertMockEndpointsSatisfied(15, TimeUnit.SECONDS);
+    }
+
+    void addTestRoute(final int idleTimeout, final int maxConcurrentConsumers) throws Exception {
+        addTestRoute(idleTimeout, maxConcurrentConsumers, "");
+    }
+
+    void addTestRoute(final int idleTimeout, final int maxConcurrentConsumers, final String options) throws Exception {
+        RouteBuilder builder = new RouteBuilder() {
+            public void configure() {
+                fromF("mllp://%s:%d?nioTransport=true&receiveTimeout=%d&readTimeout=%d&idleTimeout=%d"
+                      + "&maxConcurrentConsumers=%d&backlog=%d%s",
+                        mllpClient.getMllpHost(), mllpClient.getMllpPort(), RECEIVE_TIMEOUT, READ_TIMEOUT, idleTimeout,
+                        maxConcurrentConsumers, maxConcurrentConsumers, options)
+                                .routeId(ROUTE_ID)
+                                .log(LoggingLevel.INFO, ROUTE_ID, "Receiving: ${body}")
+                                .to(result);
+            }
+        };
+
+        context.addRoutes(builder);
+        context.start();
+    }
+
+}
@@ -729,4 +729,26 @@ public class MllpSocketBufferTest extends SocketBufferTestSupport {
         assertNull(instance.getTrailingOutOfBandData());
     }
 
+    /**
+     * Verify the data received after the envelope is kept when the envelope is removed.
+     *
+     * @throws Exception in the event of a test error.
+     */
+    @Test
+    public void testToMllpPayloadAndCompact() throws Exception {
+        assertNull(instance.toMllpPayloadAndCompact());
+
+        instance.write(buildTestBytes("first", true, true, true));
+        instance.write(buildTestBytes("second", true, false, false));
+
+        assertArrayEquals("first".getBytes(), instance.toMllpPayloadAndCompact());
+        assertTrue(instance.hasStartOfBlock());
+        assertFalse(instance.hasCompleteEnvelope());
+        assertNull(instance.toMllpPayloadAndCompact());
+
+        instance.write(MllpProtocolConstants.PAYLOAD_TERMINATOR);
+        assertArrayEquals("second".getBytes(), instance.toMllpPayloadAndCompact());
+        assertTrue(instance.isEmpty());
+    }
+
 }
@@ -106,6 +106,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "producerPoolMinEvictableIdle": getOrCreateConfiguration(target).setProducerPoolMinEvictableIdle(property(camelContext, long.class, value)); return true;
         case "producerpoolminidle":
         case "producerPoolMinIdle": getOrCreateConfiguration(target).setProducerPoolMinIdle(property(camelContext, int.class, value)); return true;
+        case "producerpoolpipelining":
+        case "producerPoolPipelining": getOrCreateConfiguration(target).setProducerPoolPipelining(property(camelContext, boolean.class, value)); return true;
         case "receivebuffersize":
         case "receiveBufferSize": getOrCreateConfiguration(target).setReceiveBufferSize(property(camelContext, int.class, value)); return true;
         case "receivebuffersizepredictor":
@@ -245,6 +247,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "producerPoolMinEvictableIdle": return long.class;
         case "producerpoolminidle":
         case "producerPoolMinIdle": return int.class;
+        case "producerpoolpipelining":
+        case "producerPoolPipelining": return boolean.class;
         case "receivebuffersize":
         case "receiveBufferSize": return int.class;
         case "receivebuffersizepredictor":
@@ -385,6 +389,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "producerPoolMinEvictableIdle": return getOrCreateConfiguration(target).getProducerPoolMinEvictableIdle();
         case "producerpoolminidle":
         case "producerPoolMinIdle": return getOrCreateConfiguration(target).getProducerPoolMinIdle();
+        case "producerpoolpipelining":
+        case "producerPoolPipelining": return getOrCreateConfiguration(target).isProducerPoolPipelining();
         case "receivebuffersize":
         case "receiveBufferSize": return getOrCreateConfiguration(target).getReceiveBufferSize();
         case "receivebuffersizepredictor":
@@ -107,6 +107,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "ProducerPoolMinEvictableIdle": target.setProducerPoolMinEvictableIdle(property(camelContext, long.class, value)); return true;
         case "producerpoolminidle":
         case "ProducerPoolMinIdle": target.setProducerPoolMinIdle(property(camelContext, int.class, value)); return true;
+        case "producerpoolpipelining":
+        case "ProducerPoolPipelining": target.setProducerPoolPipelining(property(camelContext, boolean.class, value)); return true;
         case "protocol":
         case "Protocol": target.setProtocol(property(camelContext, java.lang.String.class, value)); return true;
         case "receivebuffersize":
@@ -260,6 +262,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "ProducerPoolMinEvictableIdle": return long.class;
         case "producerpoolminidle":
         case "ProducerPoolMinIdle": return int.class;
+        case "producerpoolpipelining":
+        case "ProducerPoolPipelining": return boolean.class;
         case "protocol":
         case "Protocol": return java.lang.String.class;
         case "receivebuffersize":
@@ -414,6 +418,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "ProducerPoolMinEvictableIdle": return target.getProducerPoolMinEvictableIdle();
         case "producerpoolminidle":
         case "ProducerPoolMinIdle": return target.getProducerPoolMinIdle();
+        case "producerpoolpipelining":
+        case "ProducerPoolPipelining": return target.isProducerPoolPipelining();
         case "protocol":
         case "Protocol": return target.getProtocol();
         case "receivebuffersize":
@@ -96,6 +96,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "producerPoolMinEvictableIdle": target.getConfiguration().setProducerPoolMinEvictableIdle(property(camelContext, long.class, value)); return true;
         case "producerpoolminidle":
         case "producerPoolMinIdle": target.getConfiguration().setProducerPoolMinIdle(property(camelContext, int.class, value)); return true;
+        case "producerpoolpipelining":
+        case "producerPoolPipelining": target.getConfiguration().setProducerPoolPipelining(property(camelContext, boolean.class, value)); return true;
         case "receivebuffersize":
         case "receiveBufferSize": target.getConfiguration().setReceiveBufferSize(property(camelContext, int.class, value)); return true;
         case "receivebuffersizepredictor":
@@ -231,6 +233,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "producerPoolMinEvictableIdle": return long.class;
         case "producerpoolminidle":
         case "producerPoolMinIdle": return int.class;
+        case "producerpoolpipelining":
+        case "producerPoolPipelining": return boolean.class;
         case "receivebuffersize":
         case "receiveBufferSize": return int.class;
         case "receivebuffersizepredictor":
@@ -367,6 +371,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "producerPoolMinEvictableIdle": return target.getConfiguration().getProducerPoolMinEvictableIdle();
         case "producerpoolminidle":
         case "producerPoolMinIdle": return target.getConfiguration().getProducerPoolMinIdle();
+        case "producerpoolpipelining":
+        case "producerPoolPipelining": return target.getConfiguration().isProducerPoolPipelining();
         case "receivebuffersize":
         case "receiveBufferSize": return target.getConfiguration().getReceiveBufferSize();
         case "receivebuffersizepredictor":
@@ -21,7 +21,7 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(74);
+        Set<String> props = new HashSet<>(75);
         props.add("allowDefaultCodec");
         props.add("allowSerializedHeaders");
         props.add("autoAppendDelimiter");
@@ -66,6 +66,7 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
         props.add("producerPoolMaxTotal");
         props.add("producerPoolMinEvictableIdle");
         props.add("producerPoolMinIdle");
+        props.add("producerPoolPipelining");
         props.add("protocol");
         props.add("receiveBufferSize");
         props.add("receiveBufferSizePredictor");
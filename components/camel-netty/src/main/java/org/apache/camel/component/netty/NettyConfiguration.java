@@ -106,6 +106,8 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean producerPoolEnabled = true;
     @UriParam(label = "producer,advanced")
+    private boolean producerPoolPipelining;
+    @UriParam(label = "producer,advanced")
     private boolean udpConnectionlessSending;
     @UriParam(label = "consumer")
     private boolean clientMode;
@@ -681,6 +683,24 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
         this.producerPoolEnabled = producerPoolEnabled;
     }
 
+    public boolean isProducerPoolPipelining() {
+        return producerPoolPipelining;
+    }
+
+    /**
+     * Whether the channels of the producer pool are shared by concurrent requests (request pipelining), instead of
+     * being used by a single request at a time.
+     * <p>
+     * When enabled the producer uses a fixed number of channels (the <tt>producerPoolMaxTotal</tt> option, or a single
+     * channel if not set), and each request is sent on the next channel in a round-robin fashion, without waiting for
+     * the replies of the previous requests. As the replies of many requests are received on the same channel, you need
+     * to implement {@link NettyCamelStateCorrelationManager} as correlation manager and configure it via the
+     * <tt>correlationManager</tt> option.
+     */
+    public void setProducerPoolPipelining(boolean producerPoolPipelining) {
+        this.producerPoolPipelining = producerPoolPipelining;
+    }
+
     public boolean isUdpConnectionlessSending() {
         return udpConnectionlessSending;
     }
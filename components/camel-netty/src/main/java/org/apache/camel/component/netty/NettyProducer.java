@@ -20,6 +20,8 @@ import java.net.ConnectException;
 import java.net.InetSocketAddress;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
@@ -69,6 +71,8 @@ public class NettyProducer extends DefaultAsyncProducer {
 
     private static final AttributeKey<NettyCamelStateCorrelationManager> CORRELATION_MANAGER_ATTR
             = AttributeKey.valueOf("NettyCamelStateCorrelationManager");
+    private static final AttributeKey<Set<NettyCamelState>> PENDING_STATES_ATTR
+            = AttributeKey.valueOf("NettyCamelPendingStates");
 
     private ChannelGroup allChannels;
     private CamelContext context;
@@ -105,7 +109,27 @@ public class NettyProducer extends DefaultAsyncProducer {
 
     @Override
     protected void doStart() throws Exception {
-        if (configuration.isProducerPoolEnabled()) {
+        if (configuration.isProducerPoolPipelining()) {
+            if (configuration.getCorrelationManager() == null) {
+                throw new IllegalArgumentException(
+                        "The producerPoolPipelining option requires a correlationManager to correlate the replies");
+            }
+            // the channels are shared by the requests so a single request must not close or time out the channel
+            if (configuration.isDisconnect()) {
+                throw new IllegalArgumentException("The producerPoolPipelining option cannot be used with disconnect=true");
+            }
+            if (configuration.getRequestTimeout() > 0) {
+                throw new IllegalArgumentException(
+                        "The producerPoolPipelining option cannot be used with requestTimeout,"
+                                                   + " use the timeout of the correlationManager instead");
+            }
+            // the channels are shared by the requests so there is no need to wait for a free channel
+            int size = Math.max(1, configuration.getProducerPoolMaxTotal());
+            pool = new SharedRoundRobinObjectPool<>(new NettyProducerPoolableObjectFactory(this), size);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Created NettyProducer shared round robin pool[size={}] -> {}", size, pool);
+            }
+        } else if (configuration.isProducerPoolEnabled()) {
             // setup pool where we want an unbounded pool, which allows the pool to shrink on no demand
             GenericObjectPoolConfig config = new GenericObjectPoolConfig();
             config.setMaxTotal(configuration.getProducerPoolMaxTotal());
@@ -306,7 +330,8 @@ public class NettyProducer extends DefaultAsyncProducer {
                         disconnect = close;
                     }
 
-                    if (disconnect) {
+                    // a shared channel must not be closed by a single request
+                    if (disconnect && !getConfiguration().isProducerPoolPipelining()) {
                         LOG.trace("Closing channel {} as routing the Exchange is done", channel);
                         NettyHelper.close(channel);
                     }
@@ -322,7 +347,9 @@ public class NettyProducer extends DefaultAsyncProducer {
         final NettyCamelStateCorrelationManager channelCorrelationManager
                 = Optional.ofNullable(channel.attr(CORRELATION_MANAGER_ATTR).get()).orElse(correlationManager);
 
-        if (exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT) != null) {
+        // a shared channel must not use the request timeout of a single request
+        if (exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT) != null
+                && !configuration.isProducerPoolPipelining()) {
             long timeoutInMs = exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT, Long.class);
             ChannelHandler oldHandler = channel.pipeline().get("timeout");
             ReadTimeoutHandler newHandler = new ReadTimeoutHandler(timeoutInMs, TimeUnit.MILLISECONDS);
@@ -345,7 +372,24 @@ public class NettyProducer extends DefaultAsyncProducer {
         }
 
         // setup state as attachment on the channel, so we can access the state later when needed
-        final NettyCamelState state = new NettyCamelState(producerCallback, exchange);
+        final NettyCamelState state;
+        if (configuration.isProducerPoolPipelining()) {
+            // keep track of the pending requests of the shared channel, so they can all be failed if the channel fails
+            Set<NettyCamelState> pendingStates = channel.attr(PENDING_STATES_ATTR).get();
+            if (pendingStates == null) {
+                Set<NettyCamelState> newPendingStates = ConcurrentHashMap.newKeySet();
+                pendingStates = channel.attr(PENDING_STATES_ATTR).setIfAbsent(newPendingStates);
+                if (pendingStates == null) {
+                    pendingStates = newPendingStates;
+                }
+            }
+            PendingStateCallback pendingStateCallback = new PendingStateCallback(pendingStates, producerCallback);
+            state = new NettyCamelState(pendingStateCallback, exchange);
+            pendingStateCallback.state = state;
+            pendingStates.add(state);
+        } else {
+            state = new NettyCamelState(producerCallback, exchange);
+        }
         channelCorrelationManager.putState(channel, state);
         // here we need to setup the remote address information here
         InetSocketAddress remoteAddress = null;
@@ -393,8 +437,8 @@ public class NettyProducer extends DefaultAsyncProducer {
                             disconnect = close;
                         }
 
-                        // we should not close if we are reusing the channel
-                        if (!configuration.isReuseChannel() && disconnect) {
+                        // we should not close if we are reusing or sharing the channel
+                        if (!configuration.isReuseChannel() && !configuration.isProducerPoolPipelining() && disconnect) {
                             if (LOG.isTraceEnabled()) {
                                 LOG.trace("Closing channel when complete at address: {}",
                                         getEndpoint().getConfiguration().getAddress());
@@ -411,6 +455,29 @@ public class NettyProducer extends DefaultAsyncProducer {
 
     }
 
+    /**
+     * Fails all the pending requests of the shared channel, when the channel has failed or is closed while using
+     * producerPoolPipelining.
+     *
+     * @param channel the shared channel
+     * @param message the message of the exception to set on the pending exchanges
+     * @param cause   the cause, or <tt>null</tt> if the channel has been closed
+     */
+    public void failPendingRequests(Channel channel, String message, Throwable cause) {
+        Set<NettyCamelState> pendingStates = channel.attr(PENDING_STATES_ATTR).getAndSet(null);
+        if (pendingStates == null) {
+            return;
+        }
+        for (NettyCamelState state : pendingStates) {
+            if (!state.isDone()) {
+                Exchange exchange = state.getExchange();
+                state.onExceptionCaught();
+                exchange.setException(new CamelExchangeException(message, exchange, cause));
+                state.callbackDoneOnce(false);
+            }
+        }
+    }
+
     /**
      * Gets the object we want to use as the request object for sending to netty.
      *
@@ -542,6 +609,10 @@ public class NettyProducer extends DefaultAsyncProducer {
     }
 
     protected void releaseChannel(ChannelFuture channelFuture) {
+        if (configuration.isProducerPoolPipelining()) {
+            // the channel is shared by other requests, and it is validated (and recreated if needed) when borrowed
+            return;
+        }
         Channel channel = channelFuture.channel();
         try {
             // Only put the connected channel back to the pool
@@ -595,6 +666,30 @@ public class NettyProducer extends DefaultAsyncProducer {
         }
     }
 
+    /**
+     * Callback which removes the request from the pending requests of the shared channel when it is done.
+     */
+    private static final class PendingStateCallback implements AsyncCallback {
+
+        private final Set<NettyCamelState> pendingStates;
+        private final AsyncCallback callback;
+        private NettyCamelState state;
+
+        private PendingStateCallback(Set<NettyCamelState> pendingStates, AsyncCallback callback) {
+            this.pendingStates = pendingStates;
+            this.callback = callback;
+        }
+
+        @Override
+        public void done(boolean doneSync) {
+            try {
+                pendingStates.remove(state);
+            } finally {
+                callback.done(doneSync);
+            }
+        }
+    }
+
     /**
      * Object factory to create {@link Channel} used by the pool.
      */
@@ -610,7 +705,8 @@ public class NettyProducer extends DefaultAsyncProducer {
             ChannelFuture channelFuture = p.getObject();
             LOG.trace("activateObject channel request: {}", channelFuture);
 
-            if (channelFuture.isSuccess() && producer.getConfiguration().getRequestTimeout() > 0) {
+            if (channelFuture.isSuccess() && producer.getConfiguration().getRequestTimeout() > 0
+                    && !producer.getConfiguration().isProducerPoolPipelining()) {
                 LOG.trace("reset the request timeout as we activate the channel");
                 Channel channel = channelFuture.channel();
 
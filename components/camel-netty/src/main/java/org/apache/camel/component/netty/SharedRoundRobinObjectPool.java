@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.commons.pool2.ObjectPool;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link org.apache.commons.pool2.ObjectPool} that uses a fixed number of shared instances, which are borrowed in a
+ * round-robin fashion.
+ * <p/>
+ * The instances are not leased exclusively, so the same instance can be borrowed by many callers at the same time.
+ * The pool does not use any locks, and the instances are created lazily (and recreated when no longer valid).
+ * <p/>
+ * This implementation will return the number of created instances in {@link #getNumActive()} and return <tt>0</tt>
+ * in {@link #getNumIdle()}.
+ */
+public class SharedRoundRobinObjectPool<T> implements ObjectPool<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedRoundRobinObjectPool.class);
+    private final PooledObjectFactory<T> factory;
+    private final AtomicReferenceArray<PooledObject<T>> slots;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public SharedRoundRobinObjectPool(PooledObjectFactory<T> factory, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The size of the pool must be positive, was: " + size);
+        }
+        this.factory = factory;
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    @Override
+    public void addObject() throws Exception, IllegalStateException, UnsupportedOperationException {
+        // noop
+    }
+
+    @Override
+    public T borrowObject() throws Exception, NoSuchElementException, IllegalStateException {
+        int index = Math.floorMod(counter.getAndIncrement(), slots.length());
+
+        PooledObject<T> current = slots.get(index);
+        // ensure the object is validate before we borrow it
+        if (current != null && !factory.validateObject(current)) {
+            if (slots.compareAndSet(index, current, null)) {
+                LOG.info("Recreating new connection as current connection is invalid: {}", current);
+                destroy(current);
+            }
+            current = slots.get(index);
+        }
+        while (current == null) {
+            PooledObject<T> created = factory.makeObject();
+            if (slots.compareAndSet(index, null, created)) {
+                current = created;
+            } else {
+                // another caller created the object at the same time
+                destroy(created);
+                current = slots.get(index);
+            }
+        }
+        try {
+            factory.activateObject(current);
+        } catch (Exception e) {
+            if (slots.compareAndSet(index, current, null)) {
+                destroy(current);
+            }
+            throw e;
+        }
+        return current.getObject();
+    }
+
+    @Override
+    public void clear() throws Exception, UnsupportedOperationException {
+        for (int i = 0; i < slots.length(); i++) {
+            PooledObject<T> current = slots.getAndSet(i, null);
+            if (current != null) {
+                destroy(current);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            clear();
+        } catch (Exception e) {
+            LOG.debug("Error closing pool. This exception will be ignored.", e);
+        }
+    }
+
+    @Override
+    public int getNumActive() {
+        int answer = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                answer++;
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public int getNumIdle() {
+        return 0;
+    }
+
+    @Override
+    public void invalidateObject(T obj) throws Exception {
+        for (int i = 0; i < slots.length(); i++) {
+            PooledObject<T> current = slots.get(i);
+            if (current != null && current.getObject() == obj && slots.compareAndSet(i, current, null)) {
+                destroy(current);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void returnObject(T obj) throws Exception {
+        // noop
+    }
+
+    private void destroy(PooledObject<T> object) {
+        try {
+            factory.destroyObject(object);
+        } catch (Exception e) {
+            LOG.debug("Error destroying object {}. This exception will be ignored.", object, e);
+        }
+    }
+
+}
@@ -228,14 +228,15 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport
         workerPool.submit(() -> {
             Exchange exchange = value.getExchange();
             AsyncCallback callback = value.getCallback();
-            if (exchange != null && callback != null) {
+            // the request may already have failed, such as when its channel was closed
+            if (exchange != null && callback != null && !value.isDone()) {
                 Object timeoutBody = getTimeoutResponse(key, exchange.getMessage().getBody());
                 if (timeoutBody != null) {
                     exchange.getMessage().setBody(timeoutBody);
                 } else {
                     exchange.setException(new ExchangeTimedOutException(exchange, timeout));
                 }
-                callback.done(false);
+                value.callbackDoneOnce(false);
             }
         });
     }
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.netty.handlers;
 
+import java.io.IOException;
+
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
@@ -68,15 +70,30 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
         if (LOG.isTraceEnabled()) {
             LOG.trace("Exception caught at Channel: {}", ctx.channel(), cause);
         }
+        // a shared channel is used by many requests, so it must handle the exceptions of each request
+        boolean pipelining = producer.getConfiguration().isProducerPoolPipelining();
         if (exceptionHandled) {
             // ignore subsequent exceptions being thrown
             return;
         }
-        exceptionHandled = true;
+        if (!pipelining) {
+            exceptionHandled = true;
+        }
 
         Exchange exchange = null;
 
         NettyCamelState state = getState(ctx, cause);
+        if (pipelining && (state == null || cause instanceof IOException || !ctx.channel().isActive())) {
+            // the shared channel has failed, so all its pending requests fail (and the pool creates a new channel)
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Closing shared channel as an exception was thrown from Netty", cause);
+            }
+            producer.failPendingRequests(ctx.channel(),
+                    "Exception caught on shared channel to remote server: " + producer.getConfiguration().getAddress(),
+                    cause);
+            NettyHelper.close(ctx.channel());
+            return;
+        }
         if (state != null) {
             state.onExceptionCaught();
             exchange = state.getExchange();
@@ -92,11 +109,13 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
                 exchange.setException(cause);
             }
 
-            // close channel in case an exception was thrown
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Closing channel as an exception was thrown from Netty", cause);
+            // close channel in case an exception was thrown, unless the channel is shared by other requests
+            if (!pipelining) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Closing channel as an exception was thrown from Netty", cause);
+                }
+                NettyHelper.close(ctx.channel());
             }
-            NettyHelper.close(ctx.channel());
 
             // signal callback
             state.callbackDoneOnce(false);
@@ -109,6 +128,16 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
             LOG.trace("Channel closed: {}", ctx.channel());
         }
 
+        if (producer.getConfiguration().isProducerPoolPipelining()) {
+            producer.getCorrelationManager().removeState(ctx, ctx.channel());
+            producer.getAllChannels().remove(ctx.channel());
+            // the requests which are still waiting for their replies on the shared channel will never receive them
+            producer.failPendingRequests(ctx.channel(),
+                    "No response received from remote server: " + producer.getConfiguration().getAddress(), null);
+            super.channelInactive(ctx);
+            return;
+        }
+
         NettyCamelState state = getState(ctx, null);
         Exchange exchange = state != null ? state.getExchange() : null;
         // this channel is maybe closing graceful and the callback could already have been called
@@ -212,8 +241,9 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
             if (close != null) {
                 disconnect = close;
             }
-            // we should not close if we are reusing the channel
-            if (!producer.getConfiguration().isReuseChannel() && disconnect) {
+            // we should not close if we are reusing or sharing the channel
+            if (!producer.getConfiguration().isReuseChannel() && !producer.getConfiguration().isProducerPoolPipelining()
+                    && disconnect) {
                 if (LOG.isTraceEnabled()) {
                     LOG.trace("Closing channel when complete at address: {}", producer.getConfiguration().getAddress());
                 }
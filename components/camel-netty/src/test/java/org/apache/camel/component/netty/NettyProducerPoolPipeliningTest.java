@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.camel.BindToRegistry;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.AvailablePortFinder;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NettyProducerPoolPipeliningTest extends BaseNettyTest {
+
+    @BindToRegistry("myManager")
+    private final MyCorrelationManager myManager = new MyCorrelationManager();
+
+    private final int noReplyPort = AvailablePortFinder.getNextAvailable();
+
+    @Test
+    public void testPipelining() throws Exception {
+        int count = 200;
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(count);
+        // check that the request and reply are correlated correctly
+        mock.allMessages().predicate(exchange -> {
+            String request = exchange.getMessage().getHeader("request", String.class);
+            String reply = exchange.getMessage().getBody(String.class);
+            return reply.equals(request + ":Bye");
+        });
+
+        for (int i = 0; i < count; i++) {
+            template.sendBodyAndHeader("seda:start", i + ":Hello", "request", Integer.toString(i));
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // the requests are sent over the two shared channels
+        assertTrue(myManager.channels.size() <= 2, "Should use at most 2 channels, was: " + myManager.channels.size());
+    }
+
+    @Test
+    public void testCloseChannelWhenCompleteDoesNotCloseSharedChannel() throws Exception {
+        int count = 20;
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(count);
+
+        for (int i = 0; i < count; i++) {
+            template.sendBodyAndHeader("direct:close", i + ":Hello", "request", Integer.toString(i));
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // the shared channels are not closed and recreated by the requests
+        assertTrue(myManager.channels.size() <= 2, "Should use at most 2 channels, was: " + myManager.channels.size());
+    }
+
+    @Test
+    public void testClosedChannelFailsAllPendingRequests() throws Exception {
+        // the server does not reply to these requests, so they are pending on the single shared channel
+        List<CompletableFuture<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String body = i + ":Hello";
+            futures.add(template.asyncSend("direct:single", exchange -> exchange.getIn().setBody(body)));
+        }
+        Thread.sleep(500);
+        // and this request closes the channel
+        futures.add(template.asyncSend("direct:single", exchange -> exchange.getIn().setBody("5:Kill")));
+
+        // all the pending requests fail long before they would time out in the correlation manager
+        for (CompletableFuture<Exchange> future : futures) {
+            Exchange exchange = future.get(10, TimeUnit.SECONDS);
+            assertIsInstanceOf(CamelExchangeException.class, exchange.getException());
+        }
+    }
+
+    @Test
+    public void testDisconnectNotAllowed() {
+        Exception e = assertThrows(Exception.class,
+                () -> context.getEndpoint("netty:tcp://localhost:" + getPort() + "?textline=true&sync=true&disconnect=true"
+                                          + "&producerPoolPipelining=true&correlationManager=#myManager")
+                        .createProducer().start());
+        assertIsInstanceOf(IllegalArgumentException.class, e);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:start?concurrentConsumers=20")
+                        .to("netty:tcp://localhost:{{port}}?textline=true&sync=true"
+                            + "&producerPoolPipelining=true&producerPoolMaxTotal=2&correlationManager=#myManager")
+                        .to("mock:result");
+
+                from("direct:close")
+                        .setProperty(NettyConstants.NETTY_CLOSE_CHANNEL_WHEN_COMPLETE, constant(true))
+                        .to("netty:tcp://localhost:{{port}}?textline=true&sync=true"
+                            + "&producerPoolPipelining=true&producerPoolMaxTotal=2&correlationManager=#myManager")
+                        .to("mock:result");
+
+                from("direct:single")
+                        .toF("netty:tcp://localhost:%d?textline=true&sync=true"
+                             + "&producerPoolPipelining=true&producerPoolMaxTotal=1&correlationManager=#myManager",
+                                noReplyPort);
+
+                from("netty:tcp://localhost:{{port}}?textline=true&sync=true")
+                        .transform(body().append(":Bye").regexReplaceAll(":Hello", ""));
+
+                fromF("netty:tcp://localhost:%d?textline=true&sync=true&disconnectOnNoReply=false", noReplyPort)
+                        .filter(body().endsWith(":Kill"))
+                        .process(exchange -> exchange.getIn()
+                                .getHeader(NettyConstants.NETTY_CHANNEL_HANDLER_CONTEXT, ChannelHandlerContext.class).close())
+                        .end()
+                        .setBody(constant(null));
+            }
+        };
+    }
+
+    private static final class MyCorrelationManager extends TimeoutCorrelationManagerSupport {
+
+        private final Set<Channel> channels = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void putState(Channel channel, NettyCamelState state) {
+            channels.add(channel);
+            super.putState(channel, state);
+        }
+
+        @Override
+        public String getRequestCorrelationId(Object request) {
+            return request.toString().substring(0, request.toString().indexOf(':'));
+        }
+
+        @Override
+        public String getResponseCorrelationId(Object response) {
+            return getRequestCorrelationId(response);
+        }
+    }
+}
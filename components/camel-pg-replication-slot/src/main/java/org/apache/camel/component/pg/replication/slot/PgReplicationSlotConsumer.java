@@ -22,6 +22,8 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Properties;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -32,8 +34,10 @@ import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.spi.Synchronization;
+import org.apache.camel.support.EmptyAsyncCallback;
 import org.apache.camel.support.ScheduledPollConsumer;
 import org.postgresql.PGConnection;
+import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.replication.PGReplicationStream;
 import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 import org.slf4j.Logger;
@@ -56,6 +60,11 @@ public class PgReplicationSlotConsumer extends ScheduledPollConsumer {
 
     private byte[] payload;
 
+    // used when streaming, the messages that has been read from the stream in the order of their LSN
+    private final Deque<PendingMessage> pendingMessages = new ArrayDeque<>();
+    private volatile boolean restartStream;
+    private long lastStatusUpdate;
+
     PgReplicationSlotConsumer(PgReplicationSlotEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.endpoint = endpoint;
@@ -98,6 +107,10 @@ public class PgReplicationSlotConsumer extends ScheduledPollConsumer {
             return 0;
         }
 
+        if (this.endpoint.getMaxMessagesPerPoll() > 1) {
+            return pollStream(stream);
+        }
+
         try {
             // The same payload will be sent again and again until the processing is completed successfully.
             // We should not read another payload before that to guarantee the order of processing.
@@ -108,20 +121,10 @@ public class PgReplicationSlotConsumer extends ScheduledPollConsumer {
                     return 0;
                 }
 
-                int offset = msg.arrayOffset();
-                byte[] source = msg.array();
-                int length = source.length - offset;
-
-                this.payload = new byte[length];
-                System.arraycopy(source, offset, this.payload, 0, length);
+                this.payload = toPayload(msg);
             }
         } catch (SQLException e) {
-            // If the cause of the exception is that connection is lost, we'll try to reconnect so in the next poll a
-            // new connection will be available.
-            if (e.getCause() instanceof SocketException) {
-                LOG.info("Connection to PosgreSQL server has been lost, trying to reconnect.");
-                this.connect();
-            }
+            handleStreamException(e);
             throw e;
         }
 
@@ -160,6 +163,144 @@ public class PgReplicationSlotConsumer extends ScheduledPollConsumer {
         return 1;
     }
 
+    /**
+     * Reads and routes the pending messages of the stream, and acknowledges the LSNs of the messages that has been
+     * completed.
+     */
+    private int pollStream(PGReplicationStream stream) throws Exception {
+        int polled = 0;
+        try {
+            if (this.restartStream) {
+                restartStream(stream);
+                return 0;
+            }
+
+            acknowledge(stream);
+
+            int max = this.endpoint.getMaxMessagesPerPoll();
+            int maxPending = this.endpoint.getMaxPendingMessages();
+            while (polled < max && isPollAllowed()) {
+                if (maxPending > 0 && pendingSize() >= maxPending) {
+                    LOG.trace("There are {} pending messages. Will not read more messages until the routes catch up.",
+                            maxPending);
+                    break;
+                }
+
+                ByteBuffer msg = stream.readPending();
+                if (msg == null) {
+                    break;
+                }
+
+                LogSequenceNumber lsn = stream.getLastReceiveLSN();
+                PendingMessage pending = new PendingMessage(lsn);
+                synchronized (this.pendingMessages) {
+                    this.pendingMessages.add(pending);
+                }
+
+                Exchange exchange = createExchange(true);
+                exchange.setExchangeId(lsn.asString());
+                exchange.getIn().setBody(toPayload(msg));
+                exchange.adapt(ExtendedExchange.class).addOnCompletion(new Synchronization() {
+                    @Override
+                    public void onComplete(Exchange exchange) {
+                        // the LSN is acknowledged in the next poll when all the messages before it has completed
+                        pending.done = true;
+                    }
+
+                    @Override
+                    public void onFailure(Exchange exchange) {
+                        restartStream = true;
+                        processRollback(exchange);
+                    }
+                });
+
+                polled++;
+                getAsyncProcessor().process(exchange, EmptyAsyncCallback.get());
+            }
+
+            acknowledge(stream);
+        } catch (SQLException e) {
+            handleStreamException(e);
+            throw e;
+        }
+        return polled;
+    }
+
+    /**
+     * Applies the LSN of the completed messages (in order) to the stream, and sends the status to the server when the
+     * status interval has elapsed.
+     */
+    private void acknowledge(PGReplicationStream stream) throws SQLException {
+        LogSequenceNumber lsn = null;
+        synchronized (this.pendingMessages) {
+            while (!this.pendingMessages.isEmpty() && this.pendingMessages.peekFirst().done) {
+                lsn = this.pendingMessages.pollFirst().lsn;
+            }
+        }
+
+        if (lsn != null) {
+            stream.setAppliedLSN(lsn);
+            stream.setFlushedLSN(lsn);
+        }
+
+        // the driver sends the status when reading from the stream, but not when we stop reading due to
+        // backpressure, so we need to send the status to avoid being disconnected
+        long now = System.currentTimeMillis();
+        if (now - this.lastStatusUpdate >= TimeUnit.SECONDS.toMillis(this.endpoint.getStatusInterval())) {
+            stream.forceUpdateStatus();
+            this.lastStatusUpdate = now;
+        }
+    }
+
+    /**
+     * Restarts the stream after a message failed, so the server sends the messages again from the last acknowledged
+     * LSN.
+     */
+    private void restartStream(PGReplicationStream stream) throws SQLException {
+        this.restartStream = false;
+
+        // acknowledge the messages that completed before the failed message
+        this.lastStatusUpdate = 0;
+        acknowledge(stream);
+
+        synchronized (this.pendingMessages) {
+            this.pendingMessages.clear();
+        }
+
+        LOG.debug("Restarting replication stream on slot: {} to receive the failed message again.",
+                this.endpoint.getSlot());
+        stream.close();
+        this.replicationStream = null;
+    }
+
+    private int pendingSize() {
+        synchronized (this.pendingMessages) {
+            return this.pendingMessages.size();
+        }
+    }
+
+    private void handleStreamException(SQLException e) throws SQLException {
+        // If the cause of the exception is that connection is lost, we'll try to reconnect so in the next poll a
+        // new connection will be available.
+        if (e.getCause() instanceof SocketException) {
+            LOG.info("Connection to PosgreSQL server has been lost, trying to reconnect.");
+            synchronized (this.pendingMessages) {
+                this.pendingMessages.clear();
+            }
+            this.connect();
+        }
+    }
+
+    private static byte[] toPayload(ByteBuffer msg) {
+        int offset = msg.arrayOffset();
+        byte[] source = msg.array();
+        int length = source.length - offset;
+
+        byte[] answer = new byte[length];
+        System.arraycopy(source, offset, answer, 0, length);
+        return answer;
+    }
+
     private void processCommit(Exchange exchange) {
         try {
             // Reset the `payload` buffer first because it's already processed, and in case of losing the connection
@@ -255,4 +396,17 @@ public class PgReplicationSlotConsumer extends ScheduledPollConsumer {
             this.createSlot();
         }
     }
+
+    /**
+     * A message that has been read from the stream, but not yet acknowledged.
+     */
+    private static final class PendingMessage {
+
+        private final LogSequenceNumber lsn;
+        private volatile boolean done;
+
+        PendingMessage(LogSequenceNumber lsn) {
+            this.lsn = lsn;
+        }
+    }
 }
@@ -69,6 +69,10 @@ public class PgReplicationSlotEndpoint extends ScheduledPollEndpoint {
     private String user = "postgres";
     @UriParam(description = "Postgres password", label = "common", secret = true)
     private String password;
+    @UriParam(label = "consumer", defaultValue = "1")
+    private int maxMessagesPerPoll = 1;
+    @UriParam(label = "consumer", defaultValue = "1000")
+    private int maxPendingMessages = 1000;
     @UriParam(label = "advanced", defaultValue = "10")
     private Integer statusInterval = 10;
     @UriParam(label = "advanced", prefix = "slotOptions.", multiValue = true)
@@ -237,6 +241,33 @@ public class PgReplicationSlotEndpoint extends ScheduledPollEndpoint {
         this.slotOptions = slotOptions;
     }
 
+    public int getMaxMessagesPerPoll() {
+        return maxMessagesPerPoll;
+    }
+
+    /**
+     * Maximum number of messages to read from the replication stream per poll. When more than one, the consumer streams
+     * the messages: all the pending messages (up to this number) are routed in each poll, and the LSNs are acknowledged
+     * in batches, in order, once the messages have been routed. When a message fails then the stream is restarted from
+     * the last acknowledged LSN so the message is received again.
+     */
+    public void setMaxMessagesPerPoll(int maxMessagesPerPoll) {
+        this.maxMessagesPerPoll = maxMessagesPerPoll;
+    }
+
+    public int getMaxPendingMessages() {
+        return maxPendingMessages;
+    }
+
+    /**
+     * Maximum number of messages that has been read from the replication stream but not yet completed by the route,
+     * when streaming (maxMessagesPerPoll is more than one). When the limit is reached the consumer stops reading from
+     * the stream until the routes have caught up. Use 0 for no limit.
+     */
+    public void setMaxPendingMessages(int maxPendingMessages) {
+        this.maxPendingMessages = maxPendingMessages;
+    }
+
     public Boolean getAutoCreateSlot() {
         return autoCreateSlot;
     }
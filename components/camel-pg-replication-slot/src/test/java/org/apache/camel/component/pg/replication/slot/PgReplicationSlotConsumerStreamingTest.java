@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.pg.replication.slot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the streaming mode of the consumer using a replication stream stand-in.
+ */
+public class PgReplicationSlotConsumerStreamingTest extends CamelTestSupport {
+
+    private static final LogSequenceNumber LSN1 = LogSequenceNumber.valueOf(100);
+    private static final LogSequenceNumber LSN2 = LogSequenceNumber.valueOf(200);
+    private static final LogSequenceNumber LSN3 = LogSequenceNumber.valueOf(300);
+
+    private final PGReplicationStream stream = mock(PGReplicationStream.class);
+
+    @Test
+    public void testStreamAndAcknowledgeInBatch() throws Exception {
+        pending("a", "b", "c");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("a", "b", "c");
+
+        assertEquals(3, poll("direct:result", 0));
+
+        mock.assertIsSatisfied();
+        // only the last LSN of the batch is acknowledged
+        verify(stream).setFlushedLSN(LSN3);
+        verify(stream, never()).setFlushedLSN(LSN1);
+        verify(stream, never()).setFlushedLSN(LSN2);
+    }
+
+    @Test
+    public void testAcknowledgeInOrder() throws Exception {
+        pending("a", "b", "c");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("a", "b", "c");
+        NotifyBuilder notify = new NotifyBuilder(context).whenDone(3).create();
+
+        PgReplicationSlotConsumer consumer = consumer("direct:slow", 0);
+        assertEquals(3, consumer.poll());
+        mock.assertIsSatisfied();
+
+        // the later messages completed first, but are not acknowledged until the first message completes
+        verify(stream, never()).setFlushedLSN(any());
+
+        assertTrue(notify.matches(5, TimeUnit.SECONDS));
+        assertEquals(0, consumer.poll());
+        verify(stream).setFlushedLSN(LSN3);
+        verify(stream, never()).setFlushedLSN(LSN1);
+        verify(stream, never()).setFlushedLSN(LSN2);
+    }
+
+    @Test
+    public void testBackpressure() throws Exception {
+        pending("a", "b", "c");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("a", "b");
+
+        // the exchanges are completed later so only 2 messages are read
+        assertEquals(2, poll("direct:lag", 2));
+
+        mock.assertIsSatisfied();
+        verify(stream, never()).setFlushedLSN(LSN1);
+    }
+
+    @Test
+    public void testFailureRestartsStream() throws Exception {
+        pending("a", "kaboom", "c");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("a", "c");
+
+        PgReplicationSlotConsumer consumer = consumer("direct:fail", 0);
+        assertEquals(3, consumer.poll());
+        mock.assertIsSatisfied();
+
+        // the LSN of the failed message and after is not acknowledged
+        verify(stream).setFlushedLSN(LSN1);
+        verify(stream, never()).setFlushedLSN(LSN3);
+
+        // the next poll restarts the stream so the failed message is received again
+        assertEquals(0, consumer.poll());
+        verify(stream).close();
+    }
+
+    private void pending(String... bodies) throws Exception {
+        ByteBuffer[] buffers = new ByteBuffer[bodies.length];
+        for (int i = 0; i < bodies.length; i++) {
+            buffers[i] = ByteBuffer.wrap(bodies[i].getBytes(StandardCharsets.UTF_8));
+        }
+        when(stream.readPending()).thenReturn(buffers[0], buffers[1], buffers[2], null);
+        when(stream.getLastReceiveLSN()).thenReturn(LSN1, LSN2, LSN3);
+    }
+
+    private int poll(String to, int maxPendingMessages) throws Exception {
+        return consumer(to, maxPendingMessages).poll();
+    }
+
+    private PgReplicationSlotConsumer consumer(String to, int maxPendingMessages) throws Exception {
+        PgReplicationSlotEndpoint endpoint = new PgReplicationSlotEndpoint(
+                "pg-replication-slot:localhost/camel/test_slot:test_decoding", context.getComponent("pg-replication-slot")) {
+            @Override
+            Connection newDbConnection() {
+                return newConnection();
+            }
+        };
+        endpoint.setAutoCreateSlot(false);
+        endpoint.setStartScheduler(false);
+        endpoint.setMaxMessagesPerPoll(10);
+        endpoint.setMaxPendingMessages(maxPendingMessages);
+
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from(endpoint).routeId("pg").to(to);
+            }
+        });
+        return (PgReplicationSlotConsumer) context.getRoute("pg").getConsumer();
+    }
+
+    private Connection newConnection() {
+        try {
+            Connection connection = mock(Connection.class);
+            PGConnection pgConnection = mock(PGConnection.class, RETURNS_DEEP_STUBS);
+            when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+
+            // the slot is not active
+            Statement statement = mock(Statement.class);
+            ResultSet resultSet = mock(ResultSet.class);
+            when(connection.createStatement()).thenReturn(statement);
+            when(statement.executeQuery(anyString())).thenReturn(resultSet);
+            when(resultSet.getInt(1)).thenReturn(0);
+
+            ChainedLogicalStreamBuilder builder = mock(ChainedLogicalStreamBuilder.class, RETURNS_SELF);
+            when(pgConnection.getReplicationAPI().replicationStream().logical()).thenReturn(builder);
+            when(builder.start()).thenReturn(stream);
+            return connection;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:result").to("mock:result");
+
+                from("direct:slow").to("mock:result")
+                        .filter(body().convertToString().isEqualTo("a")).delay(1000).asyncDelayed();
+
+                from("direct:lag").to("mock:result").delay(1000).asyncDelayed();
+
+                from("direct:fail")
+                        .filter(body().convertToString().isEqualTo("kaboom"))
+                            .throwException(new IllegalArgumentException("Forced"))
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+}
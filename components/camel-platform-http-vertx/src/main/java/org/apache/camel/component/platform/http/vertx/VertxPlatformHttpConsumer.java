@@ -48,6 +48,7 @@ import org.apache.camel.component.platform.http.spi.Method;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.support.DefaultConsumer;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -116,7 +117,19 @@ public class VertxPlatformHttpConsumer extends DefaultConsumer {
             newRoute.produces(getEndpoint().getProduces());
         }
 
-        newRoute.handler(router.bodyHandler());
+        if (getEndpoint().isUseStreaming()) {
+            // forms have to be fully read to be parsed, any other request body is streamed to the route
+            final Handler<RoutingContext> bodyHandler = router.bodyHandler();
+            newRoute.handler(ctx -> {
+                if (isFormRequest(ctx.parsedHeaders().contentType().value())) {
+                    bodyHandler.handle(ctx);
+                } else {
+                    ctx.next();
+                }
+            });
+        } else {
+            newRoute.handler(router.bodyHandler());
+        }
         for (Handler<RoutingContext> handler : handlers) {
             newRoute.handler(handler);
         }
@@ -163,6 +176,7 @@ public class VertxPlatformHttpConsumer extends DefaultConsumer {
     private void handleRequest(RoutingContext ctx) {
         final Vertx vertx = ctx.vertx();
         final Exchange exchange = toExchange(ctx);
+        final Object requestBody = exchange.getIn().getBody();
 
         //
         // We do not know if any of the processing logic of the route is synchronous or not so we
@@ -214,6 +228,10 @@ public class VertxPlatformHttpConsumer extends DefaultConsumer {
                             ctx.fail(failure);
                         }
                     } finally {
+                        if (requestBody instanceof VertxPlatformHttpRequestInputStream) {
+                            // discard any part of the streamed request body the route did not read
+                            IOHelper.close((VertxPlatformHttpRequestInputStream) requestBody);
+                        }
                         doneUoW(exchange);
                         releaseExchange(exchange, false);
                     }
@@ -246,7 +264,7 @@ public class VertxPlatformHttpConsumer extends DefaultConsumer {
         populateCamelHeaders(ctx, result.getHeaders(), exchange, headerFilterStrategy);
         final String mimeType = ctx.parsedHeaders().contentType().value();
         final boolean isMultipartFormData = "multipart/form-data".equals(mimeType);
-        if ("application/x-www-form-urlencoded".equals(mimeType) || isMultipartFormData) {
+        if (isFormRequest(mimeType)) {
             final MultiMap formData = ctx.request().formAttributes();
             final Map<String, Object> body = new HashMap<>();
             for (String key : formData.names()) {
@@ -268,7 +286,9 @@ public class VertxPlatformHttpConsumer extends DefaultConsumer {
             }
         } else {
             Method m = Method.valueOf(ctx.request().method().name());
-            if (m.canHaveBody()) {
+            if (m.canHaveBody() && getEndpoint().isUseStreaming()) {
+                result.setBody(new VertxPlatformHttpRequestInputStream(ctx.request()));
+            } else if (m.canHaveBody()) {
                 final Buffer body = ctx.getBody();
                 if (body != null) {
                     result.setBody(body);
@@ -282,6 +302,10 @@ public class VertxPlatformHttpConsumer extends DefaultConsumer {
         return result;
     }
 
+    private static boolean isFormRequest(String mimeType) {
+        return "application/x-www-form-urlencoded".equals(mimeType) || "multipart/form-data".equals(mimeType);
+    }
+
     private void populateAttachments(Set<FileUpload> uploads, Message message) {
         for (FileUpload upload : uploads) {
             final String name = upload.name();
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.vertx;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * An {@link InputStream} which reads the HTTP request body from a Vert.x {@link ReadStream} as the data arrives,
+ * without aggregating the body in memory first.
+ * <p/>
+ * The read stream is paused and only one chunk is fetched at a time when the reader needs more data, so a slow route
+ * applies backpressure to the HTTP client. The received chunks are read directly (no copy) from the Vert.x buffers.
+ * <p/>
+ * This stream must be read from a thread which is not the Vert.x event loop, such as the worker thread the consumer
+ * routes the exchange on.
+ */
+final class VertxPlatformHttpRequestInputStream extends InputStream {
+
+    private static final Object END = new Object();
+
+    private final ReadStream<Buffer> stream;
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private ByteBuf current;
+    private boolean ended;
+    private volatile boolean closed;
+
+    VertxPlatformHttpRequestInputStream(ReadStream<Buffer> stream) {
+        this.stream = stream;
+        stream.pause();
+        stream.handler(buffer -> {
+            if (!closed) {
+                queue.add(buffer);
+            }
+        });
+        stream.exceptionHandler(queue::add);
+        stream.endHandler(v -> queue.add(END));
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureData()) {
+            return -1;
+        }
+        return current.readByte() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureData()) {
+            return -1;
+        }
+        int n = Math.min(len, current.readableBytes());
+        current.readBytes(b, off, n);
+        return n;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return current != null ? current.readableBytes() : 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            queue.clear();
+            current = null;
+            if (!ended) {
+                // discard the remainder of the request body
+                stream.resume();
+            }
+        }
+    }
+
+    private boolean ensureData() throws IOException {
+        while (current == null || !current.isReadable()) {
+            if (ended || closed) {
+                return false;
+            }
+            Object next = queue.poll();
+            if (next == null) {
+                // ask for the next chunk and wait for it to arrive
+                stream.fetch(1);
+                try {
+                    next = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while reading the HTTP request body");
+                }
+            }
+            if (next == END) {
+                ended = true;
+                current = null;
+            } else if (next instanceof Throwable) {
+                ended = true;
+                current = null;
+                throw new IOException("Error reading the HTTP request body", (Throwable) next);
+            } else {
+                current = ((Buffer) next).getByteBuf();
+            }
+        }
+        return true;
+    }
+}
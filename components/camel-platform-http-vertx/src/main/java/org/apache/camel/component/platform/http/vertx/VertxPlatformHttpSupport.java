@@ -27,6 +27,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
@@ -137,6 +139,10 @@ public final class VertxPlatformHttpSupport {
             return ((byte[]) body).length;
         } else if (body instanceof ByteBuffer) {
             return ((ByteBuffer) body).remaining();
+        } else if (body instanceof Buffer) {
+            return ((Buffer) body).length();
+        } else if (body instanceof ByteBuf) {
+            return ((ByteBuf) body).readableBytes();
         }
         return null;
     }
@@ -179,14 +185,15 @@ public final class VertxPlatformHttpSupport {
             writeResponseAs(response, (InputStream) body);
         } else if (body instanceof Buffer) {
             response.end((Buffer) body);
+        } else if (body instanceof ByteBuf) {
+            response.end(Buffer.buffer((ByteBuf) body));
         } else {
             final TypeConverter tc = camelExchange.getContext().getTypeConverter();
             // Try to convert to ByteBuffer for performance reason
             final ByteBuffer bb = tc.tryConvertTo(ByteBuffer.class, camelExchange, body);
             if (bb != null) {
-                final Buffer b = Buffer.buffer(bb.capacity());
-                b.setBytes(0, bb);
-                response.end(b);
+                // wrap the content instead of copying it into a new buffer
+                response.end(Buffer.buffer(Unpooled.wrappedBuffer(bb)));
             } else {
                 // Otherwise fallback to most generic InputStream conversion
                 final InputStream is = tc.mandatoryConvertTo(InputStream.class, camelExchange, body);
@@ -17,7 +17,10 @@
 package org.apache.camel.component.platform.http.vertx;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 import org.apache.camel.Exchange;
@@ -85,6 +88,33 @@ public class VertxPlatformHttpBufferConverterTest extends CamelTestSupport {
         Assertions.assertEquals(BODY, new String(result));
     }
 
+    @Test
+    public void testByteBufferToBuffer() {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(BODY.getBytes());
+        Buffer buffer = context.getTypeConverter().convertTo(Buffer.class, byteBuffer);
+        Assertions.assertEquals(BODY, buffer.toString());
+        // the source buffer must not be consumed
+        Assertions.assertEquals(BODY.length(), byteBuffer.remaining());
+    }
+
+    @Test
+    public void testBufferToByteBuffer() {
+        ByteBuffer result = context.getTypeConverter().convertTo(ByteBuffer.class, Buffer.buffer(BODY));
+        Assertions.assertEquals(BODY, StandardCharsets.UTF_8.decode(result).toString());
+    }
+
+    @Test
+    public void testBufferToByteBuf() {
+        ByteBuf result = context.getTypeConverter().convertTo(ByteBuf.class, Buffer.buffer(BODY));
+        Assertions.assertEquals(BODY, result.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testBufferToInputStream() throws Exception {
+        InputStream result = context.getTypeConverter().convertTo(InputStream.class, Buffer.buffer(BODY));
+        Assertions.assertEquals(BODY, new String(result.readAllBytes()));
+    }
+
     @Test
     public void testToStreamCache() {
         Buffer buffer = context.getTypeConverter().convertTo(Buffer.class, BODY);
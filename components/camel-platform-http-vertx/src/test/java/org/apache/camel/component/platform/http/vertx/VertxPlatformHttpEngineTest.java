@@ -17,6 +17,7 @@
 package org.apache.camel.component.platform.http.vertx;
 
 import java.io.File;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.Arrays;
@@ -457,6 +458,98 @@ public class VertxPlatformHttpEngineTest {
         }
     }
 
+    @Test
+    public void testStreamingPost() throws Exception {
+        final CamelContext context = createCamelContext();
+
+        try {
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("platform-http:/streaming/post?useStreaming=true")
+                            .process(e -> assertThat(e.getMessage().getBody()).isInstanceOf(InputStream.class))
+                            .convertBodyTo(String.class)
+                            .transform().body(String.class, b -> b.toUpperCase());
+                }
+            });
+
+            context.start();
+
+            StringBuilder payload = new StringBuilder();
+            for (int i = 0; i < 10000; i++) {
+                payload.append("Hello World ").append(i).append('\n');
+            }
+            given()
+                    .contentType(ContentType.TEXT)
+                    .body(payload.toString())
+                    .when()
+                    .post("/streaming/post")
+                    .then()
+                    .statusCode(200)
+                    .body(is(payload.toString().toUpperCase()));
+        } finally {
+            context.stop();
+        }
+    }
+
+    @Test
+    public void testStreamingFormPost() throws Exception {
+        final CamelContext context = createCamelContext();
+
+        try {
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("platform-http:/streaming/form/post?useStreaming=true")
+                            .convertBodyTo(String.class);
+                }
+            });
+
+            context.start();
+
+            given()
+                    .formParam("foo", "bar")
+                    .formParam("cheese", "wine")
+                    .when()
+                    .post("/streaming/form/post")
+                    .then()
+                    .statusCode(200)
+                    .body(is("{foo=bar, cheese=wine}"));
+        } finally {
+            context.stop();
+        }
+    }
+
+    @Test
+    public void testStreamingBodyNotRead() throws Exception {
+        final CamelContext context = createCamelContext();
+
+        try {
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("platform-http:/streaming/ignore?useStreaming=true")
+                            .setBody().constant("ignored");
+                }
+            });
+
+            context.start();
+
+            for (int i = 0; i < 3; i++) {
+                given()
+                        .contentType(ContentType.TEXT)
+                        .body("Hello World")
+                        .when()
+                        .post("/streaming/ignore")
+                        .then()
+                        .statusCode(200)
+                        .body(is("ignored"));
+            }
+        } finally {
+            context.stop();
+        }
+    }
+
     @Test
     public void testRestCORSWitchConsumes() throws Exception {
         final CamelContext context = createCamelContext();
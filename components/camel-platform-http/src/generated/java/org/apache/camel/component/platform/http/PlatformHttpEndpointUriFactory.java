@@ -21,7 +21,7 @@ public class PlatformHttpEndpointUriFactory extends org.apache.camel.support.com
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(12);
+        Set<String> props = new HashSet<>(13);
         props.add("bridgeErrorHandler");
         props.add("consumes");
         props.add("exceptionHandler");
@@ -34,6 +34,7 @@ public class PlatformHttpEndpointUriFactory extends org.apache.camel.support.com
         props.add("path");
         props.add("platformHttpEngine");
         props.add("produces");
+        props.add("useStreaming");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
         SECRET_PROPERTY_NAMES = Collections.emptySet();
         MULTI_VALUE_PREFIXES = Collections.emptySet();
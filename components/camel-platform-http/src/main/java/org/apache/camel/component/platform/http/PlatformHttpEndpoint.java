@@ -63,6 +63,11 @@ public class PlatformHttpEndpoint extends DefaultEndpoint implements AsyncEndpoi
                                                          + " Uploads having these extensions will be stored locally."
                                                          + " Null value or asterisk (*) will allow all files.")
     private String fileNameExtWhitelist;
+    @UriParam(label = "consumer,advanced", defaultValue = "false",
+              description = "Whether the HTTP request body should be read as a stream instead of being fully loaded"
+                            + " into memory before the exchange is routed. Streaming is only supported by engines that"
+                            + " can provide the request body as a stream, such as camel-platform-http-vertx.")
+    private boolean useStreaming;
     @UriParam(label = "advanced", description = "An HTTP Server engine implementation to serve the requests of this"
                                                 + " endpoint.")
     private PlatformHttpEngine platformHttpEngine;
@@ -202,6 +207,14 @@ public class PlatformHttpEndpoint extends DefaultEndpoint implements AsyncEndpoi
         this.muteException = muteException;
     }
 
+    public boolean isUseStreaming() {
+        return useStreaming;
+    }
+
+    public void setUseStreaming(boolean useStreaming) {
+        this.useStreaming = useStreaming;
+    }
+
     PlatformHttpEngine getOrCreateEngine() {
         return platformHttpEngine != null
                 ? platformHttpEngine
@@ -54,6 +54,17 @@ public class SedaProducer extends DefaultAsyncProducer {
 
     @Override
     public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        if (!endpoint.hasConsumers()) {
+            // the route consuming from this endpoint may be pending lazy start
+            try {
+                endpoint.getCamelContext().getRouteController().startLazyRoute(endpoint);
+            } catch (Exception e) {
+                exchange.setException(e);
+                callback.done(true);
+                return true;
+            }
+        }
+
         WaitForTaskToComplete wait = waitForTaskToComplete;
         if (exchange.getProperty(Exchange.ASYNC_WAIT) != null) {
             wait = exchange.getProperty(Exchange.ASYNC_WAIT, WaitForTaskToComplete.class);
@@ -21,13 +21,15 @@ public class SjmsEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(46);
+        Set<String> props = new HashSet<>(48);
         props.add("acknowledgementMode");
         props.add("allowNullBody");
         props.add("asyncConsumer");
         props.add("asyncStartListener");
         props.add("asyncStopListener");
         props.add("autoStartup");
+        props.add("batchSize");
+        props.add("batchTimeout");
         props.add("bridgeErrorHandler");
         props.add("clientId");
         props.add("concurrentConsumers");
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sjms;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.jms.Connection;
+import javax.jms.Destination;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.sjms.jms.MessageCreator;
+import org.apache.camel.support.BatchingProducer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.camel.component.sjms.SjmsHelper.*;
+
+/**
+ * Sends InOnly messages for the {@link SjmsProducer} in batches using a single long-lived JMS session.
+ * <p/>
+ * Exchanges are queued until the batch is full, or the batch timeout has elapsed, and the batch is then sent and (if
+ * transacted) committed at once. The callbacks of the exchanges are invoked after the commit, or with the exception if
+ * the batch failed, in which case the session is rolled back and re-created for the next batch.
+ */
+class SjmsBatchSender extends BatchingProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SjmsBatchSender.class);
+
+    private final SjmsProducer producer;
+    private final SjmsTemplate template;
+    private final Object sessionLock = new Object();
+    private final Map<String, MessageProducer> producers = new HashMap<>();
+    private final Map<Exchange, PendingMessage> pendingMessages = new ConcurrentHashMap<>();
+    private Connection connection;
+    private Session session;
+
+    SjmsBatchSender(SjmsProducer producer, SjmsTemplate template, int batchSize, long batchTimeout) {
+        super(producer.getEndpoint());
+        this.producer = producer;
+        this.template = template;
+        setBatchSize(batchSize);
+        setBatchTimeout(batchTimeout);
+    }
+
+    /**
+     * Adds the exchange to the current batch. The callback is invoked when the batch has been sent.
+     *
+     * @return <tt>true</tt> if the exchange was completed synchronously, such as when this sender is stopped
+     */
+    boolean send(Exchange exchange, String destinationName, MessageCreator messageCreator, AsyncCallback callback) {
+        pendingMessages.put(exchange, new PendingMessage(destinationName, messageCreator));
+        return process(exchange, doneSync -> {
+            pendingMessages.remove(exchange);
+            callback.done(doneSync);
+        });
+    }
+
+    @Override
+    protected void processBatch(List<Exchange> exchanges) throws Exception {
+        synchronized (sessionLock) {
+            try {
+                Session jmsSession = getOrCreateSession();
+                boolean topic = producer.getEndpoint().isTopic();
+                for (Exchange exchange : exchanges) {
+                    PendingMessage pending = pendingMessages.get(exchange);
+                    MessageProducer messageProducer = producers.get(pending.destinationName);
+                    if (messageProducer == null) {
+                        Destination dest = producer.getEndpoint().getDestinationCreationStrategy()
+                                .createDestination(jmsSession, pending.destinationName, topic);
+                        messageProducer = jmsSession.createProducer(dest);
+                        producers.put(pending.destinationName, messageProducer);
+                    }
+                    Message message = pending.messageCreator.createMessage(jmsSession);
+                    template.send(messageProducer, message);
+                }
+                if (jmsSession.getTransacted()) {
+                    jmsSession.commit();
+                }
+                LOG.debug("Sent batch of {} messages", exchanges.size());
+            } catch (Exception e) {
+                LOG.debug("Error sending batch of {} messages due to: {}. The batch is rolled back.", exchanges.size(),
+                        e.getMessage());
+                try {
+                    rollbackIfNeeded(session);
+                } catch (Exception ex) {
+                    // ignore
+                }
+                // the session may be broken so start over with a new session for the next batch
+                resetSession();
+                throw e;
+            }
+        }
+
+        for (Exchange exchange : exchanges) {
+            // after sending then set the OUT message id to the JMSMessageID so its identical
+            producer.setMessageId(exchange);
+        }
+    }
+
+    private Session getOrCreateSession() throws Exception {
+        if (session == null) {
+            connection = template.createConnection();
+            session = template.createSession(connection);
+        }
+        return session;
+    }
+
+    private void resetSession() {
+        producers.values().forEach(SjmsHelper::closeProducer);
+        producers.clear();
+        SjmsHelper.closeSession(session);
+        closeConnection(connection);
+        session = null;
+        connection = null;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // sends what is left before stopping
+        super.doStop();
+        synchronized (sessionLock) {
+            resetSession();
+        }
+    }
+
+    private static final class PendingMessage {
+        private final String destinationName;
+        private final MessageCreator messageCreator;
+
+        private PendingMessage(String destinationName, MessageCreator messageCreator) {
+            this.destinationName = destinationName;
+            this.messageCreator = messageCreator;
+        }
+    }
+}
@@ -178,6 +178,17 @@ public class SjmsEndpoint extends DefaultEndpoint
     @UriParam(label = "consumer,advanced",
               description = "Sets the JMS Message selector syntax.")
     private String messageSelector;
+    @UriParam(label = "producer,advanced",
+              description = "Sets the maximum number of InOnly messages the producer sends in a single batch using a shared JMS session."
+                            + " When the endpoint is transacted, the session is committed once per batch, and the exchanges"
+                            + " are completed after the commit. A batch is sent when it is full or when the batchTimeout has elapsed."
+                            + " Batching is only effective when multiple exchanges are sent to the producer concurrently,"
+                            + " such as from a thread pool or an asynchronous caller. Batching is disabled when the value is 1 or less.")
+    private int batchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "1000", javaType = "java.time.Duration",
+              description = "The maximum time in milliseconds to wait for a batch to become full before it is sent anyway."
+                            + " Only in use when batchSize is configured.")
+    private long batchTimeout = 1000L;
     @UriParam(description = "Specifies whether to test the connection on startup."
                             + " This ensures that when Camel starts that all the JMS consumers have a valid connection to the JMS broker."
                             + " If a connection cannot be granted then Camel throws an exception on startup."
@@ -634,6 +645,22 @@ public class SjmsEndpoint extends DefaultEndpoint
         this.requestTimeout = requestTimeout;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
     public String getMessageSelector() {
         return messageSelector;
     }
@@ -57,6 +57,7 @@ public class SjmsProducer extends DefaultAsyncProducer {
     private SjmsTemplate inOutTemplate;
     private UuidGenerator uuidGenerator;
     private ReplyManager replyManager;
+    private SjmsBatchSender batchSender;
 
     public SjmsProducer(SjmsEndpoint endpoint) {
         super(endpoint);
@@ -83,12 +84,21 @@ public class SjmsProducer extends DefaultAsyncProducer {
         if (endpoint.isTestConnectionOnStartup()) {
             testConnectionOnStartup();
         }
+        if (endpoint.getBatchSize() > 1) {
+            batchSender = new SjmsBatchSender(this, getInOnlyTemplate(), endpoint.getBatchSize(), endpoint.getBatchTimeout());
+            ServiceHelper.startService(batchSender);
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
         super.doStop();
 
+        if (batchSender != null) {
+            ServiceHelper.stopService(batchSender);
+            batchSender = null;
+        }
+
         // must stop/un-init reply manager if it was in use
         unInitReplyManager();
     }
@@ -410,6 +420,11 @@ public class SjmsProducer extends DefaultAsyncProducer {
             }
         };
 
+        if (batchSender != null && !isTransactedRoute(exchange)) {
+            // the message is sent (and committed) together with the other messages in the batch
+            return batchSender.send(exchange, destinationName, messageCreator, callback);
+        }
+
         try {
             doSend(exchange, false, destinationName, messageCreator);
         } catch (Exception e) {
@@ -426,6 +441,23 @@ public class SjmsProducer extends DefaultAsyncProducer {
         return true;
     }
 
+    /**
+     * Whether the exchange is routed in a transaction, such as from a transacted SJMS consumer, in which case the
+     * message must be committed at the end of the exchange, and cannot be sent in a batch.
+     */
+    protected boolean isTransactedRoute(Exchange exchange) {
+        if (exchange.isTransacted()) {
+            return true;
+        }
+        Session session = exchange.getProperty(SjmsConstants.JMS_SESSION, Session.class);
+        try {
+            return session != null && session.getTransacted();
+        } catch (JMSException e) {
+            // the session is broken so do not batch
+            return true;
+        }
+    }
+
     protected void setMessageId(Exchange exchange) {
         if (exchange.hasOut()) {
             SjmsMessage out = exchange.getOut(SjmsMessage.class);
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sjms.tx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.component.sjms.SjmsComponent;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class TransactedQueueProducerBatchTest extends CamelTestSupport {
+
+    @Test
+    public void testBatchSentWhenFull() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(0);
+
+        AsyncProducer producer = context.getEndpoint("sjms:queue:batch.queue?transacted=true&batchSize=5&batchTimeout=60000")
+                .createAsyncProducer();
+        producer.start();
+
+        List<CompletableFuture<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(sendAsync(producer, "Hello " + i));
+        }
+
+        // the batch is not full so nothing should have been committed
+        mock.setAssertPeriod(500);
+        mock.assertIsSatisfied();
+        for (CompletableFuture<Exchange> future : futures) {
+            assertFalse(future.isDone());
+        }
+
+        mock.reset();
+        mock.expectedBodiesReceivedInAnyOrder("Hello 0", "Hello 1", "Hello 2", "Hello 3", "Hello 4");
+        futures.add(sendAsync(producer, "Hello 4"));
+
+        for (CompletableFuture<Exchange> future : futures) {
+            Exchange exchange = future.get(10, TimeUnit.SECONDS);
+            assertFalse(exchange.isFailed());
+        }
+        mock.assertIsSatisfied();
+        producer.stop();
+    }
+
+    @Test
+    public void testBatchSentOnTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("Hello 0", "Hello 1", "Hello 2");
+
+        AsyncProducer producer = context.getEndpoint("sjms:queue:batch.queue?transacted=true&batchSize=100&batchTimeout=500")
+                .createAsyncProducer();
+        producer.start();
+
+        List<CompletableFuture<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(sendAsync(producer, "Hello " + i));
+        }
+        for (CompletableFuture<Exchange> future : futures) {
+            assertFalse(future.get(10, TimeUnit.SECONDS).isFailed());
+        }
+
+        mock.assertIsSatisfied();
+        producer.stop();
+    }
+
+    @Test
+    public void testTransactedRouteNotBatched() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        // the exchange is from a transacted route so it is sent immediately and not held back in a batch
+        template.sendBody("direct:transacted", "Hello World");
+
+        mock.assertIsSatisfied();
+    }
+
+    private CompletableFuture<Exchange> sendAsync(AsyncProducer producer, String body) {
+        Exchange exchange = producer.getEndpoint().createExchange();
+        exchange.getIn().setBody(body);
+        return producer.processAsync(exchange);
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        ActiveMQConnectionFactory connectionFactory
+                = new ActiveMQConnectionFactory("vm://broker?broker.persistent=false&broker.useJmx=false");
+        CamelContext camelContext = super.createCamelContext();
+        SjmsComponent component = new SjmsComponent();
+        component.setConnectionFactory(connectionFactory);
+        camelContext.addComponent("sjms", component);
+        return camelContext;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("sjms:queue:batch.queue")
+                        .to("mock:result");
+
+                from("direct:transacted")
+                        .process(exchange -> exchange.adapt(ExtendedExchange.class).setTransacted(true))
+                        .to("sjms:queue:batch.queue?transacted=true&batchSize=100&batchTimeout=60000");
+            }
+        };
+    }
+}
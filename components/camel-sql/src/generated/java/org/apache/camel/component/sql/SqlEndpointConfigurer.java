@@ -52,11 +52,17 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "maxmessagesperpoll":
         case "maxMessagesPerPoll": target.setMaxMessagesPerPoll(property(camelContext, int.class, value)); return true;
+        case "microbatchsize":
+        case "microBatchSize": target.setMicroBatchSize(property(camelContext, int.class, value)); return true;
+        case "microbatchtimeout":
+        case "microBatchTimeout": target.setMicroBatchTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
         case "noop": target.setNoop(property(camelContext, boolean.class, value)); return true;
         case "onconsume":
         case "onConsume": target.setOnConsume(property(camelContext, java.lang.String.class, value)); return true;
         case "onconsumebatchcomplete":
         case "onConsumeBatchComplete": target.setOnConsumeBatchComplete(property(camelContext, java.lang.String.class, value)); return true;
+        case "onconsumebatchsize":
+        case "onConsumeBatchSize": target.setOnConsumeBatchSize(property(camelContext, int.class, value)); return true;
         case "onconsumefailed":
         case "onConsumeFailed": target.setOnConsumeFailed(property(camelContext, java.lang.String.class, value)); return true;
         case "outputclass":
@@ -146,11 +152,17 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": return boolean.class;
         case "maxmessagesperpoll":
         case "maxMessagesPerPoll": return int.class;
+        case "microbatchsize":
+        case "microBatchSize": return int.class;
+        case "microbatchtimeout":
+        case "microBatchTimeout": return long.class;
         case "noop": return boolean.class;
         case "onconsume":
         case "onConsume": return java.lang.String.class;
         case "onconsumebatchcomplete":
         case "onConsumeBatchComplete": return java.lang.String.class;
+        case "onconsumebatchsize":
+        case "onConsumeBatchSize": return int.class;
         case "onconsumefailed":
         case "onConsumeFailed": return java.lang.String.class;
         case "outputclass":
@@ -236,11 +248,17 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "maxmessagesperpoll":
         case "maxMessagesPerPoll": return target.getMaxMessagesPerPoll();
+        case "microbatchsize":
+        case "microBatchSize": return target.getMicroBatchSize();
+        case "microbatchtimeout":
+        case "microBatchTimeout": return target.getMicroBatchTimeout();
         case "noop": return target.isNoop();
         case "onconsume":
         case "onConsume": return target.getOnConsume();
         case "onconsumebatchcomplete":
         case "onConsumeBatchComplete": return target.getOnConsumeBatchComplete();
+        case "onconsumebatchsize":
+        case "onConsumeBatchSize": return target.getOnConsumeBatchSize();
         case "onconsumefailed":
         case "onConsumeFailed": return target.getOnConsumeFailed();
         case "outputclass":
@@ -80,6 +80,11 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     private int expectedUpdateCount = -1;
     @UriParam(label = "consumer", description = "Sets whether to break batch if onConsume failed.")
     private boolean breakBatchOnConsumeFail;
+    @UriParam(label = "consumer,advanced",
+              description = "If set greater than zero, then the onConsume and onConsumeFailed queries are not executed for each row,"
+                            + " but are collected and executed as JDBC batches of up to this number of rows. Any remaining rows are executed"
+                            + " before the onConsumeBatchComplete query at the end of the poll.")
+    private int onConsumeBatchSize;
     @UriParam(defaultValue = "true", description = "Whether to allow using named parameters in the queries.")
     private boolean allowNamedParameters = true;
     @UriParam(label = "advanced",
@@ -117,6 +122,16 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
               description = "Whether to use the message body as the SQL and then headers for parameters. If this option is enabled then the SQL in the uri is not used."
                             + " Note that query parameters in the message body are represented by a question mark instead of a <tt>#</tt> symbol.")
     private boolean useMessageBodyForSql;
+    @UriParam(label = "producer,advanced",
+              description = "If set greater than one, then the producer collects the statements of concurrent exchanges into micro batches"
+                            + " of up to this number of statements, which are executed as JDBC batches in a single transaction."
+                            + " The batch is executed when it is full, or when the microBatchTimeout has elapsed."
+                            + " This can only be used with statements which do not return a result set, such as INSERT, UPDATE or DELETE"
+                            + " statements, and is not used when batch is enabled or when retrieving generated keys.")
+    private int microBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "100", javaType = "java.time.Duration",
+              description = "The maximum time in millis to wait for a micro batch to be filled before it is executed.")
+    private long microBatchTimeout = 100;
     @UriParam(label = "advanced", defaultValue = "#",
               description = "Specifies a character that will be replaced to ? in SQL query."
                             + " Notice, that it is simple String.replaceAll() operation and no SQL parsing is involved (quoted strings will also change).")
@@ -413,6 +428,45 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
         this.breakBatchOnConsumeFail = breakBatchOnConsumeFail;
     }
 
+    public int getOnConsumeBatchSize() {
+        return onConsumeBatchSize;
+    }
+
+    /**
+     * If set greater than zero, then the onConsume and onConsumeFailed queries are not executed for each row, but are
+     * collected and executed as JDBC batches of up to this number of rows. Any remaining rows are executed before the
+     * onConsumeBatchComplete query at the end of the poll.
+     */
+    public void setOnConsumeBatchSize(int onConsumeBatchSize) {
+        this.onConsumeBatchSize = onConsumeBatchSize;
+    }
+
+    public int getMicroBatchSize() {
+        return microBatchSize;
+    }
+
+    /**
+     * If set greater than one, then the producer collects the statements of concurrent exchanges into micro batches of
+     * up to this number of statements, which are executed as JDBC batches in a single transaction. The batch is
+     * executed when it is full, or when the microBatchTimeout has elapsed. This can only be used with statements which
+     * do not return a result set, such as INSERT, UPDATE or DELETE statements, and is not used when batch is enabled or
+     * when retrieving generated keys.
+     */
+    public void setMicroBatchSize(int microBatchSize) {
+        this.microBatchSize = microBatchSize;
+    }
+
+    public long getMicroBatchTimeout() {
+        return microBatchTimeout;
+    }
+
+    /**
+     * The maximum time in millis to wait for a micro batch to be filled before it is executed.
+     */
+    public void setMicroBatchTimeout(long microBatchTimeout) {
+        this.microBatchTimeout = microBatchTimeout;
+    }
+
     public String getPlaceholder() {
         return placeholder;
     }
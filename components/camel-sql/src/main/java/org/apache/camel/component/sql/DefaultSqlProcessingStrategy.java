@@ -18,7 +18,11 @@ package org.apache.camel.component.sql;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.camel.Exchange;
 import org.slf4j.Logger;
@@ -70,6 +74,55 @@ public class DefaultSqlProcessingStrategy implements SqlProcessingStrategy {
         });
     }
 
+    @Override
+    public int[] commitBatch(
+            final DefaultSqlEndpoint endpoint, final List<Exchange> exchanges, final List<Object> data,
+            final JdbcTemplate jdbcTemplate, final String query)
+            throws Exception {
+
+        // the prepared query may differ per exchange (such as IN queries with dynamic values),
+        // so group the rows by their prepared query
+        final Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < exchanges.size(); i++) {
+            String preparedQuery
+                    = sqlPrepareStatementStrategy.prepareQuery(query, endpoint.isAllowNamedParameters(), exchanges.get(i));
+            groups.computeIfAbsent(preparedQuery, k -> new ArrayList<>()).add(i);
+        }
+
+        final int[] answer = new int[exchanges.size()];
+        for (Map.Entry<String, List<Integer>> group : groups.entrySet()) {
+            final String preparedQuery = group.getKey();
+            final List<Integer> rows = group.getValue();
+            jdbcTemplate.execute(preparedQuery, new PreparedStatementCallback<Void>() {
+                public Void doInPreparedStatement(PreparedStatement ps) throws SQLException {
+                    int expected = ps.getParameterMetaData().getParameterCount();
+
+                    List<Integer> batched = new ArrayList<>(rows.size());
+                    for (int row : rows) {
+                        Iterator<?> iterator = sqlPrepareStatementStrategy.createPopulateIterator(query, preparedQuery,
+                                expected, exchanges.get(row), data.get(row));
+                        if (iterator != null) {
+                            sqlPrepareStatementStrategy.populateStatement(ps, iterator, expected);
+                            ps.addBatch();
+                            batched.add(row);
+                        }
+                    }
+                    if (batched.isEmpty()) {
+                        return null;
+                    }
+
+                    LOG.trace("Execute batch of {} rows with query {}", batched.size(), query);
+                    int[] updateCounts = ps.executeBatch();
+                    for (int i = 0; i < updateCounts.length && i < batched.size(); i++) {
+                        answer[batched.get(i)] = updateCounts[i];
+                    }
+                    return null;
+                }
+            });
+        }
+        return answer;
+    }
+
     @Override
     public int commitBatchComplete(final DefaultSqlEndpoint endpoint, final JdbcTemplate jdbcTemplate, final String query)
             throws Exception {
@@ -19,6 +19,8 @@ package org.apache.camel.component.sql;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -63,6 +65,7 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
     private boolean routeEmptyResultSet;
     private int expectedUpdateCount = -1;
     private boolean breakBatchOnConsumeFail;
+    private int onConsumeBatchSize;
     private int parametersCount;
     private boolean alwaysPopulateStatement;
 
@@ -250,67 +253,101 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
                     total);
         }
 
-        for (int index = 0; index < total && isBatchAllowed(); index++) {
-            // only loop if we are started (allowed to run)
-            DataHolder holder = ObjectHelper.cast(DataHolder.class, exchanges.poll());
-            Exchange exchange = holder.exchange;
-            Object data = holder.data;
-
-            // add current index and total as properties
-            exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
-            exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
-            exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
-
-            // update pending number of exchanges
-            pendingExchanges = total - index - 1;
-
-            // process the current exchange
-            try {
-                getProcessor().process(exchange);
-            } catch (Exception e) {
-                exchange.setException(e);
-            }
+        // the rows pending to run on consume as a JDBC batch
+        boolean batchOnConsume = onConsumeBatchSize > 0 && namedJdbcTemplate == null;
+        List<DataHolder> pendingOnConsume = batchOnConsume ? new ArrayList<>() : null;
+        List<DataHolder> pendingOnConsumeFailed = batchOnConsume ? new ArrayList<>() : null;
 
-            if (getEndpoint().isTransacted() && exchange.isFailed()) {
-                // break out as we are transacted and should rollback
-                Exception cause = exchange.getException();
-                // must release exchange
-                releaseExchange(exchange, false);
-                if (cause != null) {
-                    throw cause;
-                } else {
-                    throw new RollbackExchangeException("Rollback transaction due error processing exchange", null);
+        Exception failure = null;
+        try {
+            for (int index = 0; index < total && isBatchAllowed(); index++) {
+                // only loop if we are started (allowed to run)
+                DataHolder holder = ObjectHelper.cast(DataHolder.class, exchanges.poll());
+                Exchange exchange = holder.exchange;
+                Object data = holder.data;
+
+                // add current index and total as properties
+                exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
+                exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
+                exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
+
+                // update pending number of exchanges
+                pendingExchanges = total - index - 1;
+
+                // process the current exchange
+                try {
+                    getProcessor().process(exchange);
+                } catch (Exception e) {
+                    exchange.setException(e);
                 }
-            }
 
-            // pick the on consume to use
-            String sql = exchange.isFailed() ? onConsumeFailed : onConsume;
-            try {
-                // we can only run on consume if there was data
-                if (data != null && sql != null) {
-                    int updateCount;
-                    if (namedJdbcTemplate != null && sqlProcessingStrategy instanceof SqlNamedProcessingStrategy) {
-                        SqlNamedProcessingStrategy namedProcessingStrategy = (SqlNamedProcessingStrategy) sqlProcessingStrategy;
-                        updateCount = namedProcessingStrategy.commit(getEndpoint(), exchange, data, namedJdbcTemplate,
-                                parameterSource, sql);
+                if (getEndpoint().isTransacted() && exchange.isFailed()) {
+                    // break out as we are transacted and should rollback
+                    Exception cause = exchange.getException();
+                    // must release exchange
+                    releaseExchange(exchange, false);
+                    if (batchOnConsume) {
+                        // the transaction is rolled back so do not execute the pending rows
+                        releaseExchanges(pendingOnConsume);
+                        releaseExchanges(pendingOnConsumeFailed);
+                    }
+                    if (cause != null) {
+                        throw cause;
                     } else {
-                        updateCount = sqlProcessingStrategy.commit(getEndpoint(), exchange, data, jdbcTemplate, sql);
+                        throw new RollbackExchangeException("Rollback transaction due error processing exchange", null);
                     }
-                    if (expectedUpdateCount > -1 && updateCount != expectedUpdateCount) {
-                        String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount
-                                     + " executing query: " + sql;
-                        throw new SQLException(msg);
+                }
+
+                // pick the on consume to use
+                String sql = exchange.isFailed() ? onConsumeFailed : onConsume;
+                if (batchOnConsume && data != null && sql != null) {
+                    // the exchange is released when the batch has been executed
+                    List<DataHolder> pending = exchange.isFailed() ? pendingOnConsumeFailed : pendingOnConsume;
+                    pending.add(holder);
+                    if (pending.size() >= onConsumeBatchSize) {
+                        commitBatch(pending, sql);
                     }
+                    continue;
                 }
-            } catch (Exception e) {
-                if (breakBatchOnConsumeFail) {
-                    throw e;
-                } else {
-                    handleException("Error executing onConsume/onConsumeFailed query " + sql, e);
+                try {
+                    // we can only run on consume if there was data
+                    if (data != null && sql != null) {
+                        int updateCount;
+                        if (namedJdbcTemplate != null && sqlProcessingStrategy instanceof SqlNamedProcessingStrategy) {
+                            SqlNamedProcessingStrategy namedProcessingStrategy
+                                    = (SqlNamedProcessingStrategy) sqlProcessingStrategy;
+                            updateCount = namedProcessingStrategy.commit(getEndpoint(), exchange, data, namedJdbcTemplate,
+                                    parameterSource, sql);
+                        } else {
+                            updateCount = sqlProcessingStrategy.commit(getEndpoint(), exchange, data, jdbcTemplate, sql);
+                        }
+                        if (expectedUpdateCount > -1 && updateCount != expectedUpdateCount) {
+                            String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount
+                                         + " executing query: " + sql;
+                            throw new SQLException(msg);
+                        }
+                    }
+                } catch (Exception e) {
+                    if (breakBatchOnConsumeFail) {
+                        throw e;
+                    } else {
+                        handleException("Error executing onConsume/onConsumeFailed query " + sql, e);
+                    }
+                } finally {
+                    releaseExchange(exchange, false);
                 }
-            } finally {
-                releaseExchange(exchange, false);
             }
+        } catch (Exception e) {
+            failure = e;
+        } finally {
+            if (batchOnConsume) {
+                // execute the pending rows of both lists, also when the other list or a row failed
+                failure = commitBatch(pendingOnConsume, onConsume, failure);
+                failure = commitBatch(pendingOnConsumeFailed, onConsumeFailed, failure);
+            }
+        }
+        if (failure != null) {
+            throw failure;
         }
 
         try {
@@ -337,6 +374,60 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         return total;
     }
 
+    private void commitBatch(List<DataHolder> pending, String sql) throws Exception {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Exchange> exchanges = new ArrayList<>(pending.size());
+        List<Object> data = new ArrayList<>(pending.size());
+        for (DataHolder holder : pending) {
+            exchanges.add(holder.exchange);
+            data.add(holder.data);
+        }
+        try {
+            int[] updateCounts = sqlProcessingStrategy.commitBatch(getEndpoint(), exchanges, data, jdbcTemplate, sql);
+            LOG.debug("Executed batch of {} rows with query: {}", updateCounts.length, sql);
+            if (expectedUpdateCount > -1) {
+                for (int updateCount : updateCounts) {
+                    // some JDBC drivers do not know the update count of the rows in the batch
+                    if (updateCount != Statement.SUCCESS_NO_INFO && updateCount != expectedUpdateCount) {
+                        String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount
+                                     + " executing query: " + sql;
+                        throw new SQLException(msg);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            if (breakBatchOnConsumeFail) {
+                throw e;
+            } else {
+                handleException("Error executing onConsume/onConsumeFailed query " + sql, e);
+            }
+        } finally {
+            releaseExchanges(pending);
+        }
+    }
+
+    private Exception commitBatch(List<DataHolder> pending, String sql, Exception failure) {
+        try {
+            commitBatch(pending, sql);
+        } catch (Exception e) {
+            if (failure == null) {
+                return e;
+            }
+            failure.addSuppressed(e);
+        }
+        return failure;
+    }
+
+    private void releaseExchanges(List<DataHolder> pending) {
+        for (DataHolder holder : pending) {
+            releaseExchange(holder.exchange, false);
+        }
+        pending.clear();
+    }
+
     public String getOnConsume() {
         return onConsume;
     }
@@ -413,6 +504,17 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         this.breakBatchOnConsumeFail = breakBatchOnConsumeFail;
     }
 
+    public int getOnConsumeBatchSize() {
+        return onConsumeBatchSize;
+    }
+
+    /**
+     * Sets the number of rows to execute onConsume and onConsumeFailed for as a JDBC batch. Is disabled by default.
+     */
+    public void setOnConsumeBatchSize(int onConsumeBatchSize) {
+        this.onConsumeBatchSize = onConsumeBatchSize;
+    }
+
     @Override
     public void setMaxMessagesPerPoll(int maxMessagesPerPoll) {
         super.setMaxMessagesPerPoll(maxMessagesPerPoll);
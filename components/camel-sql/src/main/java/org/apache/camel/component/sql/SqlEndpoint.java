@@ -56,6 +56,7 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
         consumer.setOnConsumeFailed(getOnConsumeFailed());
         consumer.setOnConsumeBatchComplete(getOnConsumeBatchComplete());
         consumer.setBreakBatchOnConsumeFail(isBreakBatchOnConsumeFail());
+        consumer.setOnConsumeBatchSize(getOnConsumeBatchSize());
         consumer.setExpectedUpdateCount(getExpectedUpdateCount());
         consumer.setUseIterator(isUseIterator());
         consumer.setRouteEmptyResultSet(isRouteEmptyResultSet());
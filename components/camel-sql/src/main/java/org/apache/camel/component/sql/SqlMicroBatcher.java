@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.BatchingProducer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.springframework.jdbc.support.JdbcUtils.closeStatement;
+
+/**
+ * Collects the statements of concurrent exchanges for the {@link SqlProducer} into micro batches.
+ * <p/>
+ * A micro batch is executed when it is full, or when the timeout has elapsed. The statements are grouped by their
+ * query and executed as JDBC batches in a single transaction. The update count of each statement is set on its
+ * exchange, and the callbacks of the exchanges are invoked after the commit, or with the exception if the batch failed
+ * and was rolled back.
+ * <p/>
+ * The batch is committed on its own connection, so the {@link SqlProducer} must only add update statements from
+ * exchanges which are not part of a transaction.
+ */
+class SqlMicroBatcher extends BatchingProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SqlMicroBatcher.class);
+
+    private final SqlProducer producer;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Exchange, PendingStatement> pendingStatements = new ConcurrentHashMap<>();
+
+    SqlMicroBatcher(SqlProducer producer, JdbcTemplate jdbcTemplate, int batchSize, long batchTimeout) {
+        super(producer.getEndpoint());
+        this.producer = producer;
+        this.jdbcTemplate = jdbcTemplate;
+        setBatchSize(batchSize);
+        setBatchTimeout(batchTimeout);
+    }
+
+    /**
+     * Adds the statement of the exchange to the current micro batch. The callback is invoked when the batch has been
+     * executed.
+     *
+     * @return <tt>true</tt> if the exchange was completed synchronously, such as when this batcher is stopped
+     */
+    boolean add(Exchange exchange, String sql, String preparedQuery, AsyncCallback callback) {
+        pendingStatements.put(exchange, new PendingStatement(sql, preparedQuery));
+        return process(exchange, doneSync -> {
+            pendingStatements.remove(exchange);
+            callback.done(doneSync);
+        });
+    }
+
+    @Override
+    protected void processBatch(List<Exchange> exchanges) throws Exception {
+        List<PendingStatement> statements = new ArrayList<>(exchanges.size());
+        for (Exchange exchange : exchanges) {
+            statements.add(pendingStatements.get(exchange));
+        }
+
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+                executeBatch(con, exchanges, statements);
+                return null;
+            });
+            LOG.debug("Executed micro batch of {} statements", exchanges.size());
+        } catch (Exception e) {
+            LOG.debug("Error executing micro batch of {} statements due to: {}. The batch is rolled back.",
+                    exchanges.size(), e.getMessage());
+            throw e;
+        }
+
+        String outputHeader = producer.getEndpoint().getOutputHeader();
+        for (int i = 0; i < exchanges.size(); i++) {
+            Exchange exchange = exchanges.get(i);
+            exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, statements.get(i).updateCount);
+            if (outputHeader != null) {
+                exchange.getIn().setHeader(outputHeader, null);
+            }
+        }
+    }
+
+    private void executeBatch(Connection con, List<Exchange> exchanges, List<PendingStatement> statements)
+            throws SQLException {
+        boolean autoCommit = con.getAutoCommit();
+        if (autoCommit) {
+            con.setAutoCommit(false);
+        }
+        try {
+            // group the statements by their query (keeping the order of the exchanges)
+            Map<String, List<Integer>> groups = new LinkedHashMap<>();
+            for (int i = 0; i < statements.size(); i++) {
+                groups.computeIfAbsent(statements.get(i).preparedQuery, k -> new ArrayList<>()).add(i);
+            }
+            for (Map.Entry<String, List<Integer>> group : groups.entrySet()) {
+                List<Integer> indexes = group.getValue();
+                PreparedStatement ps = con.prepareStatement(group.getKey());
+                try {
+                    int expected = producer.getExpectedParametersCount(ps);
+                    for (int index : indexes) {
+                        PendingStatement statement = statements.get(index);
+                        producer.populateStatement(ps, exchanges.get(index), statement.sql, statement.preparedQuery,
+                                expected);
+                        ps.addBatch();
+                    }
+                    int[] updateCounts = ps.executeBatch();
+                    for (int i = 0; i < updateCounts.length && i < indexes.size(); i++) {
+                        statements.get(indexes.get(i)).updateCount = updateCounts[i];
+                    }
+                } finally {
+                    closeStatement(ps);
+                }
+            }
+            con.commit();
+        } catch (SQLException | RuntimeException e) {
+            con.rollback();
+            throw e;
+        } finally {
+            if (autoCommit) {
+                con.setAutoCommit(true);
+            }
+        }
+    }
+
+    private static final class PendingStatement {
+        private final String sql;
+        private final String preparedQuery;
+        private int updateCount;
+
+        private PendingStatement(String sql, String preparedQuery) {
+            this.sql = sql;
+            this.preparedQuery = preparedQuery;
+        }
+    }
+}
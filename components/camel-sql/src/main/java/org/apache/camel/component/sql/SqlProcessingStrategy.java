@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.sql;
 
+import java.util.List;
+
 import org.apache.camel.Exchange;
 import org.springframework.jdbc.core.JdbcTemplate;
 
@@ -38,6 +40,31 @@ public interface SqlProcessingStrategy {
     int commit(DefaultSqlEndpoint endpoint, Exchange exchange, Object data, JdbcTemplate jdbcTemplate, String query)
             throws Exception;
 
+    /**
+     * Commit callback if there are a query to be run after processing, for a number of rows at once.
+     * <p/>
+     * The default implementation calls {@link #commit(DefaultSqlEndpoint, Exchange, Object, JdbcTemplate, String)} for
+     * each row.
+     *
+     * @param  endpoint     the endpoint
+     * @param  exchanges    The exchanges after they have been processed
+     * @param  data         The original data delivered to the route, for each of the exchanges
+     * @param  jdbcTemplate The JDBC template
+     * @param  query        The SQL query to execute
+     * @return              the update count of each of the rows, in the same order as the exchanges
+     * @throws Exception    can be thrown in case of error
+     */
+    default int[] commitBatch(
+            DefaultSqlEndpoint endpoint, List<Exchange> exchanges, List<Object> data, JdbcTemplate jdbcTemplate,
+            String query)
+            throws Exception {
+        int[] answer = new int[exchanges.size()];
+        for (int i = 0; i < answer.length; i++) {
+            answer[i] = commit(endpoint, exchanges.get(i), data.get(i), jdbcTemplate, query);
+        }
+        return answer;
+    }
+
     /**
      * Commit callback when the batch is complete. This allows you to do one extra query after all rows has been
      * processed in the batch.
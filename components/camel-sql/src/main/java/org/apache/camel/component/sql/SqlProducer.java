@@ -25,21 +25,24 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
-import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.ResourceHelper;
+import org.apache.camel.support.service.ServiceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import static org.springframework.jdbc.support.JdbcUtils.closeConnection;
 import static org.springframework.jdbc.support.JdbcUtils.closeResultSet;
 import static org.springframework.jdbc.support.JdbcUtils.closeStatement;
 
-public class SqlProducer extends DefaultProducer {
+public class SqlProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(SqlProducer.class);
 
@@ -53,6 +56,7 @@ public class SqlProducer extends DefaultProducer {
     private final SqlPrepareStatementStrategy sqlPrepareStatementStrategy;
     private final boolean useMessageBodyForSql;
     private int parametersCount;
+    private SqlMicroBatcher microBatcher;
 
     public SqlProducer(SqlEndpoint endpoint, String query, JdbcTemplate jdbcTemplate,
                        SqlPrepareStatementStrategy sqlPrepareStatementStrategy,
@@ -89,17 +93,80 @@ public class SqlProducer extends DefaultProducer {
             String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
             resolvedQuery = SqlHelper.resolveQuery(getEndpoint().getCamelContext(), query, placeholder);
         }
+
+        if (getEndpoint().getMicroBatchSize() > 1 && !batch) {
+            microBatcher = new SqlMicroBatcher(
+                    this, jdbcTemplate, getEndpoint().getMicroBatchSize(), getEndpoint().getMicroBatchTimeout());
+            ServiceHelper.startService(microBatcher);
+        }
     }
 
     @Override
-    public void process(final Exchange exchange) throws Exception {
-        final String sql;
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        // executes the pending micro batch before stopping
+        ServiceHelper.stopService(microBatcher);
+        microBatcher = null;
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        try {
+            if (microBatcher != null && isMicroBatchable(exchange)) {
+                String sql = resolveSql(exchange);
+                if (isUpdateStatement(sql)) {
+                    String preparedQuery
+                            = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
+                    return microBatcher.add(exchange, sql, preparedQuery, callback);
+                }
+            }
+            process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    private boolean isMicroBatchable(Exchange exchange) {
+        // the micro batch is committed on its own, so it cannot be part of a transaction
+        return !exchange.isTransacted()
+                && !TransactionSynchronizationManager.isActualTransactionActive()
+                && getEndpoint().getOutputType() != SqlOutputType.StreamList
+                && !exchange.getIn().getHeader(SqlConstants.SQL_RETRIEVE_GENERATED_KEYS, false, Boolean.class);
+    }
+
+    /**
+     * Whether the statement is an update statement, which does not return a result set and can be executed in a JDBC
+     * batch. Queries, stored procedures and other statements are executed on their own.
+     */
+    private static boolean isUpdateStatement(String sql) {
+        if (sql == null) {
+            return false;
+        }
+        String trimmed = sql.trim();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        String keyword = trimmed.substring(0, end);
+        return "insert".equalsIgnoreCase(keyword) || "update".equalsIgnoreCase(keyword)
+                || "delete".equalsIgnoreCase(keyword) || "merge".equalsIgnoreCase(keyword);
+    }
+
+    private String resolveSql(Exchange exchange) {
         if (useMessageBodyForSql) {
-            sql = exchange.getIn().getBody(String.class);
+            return exchange.getIn().getBody(String.class);
         } else {
             String queryHeader = exchange.getIn().getHeader(SqlConstants.SQL_QUERY, String.class);
-            sql = queryHeader != null ? queryHeader : resolvedQuery;
+            return queryHeader != null ? queryHeader : resolvedQuery;
         }
+    }
+
+    @Override
+    public void process(final Exchange exchange) throws Exception {
+        final String sql = resolveSql(exchange);
         final String preparedQuery
                 = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
 
@@ -245,8 +312,15 @@ public class SqlProducer extends DefaultProducer {
 
     private void populateStatement(PreparedStatement ps, Exchange exchange, String sql, String preparedQuery)
             throws SQLException {
-        int expected = parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
+        populateStatement(ps, exchange, sql, preparedQuery, getExpectedParametersCount(ps));
+    }
 
+    int getExpectedParametersCount(PreparedStatement ps) throws SQLException {
+        return parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
+    }
+
+    void populateStatement(PreparedStatement ps, Exchange exchange, String sql, String preparedQuery, int expected)
+            throws SQLException {
         // only populate if really needed
         if (alwaysPopulateStatement || expected > 0) {
             // transfer incoming message body data to prepared statement parameters, if necessary
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.Map;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SqlConsumerOnConsumeBatchBreakTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("sql/createAndPopulateDatabase.sql").build();
+
+        jdbcTemplate = new JdbcTemplate(db);
+
+        super.setUp();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (db != null) {
+            db.shutdown();
+        }
+    }
+
+    @Test
+    public void testOnConsumeFailedExecutedWhenOnConsumeBatchFails() throws Exception {
+        // the on consume batch fails, but the on consume failed batch must still be executed
+        await().untilAsserted(() -> assertEquals(Integer.valueOf(1),
+                jdbcTemplate.queryForObject("select count(*) from projects where license = 'BAD'", Integer.class)));
+
+        assertEquals("AMQ", jdbcTemplate.queryForObject("select PROJECT from projects where license = 'BAD'", String.class));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("sql:select * from projects where license <> 'BAD' order by id"
+                     + "?initialDelay=0&delay=50&onConsumeBatchSize=10&expectedUpdateCount=1&breakBatchOnConsumeFail=true"
+                     + "&consumer.onConsume=update projects set license = 'DONE' where id = :#id and 1 = 0"
+                     + "&consumer.onConsumeFailed=update projects set license = 'BAD' where id = :#id")
+                             .process(exchange -> {
+                                 Object project = exchange.getIn().getBody(Map.class).get("PROJECT");
+                                 if ("AMQ".equals(project)) {
+                                     throw new IllegalArgumentException("Cannot handled AMQ");
+                                 }
+                             });
+            }
+        };
+    }
+}
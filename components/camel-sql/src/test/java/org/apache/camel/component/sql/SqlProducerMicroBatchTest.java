@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SqlProducerMicroBatchTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+
+    @Test
+    public void testMicroBatchInsert() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(20);
+        mock.allMessages().header(SqlConstants.SQL_UPDATE_COUNT).isEqualTo(1);
+
+        List<CompletableFuture<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(template.asyncRequestBody("direct:insert", new Object[] { 100 + i, "Project" + i, "ASF" }));
+        }
+        for (CompletableFuture<Object> future : futures) {
+            future.get();
+        }
+
+        assertMockEndpointsSatisfied();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(db);
+        assertEquals(20, jdbcTemplate.queryForObject("select count(*) from projects where id >= 100", Integer.class));
+    }
+
+    @Test
+    public void testMicroBatchTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.allMessages().header(SqlConstants.SQL_UPDATE_COUNT).isEqualTo(1);
+
+        // a single statement is executed when the timeout has elapsed
+        template.requestBody("direct:insert", new Object[] { 200, "Single", "ASF" });
+
+        assertMockEndpointsSatisfied();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(db);
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from projects where id = 200", Integer.class));
+    }
+
+    @Test
+    public void testMicroBatchRollback() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(0);
+
+        // the duplicate primary key fails the batch, and no rows are inserted
+        List<CompletableFuture<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Object[] body = { 300 + (i % 3), "Project" + i, "ASF" };
+            futures.add(template.asyncSend("direct:insert", e -> e.getIn().setBody(body)));
+        }
+        for (CompletableFuture<Exchange> future : futures) {
+            Exchange out = future.get();
+            assertNotNull(out.getException());
+            assertTrue(out.isFailed());
+        }
+
+        assertMockEndpointsSatisfied();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(db);
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from projects where id >= 300", Integer.class));
+    }
+
+    @Test
+    public void testSelectNotMicroBatched() throws Exception {
+        // the query is executed on its own, without waiting for the micro batch timeout
+        List<?> rows = template.requestBody("direct:select", 1, List.class);
+        assertEquals(1, rows.size());
+    }
+
+    @Test
+    public void testTransactedNotMicroBatched() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.allMessages().header(SqlConstants.SQL_UPDATE_COUNT).isEqualTo(1);
+
+        // the statement is executed in the transaction, without waiting for the micro batch timeout
+        template.requestBody("direct:transacted", new Object[] { 400, "Transacted", "ASF" });
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("sql/createAndPopulateDatabase.sql").build();
+
+        super.setUp();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (db != null) {
+            db.shutdown();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("direct:insert")
+                        .to("sql:insert into projects (id, project, license) values (#, #, #)?microBatchSize=4&microBatchTimeout=200")
+                        .to("mock:result");
+
+                from("direct:select")
+                        .to("sql:select * from projects where id = #?microBatchSize=4&microBatchTimeout=60000");
+
+                from("direct:transacted")
+                        .process(exchange -> exchange.adapt(ExtendedExchange.class).setTransacted(true))
+                        .to("sql:insert into projects (id, project, license) values (#, #, #)?microBatchSize=4&microBatchTimeout=60000")
+                        .to("mock:result");
+            }
+        };
+    }
+}
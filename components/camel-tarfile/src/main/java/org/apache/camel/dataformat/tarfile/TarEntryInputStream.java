@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.tarfile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.util.IOHelper;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarFile;
+
+/**
+ * The body of a message from {@link TarFileIterator} which opens the content of the tar entry when it is first read.
+ * <p/>
+ * The entry streams of a {@link TarFile} share the same file channel, so the reads are synchronized on the tar file to
+ * allow the entries to be read in parallel. The entry can be read again from the tar file, so this is a
+ * {@link StreamCache} which is not spooled to memory or disk by stream caching.
+ */
+class TarEntryInputStream extends InputStream implements StreamCache {
+
+    private final TarFile tarFile;
+    private final TarArchiveEntry entry;
+    private InputStream in;
+
+    TarEntryInputStream(TarFile tarFile, TarArchiveEntry entry) {
+        this.tarFile = tarFile;
+        this.entry = entry;
+    }
+
+    private InputStream getInputStream() throws IOException {
+        if (in == null) {
+            in = tarFile.getInputStream(entry);
+        }
+        return in;
+    }
+
+    @Override
+    public int read() throws IOException {
+        synchronized (tarFile) {
+            return getInputStream().read();
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        synchronized (tarFile) {
+            return getInputStream().read(b, off, len);
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        synchronized (tarFile) {
+            return getInputStream().skip(n);
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        return getInputStream().available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOHelper.close(in);
+        in = null;
+    }
+
+    @Override
+    public void reset() {
+        // the entry is opened again on the next read
+        IOHelper.close(in);
+        in = null;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        TarEntryInputStream is = new TarEntryInputStream(tarFile, entry);
+        try {
+            IOHelper.copy(is, os);
+        } finally {
+            IOHelper.close(is);
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        return new TarEntryInputStream(tarFile, entry);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return false;
+    }
+
+    @Override
+    public long length() {
+        return entry.getRealSize();
+    }
+}
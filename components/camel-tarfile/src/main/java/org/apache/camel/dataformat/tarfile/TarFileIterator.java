@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.tarfile;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.Message;
+import org.apache.camel.support.DefaultMessage;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.util.IOHelper;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The Iterator which goes through the entries of a {@link TarFile}. The headers of the tar file are read once, and the
+ * content of each entry is only read when the body of its message is read.
+ * <p/>
+ * As the splitter may still be processing entries in parallel when this iterator is exhausted, the tar file is not
+ * closed by the iterator but when the exchange being split is done.
+ */
+public class TarFileIterator implements Iterator<Message>, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TarFileIterator.class);
+
+    private final Exchange exchange;
+    private final TarFile tarFile;
+    private final Iterator<TarArchiveEntry> entries;
+    private boolean allowEmptyDirectory;
+    private TarArchiveEntry current;
+
+    public TarFileIterator(Exchange exchange, File file) {
+        this.exchange = exchange;
+        try {
+            this.tarFile = new TarFile(file);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to untar the file, it may be corrupted.", e);
+        }
+        this.entries = tarFile.getEntries().iterator();
+        exchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
+            @Override
+            public void onDone(Exchange exchange) {
+                LOGGER.trace("Closing tarFile {}", file);
+                IOHelper.close(tarFile);
+            }
+
+            @Override
+            public String toString() {
+                return "TarFileOnCompletion[" + file + "]";
+            }
+        });
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (current == null) {
+            current = getNextEntry();
+        }
+        return current != null;
+    }
+
+    @Override
+    public Message next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        TarArchiveEntry entry = current;
+        current = null;
+
+        LOGGER.debug("Reading tarEntry {}", entry.getName());
+        Message answer = new DefaultMessage(exchange.getContext());
+        answer.getHeaders().putAll(exchange.getIn().getHeaders());
+        answer.setHeader(TarIterator.TARFILE_ENTRY_NAME_HEADER, entry.getName());
+        answer.setHeader(Exchange.FILE_NAME, entry.getName());
+        answer.setBody(new TarEntryInputStream(tarFile, entry));
+        return answer;
+    }
+
+    private TarArchiveEntry getNextEntry() {
+        while (entries.hasNext()) {
+            TarArchiveEntry entry = entries.next();
+            if (!entry.isDirectory() || allowEmptyDirectory) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // the entries may still be in use, the tar file is closed when the exchange is done
+    }
+
+    public boolean isAllowEmptyDirectory() {
+        return allowEmptyDirectory;
+    }
+
+    public void setAllowEmptyDirectory(boolean allowEmptyDirectory) {
+        this.allowEmptyDirectory = allowEmptyDirectory;
+    }
+}
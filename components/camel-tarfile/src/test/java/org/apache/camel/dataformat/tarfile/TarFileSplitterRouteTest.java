@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.tarfile;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+public class TarFileSplitterRouteTest extends CamelTestSupport {
+
+    @Test
+    public void testSplitterParallel() throws Exception {
+        MockEndpoint processTarEntry = getMockEndpoint("mock:processTarEntry");
+        processTarEntry.expectedBodiesReceivedInAnyOrder("chau", "hi", "hola", "hello", "greetings");
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitterNotFileBody() throws Exception {
+        MockEndpoint processTarEntry = getMockEndpoint("mock:processBytesEntry");
+        processTarEntry.expectedBodiesReceivedInAnyOrder("chau", "hi", "hola", "hello", "greetings");
+
+        byte[] data = Files.readAllBytes(new File("src/test/resources/org/apache/camel/dataformat/tarfile/data/tarfile.tar")
+                .toPath());
+        template.sendBody("direct:start", data);
+
+        processTarEntry.assertIsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                context.setStreamCaching(true);
+
+                from("file:src/test/resources/org/apache/camel/dataformat/tarfile/data?delay=1000&noop=true")
+                        .split(new TarFileSplitter()).streaming().parallelProcessing()
+                        .to("direct:entry")
+                        .end();
+
+                // the body is not backed by a file so the entries are streamed
+                from("direct:start")
+                        .split(new TarFileSplitter()).streaming()
+                        .convertBodyTo(String.class)
+                        .to("mock:processBytesEntry")
+                        .end();
+
+                from("direct:entry")
+                        // the log reads the entry, which is read again by the conversion
+                        .to("log:entry?showStreams=true")
+                        .convertBodyTo(String.class)
+                        .to("mock:processTarEntry");
+            }
+        };
+    }
+
+}
@@ -43,6 +43,8 @@ public final class VertxBufferConverterLoader implements TypeConverterLoader, Ca
     private void registerConverters(TypeConverterRegistry registry) {
         addTypeConverter(registry, byte[].class, io.vertx.core.buffer.Buffer.class, false,
             (type, exchange, value) -> org.apache.camel.component.vertx.common.VertxBufferConverter.toBytes((io.vertx.core.buffer.Buffer) value));
+        addTypeConverter(registry, io.netty.buffer.ByteBuf.class, io.vertx.core.buffer.Buffer.class, false,
+            (type, exchange, value) -> org.apache.camel.component.vertx.common.VertxBufferConverter.toByteBuf((io.vertx.core.buffer.Buffer) value));
         addTypeConverter(registry, io.vertx.core.buffer.Buffer.class, byte[].class, false,
             (type, exchange, value) -> org.apache.camel.component.vertx.common.VertxBufferConverter.toBuffer((byte[]) value));
         addTypeConverter(registry, io.vertx.core.buffer.Buffer.class, io.netty.buffer.ByteBuf.class, false,
@@ -51,10 +53,14 @@ public final class VertxBufferConverterLoader implements TypeConverterLoader, Ca
             (type, exchange, value) -> org.apache.camel.component.vertx.common.VertxBufferConverter.toBuffer((java.io.InputStream) value));
         addTypeConverter(registry, io.vertx.core.buffer.Buffer.class, java.lang.String.class, false,
             (type, exchange, value) -> org.apache.camel.component.vertx.common.VertxBufferConverter.toBuffer((java.lang.String) value, exchange));
+        addTypeConverter(registry, io.vertx.core.buffer.Buffer.class, java.nio.ByteBuffer.class, false,
+            (type, exchange, value) -> org.apache.camel.component.vertx.common.VertxBufferConverter.toBuffer((java.nio.ByteBuffer) value));
         addTypeConverter(registry, java.io.InputStream.class, io.vertx.core.buffer.Buffer.class, false,
             (type, exchange, value) -> org.apache.camel.component.vertx.common.VertxBufferConverter.toInputStream((io.vertx.core.buffer.Buffer) value));
         addTypeConverter(registry, java.lang.String.class, io.vertx.core.buffer.Buffer.class, false,
             (type, exchange, value) -> org.apache.camel.component.vertx.common.VertxBufferConverter.toString((io.vertx.core.buffer.Buffer) value, exchange));
+        addTypeConverter(registry, java.nio.ByteBuffer.class, io.vertx.core.buffer.Buffer.class, false,
+            (type, exchange, value) -> org.apache.camel.component.vertx.common.VertxBufferConverter.toByteBuffer((io.vertx.core.buffer.Buffer) value));
         addTypeConverter(registry, org.apache.camel.StreamCache.class, io.vertx.core.buffer.Buffer.class, false,
             (type, exchange, value) -> org.apache.camel.component.vertx.common.VertxBufferConverter.toStreamCache((io.vertx.core.buffer.Buffer) value));
     }
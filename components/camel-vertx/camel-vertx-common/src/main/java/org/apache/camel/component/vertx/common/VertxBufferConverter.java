@@ -20,8 +20,10 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
@@ -59,6 +61,12 @@ public final class VertxBufferConverter {
         return Buffer.buffer(byteBuf);
     }
 
+    @Converter
+    public static Buffer toBuffer(ByteBuffer byteBuffer) {
+        // use a slice so the position of the given buffer is not changed
+        return Buffer.buffer(byteBuffer.remaining()).setBytes(0, byteBuffer.slice());
+    }
+
     @Converter
     public static Buffer toBuffer(InputStream inputStream) throws IOException {
         try {
@@ -84,9 +92,22 @@ public final class VertxBufferConverter {
         return buffer.getBytes();
     }
 
+    @Converter
+    public static ByteBuf toByteBuf(Buffer buffer) {
+        // a view of the buffer content (no copy)
+        return buffer.getByteBuf();
+    }
+
+    @Converter
+    public static ByteBuffer toByteBuffer(Buffer buffer) {
+        // a view of the buffer content (no copy)
+        return buffer.getByteBuf().nioBuffer();
+    }
+
     @Converter
     public static InputStream toInputStream(Buffer buffer) {
-        return new ByteArrayInputStream(buffer.getBytes());
+        // read directly from the buffer content (no copy)
+        return new ByteBufInputStream(buffer.getByteBuf());
     }
 
     @Converter
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.zipfile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * The body of a message from {@link ZipFileIterator} which opens the content of the zip entry when it is first read.
+ * <p/>
+ * The entry can be read again from the zip file, so this is a {@link StreamCache} which is not spooled to memory or
+ * disk by stream caching.
+ */
+class ZipEntryInputStream extends InputStream implements StreamCache {
+
+    private final ZipFile zipFile;
+    private final ZipEntry entry;
+    private InputStream in;
+
+    ZipEntryInputStream(ZipFile zipFile, ZipEntry entry) {
+        this.zipFile = zipFile;
+        this.entry = entry;
+    }
+
+    private InputStream getInputStream() throws IOException {
+        if (in == null) {
+            in = zipFile.getInputStream(entry);
+        }
+        return in;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return getInputStream().read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        return getInputStream().read(b, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        return getInputStream().skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return getInputStream().available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOHelper.close(in);
+        in = null;
+    }
+
+    @Override
+    public void reset() {
+        // the entry is opened again on the next read
+        IOHelper.close(in);
+        in = null;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        try (InputStream is = zipFile.getInputStream(entry)) {
+            IOHelper.copy(is, os);
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        return new ZipEntryInputStream(zipFile, entry);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return false;
+    }
+
+    @Override
+    public long length() {
+        return Math.max(entry.getSize(), 0);
+    }
+}
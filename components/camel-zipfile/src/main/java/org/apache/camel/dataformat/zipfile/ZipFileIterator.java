@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.zipfile;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.Message;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.support.DefaultMessage;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The Iterator which goes through the entries of a {@link ZipFile}. The central directory of the zip file is read once,
+ * and the content of each entry is only read when the body of its message is read.
+ * <p/>
+ * As the splitter may still be processing entries in parallel when this iterator is exhausted, the zip file is not
+ * closed by the iterator but when the exchange being split is done.
+ */
+public class ZipFileIterator implements Iterator<Message>, Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(ZipFileIterator.class);
+
+    private final Exchange exchange;
+    private final ZipFile zipFile;
+    private final Enumeration<? extends ZipEntry> entries;
+    private boolean allowEmptyDirectory;
+    private ZipEntry current;
+
+    public ZipFileIterator(Exchange exchange, File file) {
+        this.exchange = exchange;
+        try {
+            this.zipFile = new ZipFile(file);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to unzip the file, it may be corrupted.", e);
+        }
+        this.entries = zipFile.entries();
+        exchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
+            @Override
+            public void onDone(Exchange exchange) {
+                LOG.trace("Closing zipFile {}", zipFile.getName());
+                IOHelper.close(zipFile);
+            }
+
+            @Override
+            public String toString() {
+                return "ZipFileOnCompletion[" + zipFile.getName() + "]";
+            }
+        });
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (current == null) {
+            current = getNextEntry();
+        }
+        return current != null;
+    }
+
+    @Override
+    public Message next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ZipEntry entry = current;
+        current = null;
+
+        LOG.debug("read zipEntry {}", entry.getName());
+        Message answer = new DefaultMessage(exchange.getContext());
+        answer.getHeaders().putAll(exchange.getIn().getHeaders());
+        answer.setHeader("zipFileName", entry.getName());
+        answer.setHeader(Exchange.FILE_NAME, entry.getName());
+        answer.setBody(new ZipEntryInputStream(zipFile, entry));
+        return answer;
+    }
+
+    private ZipEntry getNextEntry() {
+        try {
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (!entry.isDirectory() || allowEmptyDirectory) {
+                    return entry;
+                }
+            }
+            return null;
+        } catch (IllegalStateException e) {
+            // the zip file has been closed
+            throw new RuntimeCamelException(e);
+        }
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // the entries may still be in use, the zip file is closed when the exchange is done
+    }
+
+    public boolean isAllowEmptyDirectory() {
+        return allowEmptyDirectory;
+    }
+
+    public void setAllowEmptyDirectory(boolean allowEmptyDirectory) {
+        this.allowEmptyDirectory = allowEmptyDirectory;
+    }
+}
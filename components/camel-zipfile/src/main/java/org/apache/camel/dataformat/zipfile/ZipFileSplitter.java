@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.zipfile;
+
+import java.io.File;
+import java.io.InputStream;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Message;
+
+/**
+ * ZipFileSplitter the expression builder which can be used after the splitter for file based message bodies, such as
+ * from the file or ftp consumers. Unlike {@link ZipSplitter} the zip file is opened with random access, which reads
+ * the central directory once and opens each entry lazily when its message body is read. This allows the entries to be
+ * processed in parallel by the splitter, and the entry bodies can be re-read without being buffered by stream
+ * caching.
+ * <p/>
+ * If the message body is not backed by a file then this splitter falls back to use {@link ZipIterator}.
+ */
+public class ZipFileSplitter implements Expression {
+
+    private boolean allowEmptyDirectory;
+
+    public ZipFileSplitter() {
+    }
+
+    public Object evaluate(Exchange exchange) {
+        Message inputMessage = exchange.getIn();
+        File file = inputMessage.getBody(File.class);
+        if (file != null && file.isFile()) {
+            ZipFileIterator answer = new ZipFileIterator(exchange, file);
+            answer.setAllowEmptyDirectory(allowEmptyDirectory);
+            return answer;
+        }
+        InputStream inputStream = inputMessage.getBody(InputStream.class);
+        ZipIterator answer = new ZipIterator(exchange, inputStream);
+        answer.setAllowEmptyDirectory(allowEmptyDirectory);
+        return answer;
+    }
+
+    @Override
+    public <T> T evaluate(Exchange exchange, Class<T> type) {
+        Object result = evaluate(exchange);
+        return exchange.getContext().getTypeConverter().convertTo(type, exchange, result);
+    }
+
+    public boolean isAllowEmptyDirectory() {
+        return allowEmptyDirectory;
+    }
+
+    /**
+     * Whether directory entries should be included as (empty) messages.
+     */
+    public void setAllowEmptyDirectory(boolean allowEmptyDirectory) {
+        this.allowEmptyDirectory = allowEmptyDirectory;
+    }
+}
@@ -17,13 +17,16 @@
 package org.apache.camel.spi;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.CamelContextAware;
+import org.apache.camel.Endpoint;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.Route;
 import org.apache.camel.ServiceStatus;
 import org.apache.camel.StaticService;
+import org.apache.camel.util.function.ThrowingRunnable;
 
 /**
  * Controller for managing the lifecycle of all the {@link Route}'s.
@@ -69,6 +72,77 @@ public interface RouteController extends CamelContextAware, StaticService {
      */
     Collection<Route> getControlledRoutes();
 
+    /**
+     * Pattern for filtering routes which should be lazily created and started on first use.
+     *
+     * Only routes consuming from direct or seda endpoints can be lazy started. Such routes are not created when Camel
+     * starts up, instead they are created and started when the first message is sent to the endpoint they consume
+     * from, or when they are started explicitly.
+     *
+     * The pattern is matching on route id, and endpoint uri for the route. Multiple patterns can be separated by comma.
+     * For example to lazy start all direct routes, you can say <tt>direct:*</tt>. The pattern supports wildcards and
+     * uses the matcher from org.apache.camel.support.PatternHelper#matchPattern.
+     *
+     * This is not supported by default, which means no routes are lazy started.
+     */
+    default String getLazyStartRoutes() {
+        return null;
+    }
+
+    /**
+     * Pattern for filtering routes which should be lazily created and started on first use.
+     *
+     * @see #getLazyStartRoutes()
+     */
+    default void setLazyStartRoutes(String lazyStartRoutes) {
+        // noop
+    }
+
+    /**
+     * Defers creating and starting the given route until the first message is sent to the endpoint the route consumes
+     * from, if the route is matched by {@link #getLazyStartRoutes()}.
+     *
+     * @param  routeId  the route id
+     * @param  endpoint the endpoint the route consumes from
+     * @param  task     the task that creates the route and adds it as a stopped route
+     * @return          <tt>true</tt> if the route is deferred and pending lazy start, <tt>false</tt> if the route should
+     *                  be created and started as usual
+     */
+    default boolean deferRouteStartup(String routeId, Endpoint endpoint, ThrowingRunnable<Exception> task) {
+        return false;
+    }
+
+    /**
+     * Creates and starts the pending lazy route which consumes from the given endpoint (if any).
+     *
+     * @param  endpoint  the endpoint a message is being sent to
+     * @return           <tt>true</tt> if a pending lazy route was started, <tt>false</tt> if there was no pending lazy
+     *                   route for the endpoint
+     * @throws Exception is thrown if the route could not be created or started for whatever reason
+     */
+    default boolean startLazyRoute(Endpoint endpoint) throws Exception {
+        return false;
+    }
+
+    /**
+     * Removes the given route if it is pending lazy start, which means the route is never created.
+     *
+     * @param  routeId the route id
+     * @return         <tt>true</tt> if the route was pending lazy start and has been removed, <tt>false</tt> otherwise
+     */
+    default boolean removeLazyRoute(String routeId) {
+        return false;
+    }
+
+    /**
+     * Return the ids of the routes which are pending lazy start.
+     *
+     * @return the ids of the pending lazy routes
+     */
+    default Collection<String> getLazyRoutes() {
+        return Collections.emptyList();
+    }
+
     /**
      * Starts all the routes which currently is not started.
      *
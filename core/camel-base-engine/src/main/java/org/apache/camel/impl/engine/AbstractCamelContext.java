@@ -1395,6 +1395,12 @@ public abstract class AbstractCamelContext extends BaseService
     protected synchronized boolean removeRoute(String routeId, LoggingLevel loggingLevel) throws Exception {
         DefaultRouteError.reset(this, routeId);
 
+        // a route pending lazy start is not yet created, so there is nothing to shutdown
+        if (!routeServices.containsKey(routeId) && getRouteController().removeLazyRoute(routeId)) {
+            LOG.debug("Removed route: {} which was pending lazy start", routeId);
+            return true;
+        }
+
         // gather a map of all the endpoints in use by the routes, so we can
         // known if a given endpoints is in use
         // by one or more routes, when we remove the route
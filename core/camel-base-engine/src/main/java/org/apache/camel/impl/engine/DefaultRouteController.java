@@ -16,11 +16,16 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.NonManagedService;
@@ -28,7 +33,12 @@ import org.apache.camel.Route;
 import org.apache.camel.ServiceStatus;
 import org.apache.camel.spi.RouteController;
 import org.apache.camel.spi.SupervisingRouteController;
+import org.apache.camel.support.EndpointHelper;
+import org.apache.camel.support.PatternHelper;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.function.ThrowingRunnable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A default {@link RouteController} that starts the routes in a fail-fast mode, which means if any of the routes fail
@@ -40,10 +50,17 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
 
     // mark this as non managed service as its registered specially as a route controller
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultRouteController.class);
+
+    // pending lazy routes by the base uri of the endpoint they consume from
+    private final Map<String, LazyRoute> lazyRoutes = new ConcurrentHashMap<>();
+
     private ExtendedCamelContext camelContext;
 
     private LoggingLevel loggingLevel = LoggingLevel.DEBUG;
 
+    private String lazyStartRoutes;
+
     public DefaultRouteController() {
         this(null);
     }
@@ -76,6 +93,16 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
         this.loggingLevel = loggingLevel;
     }
 
+    @Override
+    public String getLazyStartRoutes() {
+        return lazyStartRoutes;
+    }
+
+    @Override
+    public void setLazyStartRoutes(String lazyStartRoutes) {
+        this.lazyStartRoutes = lazyStartRoutes;
+    }
+
     @Override
     public boolean isSupervising() {
         return this instanceof SupervisingRouteController;
@@ -111,41 +138,57 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
 
     @Override
     public ServiceStatus getRouteStatus(String routeId) {
-        return getInternalRouteController().getRouteStatus(routeId);
+        ServiceStatus answer = getInternalRouteController().getRouteStatus(routeId);
+        if (answer == null && findLazyRoute(routeId) != null) {
+            // the route is not yet created
+            answer = ServiceStatus.Stopped;
+        }
+        return answer;
     }
 
     @Override
     public void startRoute(String routeId) throws Exception {
-        getInternalRouteController().startRoute(routeId);
+        LazyRoute lazy = findLazyRoute(routeId);
+        if (lazy != null) {
+            startLazyRoute(lazy);
+        } else {
+            getInternalRouteController().startRoute(routeId);
+        }
     }
 
     @Override
     public void stopRoute(String routeId) throws Exception {
+        createLazyRoute(routeId);
         getInternalRouteController().stopRoute(routeId);
     }
 
     @Override
     public void stopRoute(String routeId, Throwable cause) throws Exception {
+        createLazyRoute(routeId);
         getInternalRouteController().stopRoute(routeId, cause);
     }
 
     @Override
     public void stopRoute(String routeId, long timeout, TimeUnit timeUnit) throws Exception {
+        createLazyRoute(routeId);
         getInternalRouteController().stopRoute(routeId, timeout, timeUnit);
     }
 
     @Override
     public boolean stopRoute(String routeId, long timeout, TimeUnit timeUnit, boolean abortAfterTimeout) throws Exception {
+        createLazyRoute(routeId);
         return getInternalRouteController().stopRoute(routeId, timeout, timeUnit, abortAfterTimeout);
     }
 
     @Override
     public void suspendRoute(String routeId) throws Exception {
+        createLazyRoute(routeId);
         getInternalRouteController().suspendRoute(routeId);
     }
 
     @Override
     public void suspendRoute(String routeId, long timeout, TimeUnit timeUnit) throws Exception {
+        createLazyRoute(routeId);
         getInternalRouteController().suspendRoute(routeId, timeout, timeUnit);
     }
 
@@ -154,6 +197,101 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
         getInternalRouteController().resumeRoute(routeId);
     }
 
+    // ***************************************************
+    // Lazy routes
+    // ***************************************************
+
+    @Override
+    public boolean deferRouteStartup(String routeId, Endpoint endpoint, ThrowingRunnable<Exception> task) {
+        if (lazyStartRoutes == null || endpoint == null) {
+            return false;
+        }
+        String key = endpoint.getEndpointBaseUri();
+        // only direct and seda endpoints can trigger starting the route on first use
+        if (!key.startsWith("direct:") && !key.startsWith("seda:")) {
+            return false;
+        }
+        boolean match = false;
+        for (String part : lazyStartRoutes.split(",")) {
+            // match the endpoint with and without scheme separators, such as direct:foo and direct://foo
+            match = PatternHelper.matchPattern(routeId, part) || EndpointHelper.matchEndpoint(camelContext, key, part);
+            if (match) {
+                break;
+            }
+        }
+        if (!match) {
+            return false;
+        }
+
+        if (lazyRoutes.putIfAbsent(key, new LazyRoute(routeId, key, task)) != null) {
+            // another route is already pending on the same endpoint, so start this route as usual
+            return false;
+        }
+        LOG.debug("Route: {} consuming from: {} is pending lazy start", routeId, key);
+        return true;
+    }
+
+    @Override
+    public boolean startLazyRoute(Endpoint endpoint) throws Exception {
+        if (lazyRoutes.isEmpty()) {
+            return false;
+        }
+        LazyRoute lazy = lazyRoutes.get(endpoint.getEndpointBaseUri());
+        if (lazy == null) {
+            return false;
+        }
+        startLazyRoute(lazy);
+        return true;
+    }
+
+    @Override
+    public boolean removeLazyRoute(String routeId) {
+        LazyRoute lazy = findLazyRoute(routeId);
+        return lazy != null && lazyRoutes.remove(lazy.key, lazy);
+    }
+
+    @Override
+    public Collection<String> getLazyRoutes() {
+        List<String> answer = new ArrayList<>(lazyRoutes.size());
+        for (LazyRoute lazy : lazyRoutes.values()) {
+            answer.add(lazy.routeId);
+        }
+        return answer;
+    }
+
+    private LazyRoute findLazyRoute(String routeId) {
+        if (!lazyRoutes.isEmpty()) {
+            for (LazyRoute lazy : lazyRoutes.values()) {
+                if (lazy.routeId.equals(routeId)) {
+                    return lazy;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void startLazyRoute(LazyRoute lazy) throws Exception {
+        lazy.start(getInternalRouteController());
+        lazyRoutes.remove(lazy.key, lazy);
+    }
+
+    /**
+     * Creates the route if it is pending lazy start, so it is added as a stopped route which is no longer started on
+     * first use.
+     */
+    private void createLazyRoute(String routeId) throws Exception {
+        LazyRoute lazy = findLazyRoute(routeId);
+        if (lazy != null) {
+            lazy.create();
+            lazyRoutes.remove(lazy.key, lazy);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        lazyRoutes.clear();
+    }
+
     // ***************************************************
     //
     // ***************************************************
@@ -180,4 +318,37 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
     public Collection<Route> getControlledRoutes() {
         return Collections.emptyList();
     }
+
+    private static final class LazyRoute {
+
+        private final String routeId;
+        private final String key;
+        private final ThrowingRunnable<Exception> task;
+        private boolean created;
+        private boolean started;
+
+        private LazyRoute(String routeId, String key, ThrowingRunnable<Exception> task) {
+            this.routeId = routeId;
+            this.key = key;
+            this.task = task;
+        }
+
+        synchronized void create() throws Exception {
+            if (!created) {
+                LOG.debug("Creating lazy route: {}", routeId);
+                task.run();
+                created = true;
+            }
+        }
+
+        synchronized void start(RouteController routeController) throws Exception {
+            // concurrent messages wait here until the first one has created and started the route
+            if (!started) {
+                create();
+                LOG.debug("Lazy starting route: {}", routeId);
+                routeController.startRoute(routeId);
+                started = true;
+            }
+        }
+    }
 }
@@ -232,6 +232,8 @@ public class DefaultSupervisingRouteController extends DefaultRouteController im
             executorService = null;
             timer = null;
         }
+
+        super.doStop();
     }
 
     // *********************************
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.apache.camel.util.PrehashedCaseInsensitiveMap;
+import org.apache.camel.util.PrehashedCaseInsensitiveMap.KnownKeys;
+
+/**
+ * {@link HeadersMapFactory} which uses the {@link PrehashedCaseInsensitiveMap}, which is a case insensitive hash map
+ * that has the case-folded hash of well-known header names computed upfront.
+ * <p/>
+ * The header name constants from {@link Exchange} are known by default, and the constants of components (such as their
+ * <tt>Constants</tt> classes) can be added with {@link #addKnownHeaders(Class[])}. The known headers must be added
+ * before the factory is in use, as maps that have already been created keep the known headers they were created with.
+ */
+public class PrehashedHeadersMapFactory implements HeadersMapFactory {
+
+    private final Set<String> names = new LinkedHashSet<>();
+    private volatile KnownKeys knownKeys;
+
+    public PrehashedHeadersMapFactory() {
+        addKnownHeaders(Exchange.class);
+    }
+
+    public PrehashedHeadersMapFactory(Class<?>... constantClasses) {
+        this();
+        addKnownHeaders(constantClasses);
+    }
+
+    /**
+     * Adds the values of the public static String constants of the given classes as known header names.
+     */
+    public synchronized void addKnownHeaders(Class<?>... constantClasses) {
+        for (Class<?> type : constantClasses) {
+            for (Field field : type.getFields()) {
+                int mod = field.getModifiers();
+                if (Modifier.isStatic(mod) && Modifier.isFinal(mod) && field.getType() == String.class) {
+                    try {
+                        Object value = field.get(null);
+                        if (value != null) {
+                            // use the interned value so the same instance as the constant is known
+                            names.add(((String) value).intern());
+                        }
+                    } catch (IllegalAccessException e) {
+                        // ignore
+                    }
+                }
+            }
+        }
+        knownKeys = new KnownKeys(names);
+    }
+
+    /**
+     * Adds the given known header names.
+     */
+    public synchronized void addKnownHeaders(String... headerNames) {
+        for (String name : headerNames) {
+            names.add(name.intern());
+        }
+        knownKeys = new KnownKeys(names);
+    }
+
+    /**
+     * The known header names
+     */
+    public synchronized Set<String> getKnownHeaders() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(names));
+    }
+
+    @Override
+    public Map<String, Object> newMap() {
+        return new PrehashedCaseInsensitiveMap(knownKeys);
+    }
+
+    @Override
+    public Map<String, Object> newMap(Map<String, Object> map) {
+        return new PrehashedCaseInsensitiveMap(knownKeys, map);
+    }
+
+    @Override
+    public boolean isInstanceOf(Map<String, Object> map) {
+        return map instanceof PrehashedCaseInsensitiveMap;
+    }
+
+    @Override
+    public boolean isCaseInsensitive() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "prehashed";
+    }
+}
@@ -26,6 +26,7 @@ import java.util.Set;
 import java.util.function.Function;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
 import org.apache.camel.Expression;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.FailedToStartRouteException;
@@ -77,12 +78,14 @@ import org.apache.camel.spi.ModelToXMLDumper;
 import org.apache.camel.spi.PackageScanClassResolver;
 import org.apache.camel.spi.PropertiesComponent;
 import org.apache.camel.spi.Registry;
+import org.apache.camel.spi.RouteController;
 import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.spi.Transformer;
 import org.apache.camel.spi.UuidGenerator;
 import org.apache.camel.spi.Validator;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.DefaultRegistry;
+import org.apache.camel.support.EndpointHelper;
 import org.apache.camel.support.LocalBeanRegistry;
 import org.apache.camel.support.SimpleUuidGenerator;
 import org.apache.camel.util.ObjectHelper;
@@ -850,20 +853,10 @@ public class DefaultCamelContext extends SimpleCamelContext implements ModelCame
                 }
                 // Check if the route is included
                 if (includedRoute(routeDefinition)) {
-                    // must ensure route is prepared, before we can start it
-                    if (!routeDefinition.isPrepared()) {
-                        RouteDefinitionHelper.prepareRoute(getCamelContextReference(), routeDefinition);
-                        routeDefinition.markPrepared();
+                    // lazy routes are created and started on first use
+                    if (!deferRouteStartup(routeDefinition)) {
+                        doStartRouteDefinition(routeDefinition, false);
                     }
-
-                    StartupStepRecorder recorder
-                            = getCamelContextReference().adapt(ExtendedCamelContext.class).getStartupStepRecorder();
-                    StartupStep step = recorder.beginStep(Route.class, routeDefinition.getRouteId(), "Create Route");
-                    Route route = model.getModelReifierFactory().createRoute(this, routeDefinition);
-                    recorder.endStep(step);
-
-                    RouteService routeService = new RouteService(route);
-                    startRouteService(routeService, true);
                 } else {
                     // Add the definition to the list of definitions to remove as the route is excluded
                     if (routeDefinitionsToRemove == null) {
@@ -893,6 +886,53 @@ public class DefaultCamelContext extends SimpleCamelContext implements ModelCame
         }
     }
 
+    private void doStartRouteDefinition(RouteDefinition routeDefinition, boolean lazy) throws Exception {
+        // must ensure route is prepared, before we can start it
+        if (!routeDefinition.isPrepared()) {
+            RouteDefinitionHelper.prepareRoute(getCamelContextReference(), routeDefinition);
+            routeDefinition.markPrepared();
+        }
+
+        StartupStepRecorder recorder
+                = getCamelContextReference().adapt(ExtendedCamelContext.class).getStartupStepRecorder();
+        StartupStep step = recorder.beginStep(Route.class, routeDefinition.getRouteId(), "Create Route");
+        Route route = model.getModelReifierFactory().createRoute(this, routeDefinition);
+        recorder.endStep(step);
+
+        if (lazy) {
+            // the route controller starts the lazy route when needed
+            route.setAutoStartup(false);
+        }
+
+        RouteService routeService = new RouteService(route);
+        startRouteService(routeService, true);
+    }
+
+    private boolean deferRouteStartup(RouteDefinition routeDefinition) throws Exception {
+        RouteController rc = getRouteController();
+        if (rc.getLazyStartRoutes() == null) {
+            return false;
+        }
+        // routes from templates needs their local parameters when created, and routes that should not
+        // be auto started must not be started on first use
+        if (routeDefinition.isTemplate() != null && routeDefinition.isTemplate()
+                || routeDefinition.getInput() == null
+                || Boolean.FALSE.equals(CamelContextHelper.parseBoolean(this, routeDefinition.getAutoStartup()))) {
+            return false;
+        }
+        String uri = routeDefinition.getInput().getEndpointUri();
+        if (uri == null) {
+            return false;
+        }
+        uri = EndpointHelper.resolveEndpointUriPropertyPlaceholders(this, uri);
+        if (!uri.startsWith("direct:") && !uri.startsWith("seda:")) {
+            return false;
+        }
+        Endpoint endpoint = getEndpoint(uri);
+        return rc.deferRouteStartup(routeDefinition.getRouteId(), endpoint,
+                () -> doStartRouteDefinition(routeDefinition, true));
+    }
+
     @Override
     protected ExecutorServiceManager createExecutorServiceManager() {
         return new DefaultExecutorServiceManager(this);
@@ -206,9 +206,11 @@ public class DefaultModel implements Model {
         RouteDefinition toBeRemoved = routeDefinition;
         String id = routeDefinition.getId();
         if (id != null) {
-            // remove existing route
-            camelContext.getRouteController().stopRoute(id);
-            camelContext.removeRoute(id);
+            // remove existing route (a route pending lazy start is not created so it does not need to be stopped)
+            if (!camelContext.getRouteController().removeLazyRoute(id)) {
+                camelContext.getRouteController().stopRoute(id);
+                camelContext.removeRoute(id);
+            }
             toBeRemoved = getRouteDefinition(id);
         }
         for (ModelLifecycleStrategy s : modelLifecycleStrategies) {
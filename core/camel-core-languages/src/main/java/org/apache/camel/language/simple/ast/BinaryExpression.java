@@ -88,57 +88,67 @@ public class BinaryExpression extends BaseSimpleNode {
         final Expression leftExp = left.createExpression(camelContext, expression);
         final Expression rightExp = right.createExpression(camelContext, expression);
 
+        // the predicate is created once, and evaluated directly when the expression is used as a predicate
+        return new SimplePredicateExpression(createPredicate(camelContext, expression, leftExp, rightExp), toString());
+    }
+
+    private Predicate createPredicate(
+            final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
         if (operator == BinaryOperatorType.EQ) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isEqualTo(leftExp, rightExp));
+            return PredicateBuilder.isEqualTo(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.EQ_IGNORE) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp));
+            return PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.GT) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isGreaterThan(leftExp, rightExp));
+            return PredicateBuilder.isGreaterThan(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.GTE) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.isGreaterThanOrEqualTo(leftExp, rightExp));
+            return PredicateBuilder.isGreaterThanOrEqualTo(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.LT) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isLessThan(leftExp, rightExp));
+            return PredicateBuilder.isLessThan(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.LTE) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isLessThanOrEqualTo(leftExp, rightExp));
+            return PredicateBuilder.isLessThanOrEqualTo(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_EQ) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isNotEqualTo(leftExp, rightExp));
+            return PredicateBuilder.isNotEqualTo(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_EQ_IGNORE) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.not(PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp)));
+            return PredicateBuilder.not(PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.CONTAINS) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.contains(leftExp, rightExp));
+            return PredicateBuilder.contains(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_CONTAINS) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.not(PredicateBuilder.contains(leftExp, rightExp)));
+            return PredicateBuilder.not(PredicateBuilder.contains(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.CONTAINS_IGNORECASE) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.containsIgnoreCase(leftExp, rightExp));
+            return PredicateBuilder.containsIgnoreCase(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_CONTAINS_IGNORECASE) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.not(PredicateBuilder.containsIgnoreCase(leftExp, rightExp)));
+            return PredicateBuilder.not(PredicateBuilder.containsIgnoreCase(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.IS || operator == BinaryOperatorType.NOT_IS) {
-            return createIsExpression(camelContext, expression, leftExp, rightExp);
+            return createIsPredicate(camelContext, expression, leftExp, rightExp);
         } else if (operator == BinaryOperatorType.REGEX || operator == BinaryOperatorType.NOT_REGEX) {
-            return createRegexExpression(camelContext, leftExp, rightExp);
+            return createRegexPredicate(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.IN || operator == BinaryOperatorType.NOT_IN) {
-            return createInExpression(camelContext, leftExp, rightExp);
+            return createInPredicate(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.RANGE || operator == BinaryOperatorType.NOT_RANGE) {
-            return createRangeExpression(camelContext, expression, leftExp, rightExp);
+            return createRangePredicate(expression, leftExp, rightExp);
         } else if (operator == BinaryOperatorType.STARTS_WITH) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.startsWith(leftExp, rightExp));
+            return PredicateBuilder.startsWith(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.ENDS_WITH) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.endsWith(leftExp, rightExp));
+            return PredicateBuilder.endsWith(leftExp, rightExp);
         }
 
         throw new SimpleParserException("Unknown binary operator " + operator, token.getIndex());
     }
 
-    private Expression createIsExpression(
+    private Predicate createIsPredicate(
             final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
+        // if the class name is a constant then resolve the class only once
+        String text = constantText(right);
+        if (text != null && !text.isEmpty() && !"null".equals(text)) {
+            Class<?> rightType = camelContext.getClassResolver().resolveClass(text);
+            if (rightType != null) {
+                return doCreateIsPredicate(leftExp, rightType);
+            }
+        }
+
+        return new Predicate() {
             @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate;
+            public boolean matches(Exchange exchange) {
                 String name = rightExp.evaluate(exchange, String.class);
                 if (name == null || "null".equals(name)) {
                     throw new SimpleIllegalSyntaxException(
@@ -151,125 +161,160 @@ public class BinaryExpression extends BaseSimpleNode {
                             expression, right.getToken().getIndex(),
                             operator + " operator cannot find class with name: " + name);
                 }
-
-                predicate = PredicateBuilder.isInstanceOf(leftExp, rightType);
-                if (operator == BinaryOperatorType.NOT_IS) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
-                boolean answer = predicate.matches(exchange);
-
-                return camelContext.getTypeConverter().convertTo(type, answer);
+                return doCreateIsPredicate(leftExp, rightType).matches(exchange);
             }
 
             @Override
             public String toString() {
-                return left + " " + token.getText() + " " + right;
+                return BinaryExpression.this.toString();
             }
         };
     }
 
-    private Expression createRegexExpression(
-            final CamelContext camelContext, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
+    private Predicate doCreateIsPredicate(Expression leftExp, Class<?> rightType) {
+        Predicate predicate = PredicateBuilder.isInstanceOf(leftExp, rightType);
+        if (operator == BinaryOperatorType.NOT_IS) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return predicate;
+    }
+
+    private Predicate createRegexPredicate(final Expression leftExp, final Expression rightExp) {
+        // if the pattern is a constant then compile the pattern only once
+        String text = constantText(right);
+        if (text != null) {
+            return doCreateRegexPredicate(leftExp, text);
+        }
+
+        return new Predicate() {
             @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
+            public boolean matches(Exchange exchange) {
                 // reg ex should use String pattern, so we evaluate the right hand side as a String
-                Predicate predicate = PredicateBuilder.regex(leftExp, rightExp.evaluate(exchange, String.class));
-                if (operator == BinaryOperatorType.NOT_REGEX) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
+                return doCreateRegexPredicate(leftExp, rightExp.evaluate(exchange, String.class)).matches(exchange);
             }
 
             @Override
             public String toString() {
-                return left + " " + token.getText() + " " + right;
+                return BinaryExpression.this.toString();
             }
         };
     }
 
-    private Expression createInExpression(
-            final CamelContext camelContext, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
+    private Predicate doCreateRegexPredicate(Expression leftExp, String regex) {
+        Predicate predicate = PredicateBuilder.regex(leftExp, regex);
+        if (operator == BinaryOperatorType.NOT_REGEX) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return predicate;
+    }
+
+    private Predicate createInPredicate(final Expression leftExp, final Expression rightExp) {
+        // if the values are constant then build the list of values only once
+        String text = constantText(right);
+        if (text != null) {
+            return doCreateInPredicate(leftExp, text);
+        }
+
+        return new Predicate() {
             @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                // okay the in operator is a bit more complex as we need to build a list of values
-                // from the right hand side expression.
-                // each element on the right hand side must be separated by comma (default for create iterator)
-                Iterator<?> it = ObjectHelper.createIterator(rightExp.evaluate(exchange, Object.class));
-                List<Object> values = new ArrayList<>();
-                while (it.hasNext()) {
-                    values.add(it.next());
-                }
-                // then reuse value builder to create the in predicate with the list of values
-                ValueBuilder vb = new ValueBuilder(leftExp);
-                Predicate predicate = vb.in(values.toArray());
-                if (operator == BinaryOperatorType.NOT_IN) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
+            public boolean matches(Exchange exchange) {
+                return doCreateInPredicate(leftExp, rightExp.evaluate(exchange, Object.class)).matches(exchange);
             }
 
             @Override
             public String toString() {
-                return left + " " + token.getText() + " " + right;
+                return BinaryExpression.this.toString();
             }
         };
     }
 
-    private Expression createRangeExpression(
-            final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate;
+    private Predicate doCreateInPredicate(Expression leftExp, Object value) {
+        // okay the in operator is a bit more complex as we need to build a list of values
+        // from the right hand side expression.
+        // each element on the right hand side must be separated by comma (default for create iterator)
+        Iterator<?> it = ObjectHelper.createIterator(value);
+        List<Object> values = new ArrayList<>();
+        while (it.hasNext()) {
+            values.add(it.next());
+        }
+        // then reuse value builder to create the in predicate with the list of values
+        ValueBuilder vb = new ValueBuilder(leftExp);
+        Predicate predicate = vb.in(values.toArray());
+        if (operator == BinaryOperatorType.NOT_IN) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return predicate;
+    }
 
-                String range = rightExp.evaluate(exchange, String.class);
-                Matcher matcher = RANGE_PATTERN.matcher(range);
-                if (matcher.matches()) {
-                    // wrap as constant expression for the from and to values
-                    Expression from = ExpressionBuilder.constantExpression(matcher.group(1));
-                    Expression to = ExpressionBuilder.constantExpression(matcher.group(3));
-
-                    // build a compound predicate for the range
-                    predicate = PredicateBuilder.isGreaterThanOrEqualTo(leftExp, from);
-                    predicate = PredicateBuilder.and(predicate, PredicateBuilder.isLessThanOrEqualTo(leftExp, to));
-                } else {
-                    throw new SimpleIllegalSyntaxException(
-                            expression, right.getToken().getIndex(),
-                            operator + " operator is not valid. Valid syntax:'from..to' (where from and to are numbers).");
-                }
-                if (operator == BinaryOperatorType.NOT_RANGE) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
+    private Predicate createRangePredicate(final String expression, final Expression leftExp, final Expression rightExp) {
+        // if the range is a constant then parse the range only once
+        String text = constantText(right);
+        if (text != null && RANGE_PATTERN.matcher(text).matches()) {
+            return doCreateRangePredicate(expression, leftExp, text);
+        }
 
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
+        return new Predicate() {
+            @Override
+            public boolean matches(Exchange exchange) {
+                String range = rightExp.evaluate(exchange, String.class);
+                return doCreateRangePredicate(expression, leftExp, range).matches(exchange);
             }
 
             @Override
             public String toString() {
-                return left + " " + token.getText() + " " + right;
+                return BinaryExpression.this.toString();
             }
         };
     }
 
-    private Expression createExpression(
-            final CamelContext camelContext, final Expression left, final Expression right, final Predicate predicate) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
-            }
+    private Predicate doCreateRangePredicate(String expression, Expression leftExp, String range) {
+        Predicate predicate;
+
+        Matcher matcher = RANGE_PATTERN.matcher(range);
+        if (matcher.matches()) {
+            // wrap as constant expression for the from and to values
+            Expression from = ExpressionBuilder.constantExpression(matcher.group(1));
+            Expression to = ExpressionBuilder.constantExpression(matcher.group(3));
+
+            // build a compound predicate for the range
+            predicate = PredicateBuilder.isGreaterThanOrEqualTo(leftExp, from);
+            predicate = PredicateBuilder.and(predicate, PredicateBuilder.isLessThanOrEqualTo(leftExp, to));
+        } else {
+            throw new SimpleIllegalSyntaxException(
+                    expression, right.getToken().getIndex(),
+                    operator + " operator is not valid. Valid syntax:'from..to' (where from and to are numbers).");
+        }
+        if (operator == BinaryOperatorType.NOT_RANGE) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return predicate;
+    }
 
-            @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
+    /**
+     * Returns the text of the node if the node is a constant literal (such as quoted text without any functions), or
+     * <tt>null</tt> if the node can only be evaluated at runtime.
+     */
+    private static String constantText(SimpleNode node) {
+        if (node.getClass() == LiteralExpression.class) {
+            return ((LiteralExpression) node).getText();
+        }
+        CompositeNodes block = null;
+        if (node instanceof SingleQuoteStart) {
+            block = ((SingleQuoteStart) node).getBlock();
+        } else if (node instanceof DoubleQuoteStart) {
+            block = ((DoubleQuoteStart) node).getBlock();
+        }
+        if (block == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (SimpleNode child : block.getChildren()) {
+            if (child.getClass() != LiteralExpression.class) {
+                return null;
             }
-        };
+            sb.append(((LiteralExpression) child).getText());
+        }
+        return sb.toString();
     }
 
     @Override
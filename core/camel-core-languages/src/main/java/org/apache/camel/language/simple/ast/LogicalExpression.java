@@ -17,7 +17,6 @@
 package org.apache.camel.language.simple.ast;
 
 import org.apache.camel.CamelContext;
-import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Predicate;
 import org.apache.camel.language.simple.types.LogicalOperatorType;
@@ -86,39 +85,17 @@ public class LogicalExpression extends BaseSimpleNode {
     }
 
     private Expression createAndExpression(final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
-                predicate = PredicateBuilder.and(predicate, ExpressionToPredicateAdapter.toPredicate(rightExp));
-
-                boolean answer = predicate.matches(exchange);
-                return exchange.getContext().getTypeConverter().convertTo(type, answer);
-            }
-
-            @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
-            }
-        };
+        // create the predicate once, instead of per exchange
+        Predicate predicate = PredicateBuilder.and(ExpressionToPredicateAdapter.toPredicate(leftExp),
+                ExpressionToPredicateAdapter.toPredicate(rightExp));
+        return new SimplePredicateExpression(predicate, toString());
     }
 
     private Expression createOrExpression(final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
-                predicate = PredicateBuilder.or(predicate, ExpressionToPredicateAdapter.toPredicate(rightExp));
-
-                boolean answer = predicate.matches(exchange);
-                return exchange.getContext().getTypeConverter().convertTo(type, answer);
-            }
-
-            @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
-            }
-        };
+        // create the predicate once, instead of per exchange
+        Predicate predicate = PredicateBuilder.or(ExpressionToPredicateAdapter.toPredicate(leftExp),
+                ExpressionToPredicateAdapter.toPredicate(rightExp));
+        return new SimplePredicateExpression(predicate, toString());
     }
 
     @Override
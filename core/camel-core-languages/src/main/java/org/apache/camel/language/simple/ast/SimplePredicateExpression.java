@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple.ast;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+
+/**
+ * An {@link Expression} which evaluates a {@link Predicate} that has been created once when the AST was turned into
+ * an expression.
+ * <p/>
+ * As this is also a {@link Predicate} then it can be evaluated directly as a predicate (such as in a content based
+ * router) without creating predicates per exchange or converting the boolean result.
+ */
+final class SimplePredicateExpression implements Expression, Predicate {
+
+    private final Predicate predicate;
+    private final String text;
+
+    SimplePredicateExpression(Predicate predicate, String text) {
+        this.predicate = predicate;
+        this.text = text;
+    }
+
+    @Override
+    public boolean matches(Exchange exchange) {
+        return predicate.matches(exchange);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T evaluate(Exchange exchange, Class<T> type) {
+        boolean answer = predicate.matches(exchange);
+        if (type == Object.class || type == Boolean.class || type == boolean.class) {
+            return (T) Boolean.valueOf(answer);
+        }
+        return exchange.getContext().getTypeConverter().convertTo(type, answer);
+    }
+
+    @Override
+    public void init(CamelContext context) {
+        // the nodes in the AST initialize their expressions when created
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlTransient;
 
 import org.apache.camel.AggregationStrategy;
+import org.apache.camel.spi.ClaimCheckRepository;
 import org.apache.camel.spi.Metadata;
 
 /**
@@ -36,6 +37,8 @@ public class ClaimCheckDefinition extends NoOutputDefinition<ClaimCheckDefinitio
 
     @XmlTransient
     private AggregationStrategy aggregationStrategyBean;
+    @XmlTransient
+    private ClaimCheckRepository repositoryBean;
 
     @XmlAttribute(required = true)
     @Metadata(enums = "Get,GetAndRemove,Set,Push,Pop", javaType = "org.apache.camel.model.ClaimCheckOperation")
@@ -50,6 +53,9 @@ public class ClaimCheckDefinition extends NoOutputDefinition<ClaimCheckDefinitio
     @XmlAttribute
     @Metadata(label = "advanced")
     private String aggregationStrategyMethodName;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "org.apache.camel.spi.ClaimCheckRepository")
+    private String repository;
 
     public ClaimCheckDefinition() {
     }
@@ -173,6 +179,30 @@ public class ClaimCheckDefinition extends NoOutputDefinition<ClaimCheckDefinitio
         return this;
     }
 
+    /**
+     * To use a custom {@link ClaimCheckRepository} for the keyed operations (Set, Get and GetAndRemove) instead of the
+     * default repository which is private per exchange. The custom repository is shared among exchanges, and the keys
+     * are scoped to the exchange by prefixing them with the exchange id, and are removed when the exchange is done. Sub
+     * exchanges, such as from the splitter, share the scope of their parent exchange. The Push and Pop operations
+     * always use the default repository.
+     */
+    public ClaimCheckDefinition repository(ClaimCheckRepository repository) {
+        this.repositoryBean = repository;
+        return this;
+    }
+
+    /**
+     * To use a custom {@link ClaimCheckRepository} for the keyed operations (Set, Get and GetAndRemove) instead of the
+     * default repository which is private per exchange. The custom repository is shared among exchanges, and the keys
+     * are scoped to the exchange by prefixing them with the exchange id, and are removed when the exchange is done. Sub
+     * exchanges, such as from the splitter, share the scope of their parent exchange. The Push and Pop operations
+     * always use the default repository.
+     */
+    public ClaimCheckDefinition repository(String repository) {
+        setRepository(repository);
+        return this;
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -180,6 +210,10 @@ public class ClaimCheckDefinition extends NoOutputDefinition<ClaimCheckDefinitio
         return aggregationStrategyBean;
     }
 
+    public ClaimCheckRepository getRepositoryBean() {
+        return repositoryBean;
+    }
+
     public String getKey() {
         return key;
     }
@@ -220,4 +254,12 @@ public class ClaimCheckDefinition extends NoOutputDefinition<ClaimCheckDefinitio
         this.aggregationStrategyMethodName = aggregationStrategyMethodName;
     }
 
+    public String getRepository() {
+        return repository;
+    }
+
+    public void setRepository(String repository) {
+        this.repository = repository;
+    }
+
 }
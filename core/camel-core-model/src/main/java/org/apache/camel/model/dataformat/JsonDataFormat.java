@@ -72,6 +72,9 @@ public class JsonDataFormat extends DataFormatDefinition implements ContentTypeH
     @Metadata(javaType = "java.lang.Boolean")
     private String useList;
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String usingIterator;
+    @XmlAttribute
     @Metadata(label = "advanced")
     private String moduleClassNames;
     @XmlAttribute
@@ -280,6 +283,19 @@ public class JsonDataFormat extends DataFormatDefinition implements ContentTypeH
         this.useList = useList;
     }
 
+    public String getUsingIterator() {
+        return usingIterator;
+    }
+
+    /**
+     * If enabled then unmarshalling returns an Iterator which reads the elements of a JSON array one at a time in
+     * streaming mode, instead of loading the entire array into memory. This is intended to be used together with the
+     * splitter in streaming mode.
+     */
+    public void setUsingIterator(String usingIterator) {
+        this.usingIterator = usingIterator;
+    }
+
     public String getModuleClassNames() {
         return moduleClassNames;
     }
@@ -538,6 +554,15 @@ public class JsonDataFormat extends DataFormatDefinition implements ContentTypeH
         return this;
     }
 
+    public JsonDataFormat usingIterator(boolean usingIterator) {
+        return usingIterator(Boolean.toString(usingIterator));
+    }
+
+    public JsonDataFormat usingIterator(String usingIterator) {
+        this.usingIterator = usingIterator;
+        return this;
+    }
+
     public JsonDataFormat moduleClassNames(String moduleClassNames) {
         this.moduleClassNames = moduleClassNames;
         return this;
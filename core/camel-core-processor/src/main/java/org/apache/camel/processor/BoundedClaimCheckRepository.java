@@ -0,0 +1,443 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.InputStreamCache;
+import org.apache.camel.spi.ClaimCheckRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A thread-safe {@link ClaimCheckRepository} which can be shared among exchanges, and which is bounded by the number
+ * of entries and the bytes of the message bodies held in memory.
+ * <p/>
+ * Entries can expire after a time to live, which is checked when they are accessed, and when new entries are added. If
+ * a spill directory is configured, then large message bodies (String, byte[] or stream cached bodies) are written to
+ * files in the directory, and read back when the entry is retrieved, to keep them off the heap. A spilled stream cached
+ * body is read back as an in-memory {@link StreamCache}.
+ * <p/>
+ * When the repository is configured on the Claim Check EIP, then it is used for the keyed operations (Set, Get and
+ * GetAndRemove), and as it is shared among exchanges, the EIP scopes the keys to the exchange by prefixing them with
+ * the exchange id.
+ */
+public class BoundedClaimCheckRepository extends ServiceSupport implements ClaimCheckRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BoundedClaimCheckRepository.class);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Deque<Exchange> stack = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong bytesInMemory = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+    private CamelContext camelContext;
+    private int maxEntries;
+    private long maxBytes;
+    private long timeToLive;
+    private long spillThreshold;
+    private String spillDirectory;
+    private volatile long lastPurge;
+
+    private enum BodyType {
+        BYTES,
+        TEXT,
+        STREAM_CACHE
+    }
+
+    private static final class Entry {
+        private final Exchange exchange;
+        private final long created;
+        private final long bytes;
+        private final Path file;
+        private final BodyType type;
+
+        private Entry(Exchange exchange, long bytes, Path file, BodyType type) {
+            this.exchange = exchange;
+            this.created = System.currentTimeMillis();
+            this.bytes = bytes;
+            this.file = file;
+            this.type = type;
+        }
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * The maximum number of entries in the repository. Adding more entries fails with an {@link IllegalStateException}.
+     * The default is 0 which is unbounded.
+     */
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * The maximum number of bytes of message bodies held in memory. When exceeded, the message bodies are spilled to
+     * the spill directory, or if none has been configured, then adding more entries fails with an
+     * {@link IllegalStateException}. The default is 0 which is unbounded.
+     */
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Time in millis an entry is kept in the repository before it expires. The default is 0 which never expires.
+     */
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public long getSpillThreshold() {
+        return spillThreshold;
+    }
+
+    /**
+     * Message bodies of at least this number of bytes are always spilled to the spill directory. The default is 0 which
+     * only spills when the max bytes would be exceeded.
+     */
+    public void setSpillThreshold(long spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    public String getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    /**
+     * The directory to spill large message bodies to. Spilling is turned off when no directory has been configured.
+     */
+    public void setSpillDirectory(String spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Number of entries in the repository
+     */
+    public int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * Number of bytes of message bodies currently held in memory
+     */
+    public long getBytesInMemory() {
+        return bytesInMemory.get();
+    }
+
+    /**
+     * Number of message bodies that have been spilled to the spill directory
+     */
+    public long getSpilledCount() {
+        return spilled.get();
+    }
+
+    /**
+     * Number of entries that have expired
+     */
+    public long getExpiredCount() {
+        return expired.get();
+    }
+
+    @Override
+    public boolean add(String key, Exchange exchange) {
+        purgeExpired();
+        Entry entry = createEntry(exchange);
+        Entry[] old = new Entry[1];
+        try {
+            entries.compute(key, (k, existing) -> {
+                // only a new key takes up an entry, which is reserved atomically to not exceed the max entries
+                if (existing == null && !reserveEntry()) {
+                    throw new IllegalStateException(
+                            "Claim check repository is full with " + size.get() + " entries. Cannot add key: " + key);
+                }
+                old[0] = existing;
+                return entry;
+            });
+        } catch (IllegalStateException e) {
+            release(entry);
+            throw e;
+        }
+        if (old[0] != null) {
+            release(old[0]);
+        }
+        return old[0] == null;
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return getEntry(key) != null;
+    }
+
+    @Override
+    public Exchange get(String key) {
+        Entry entry = getEntry(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.file == null) {
+            return entry.exchange;
+        }
+        // keep the stored exchange spilled, and load the body on a copy
+        Exchange answer = entry.exchange.copy();
+        answer.getMessage().setBody(load(entry));
+        return answer;
+    }
+
+    @Override
+    public Exchange getAndRemove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            if (isExpired(entry, System.currentTimeMillis())) {
+                expired.incrementAndGet();
+                return null;
+            }
+            if (entry.file != null) {
+                entry.exchange.getMessage().setBody(load(entry));
+            }
+            return entry.exchange;
+        } finally {
+            removed(entry);
+        }
+    }
+
+    @Override
+    public void push(Exchange exchange) {
+        stack.push(exchange);
+    }
+
+    @Override
+    public Exchange pop() {
+        return stack.pollFirst();
+    }
+
+    @Override
+    public void clear() {
+        for (String key : entries.keySet()) {
+            Entry entry = entries.remove(key);
+            if (entry != null) {
+                removed(entry);
+            }
+        }
+        stack.clear();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (spillDirectory != null) {
+            Files.createDirectories(new File(spillDirectory).toPath());
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // the spilled files should not outlive the repository
+        clear();
+    }
+
+    private Entry createEntry(Exchange exchange) {
+        Object body = exchange.getMessage().getBody();
+        long size = sizeOf(body);
+        boolean spill = spillDirectory != null && size > 0;
+        if (spill && spillThreshold > 0 && size >= spillThreshold) {
+            return spill(exchange, body);
+        }
+        if (!reserveBytes(size)) {
+            if (spill) {
+                return spill(exchange, body);
+            }
+            throw new IllegalStateException(
+                    "Claim check repository has reached the max bytes " + maxBytes + ". Cannot add message body of "
+                                            + size + " bytes");
+        }
+        return new Entry(exchange, size, null, null);
+    }
+
+    /**
+     * Reserves the bytes of a message body held in memory, unless it would exceed the max bytes.
+     */
+    private boolean reserveBytes(long bytes) {
+        while (true) {
+            long current = bytesInMemory.get();
+            if (maxBytes > 0 && current + bytes > maxBytes) {
+                return false;
+            }
+            if (bytesInMemory.compareAndSet(current, current + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reserves an entry, unless it would exceed the max entries.
+     */
+    private boolean reserveEntry() {
+        while (true) {
+            int current = size.get();
+            if (maxEntries > 0 && current >= maxEntries) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Writes the message body to a file in the spill directory, and removes the body from the exchange.
+     */
+    private Entry spill(Exchange exchange, Object body) {
+        BodyType type;
+        byte[] data;
+        if (body instanceof String) {
+            type = BodyType.TEXT;
+            data = ((String) body).getBytes(StandardCharsets.UTF_8);
+        } else if (body instanceof byte[]) {
+            type = BodyType.BYTES;
+            data = (byte[]) body;
+        } else {
+            type = BodyType.STREAM_CACHE;
+            data = exchange.getContext().getTypeConverter().convertTo(byte[].class, exchange, body);
+            ((StreamCache) body).reset();
+        }
+        try {
+            Path file = Files.createTempFile(new File(spillDirectory).toPath(), "claimcheck-", ".dat");
+            Files.write(file, data);
+            exchange.getMessage().setBody(null);
+            spilled.incrementAndGet();
+            LOG.trace("Spilled message body of {} bytes to file: {}", data.length, file);
+            return new Entry(exchange, 0, file, type);
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error spilling message body to directory: " + spillDirectory, e);
+        }
+    }
+
+    /**
+     * Reads the spilled message body of the entry, as the type of the original message body.
+     */
+    private Object load(Entry entry) {
+        try {
+            byte[] data = Files.readAllBytes(entry.file);
+            if (entry.type == BodyType.TEXT) {
+                return new String(data, StandardCharsets.UTF_8);
+            } else if (entry.type == BodyType.STREAM_CACHE) {
+                return new InputStreamCache(data);
+            }
+            return data;
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error loading spilled message body from file: " + entry.file, e);
+        }
+    }
+
+    private static long sizeOf(Object body) {
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        } else if (body instanceof String) {
+            return ((String) body).length();
+        } else if (body instanceof StreamCache) {
+            return Math.max(0, ((StreamCache) body).length());
+        }
+        // unknown size
+        return 0;
+    }
+
+    private Entry getEntry(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && isExpired(entry, System.currentTimeMillis())) {
+            if (entries.remove(key, entry)) {
+                expired.incrementAndGet();
+                removed(entry);
+            }
+            return null;
+        }
+        return entry;
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return timeToLive > 0 && now - entry.created > timeToLive;
+    }
+
+    private void purgeExpired() {
+        if (timeToLive <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        // scan at most once per time to live period
+        if (now - lastPurge < timeToLive) {
+            return;
+        }
+        lastPurge = now;
+        entries.forEach((key, entry) -> {
+            if (isExpired(entry, now) && entries.remove(key, entry)) {
+                expired.incrementAndGet();
+                removed(entry);
+            }
+        });
+    }
+
+    private void removed(Entry entry) {
+        size.decrementAndGet();
+        release(entry);
+    }
+
+    private void release(Entry entry) {
+        bytesInMemory.addAndGet(-entry.bytes);
+        if (entry.file != null) {
+            FileUtil.deleteFile(entry.file.toFile());
+        }
+    }
+}
@@ -16,6 +16,10 @@
  */
 package org.apache.camel.processor;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.apache.camel.AggregationStrategy;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
@@ -23,12 +27,14 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Expression;
+import org.apache.camel.ExtendedExchange;
 import org.apache.camel.spi.ClaimCheckRepository;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.support.AsyncProcessorSupport;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LanguageSupport;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -41,11 +47,18 @@ import org.slf4j.LoggerFactory;
  * repository is not shared among {@link Exchange}s, but a private instance is created per {@link Exchange}. This guards
  * against concurrent and thread-safe issues. For off-memory persistent storage of data, then use any of the many Camel
  * components that support persistent storage, and do not use this Claim Check EIP implementation.
+ * <p/>
+ * A custom {@link ClaimCheckRepository} can be configured, which is then shared among {@link Exchange}s and used for
+ * the keyed operations (Set, Get and GetAndRemove), such as the {@link BoundedClaimCheckRepository}. The keys are then
+ * scoped to the {@link Exchange} by prefixing them with the exchange id. The Push and Pop operations always use the
+ * private instance of the {@link Exchange}.
  */
 public class ClaimCheckProcessor extends AsyncProcessorSupport implements IdAware, RouteIdAware, CamelContextAware {
 
     private static final Logger LOG = LoggerFactory.getLogger(ClaimCheckProcessor.class);
 
+    private static final String PROPERTY_CLAIM_CHECK_SCOPE = "CamelClaimCheckScope";
+
     private CamelContext camelContext;
     private String id;
     private String routeId;
@@ -54,6 +67,7 @@ public class ClaimCheckProcessor extends AsyncProcessorSupport implements IdAwar
     private String key;
     private Expression keyExpression;
     private String filter;
+    private ClaimCheckRepository repository;
 
     @Override
     public CamelContext getCamelContext() {
@@ -117,22 +131,47 @@ public class ClaimCheckProcessor extends AsyncProcessorSupport implements IdAwar
         this.filter = filter;
     }
 
+    public ClaimCheckRepository getRepository() {
+        return repository;
+    }
+
+    /**
+     * To use a custom repository for the keyed operations, which is shared among exchanges
+     */
+    public void setRepository(ClaimCheckRepository repository) {
+        this.repository = repository;
+    }
+
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
-        // the repository is scoped per exchange
-        ClaimCheckRepository repo
-                = exchange.getProperty(ExchangePropertyKey.CLAIM_CHECK_REPOSITORY, ClaimCheckRepository.class);
-        if (repo == null) {
-            repo = new DefaultClaimCheckRepository();
-            exchange.setProperty(ExchangePropertyKey.CLAIM_CHECK_REPOSITORY, repo);
+        ClaimCheckRepository repo;
+        if (repository != null && !"Push".equals(operation) && !"Pop".equals(operation)) {
+            // the custom repository is shared among exchanges
+            repo = repository;
+        } else {
+            // the repository is scoped per exchange
+            repo = exchange.getProperty(ExchangePropertyKey.CLAIM_CHECK_REPOSITORY, ClaimCheckRepository.class);
+            if (repo == null) {
+                repo = new DefaultClaimCheckRepository();
+                exchange.setProperty(ExchangePropertyKey.CLAIM_CHECK_REPOSITORY, repo);
+            }
         }
 
         try {
             String claimKey = keyExpression.evaluate(exchange, String.class);
+            ClaimCheckScope scope = null;
+            if (repo == repository) {
+                // the custom repository is shared so scope the key to the exchange
+                scope = getOrCreateScope(exchange);
+                claimKey = scope.id + "-" + claimKey;
+            }
 
             if ("Set".equals(operation)) {
                 // copy exchange, and do not share the unit of work
                 Exchange copy = ExchangeHelper.createCorrelatedCopy(exchange, false);
+                if (scope != null) {
+                    scope.addKey(repo, claimKey);
+                }
                 boolean addedNew = repo.add(claimKey, copy);
                 if (addedNew) {
                     LOG.debug("Add: {} -> {}", claimKey, copy);
@@ -184,12 +223,25 @@ public class ClaimCheckProcessor extends AsyncProcessorSupport implements IdAwar
         return true;
     }
 
+    private static ClaimCheckScope getOrCreateScope(Exchange exchange) {
+        // sub exchanges (such as from the splitter) inherit the scope of their parent exchange
+        ClaimCheckScope scope = exchange.getProperty(PROPERTY_CLAIM_CHECK_SCOPE, ClaimCheckScope.class);
+        if (scope == null) {
+            scope = new ClaimCheckScope(exchange.getExchangeId());
+            exchange.setProperty(PROPERTY_CLAIM_CHECK_SCOPE, scope);
+            // remove the keys from the shared repositories when the exchange is done
+            exchange.adapt(ExtendedExchange.class).addOnCompletion(scope);
+        }
+        return scope;
+    }
+
     @Override
     protected void doInit() throws Exception {
         if (aggregationStrategy == null) {
             aggregationStrategy = createAggregationStrategy();
         }
         CamelContextAware.trySetCamelContext(aggregationStrategy, camelContext);
+        CamelContextAware.trySetCamelContext(repository, camelContext);
 
         if (LanguageSupport.hasSimpleFunction(key)) {
             keyExpression = camelContext.resolveLanguage("simple").createExpression(key);
@@ -201,12 +253,12 @@ public class ClaimCheckProcessor extends AsyncProcessorSupport implements IdAwar
     @Override
     protected void doStart() throws Exception {
         ObjectHelper.notNull(operation, "operation", this);
-        ServiceHelper.startService(aggregationStrategy);
+        ServiceHelper.startService(aggregationStrategy, repository);
     }
 
     @Override
     protected void doStop() throws Exception {
-        ServiceHelper.stopService(aggregationStrategy);
+        ServiceHelper.stopService(aggregationStrategy, repository);
     }
 
     @Override
@@ -219,4 +271,36 @@ public class ClaimCheckProcessor extends AsyncProcessorSupport implements IdAwar
         answer.setFilter(filter);
         return answer;
     }
+
+    /**
+     * The scope of the keys in the shared repositories, which are removed when the exchange owning the scope is done.
+     */
+    private static final class ClaimCheckScope extends SynchronizationAdapter {
+
+        private final String id;
+        private final Map<ClaimCheckRepository, Set<String>> keys = new ConcurrentHashMap<>();
+
+        private ClaimCheckScope(String id) {
+            this.id = id;
+        }
+
+        void addKey(ClaimCheckRepository repository, String key) {
+            keys.computeIfAbsent(repository, r -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+
+        @Override
+        public void onDone(Exchange exchange) {
+            keys.forEach((repository, set) -> set.forEach(key -> {
+                if (repository.getAndRemove(key) != null) {
+                    LOG.debug("Removed: {} as exchange: {} is done", key, id);
+                }
+            }));
+            keys.clear();
+        }
+
+        @Override
+        public String toString() {
+            return "ClaimCheckScope[" + id + "]";
+        }
+    }
 }
@@ -16,21 +16,25 @@
  */
 package org.apache.camel.processor;
 
-import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.ClaimCheckRepository;
 
 /**
  * The default {@link ClaimCheckRepository} implementation that is an in-memory storage.
+ * <p/>
+ * The repository is thread-safe, as it is shared with the copies of the exchange, such as when using the parallel
+ * splitter.
  */
 public class DefaultClaimCheckRepository implements ClaimCheckRepository {
 
-    private final Map<String, Exchange> map = new HashMap<>();
-    private final Deque<Exchange> stack = new ArrayDeque<>();
+    private final Map<String, Exchange> map = Collections.synchronizedMap(new HashMap<>());
+    private final Deque<Exchange> stack = new ConcurrentLinkedDeque<>();
 
     @Override
     public boolean add(String key, Exchange exchange) {
@@ -59,11 +63,7 @@ public class DefaultClaimCheckRepository implements ClaimCheckRepository {
 
     @Override
     public Exchange pop() {
-        if (!stack.isEmpty()) {
-            return stack.pop();
-        } else {
-            return null;
-        }
+        return stack.pollFirst();
     }
 
     @Override
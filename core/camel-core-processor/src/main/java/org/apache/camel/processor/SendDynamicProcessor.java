@@ -16,6 +16,10 @@
  */
 package org.apache.camel.processor;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
@@ -29,13 +33,16 @@ import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.NoTypeConversionAvailableException;
 import org.apache.camel.Processor;
 import org.apache.camel.ResolveEndpointFailedException;
+import org.apache.camel.StaticExpression;
 import org.apache.camel.spi.EndpointUtilizationStatistics;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.NormalizedEndpointUri;
 import org.apache.camel.spi.ProducerCache;
+import org.apache.camel.spi.PropertiesComponent;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.SendDynamicAware;
 import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.EndpointHelper;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.cache.DefaultProducerCache;
@@ -67,6 +74,15 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
     protected int cacheSize;
     protected boolean allowOptimisedComponents = true;
     protected boolean autoStartupComponents = true;
+    // the normalized uri when the uri has no dynamic parts, so it is only normalized once
+    protected NormalizedEndpointUri staticNormalizedUri;
+    // normalized uris keyed by the computed uri, to avoid normalizing the same uri again
+    private Map<String, NormalizedEndpointUri> normalizedUris;
+    private int normalizedUrisMaxSize;
+    private final LongAdder normalizedUriCacheHits = new LongAdder();
+    private final LongAdder normalizedUriCacheMisses = new LongAdder();
+    private final LongAdder endpointCacheHits = new LongAdder();
+    private final LongAdder endpointCacheMisses = new LongAdder();
 
     public SendDynamicProcessor(String uri, Expression expression) {
         this.uri = uri;
@@ -121,7 +137,11 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
         String staticUri = null;
         boolean prototype = cacheSize < 0;
         try {
-            recipient = expression.evaluate(exchange, Object.class);
+            if (staticNormalizedUri != null) {
+                recipient = staticNormalizedUri;
+            } else {
+                recipient = expression.evaluate(exchange, Object.class);
+            }
             if (dynamicAware != null) {
                 // if its the same scheme as the pre-resolved dynamic aware then we can optimise to use it
                 String originalUri = uri;
@@ -143,7 +163,7 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
                 }
             }
             Object targetRecipient = staticUri != null ? staticUri : recipient;
-            targetRecipient = prepareRecipient(exchange, targetRecipient);
+            targetRecipient = normalizeRecipient(exchange, targetRecipient);
             if (targetRecipient == null) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Send dynamic evaluated as null so cannot send to any endpoint");
@@ -154,8 +174,10 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
             }
             Endpoint existing = getExistingEndpoint(exchange, targetRecipient);
             if (existing == null) {
+                endpointCacheMisses.increment();
                 endpoint = resolveEndpoint(exchange, targetRecipient, prototype);
             } else {
+                endpointCacheHits.increment();
                 endpoint = existing;
                 // we have an existing endpoint then its not a prototype scope
                 prototype = false;
@@ -242,6 +264,33 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
         return uri;
     }
 
+    /**
+     * Prepares the recipient as in {@link #prepareRecipient(Exchange, Object)}, and caches the normalized uri of
+     * computed uris so the same uri is only normalized once.
+     */
+    protected Object normalizeRecipient(Exchange exchange, Object recipient) throws NoTypeConversionAvailableException {
+        if (normalizedUris == null || !(recipient instanceof String)) {
+            return prepareRecipient(exchange, recipient);
+        }
+        String key = (String) recipient;
+        NormalizedEndpointUri answer = normalizedUris.get(key);
+        if (answer != null) {
+            normalizedUriCacheHits.increment();
+            return answer;
+        }
+        normalizedUriCacheMisses.increment();
+        Object prepared = prepareRecipient(exchange, recipient);
+        // property placeholders are resolved when normalizing, and their values may change, so do not cache those
+        if (prepared instanceof NormalizedEndpointUri && !key.contains(PropertiesComponent.PREFIX_TOKEN)) {
+            if (normalizedUris.size() >= normalizedUrisMaxSize) {
+                // the uris are too dynamic to be cached in full, so start over
+                normalizedUris.clear();
+            }
+            normalizedUris.put(key, (NormalizedEndpointUri) prepared);
+        }
+        return prepared;
+    }
+
     protected static String resolveScheme(Exchange exchange, String uri) {
         return ExchangeHelper.resolveScheme(uri);
     }
@@ -350,6 +399,27 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
             }
         }
         ServiceHelper.initService(dynamicAware);
+
+        if (cacheSize >= 0) {
+            normalizedUrisMaxSize = cacheSize > 0 ? cacheSize : CamelContextHelper.getMaximumCachePoolSize(camelContext);
+            normalizedUris = new ConcurrentHashMap<>();
+            if (dynamicAware == null && expression instanceof StaticExpression) {
+                // the expression has no dynamic parts so the uri can be normalized upfront
+                Object value = ((StaticExpression) expression).getValue();
+                String u = value instanceof String ? ((String) value).trim() : null;
+                int colon = u != null ? u.indexOf(':') : -1;
+                if (colon > 0 && colon < u.length() - 1) {
+                    try {
+                        staticNormalizedUri = camelContext.adapt(ExtendedCamelContext.class).normalizeUri(u);
+                        LOG.debug("DynamicSendTo {} has no dynamic parts and uses uri: {}", this, staticNormalizedUri);
+                    } catch (Exception e) {
+                        // the uri is resolved (and any error handled) per exchange instead
+                        LOG.debug("DynamicSendTo {} cannot normalize uri: {} upfront due to: {}. This exception is ignored.",
+                                this, URISupport.sanitizeUri(u), e.getMessage());
+                    }
+                }
+            }
+        }
     }
 
     @Override
@@ -381,6 +451,52 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
         return producerCache.getEndpointUtilizationStatistics();
     }
 
+    /**
+     * Number of times a computed uri was already normalized
+     */
+    public long getNormalizedUriCacheHits() {
+        return normalizedUriCacheHits.sum();
+    }
+
+    /**
+     * Number of times a computed uri had to be normalized
+     */
+    public long getNormalizedUriCacheMisses() {
+        return normalizedUriCacheMisses.sum();
+    }
+
+    /**
+     * Number of times the endpoint to send to already existed
+     */
+    public long getEndpointCacheHits() {
+        return endpointCacheHits.sum();
+    }
+
+    /**
+     * Number of times the endpoint to send to had to be created, which is a sign of endpoint cache churn if this keeps
+     * increasing
+     */
+    public long getEndpointCacheMisses() {
+        return endpointCacheMisses.sum();
+    }
+
+    /**
+     * Resets the statistics
+     */
+    public void resetStatistics() {
+        normalizedUriCacheHits.reset();
+        normalizedUriCacheMisses.reset();
+        endpointCacheHits.reset();
+        endpointCacheMisses.reset();
+    }
+
+    /**
+     * Whether the uri has no dynamic parts and has been normalized upfront
+     */
+    public boolean isStaticUri() {
+        return staticNormalizedUri != null;
+    }
+
     @Override
     public CamelContext getCamelContext() {
         return camelContext;
@@ -28,6 +28,7 @@ import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.processor.ClaimCheckProcessor;
 import org.apache.camel.processor.aggregate.AggregationStrategyBeanAdapter;
 import org.apache.camel.processor.aggregate.AggregationStrategyBiFunctionAdapter;
+import org.apache.camel.spi.ClaimCheckRepository;
 import org.apache.camel.support.ObjectHelper;
 
 import static org.apache.camel.util.ObjectHelper.notNull;
@@ -47,6 +48,12 @@ public class ClaimCheckReifier extends ProcessorReifier<ClaimCheckDefinition> {
         claim.setKey(parseString(definition.getKey()));
         claim.setFilter(parseString(definition.getFilter()));
 
+        ClaimCheckRepository repository = definition.getRepositoryBean();
+        if (repository == null && definition.getRepository() != null) {
+            repository = mandatoryLookup(parseString(definition.getRepository()), ClaimCheckRepository.class);
+        }
+        claim.setRepository(repository);
+
         AggregationStrategy strategy = createAggregationStrategy();
         if (strategy != null) {
             claim.setAggregationStrategy(strategy);
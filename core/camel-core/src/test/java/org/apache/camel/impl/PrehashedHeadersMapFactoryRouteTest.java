@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.PrehashedHeadersMapFactory;
+import org.apache.camel.util.PrehashedCaseInsensitiveMap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrehashedHeadersMapFactoryRouteTest extends ContextTestSupport {
+
+    public static final class MyConstants {
+        public static final String MY_HEADER = "MyHeader";
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).setHeadersMapFactory(new PrehashedHeadersMapFactory(MyConstants.class));
+        return context;
+    }
+
+    @Test
+    public void testKnownHeaders() {
+        PrehashedHeadersMapFactory factory
+                = (PrehashedHeadersMapFactory) context.adapt(ExtendedCamelContext.class).getHeadersMapFactory();
+        assertTrue(factory.getKnownHeaders().contains(Exchange.FILE_NAME));
+        assertTrue(factory.getKnownHeaders().contains(MyConstants.MY_HEADER));
+    }
+
+    @Test
+    public void testPrehashedHeaders() throws Exception {
+        getMockEndpoint("mock:result").expectedHeaderReceived("foo", 456);
+        getMockEndpoint("mock:result").expectedHeaderReceived("myheader", "yes");
+        getMockEndpoint("mock:result").expectedHeaderReceived(Exchange.FILE_NAME, "hello.txt");
+
+        template.send("direct:start", e -> {
+            e.getMessage().setBody("Hello World");
+            e.getMessage().setHeader("foo", 123);
+            e.getMessage().setHeader("FOO", 456);
+            e.getMessage().setHeader(MyConstants.MY_HEADER, "yes");
+            assertInstanceOf(PrehashedCaseInsensitiveMap.class, e.getMessage().getHeaders());
+        });
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").setHeader("CAMELFILENAME", constant("hello.txt")).to("mock:result");
+            }
+        };
+    }
+
+}
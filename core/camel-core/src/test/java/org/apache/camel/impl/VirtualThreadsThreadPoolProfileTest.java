@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.ThreadHelper;
+import org.apache.camel.util.concurrent.VirtualThreadPoolExecutor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VirtualThreadsThreadPoolProfileTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camel = super.createCamelContext();
+
+        ThreadPoolProfile profile = new ThreadPoolProfileBuilder("virtual").maxPoolSize(100).virtualThreads(true).build();
+        camel.getExecutorServiceManager().registerThreadPoolProfile(profile);
+
+        return camel;
+    }
+
+    @Test
+    public void testVirtualThreadsProfile() throws Exception {
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "test", "virtual");
+        try {
+            // virtual threads are only used when the JVM supports it
+            assertEquals(ThreadHelper.isVirtualThreadsSupported(), pool instanceof VirtualThreadPoolExecutor);
+            if (pool instanceof VirtualThreadPoolExecutor) {
+                assertEquals(100, ((VirtualThreadPoolExecutor) pool).getMaximumPoolSize());
+            }
+        } finally {
+            context.getExecutorServiceManager().shutdownNow(pool);
+        }
+    }
+
+    @Test
+    public void testVirtualThreadsInheritedFromDefaultProfile() throws Exception {
+        ThreadPoolProfile profile = new ThreadPoolProfile("custom");
+        profile.addDefaults(context.getExecutorServiceManager().getThreadPoolProfile("virtual"));
+        assertTrue(profile.getVirtualThreads());
+        assertTrue(profile.clone().getVirtualThreads());
+    }
+
+    @Test
+    public void testThreadsUsingVirtualThreads() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").threads().executorService("virtual").to("mock:result");
+            }
+        };
+    }
+}
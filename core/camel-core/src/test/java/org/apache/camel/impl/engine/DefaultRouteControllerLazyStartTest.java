@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.ModelCamelContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DefaultRouteControllerLazyStartTest extends ContextTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testLazyStart() throws Exception {
+        context.getRouteController().setLazyStartRoutes("direct:lazy*,seda:*");
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("start")
+                        .to("direct:lazyA")
+                        .to("seda:bar");
+
+                from("direct:lazyA").routeId("a")
+                        .to("mock:a");
+
+                from("seda:bar").routeId("bar")
+                        .to("mock:bar");
+
+                from("direct:lazyNever").routeId("never")
+                        .to("mock:never");
+            }
+        });
+        context.start();
+
+        // the lazy routes are not created until first use
+        assertEquals(1, context.getRoutes().size());
+        assertNull(context.getRoute("a"));
+        assertEquals("Stopped", context.getRouteController().getRouteStatus("a").toString());
+        assertEquals(3, context.getRouteController().getLazyRoutes().size());
+
+        getMockEndpoint("mock:a").expectedBodiesReceived("Hello World", "Bye World");
+        getMockEndpoint("mock:bar").expectedBodiesReceived("Hello World", "Bye World");
+
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", "Bye World");
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(3, context.getRoutes().size());
+        assertNotNull(context.getRoute("a"));
+        assertNull(context.getRoute("never"));
+        assertEquals("Started", context.getRouteController().getRouteStatus("a").toString());
+        assertEquals("Started", context.getRouteController().getRouteStatus("bar").toString());
+        assertEquals("Stopped", context.getRouteController().getRouteStatus("never").toString());
+        assertEquals(1, context.getRouteController().getLazyRoutes().size());
+        assertTrue(context.getRouteController().getLazyRoutes().contains("never"));
+    }
+
+    @Test
+    public void testStartLazyRoute() throws Exception {
+        context.getRouteController().setLazyStartRoutes("direct:lazy*");
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:lazyA").routeId("a")
+                        .to("mock:a");
+            }
+        });
+        context.start();
+
+        assertEquals("Stopped", context.getRouteController().getRouteStatus("a").toString());
+        assertTrue(context.getRouteController().getLazyRoutes().contains("a"));
+
+        // the lazy route can be started as any other route
+        context.getRouteController().startRoute("a");
+        assertEquals("Started", context.getRouteController().getRouteStatus("a").toString());
+        assertTrue(context.getRouteController().getLazyRoutes().isEmpty());
+
+        getMockEndpoint("mock:a").expectedBodiesReceived("Hello World");
+        template.sendBody("direct:lazyA", "Hello World");
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testStopLazyRoute() throws Exception {
+        context.getRouteController().setLazyStartRoutes("direct:lazy*");
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:lazyA").routeId("a")
+                        .to("mock:a");
+            }
+        });
+        context.start();
+
+        // stopping a pending lazy route creates it as a stopped route which is no longer started on first use
+        context.getRouteController().stopRoute("a");
+        assertNotNull(context.getRoute("a"));
+        assertEquals("Stopped", context.getRouteController().getRouteStatus("a").toString());
+        assertTrue(context.getRouteController().getLazyRoutes().isEmpty());
+
+        assertThrows(CamelExecutionException.class, () -> template.sendBody("direct:lazyA?block=false", "Hello World"));
+        assertEquals("Stopped", context.getRouteController().getRouteStatus("a").toString());
+
+        context.getRouteController().startRoute("a");
+        getMockEndpoint("mock:a").expectedBodiesReceived("Bye World");
+        template.sendBody("direct:lazyA", "Bye World");
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testRemoveLazyRoute() throws Exception {
+        context.getRouteController().setLazyStartRoutes("direct:lazy*");
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:lazyA").routeId("a")
+                        .to("mock:a");
+
+                from("direct:lazyB").routeId("b")
+                        .to("mock:b");
+            }
+        });
+        context.start();
+        assertEquals(2, context.getRouteController().getLazyRoutes().size());
+
+        // removing a pending lazy route does not create it
+        assertTrue(context.removeRoute("a"));
+        assertNull(context.getRoute("a"));
+        assertNull(context.getRouteController().getRouteStatus("a"));
+        assertNull(context.adapt(ModelCamelContext.class).getRouteDefinition("a"));
+        assertFalse(context.getRouteController().getLazyRoutes().contains("a"));
+
+        // and is no longer started on first use
+        assertThrows(CamelExecutionException.class, () -> template.sendBody("direct:lazyA?block=false", "Hello World"));
+        assertNull(context.getRoute("a"));
+
+        // also when removed by its route definition
+        ModelCamelContext mcc = context.adapt(ModelCamelContext.class);
+        mcc.removeRouteDefinition(mcc.getRouteDefinition("b"));
+        assertNull(context.getRoute("b"));
+        assertTrue(context.getRouteController().getLazyRoutes().isEmpty());
+        assertThrows(CamelExecutionException.class, () -> template.sendBody("direct:lazyB?block=false", "Hello World"));
+        assertNull(context.getRoute("b"));
+    }
+
+    @Test
+    public void testLazyRoutesClearedOnStop() throws Exception {
+        context.getRouteController().setLazyStartRoutes("direct:lazy*");
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:lazyA").routeId("a")
+                        .to("mock:a");
+            }
+        });
+        context.start();
+        assertEquals(1, context.getRouteController().getLazyRoutes().size());
+
+        context.stop();
+        assertTrue(context.getRouteController().getLazyRoutes().isEmpty());
+    }
+
+    @Test
+    public void testNotLazy() throws Exception {
+        context.getRouteController().setLazyStartRoutes("other*");
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("start")
+                        .to("mock:start");
+
+                from("seda:foo").routeId("foo")
+                        .to("mock:foo");
+            }
+        });
+        context.start();
+
+        assertEquals(2, context.getRoutes().size());
+        assertFalse(context.getRouteController().getLazyRoutes().contains("start"));
+        assertTrue(context.getRouteController().getLazyRoutes().isEmpty());
+    }
+}
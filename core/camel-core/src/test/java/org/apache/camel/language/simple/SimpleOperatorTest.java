@@ -18,11 +18,14 @@ package org.apache.camel.language.simple;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.LanguageTestSupport;
+import org.apache.camel.Predicate;
 import org.apache.camel.language.simple.types.SimpleIllegalSyntaxException;
 import org.apache.camel.spi.Registry;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class SimpleOperatorTest extends LanguageTestSupport {
@@ -608,6 +611,23 @@ public class SimpleOperatorTest extends LanguageTestSupport {
         assertPredicate("${in.header.bar} !in '100,200'", true);
     }
 
+    @Test
+    public void testConstantRightOperatorEvaluatedPerExchange() throws Exception {
+        Predicate predicate = context.resolveLanguage("simple")
+                .createPredicate("${in.header.foo} in 'foo,abc' && ${in.header.bar} range '100..200'");
+        assertTrue(predicate.matches(exchange));
+
+        exchange.getIn().setHeader("foo", "def");
+        assertFalse(predicate.matches(exchange));
+
+        exchange.getIn().setHeader("foo", "foo");
+        exchange.getIn().setHeader("bar", 300);
+        assertFalse(predicate.matches(exchange));
+
+        exchange.getIn().setHeader("bar", 150);
+        assertTrue(predicate.matches(exchange));
+    }
+
     @Test
     public void testIs() throws Exception {
         assertPredicate("${in.header.foo} is 'java.lang.String'", true);
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.throttling.AdaptiveInflightRoutePolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveInflightRoutePolicyTest extends ContextTestSupport {
+
+    private final AdaptiveInflightRoutePolicy policy = new AdaptiveInflightRoutePolicy();
+    private String url = "seda:foo?concurrentConsumers=20";
+    private int size = 200;
+
+    @Test
+    public void testAdaptiveRoutePolicy() throws Exception {
+        // we use seda which are not persistent and hence can loose a message
+        // when we get graceful shutdown support we can prevent this
+        getMockEndpoint("mock:result").expectedMinimumMessageCount(size - 10);
+
+        for (int i = 0; i < size; i++) {
+            template.sendBody(url, "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        int limit = policy.getLimit("foo");
+        assertTrue(limit >= 2 && limit <= 20, "Limit should be adapted within min and max, was: " + limit);
+        assertTrue(policy.getLongLatency("foo") > 0);
+    }
+
+    @Test
+    public void testFailedExchangesDecreaseLimit() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            try {
+                template.sendBody("direct:fail", "Message " + i);
+            } catch (Exception e) {
+                // expected
+            }
+        }
+
+        assertEquals(2, policy.getLimit("fail"));
+
+        policy.reset();
+        assertEquals(5, policy.getLimit("fail"));
+        assertEquals(-1, policy.getLimit("unknown"));
+    }
+
+    @Test
+    public void testLatencyMeasuredFromBegin() throws Exception {
+        // the exchange waits before it is routed, which should not count as latency of the route
+        Exchange exchange = context.getEndpoint("direct:fast").createExchange();
+        Thread.sleep(500);
+        template.send("direct:fast", exchange);
+
+        double latency = policy.getLongLatency("fast");
+        assertTrue(latency > 0 && latency < 500, "Latency should be measured from when the route began, was: " + latency);
+    }
+
+    @Test
+    public void testInvalidWindows() {
+        assertThrows(IllegalArgumentException.class, () -> policy.setShortWindow(0));
+        assertThrows(IllegalArgumentException.class, () -> policy.setLongWindow(-1));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                policy.setInitialLimit(5);
+                policy.setMinLimit(2);
+                policy.setMaxLimit(20);
+                policy.setBackoffRatio(0.5);
+
+                from(url).routeId("foo").routePolicy(policy).delay(3).to("log:foo?groupSize=10").to("mock:result");
+
+                from("direct:fast").routeId("fast").routePolicy(policy).to("log:fast?level=OFF");
+
+                from("direct:fail").routeId("fail").routePolicy(policy).throwException(new IllegalArgumentException("Damn"));
+            }
+        };
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.converter.stream.InputStreamCache;
+import org.apache.camel.model.ClaimCheckOperation;
+import org.apache.camel.spi.Registry;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ClaimCheckEipBoundedRepositoryTest extends ContextTestSupport {
+
+    private static final String SPILL_DIR = "target/data/claimcheck";
+
+    private final BoundedClaimCheckRepository repo = new BoundedClaimCheckRepository();
+    private final BoundedClaimCheckRepository boundedRepo = new BoundedClaimCheckRepository();
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory(SPILL_DIR);
+        repo.setSpillDirectory(SPILL_DIR);
+        repo.setSpillThreshold(100);
+        boundedRepo.setMaxEntries(2);
+        super.setUp();
+    }
+
+    @Override
+    protected Registry createRegistry() throws Exception {
+        Registry jndi = super.createRegistry();
+        jndi.bind("myRepo", repo);
+        jndi.bind("boundedRepo", boundedRepo);
+        return jndi;
+    }
+
+    @Test
+    public void testSharedRepository() throws Exception {
+        String big = IntStream.range(0, 50).mapToObj(i -> "Hello").reduce("", String::concat);
+
+        getMockEndpoint("mock:b").expectedBodiesReceived("Bye World", "Bye World");
+        getMockEndpoint("mock:c").expectedBodiesReceived("Hello World", big);
+
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", big);
+
+        assertMockEndpointsSatisfied();
+
+        // the big body was spilled to disk, and the entries were removed
+        assertEquals(1, repo.getSpilledCount());
+        assertEquals(0, repo.getSize());
+        assertEquals(0, repo.getBytesInMemory());
+        assertEquals(0, new File(SPILL_DIR).list().length);
+    }
+
+    @Test
+    public void testKeyScopedToExchange() throws Exception {
+        getMockEndpoint("mock:set").expectedBodiesReceived("Hello World");
+        // another exchange cannot get the entry with the same key
+        getMockEndpoint("mock:get").expectedBodiesReceived("Bye World");
+
+        Exchange exchange = template.send("direct:set", e -> e.getMessage().setBody("Hello World"));
+
+        assertMockEndpointsSatisfied();
+        // the key is prefixed with the exchange id while the exchange is routed
+        Exchange routed = getMockEndpoint("mock:set").getReceivedExchanges().get(0);
+        assertEquals(exchange.getExchangeId(), routed.getExchangeId());
+        assertTrue(routed.getMessage().getHeader("contains", boolean.class));
+        assertFalse(routed.getMessage().getHeader("containsUnscoped", boolean.class));
+
+        // and the entry is removed when the exchange is done
+        assertEquals(0, repo.getSize());
+    }
+
+    @Test
+    public void testEntriesRemovedWhenDone() {
+        // the entries of the previous exchanges do not count towards the max entries
+        for (int i = 0; i < 5; i++) {
+            Exchange out = template.send("direct:bounded", e -> e.getMessage().setBody("Hello World"));
+            assertNull(out.getException());
+            assertEquals("Hello World", out.getMessage().getBody());
+            assertEquals(0, boundedRepo.getSize());
+        }
+    }
+
+    @Test
+    public void testSplitSharesKeys() throws Exception {
+        // the split sub exchanges can get what the parent exchange set
+        getMockEndpoint("mock:split").expectedBodiesReceived("A,B", "A,B");
+
+        template.sendBody("direct:split", "A,B");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, repo.getSize());
+    }
+
+    @Test
+    public void testSpillStreamCache() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody(new InputStreamCache(new byte[200]));
+        assertTrue(repo.add("a", exchange));
+        assertEquals(1, repo.getSpilledCount());
+
+        // the body is read back as a stream cache
+        Exchange copy = repo.getAndRemove("a");
+        assertTrue(copy.getMessage().getBody() instanceof StreamCache);
+        assertArrayEquals(new byte[200], copy.getMessage().getBody(byte[].class));
+    }
+
+    @Test
+    public void testMaxEntriesConcurrent() throws Exception {
+        BoundedClaimCheckRepository bounded = new BoundedClaimCheckRepository();
+        bounded.setMaxEntries(10);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger added = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        try {
+            for (int i = 0; i < 100; i++) {
+                String key = "key" + i;
+                executor.submit(() -> {
+                    latch.await();
+                    try {
+                        bounded.add(key, exchange("Hello"));
+                        added.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            latch.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(10, added.get());
+        assertEquals(90, rejected.get());
+        assertEquals(10, bounded.getSize());
+        assertEquals(50, bounded.getBytesInMemory());
+    }
+
+    @Test
+    public void testSpillAndGet() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody(new byte[200]);
+        exchange.getMessage().setHeader("foo", "bar");
+        assertTrue(repo.add("a", exchange));
+
+        // get keeps the body spilled
+        Exchange copy = repo.get("a");
+        assertArrayEquals(new byte[200], copy.getMessage().getBody(byte[].class));
+        assertEquals("bar", copy.getMessage().getHeader("foo"));
+        assertEquals(1, new File(SPILL_DIR).list().length);
+
+        copy = repo.getAndRemove("a");
+        assertArrayEquals(new byte[200], copy.getMessage().getBody(byte[].class));
+        assertFalse(repo.contains("a"));
+        assertEquals(0, new File(SPILL_DIR).list().length);
+    }
+
+    @Test
+    public void testMaxEntriesAndBytes() {
+        BoundedClaimCheckRepository bounded = new BoundedClaimCheckRepository();
+        bounded.setMaxEntries(2);
+        bounded.setMaxBytes(10);
+
+        assertTrue(bounded.add("a", exchange("12345")));
+        assertTrue(bounded.add("b", exchange("12345")));
+        assertEquals(10, bounded.getBytesInMemory());
+        assertThrows(IllegalStateException.class, () -> bounded.add("c", exchange("1")));
+
+        // override existing key is allowed, but not over the max bytes
+        assertThrows(IllegalStateException.class, () -> bounded.add("a", exchange("123456")));
+        bounded.getAndRemove("a");
+        assertEquals(5, bounded.getBytesInMemory());
+        assertTrue(bounded.add("c", exchange("1")));
+        assertEquals(6, bounded.getBytesInMemory());
+    }
+
+    @Test
+    public void testTimeToLive() throws Exception {
+        BoundedClaimCheckRepository bounded = new BoundedClaimCheckRepository();
+        bounded.setTimeToLive(50);
+
+        bounded.add("a", exchange("Hello"));
+        assertTrue(bounded.contains("a"));
+        Thread.sleep(100);
+
+        assertNull(bounded.get("a"));
+        assertEquals(1, bounded.getExpiredCount());
+        assertEquals(0, bounded.getBytesInMemory());
+    }
+
+    private Exchange exchange(String body) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody(body);
+        return exchange;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .claimCheck().operation(ClaimCheckOperation.Set).key("foo").repository("myRepo").end()
+                        .transform().constant("Bye World")
+                        .to("mock:b")
+                        .claimCheck().operation(ClaimCheckOperation.GetAndRemove).key("foo").repository("myRepo")
+                        .end()
+                        .to("mock:c");
+
+                from("direct:set")
+                        .claimCheck().operation(ClaimCheckOperation.Set).key("foo").repository("myRepo").end()
+                        .process(e -> {
+                            e.getMessage().setHeader("contains", repo.contains(e.getExchangeId() + "-foo"));
+                            e.getMessage().setHeader("containsUnscoped", repo.contains("foo"));
+                        })
+                        .to("mock:set")
+                        .to("direct:get");
+
+                from("direct:get")
+                        .process(e -> template.send("direct:other", e2 -> e2.getMessage().setBody("Bye World")));
+
+                from("direct:other")
+                        .claimCheck().operation(ClaimCheckOperation.Get).key("foo").repository("myRepo").end()
+                        .to("mock:get");
+
+                from("direct:bounded")
+                        .claimCheck().operation(ClaimCheckOperation.Set).key("foo").repository("boundedRepo").end()
+                        .claimCheck().operation(ClaimCheckOperation.Set).key("bar").repository("boundedRepo").end()
+                        .transform().constant("Bye World")
+                        .claimCheck().operation(ClaimCheckOperation.Get).key("foo").repository("boundedRepo").end();
+
+                from("direct:split")
+                        .claimCheck().operation(ClaimCheckOperation.Set).key("foo").repository("myRepo").end()
+                        .split(body().tokenize(","))
+                            .claimCheck().operation(ClaimCheckOperation.Get).key("foo").repository("myRepo").end()
+                            .to("mock:split")
+                        .end();
+            }
+        };
+    }
+}
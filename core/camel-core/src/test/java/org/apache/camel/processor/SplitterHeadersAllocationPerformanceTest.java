@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the memory allocated when splitting a message with many headers and exchange properties into 1000
+ * messages, which copies the exchange for each split message.
+ */
+@Disabled("Test manually")
+public class SplitterHeadersAllocationPerformanceTest extends ContextTestSupport {
+
+    private final int size = 1000;
+    private final int headers = 60;
+    private final int runs = 20;
+
+    @Test
+    public void testSplitAllocation() throws Exception {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(bean.isThreadAllocatedMemorySupported(), "Thread allocated memory must be supported");
+
+        List<String> body = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            body.add("Message " + i);
+        }
+        Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < headers; i++) {
+            map.put("header" + i, "value" + i);
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.setRetainFirst(0);
+        mock.setRetainLast(0);
+
+        // warm up
+        for (int i = 0; i < runs; i++) {
+            template.sendBodyAndHeaders("direct:start", body, map);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = bean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < runs; i++) {
+            template.sendBodyAndHeaders("direct:start", body, map);
+        }
+        long allocated = (bean.getThreadAllocatedBytes(threadId) - before) / runs;
+
+        log.info("Splitting {} messages with {} headers allocated {} bytes ({} bytes per split message)",
+                size, headers, allocated, allocated / size);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .process(e -> {
+                            for (int i = 0; i < headers; i++) {
+                                e.setProperty("property" + i, "value" + i);
+                            }
+                        })
+                        .split(body())
+                        .to("mock:result");
+            }
+        };
+    }
+}
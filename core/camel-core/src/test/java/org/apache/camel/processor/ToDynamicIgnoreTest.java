@@ -43,12 +43,23 @@ public class ToDynamicIgnoreTest extends ContextTestSupport {
         assertMockEndpointsSatisfied();
     }
 
+    @Test
+    public void testToDynamicInvalidStaticUri() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:static", "Hello World");
+
+        assertMockEndpointsSatisfied();
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() throws Exception {
         return new RouteBuilder() {
             @Override
             public void configure() throws Exception {
                 from("direct:start").toD("mock:${header.foo}", true);
+
+                from("direct:static").toD("unknown:foo", true).to("mock:result");
             }
         };
     }
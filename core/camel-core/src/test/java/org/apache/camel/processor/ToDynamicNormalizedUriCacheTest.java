@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ToDynamicNormalizedUriCacheTest extends ContextTestSupport {
+
+    @Test
+    public void testNormalizedUriCache() throws Exception {
+        getMockEndpoint("mock:x").expectedBodiesReceived("a", "c");
+        getMockEndpoint("mock:y").expectedBodiesReceived("b");
+
+        template.sendBodyAndHeader("direct:a", "a", "where", "x");
+        template.sendBodyAndHeader("direct:a", "b", "where", "y");
+        template.sendBodyAndHeader("direct:a", "c", "where", "x");
+        // the same endpoint with the query parameters in another order
+        template.sendBodyAndHeader("direct:a", "d", "where", "z?b=2&a=1");
+        template.sendBodyAndHeader("direct:a", "e", "where", "z?a=1&b=2");
+        template.sendBodyAndHeader("direct:a", "f", "where", "z?b=2&a=1");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(3, getMockEndpoint("mock:z?a=1&b=2").getReceivedCounter());
+
+        SendDynamicProcessor sdp = (SendDynamicProcessor) getProcessors("foo").get(0);
+        assertFalse(sdp.isStaticUri());
+        assertEquals(2, sdp.getNormalizedUriCacheHits());
+        assertEquals(4, sdp.getNormalizedUriCacheMisses());
+        // only the first message to mock:z creates the endpoint
+        assertEquals(5, sdp.getEndpointCacheHits());
+        assertEquals(1, sdp.getEndpointCacheMisses());
+
+        sdp.resetStatistics();
+        assertEquals(0, sdp.getNormalizedUriCacheHits());
+        assertEquals(0, sdp.getEndpointCacheMisses());
+    }
+
+    @Test
+    public void testStaticUri() throws Exception {
+        getMockEndpoint("mock:static").expectedBodiesReceived("a", "b");
+
+        template.sendBody("direct:b", "a");
+        template.sendBody("direct:b", "b");
+
+        assertMockEndpointsSatisfied();
+
+        SendDynamicProcessor sdp = (SendDynamicProcessor) getProcessors("bar").get(0);
+        assertTrue(sdp.isStaticUri());
+        // normalized upfront so not looked up in the cache
+        assertEquals(0, sdp.getNormalizedUriCacheHits());
+        assertEquals(0, sdp.getNormalizedUriCacheMisses());
+        assertEquals(2, sdp.getEndpointCacheHits());
+    }
+
+    @Test
+    public void testStaticLanguageUri() throws Exception {
+        getMockEndpoint("mock:constant").expectedBodiesReceived("a");
+
+        template.sendBody("direct:c", "a");
+
+        assertMockEndpointsSatisfied();
+
+        // the static uri is detected from the expression
+        SendDynamicProcessor sdp = (SendDynamicProcessor) getProcessors("baz").get(0);
+        assertTrue(sdp.isStaticUri());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:a")
+                        .toD("mock:${header.where}").id("foo");
+
+                from("direct:b")
+                        .toD("mock:static").id("bar");
+
+                from("direct:c")
+                        .toD("language:constant:mock:constant").id("baz");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.service.ServiceHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchingProducerTest extends ContextTestSupport {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testBatchSize() throws Exception {
+        MyBatchingProducer producer = new MyBatchingProducer();
+        producer.setBatchSize(3);
+        producer.setBatchTimeout(60000);
+        ServiceHelper.startService(producer);
+
+        List<Exchange> exchanges = send(producer, 3, "a", "b", "c");
+
+        assertEquals(1, batches.size());
+        assertEquals(List.of("a", "b", "c"), batches.get(0));
+        assertEquals("A", exchanges.get(0).getMessage().getBody());
+        assertEquals("C", exchanges.get(2).getMessage().getBody());
+        assertEquals(1, producer.getCompletedBySize());
+        assertEquals(3, producer.getLastBatchSize());
+        assertEquals(0, producer.getPendingExchanges());
+
+        ServiceHelper.stopService(producer);
+    }
+
+    @Test
+    public void testBatchTimeout() throws Exception {
+        MyBatchingProducer producer = new MyBatchingProducer();
+        producer.setBatchTimeout(100);
+        ServiceHelper.startService(producer);
+
+        send(producer, 2, "a", "b");
+
+        assertEquals(1, batches.size());
+        assertEquals(List.of("a", "b"), batches.get(0));
+        assertEquals(1, producer.getCompletedByTimeout());
+        assertEquals(2, producer.getBatchedExchanges());
+
+        ServiceHelper.stopService(producer);
+    }
+
+    @Test
+    public void testBatchBytes() throws Exception {
+        MyBatchingProducer producer = new MyBatchingProducer();
+        producer.setBatchBytes(10);
+        producer.setBatchTimeout(60000);
+        ServiceHelper.startService(producer);
+
+        send(producer, 2, "Hello", "World");
+
+        assertEquals(1, batches.size());
+        assertEquals(1, producer.getCompletedByBytes());
+
+        ServiceHelper.stopService(producer);
+    }
+
+    @Test
+    public void testBatchFailed() throws Exception {
+        MyBatchingProducer producer = new MyBatchingProducer();
+        producer.setBatchSize(2);
+        ServiceHelper.startService(producer);
+
+        List<Exchange> exchanges = send(producer, 4, "a", "b", "Kaboom", "c");
+
+        assertEquals(2, producer.getCompletedBatches());
+        assertEquals(1, producer.getFailedBatches());
+        assertEquals(2.0, producer.getAverageBatchSize());
+        assertNull(exchanges.get(0).getException());
+        assertNull(exchanges.get(1).getException());
+        // the whole batch failed
+        assertNotNull(exchanges.get(2).getException());
+        assertEquals("Forced", exchanges.get(3).getException().getMessage());
+
+        ServiceHelper.stopService(producer);
+    }
+
+    @Test
+    public void testProcessPendingOnStop() throws Exception {
+        MyBatchingProducer producer = new MyBatchingProducer();
+        producer.setBatchTimeout(60000);
+        ServiceHelper.startService(producer);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Exchange exchange = createExchangeWithBody("a");
+        producer.process(exchange, doneSync -> latch.countDown());
+        assertEquals(1, producer.getPendingExchanges());
+
+        ServiceHelper.stopService(producer);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("A", exchange.getMessage().getBody());
+    }
+
+    @Test
+    public void testProcessAfterStop() throws Exception {
+        MyBatchingProducer producer = new MyBatchingProducer();
+        ServiceHelper.startService(producer);
+        ServiceHelper.stopService(producer);
+
+        AtomicBoolean sync = new AtomicBoolean();
+        Exchange exchange = createExchangeWithBody("a");
+        assertTrue(producer.process(exchange, sync::set));
+
+        assertTrue(sync.get());
+        assertIsInstanceOf(RejectedExecutionException.class, exchange.getException());
+        assertEquals(0, producer.getPendingExchanges());
+    }
+
+    @Test
+    public void testCallbackFailureDoesNotStrandOthers() throws Exception {
+        MyBatchingProducer producer = new MyBatchingProducer();
+        producer.setBatchSize(3);
+        producer.setBatchTimeout(60000);
+        ServiceHelper.startService(producer);
+
+        CountDownLatch latch = new CountDownLatch(2);
+        producer.process(createExchangeWithBody("a"), doneSync -> latch.countDown());
+        producer.process(createExchangeWithBody("b"), doneSync -> {
+            throw new IllegalStateException("Forced");
+        });
+        producer.process(createExchangeWithBody("c"), doneSync -> latch.countDown());
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "The other exchanges should be completed");
+
+        ServiceHelper.stopService(producer);
+    }
+
+    private List<Exchange> send(MyBatchingProducer producer, int expected, String... bodies) throws Exception {
+        CountDownLatch latch = new CountDownLatch(expected);
+        List<Exchange> answer = new ArrayList<>();
+        for (String body : bodies) {
+            Exchange exchange = createExchangeWithBody(body);
+            answer.add(exchange);
+            producer.process(exchange, doneSync -> latch.countDown());
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "The batches should be processed");
+        return answer;
+    }
+
+    private class MyBatchingProducer extends BatchingProducer {
+
+        MyBatchingProducer() {
+            super(context.getEndpoint("mock:batch"));
+        }
+
+        @Override
+        protected void processBatch(List<Exchange> exchanges) throws Exception {
+            List<String> bodies = new ArrayList<>();
+            for (Exchange exchange : exchanges) {
+                String body = exchange.getMessage().getBody(String.class);
+                if ("Kaboom".equals(body)) {
+                    throw new IllegalArgumentException("Forced");
+                }
+                bodies.add(body);
+            }
+            for (Exchange exchange : exchanges) {
+                exchange.getMessage().setBody(exchange.getMessage().getBody(String.class).toUpperCase());
+            }
+            batches.add(bodies);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that headers and exchange properties are shared between an exchange and its copies until either side changes
+ * them.
+ */
+public class ExchangeCopyOnWriteTest {
+
+    private final CamelContext context = new DefaultCamelContext();
+
+    @BeforeEach
+    void startContext() {
+        // the headers map factory is set up when the context is started
+        context.start();
+    }
+
+    @AfterEach
+    void stopContext() {
+        context.stop();
+    }
+
+    @Test
+    void testHeadersSharedUntilChanged() {
+        Exchange parent = new DefaultExchange(context);
+        parent.getIn().setHeader("foo", "123");
+        parent.getIn().setHeader("bar", "456");
+
+        Exchange copy = parent.copy();
+        assertTrue(((DefaultMessage) parent.getIn()).isHeadersShared());
+        assertTrue(((DefaultMessage) copy.getIn()).isHeadersShared());
+        assertEquals("123", copy.getIn().getHeader("foo"));
+
+        copy.getIn().setHeader("foo", "abc");
+        copy.getIn().removeHeader("bar");
+        assertFalse(((DefaultMessage) copy.getIn()).isHeadersShared());
+        assertEquals("abc", copy.getIn().getHeader("foo"));
+        assertNull(copy.getIn().getHeader("bar"));
+        assertEquals("123", parent.getIn().getHeader("foo"));
+        assertEquals("456", parent.getIn().getHeader("bar"));
+
+        parent.getIn().setHeader("baz", "789");
+        assertFalse(((DefaultMessage) parent.getIn()).isHeadersShared());
+        assertNull(copy.getIn().getHeader("baz"));
+    }
+
+    @Test
+    void testExposedHeadersAreCopied() {
+        Exchange parent = new DefaultExchange(context);
+        parent.getIn().setHeader("foo", "123");
+        // the map may be held on to and changed directly, so it cannot be shared
+        Map<String, Object> headers = parent.getIn().getHeaders();
+
+        Exchange copy = parent.copy();
+        assertFalse(((DefaultMessage) copy.getIn()).isHeadersShared());
+
+        headers.put("foo", "abc");
+        assertEquals("abc", parent.getIn().getHeader("foo"));
+        assertEquals("123", copy.getIn().getHeader("foo"));
+    }
+
+    @Test
+    void testRemoveAllHeadersOnCopy() {
+        Exchange parent = new DefaultExchange(context);
+        parent.getIn().setHeader("foo", "123");
+        parent.getIn().setHeader("bar", "456");
+
+        Exchange copy = parent.copy();
+        copy.getIn().removeHeaders("*");
+        assertFalse(copy.getIn().hasHeaders());
+        assertEquals(2, parent.getIn().getHeaders().size());
+    }
+
+    @Test
+    void testPropertiesSharedUntilChanged() {
+        Exchange parent = new DefaultExchange(context);
+        parent.setProperty("foo", "123");
+        parent.setProperty("bar", "456");
+
+        Exchange copy = parent.copy();
+        assertEquals("123", copy.getProperty("foo"));
+
+        copy.setProperty("foo", "abc");
+        copy.removeProperty("bar");
+        assertEquals("abc", copy.getProperty("foo"));
+        assertNull(copy.getProperty("bar"));
+        assertEquals("123", parent.getProperty("foo"));
+        assertEquals("456", parent.getProperty("bar"));
+
+        parent.removeProperties("*");
+        assertFalse(parent.hasProperties());
+        assertEquals("abc", copy.getProperty("foo"));
+    }
+
+    @Test
+    void testExposedPropertiesAreCopied() {
+        Exchange parent = new DefaultExchange(context);
+        parent.setProperty("foo", "123");
+        Map<String, Object> properties = parent.getProperties();
+
+        Exchange copy = parent.copy();
+        properties.put("foo", "abc");
+        assertEquals("abc", parent.getProperty("foo"));
+        assertEquals("123", copy.getProperty("foo"));
+    }
+
+    @Test
+    void testManyCopies() {
+        Exchange parent = new DefaultExchange(context);
+        for (int i = 0; i < 20; i++) {
+            parent.getIn().setHeader("header" + i, i);
+            parent.setProperty("property" + i, i);
+        }
+
+        List<Exchange> copies = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            copies.add(parent.copy());
+        }
+        for (int i = 0; i < copies.size(); i++) {
+            Exchange copy = copies.get(i);
+            assertTrue(((DefaultMessage) copy.getIn()).isHeadersShared());
+            copy.getIn().setHeader("index", i);
+            copy.setProperty("index", i);
+        }
+        for (int i = 0; i < copies.size(); i++) {
+            Exchange copy = copies.get(i);
+            assertEquals(i, copy.getIn().getHeader("index"));
+            assertEquals(i, copy.getProperty("index"));
+            assertEquals(21, copy.getIn().getHeaders().size());
+        }
+        assertNull(parent.getIn().getHeader("index"));
+        assertNull(parent.getProperty("index"));
+        assertEquals(20, parent.getIn().getHeaders().size());
+    }
+
+}
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.util.PrehashedCaseInsensitiveMap.KnownKeys;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrehashedCaseInsensitiveMapTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PrehashedCaseInsensitiveMapTest.class);
+
+    private final KnownKeys knownKeys = new KnownKeys(Arrays.asList(Exchange.FILE_NAME, Exchange.HTTP_METHOD));
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new PrehashedCaseInsensitiveMap(knownKeys);
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+        map.put(Exchange.FILE_NAME, "hello.txt");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals("hello.txt", map.get(Exchange.FILE_NAME));
+        assertEquals("hello.txt", map.get("camelfilename"));
+        assertEquals("hello.txt", map.get(new String("CamelFileName")));
+        assertNull(map.get(Exchange.HTTP_METHOD));
+        assertNull(map.get(123));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testKnownKeysHashSameAsComputed() {
+        assertEquals(PrehashedCaseInsensitiveMap.foldedHash("camelfilename"), knownKeys.hash(Exchange.FILE_NAME));
+        assertEquals(knownKeys.hash(Exchange.FILE_NAME), knownKeys.hash("CAMELFILENAME"));
+        assertEquals(2, knownKeys.size());
+    }
+
+    @Test
+    public void testSetWithDifferentCase() {
+        Map<String, Object> map = new PrehashedCaseInsensitiveMap(knownKeys);
+        map.put("foo", "cheese");
+        map.put("Foo", "bar");
+
+        assertEquals(1, map.size());
+        assertEquals("bar", map.get("FOO"));
+        // keeps the case of the first key
+        assertEquals("foo", map.keySet().iterator().next());
+    }
+
+    @Test
+    public void testRemoveWithDifferentCase() {
+        Map<String, Object> map = new PrehashedCaseInsensitiveMap(knownKeys);
+        map.put("foo", "cheese");
+        map.put("Foo", "bar");
+
+        assertEquals("bar", map.remove("FOO"));
+        assertNull(map.get("foo"));
+        assertTrue(map.isEmpty());
+        assertNull(map.remove("foo"));
+    }
+
+    @Test
+    public void testManyKeys() {
+        Map<String, Object> map = new PrehashedCaseInsensitiveMap(knownKeys);
+        for (int i = 0; i < 1000; i++) {
+            map.put("key" + i, i);
+        }
+        // remove every second key so removed entries are compacted when the map grows
+        for (int i = 0; i < 1000; i += 2) {
+            assertEquals(i, map.remove("KEY" + i));
+        }
+        for (int i = 1000; i < 2000; i++) {
+            map.put("key" + i, i);
+        }
+        assertEquals(1500, map.size());
+        for (int i = 0; i < 2000; i++) {
+            if (i < 1000 && i % 2 == 0) {
+                assertFalse(map.containsKey("Key" + i));
+            } else {
+                assertEquals(i, map.get("Key" + i));
+            }
+        }
+    }
+
+    @Test
+    public void testInsertionOrder() {
+        Map<String, Object> map = new PrehashedCaseInsensitiveMap(knownKeys);
+        map.put("c", 3);
+        map.put("a", 1);
+        map.put("b", 2);
+        map.remove("a");
+        map.put("A", 4);
+
+        assertEquals("[c, b, A]", map.keySet().toString());
+        assertEquals("[3, 2, 4]", map.values().toString());
+    }
+
+    @Test
+    public void testIteratorRemoveAndSetValue() {
+        Map<String, Object> map = new PrehashedCaseInsensitiveMap(knownKeys);
+        map.put("foo", 1);
+        map.put("bar", 2);
+        map.put("baz", 3);
+
+        Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Object> entry = it.next();
+            if (entry.getKey().equals("bar")) {
+                it.remove();
+            } else {
+                entry.setValue(entry.getValue() + "!");
+            }
+        }
+
+        assertEquals(2, map.size());
+        assertEquals("1!", map.get("FOO"));
+        assertEquals("3!", map.get("BAZ"));
+        assertNull(map.get("bar"));
+
+        map.keySet().removeIf(k -> k.startsWith("f"));
+        assertEquals(1, map.size());
+        map.entrySet().clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testConstructFromOther() {
+        Map<String, Object> other = new LinkedHashMap<>();
+        other.put("Foo", "cheese");
+        other.put("bar", 123);
+
+        Map<String, Object> map = new PrehashedCaseInsensitiveMap(knownKeys, other);
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals(123, map.get("BaR"));
+
+        Map<String, Object> copy = new PrehashedCaseInsensitiveMap(knownKeys, map);
+        copy.put("foo", "beer");
+        assertEquals("beer", copy.get("FOO"));
+        assertEquals(123, copy.get("bar"));
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals(map.keySet(), other.keySet());
+
+        // copy with removed entries
+        map.remove("foo");
+        copy = new PrehashedCaseInsensitiveMap(knownKeys, map);
+        assertEquals(1, copy.size());
+        assertEquals(123, copy.get("BAR"));
+    }
+
+    @Test
+    public void testEqualsToOtherMap() {
+        Map<String, Object> map = new PrehashedCaseInsensitiveMap(knownKeys);
+        map.put("foo", "cheese");
+        map.put(Exchange.FILE_NAME, "hello.txt");
+
+        Map<String, Object> other = new HashMap<>(map);
+        assertEquals(other, map);
+        assertEquals(map, other);
+        assertEquals(other.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        Map<String, Object> map = new PrehashedCaseInsensitiveMap(knownKeys);
+        map.put("foo", "cheese");
+        map.put(Exchange.FILE_NAME, "hello.txt");
+
+        ByteArrayOutputStream bStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objStream = new ObjectOutputStream(bStream)) {
+            objStream.writeObject(map);
+        }
+        ObjectInputStream inStream = new ObjectInputStream(new ByteArrayInputStream(bStream.toByteArray()));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> copy = (Map<String, Object>) inStream.readObject();
+
+        assertEquals("cheese", copy.get("FOO"));
+        assertEquals("hello.txt", copy.get(Exchange.FILE_NAME));
+        copy.put("bar", 123);
+        assertEquals(123, copy.get("BAR"));
+    }
+
+    @Disabled("Manual test")
+    @Test
+    public void testLookupPerformance() {
+        String[] names = { Exchange.FILE_NAME, Exchange.HTTP_METHOD, "foo", "Content-Type" };
+        for (int round = 0; round < 5; round++) {
+            long prehashed = lookup(new PrehashedCaseInsensitiveMap(knownKeys), names);
+            long tree = lookup(new CaseInsensitiveMap(), names);
+            LOG.info("Lookups took " + prehashed / 1000000 + " ms (prehashed) vs " + tree / 1000000 + " ms (tree)");
+        }
+    }
+
+    private static long lookup(Map<String, Object> map, String[] names) {
+        for (int i = 0; i < 20; i++) {
+            map.put("header" + i, i);
+        }
+        for (String name : names) {
+            map.put(name, name);
+        }
+        long start = System.nanoTime();
+        int hits = 0;
+        for (int i = 0; i < 10000000; i++) {
+            if (map.get(names[i & 3]) != null) {
+                hits++;
+            }
+        }
+        assertEquals(10000000, hits);
+        return System.nanoTime() - start;
+    }
+
+}
@@ -143,6 +143,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteControllerIncludeRoutes": target.setRouteControllerIncludeRoutes(property(camelContext, java.lang.String.class, value)); return true;
         case "routecontrollerinitialdelay":
         case "RouteControllerInitialDelay": target.setRouteControllerInitialDelay(property(camelContext, long.class, value)); return true;
+        case "routecontrollerlazystartroutes":
+        case "RouteControllerLazyStartRoutes": target.setRouteControllerLazyStartRoutes(property(camelContext, java.lang.String.class, value)); return true;
         case "routecontrollerlogginglevel":
         case "RouteControllerLoggingLevel": target.setRouteControllerLoggingLevel(property(camelContext, org.apache.camel.LoggingLevel.class, value)); return true;
         case "routecontrollersuperviseenabled":
@@ -193,6 +195,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "ShutdownTimeout": target.setShutdownTimeout(property(camelContext, int.class, value)); return true;
         case "sourcelocationenabled":
         case "SourceLocationEnabled": target.setSourceLocationEnabled(property(camelContext, boolean.class, value)); return true;
+        case "startupindexenabled":
+        case "StartupIndexEnabled": target.setStartupIndexEnabled(property(camelContext, boolean.class, value)); return true;
         case "startuprecorder":
         case "StartupRecorder": target.setStartupRecorder(property(camelContext, java.lang.String.class, value)); return true;
         case "startuprecorderdir":
@@ -374,6 +378,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteControllerIncludeRoutes": return java.lang.String.class;
         case "routecontrollerinitialdelay":
         case "RouteControllerInitialDelay": return long.class;
+        case "routecontrollerlazystartroutes":
+        case "RouteControllerLazyStartRoutes": return java.lang.String.class;
         case "routecontrollerlogginglevel":
         case "RouteControllerLoggingLevel": return org.apache.camel.LoggingLevel.class;
         case "routecontrollersuperviseenabled":
@@ -424,6 +430,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "ShutdownTimeout": return int.class;
         case "sourcelocationenabled":
         case "SourceLocationEnabled": return boolean.class;
+        case "startupindexenabled":
+        case "StartupIndexEnabled": return boolean.class;
         case "startuprecorder":
         case "StartupRecorder": return java.lang.String.class;
         case "startuprecorderdir":
@@ -606,6 +614,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteControllerIncludeRoutes": return target.getRouteControllerIncludeRoutes();
         case "routecontrollerinitialdelay":
         case "RouteControllerInitialDelay": return target.getRouteControllerInitialDelay();
+        case "routecontrollerlazystartroutes":
+        case "RouteControllerLazyStartRoutes": return target.getRouteControllerLazyStartRoutes();
         case "routecontrollerlogginglevel":
         case "RouteControllerLoggingLevel": return target.getRouteControllerLoggingLevel();
         case "routecontrollersuperviseenabled":
@@ -656,6 +666,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "ShutdownTimeout": return target.getShutdownTimeout();
         case "sourcelocationenabled":
         case "SourceLocationEnabled": return target.isSourceLocationEnabled();
+        case "startupindexenabled":
+        case "StartupIndexEnabled": return target.isStartupIndexEnabled();
         case "startuprecorder":
         case "StartupRecorder": return target.getStartupRecorder();
         case "startuprecorderdir":
@@ -99,6 +99,7 @@ public abstract class BaseMainSupport extends BaseService {
     protected MainConfigurationProperties mainConfigurationProperties = new MainConfigurationProperties();
     protected OrderedLocationProperties wildcardProperties = new OrderedLocationProperties();
     protected RoutesCollector routesCollector = new DefaultRoutesCollector();
+    protected StartupIndex startupIndex;
     protected String propertyPlaceholderLocations;
     protected String defaultPropertyPlaceholderLocation = DEFAULT_PROPERTY_PLACEHOLDER_LOCATION;
     protected Properties initialProperties;
@@ -263,12 +264,18 @@ public abstract class BaseMainSupport extends BaseService {
         // auto-detect camel configurations via base package scanning
         String basePackage = camelContext.adapt(ExtendedCamelContext.class).getBasePackageScan();
         if (basePackage != null) {
-            PackageScanClassResolver pscr = camelContext.adapt(ExtendedCamelContext.class).getPackageScanClassResolver();
-            Set<Class<?>> found1 = pscr.findImplementations(CamelConfiguration.class, basePackage);
-            Set<Class<?>> found2 = pscr.findAnnotated(Configuration.class, basePackage);
             Set<Class<?>> found = new LinkedHashSet<>();
-            found.addAll(found1);
-            found.addAll(found2);
+            if (startupIndex != null) {
+                // the configuration classes has been found at build time
+                found.addAll(StartupIndex.findClasses(camelContext.getClassResolver(),
+                        startupIndex.getConfigurationClasses(), basePackage.split(",")));
+            } else {
+                PackageScanClassResolver pscr = camelContext.adapt(ExtendedCamelContext.class).getPackageScanClassResolver();
+                Set<Class<?>> found1 = pscr.findImplementations(CamelConfiguration.class, basePackage);
+                Set<Class<?>> found2 = pscr.findAnnotated(Configuration.class, basePackage);
+                found.addAll(found1);
+                found.addAll(found2);
+            }
             for (Class<?> clazz : found) {
                 // lets use Camel's injector so the class has some support for dependency injection
                 Object config = camelContext.getInjector().newInstance(clazz);
@@ -467,6 +474,28 @@ public abstract class BaseMainSupport extends BaseService {
         helper.bootstrapDone();
     }
 
+    protected void configureStartupIndex(CamelContext camelContext) throws Exception {
+        // we need to load this configuration early as the factory finders should use the startup index
+        // before any factories are looked up during bootstrapping Camel
+        Properties prop = camelContext.getPropertiesComponent().loadProperties(
+                name -> name.startsWith("camel.main.startup"), MainHelper::optionKey);
+        Object value = prop.remove("camel.main.startupIndexEnabled");
+        if (ObjectHelper.isNotEmpty(value)) {
+            mainConfigurationProperties.setStartupIndexEnabled("true".equalsIgnoreCase(value.toString()));
+        }
+
+        if (mainConfigurationProperties.isStartupIndexEnabled()) {
+            startupIndex = StartupIndex.loadStartupIndex(camelContext.getClassResolver());
+            if (startupIndex != null) {
+                LOG.debug("Using startup index with {} factories, {} route builders and {} configurations",
+                        startupIndex.getFactories().size(), startupIndex.getRoutesBuilderClasses().size(),
+                        startupIndex.getConfigurationClasses().size());
+                camelContext.adapt(ExtendedCamelContext.class)
+                        .setFactoryFinderResolver(new StartupIndexFactoryFinderResolver(startupIndex));
+            }
+        }
+    }
+
     protected void configureStartupRecorder(CamelContext camelContext) {
         // we need to load these configurations early as they control the startup recorder when using camel-jfr
         // and we want to start jfr recording as early as possible to also capture details during bootstrapping Camel
@@ -549,6 +578,7 @@ public abstract class BaseMainSupport extends BaseService {
         if (mainConfigurationProperties.isBasePackageScanEnabled()) {
             // only set the base package if enabled
             configurer.setBasePackageScan(mainConfigurationProperties.getBasePackageScan());
+            configurer.setStartupIndex(startupIndex);
         }
         configurer.setJavaRoutesExcludePattern(mainConfigurationProperties.getJavaRoutesExcludePattern());
         configurer.setJavaRoutesIncludePattern(mainConfigurationProperties.getJavaRoutesIncludePattern());
@@ -572,6 +602,7 @@ public abstract class BaseMainSupport extends BaseService {
         if (mainConfigurationProperties.isBasePackageScanEnabled()) {
             // only set the base package if enabled
             configurer.setBasePackageScan(mainConfigurationProperties.getBasePackageScan());
+            configurer.setStartupIndex(startupIndex);
         }
         configurer.setJavaRoutesExcludePattern(mainConfigurationProperties.getJavaRoutesExcludePattern());
         configurer.setJavaRoutesIncludePattern(mainConfigurationProperties.getJavaRoutesIncludePattern());
@@ -594,7 +625,8 @@ public abstract class BaseMainSupport extends BaseService {
         // register listener on properties component so we can capture them
         PropertiesComponent pc = camelContext.getPropertiesComponent();
         pc.addPropertiesLookupListener(new PropertyPlaceholderListener(propertyPlaceholders));
-        // setup startup recorder before building context
+        // setup startup index and recorder before building context
+        configureStartupIndex(camelContext);
         configureStartupRecorder(camelContext);
         // setup package scan
         configurePackageScan(camelContext);
@@ -328,6 +328,9 @@ public final class DefaultConfigurationConfigurer {
         if (config.getRouteControllerLoggingLevel() != null) {
             camelContext.getRouteController().setLoggingLevel(config.getRouteControllerLoggingLevel());
         }
+        if (config.getRouteControllerLazyStartRoutes() != null) {
+            camelContext.getRouteController().setLazyStartRoutes(config.getRouteControllerLazyStartRoutes());
+        }
     }
 
     /**
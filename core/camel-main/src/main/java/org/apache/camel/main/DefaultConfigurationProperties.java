@@ -134,6 +134,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private long routeControllerBackOffMaxAttempts;
     private double routeControllerBackOffMultiplier;
     private boolean routeControllerUnhealthyOnExhausted;
+    private String routeControllerLazyStartRoutes;
     // startup recorder
     @Metadata(enums = "false,off,java-flight-recorder,jfr,logging")
     private String startupRecorder;
@@ -1417,6 +1418,28 @@ public abstract class DefaultConfigurationProperties<T> {
         this.routeControllerUnhealthyOnExhausted = routeControllerUnhealthyOnExhausted;
     }
 
+    public String getRouteControllerLazyStartRoutes() {
+        return routeControllerLazyStartRoutes;
+    }
+
+    /**
+     * Pattern for filtering routes which should be lazily created and started on first use.
+     *
+     * Only routes consuming from direct or seda endpoints can be lazy started. Such routes are not created when Camel
+     * starts up, instead they are created and started when the first message is sent to the endpoint they consume from,
+     * or when they are started, stopped or suspended via the route controller. This can reduce startup time for
+     * applications with many rarely used routes.
+     *
+     * The pattern is matching on route id, and endpoint uri for the route. Multiple patterns can be separated by comma.
+     *
+     * For example to lazy start all direct routes, you can say <tt>direct:*</tt>. And to lazy start routes with
+     * specific route ids <tt>myErrorRoute,myAdminRoute</tt>. The pattern supports wildcards and uses the matcher from
+     * org.apache.camel.support.PatternHelper#matchPattern.
+     */
+    public void setRouteControllerLazyStartRoutes(String routeControllerLazyStartRoutes) {
+        this.routeControllerLazyStartRoutes = routeControllerLazyStartRoutes;
+    }
+
     public String getStartupRecorder() {
         return startupRecorder;
     }
@@ -2464,6 +2487,25 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Pattern for filtering routes which should be lazily created and started on first use.
+     *
+     * Only routes consuming from direct or seda endpoints can be lazy started. Such routes are not created when Camel
+     * starts up, instead they are created and started when the first message is sent to the endpoint they consume from,
+     * or when they are started, stopped or suspended via the route controller. This can reduce startup time for
+     * applications with many rarely used routes.
+     *
+     * The pattern is matching on route id, and endpoint uri for the route. Multiple patterns can be separated by comma.
+     *
+     * For example to lazy start all direct routes, you can say <tt>direct:*</tt>. And to lazy start routes with
+     * specific route ids <tt>myErrorRoute,myAdminRoute</tt>. The pattern supports wildcards and uses the matcher from
+     * org.apache.camel.support.PatternHelper#matchPattern.
+     */
+    public T withRouteControllerLazyStartRoutes(String routeControllerLazyStartRoutes) {
+        this.routeControllerLazyStartRoutes = routeControllerLazyStartRoutes;
+        return (T) this;
+    }
+
     /**
      * To use startup recorder for capturing execution time during starting Camel. The recorder can be one of: false (or
      * off), logging, java-flight-recorder (or jfr).
@@ -42,6 +42,7 @@ public class MainConfigurationProperties extends DefaultConfigurationProperties<
     private int extraShutdownTimeout = 15;
     private String basePackageScan;
     private boolean basePackageScanEnabled = true;
+    private boolean startupIndexEnabled;
     private String routesCompileDirectory;
     private boolean routesCompileLoadFirst;
 
@@ -356,6 +357,25 @@ public class MainConfigurationProperties extends DefaultConfigurationProperties<
         this.basePackageScanEnabled = basePackageScanEnabled;
     }
 
+    public boolean isStartupIndexEnabled() {
+        return startupIndexEnabled;
+    }
+
+    /**
+     * Whether to use the startup index, if the application has been built with a startup index using the
+     * prepare-startup-index goal of the camel-maven-plugin. The startup index holds the factory classes of the
+     * components, languages, data formats and configurers, and the route builder and configuration classes, which
+     * allows Camel to start without looking up the factory files and without classpath scanning of the base package.
+     *
+     * Only enable this when the startup index is built as part of the application, as the first startup index found on
+     * the classpath is used, and the route builder and configuration classes are then no longer scanned.
+     *
+     * This option is default disabled.
+     */
+    public void setStartupIndexEnabled(boolean startupIndexEnabled) {
+        this.startupIndexEnabled = startupIndexEnabled;
+    }
+
     public String getRoutesCompileDirectory() {
         return routesCompileDirectory;
     }
@@ -644,6 +664,22 @@ public class MainConfigurationProperties extends DefaultConfigurationProperties<
         return this;
     }
 
+    /**
+     * Whether to use the startup index, if the application has been built with a startup index using the
+     * prepare-startup-index goal of the camel-maven-plugin. The startup index holds the factory classes of the
+     * components, languages, data formats and configurers, and the route builder and configuration classes, which
+     * allows Camel to start without looking up the factory files and without classpath scanning of the base package.
+     *
+     * Only enable this when the startup index is built as part of the application, as the first startup index found on
+     * the classpath is used, and the route builder and configuration classes are then no longer scanned.
+     *
+     * This option is default disabled.
+     */
+    public MainConfigurationProperties withStartupIndexEnabled(boolean startupIndexEnabled) {
+        this.startupIndexEnabled = startupIndexEnabled;
+        return this;
+    }
+
     /**
      * Directory to use for saving runtime compiled Camel routes to class files, when using camel-java-joor-dsl as Java
      * DSL (such as when using Camel K with Java source routes). Camel will compile to in-memory only by default.
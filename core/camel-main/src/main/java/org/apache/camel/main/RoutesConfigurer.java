@@ -46,6 +46,7 @@ public class RoutesConfigurer {
     private CamelBeanPostProcessor beanPostProcessor;
     private List<RoutesBuilder> routesBuilders;
     private String basePackageScan;
+    private StartupIndex startupIndex;
     private String routesBuilderClasses;
     private String javaRoutesExcludePattern;
     private String javaRoutesIncludePattern;
@@ -68,6 +69,18 @@ public class RoutesConfigurer {
         this.basePackageScan = basePackageScan;
     }
 
+    public StartupIndex getStartupIndex() {
+        return startupIndex;
+    }
+
+    /**
+     * The startup index to use for finding the route builder classes of the base package, instead of classpath
+     * scanning.
+     */
+    public void setStartupIndex(StartupIndex startupIndex) {
+        this.startupIndex = startupIndex;
+    }
+
     public String getRoutesBuilderClasses() {
         return routesBuilderClasses;
     }
@@ -153,9 +166,16 @@ public class RoutesConfigurer {
 
         if (getBasePackageScan() != null) {
             String[] pkgs = getBasePackageScan().split(",");
-            Set<Class<?>> set = camelContext.adapt(ExtendedCamelContext.class)
-                    .getPackageScanClassResolver()
-                    .findImplementations(RoutesBuilder.class, pkgs);
+            Set<Class<?>> set;
+            if (getStartupIndex() != null) {
+                // the route builder classes has been found at build time
+                set = StartupIndex.findClasses(camelContext.getClassResolver(),
+                        getStartupIndex().getRoutesBuilderClasses(), pkgs);
+            } else {
+                set = camelContext.adapt(ExtendedCamelContext.class)
+                        .getPackageScanClassResolver()
+                        .findImplementations(RoutesBuilder.class, pkgs);
+            }
             for (Class<?> routeClazz : set) {
                 Object builder = camelContext.getInjector().newInstance(routeClazz);
                 if (builder instanceof RoutesBuilder) {
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.apache.camel.spi.ClassResolver;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A startup index which has been prepared at build time by the <tt>prepare-startup-index</tt> goal of the
+ * camel-maven-plugin.
+ * <p/>
+ * The index holds the factory classes (components, languages, data formats, configurers etc.) found in the
+ * <tt>META-INF/services/org/apache/camel</tt> factory files on the classpath, and the {@link org.apache.camel.RoutesBuilder}
+ * and {@link org.apache.camel.CamelConfiguration} classes of the application. This allows Camel Main to start
+ * without looking up each of the factory files on the classpath, and without classpath scanning of the base package.
+ */
+public final class StartupIndex {
+
+    /**
+     * The location of the startup index on the classpath
+     */
+    public static final String RESOURCE = "META-INF/services/org/apache/camel/StartupIndex";
+
+    /**
+     * Prefix of the keys in the startup index which holds the factory class of a factory file
+     */
+    public static final String FACTORY_PREFIX = "factory.";
+
+    /**
+     * Key in the startup index which holds the route builder classes
+     */
+    public static final String ROUTES_BUILDER_CLASSES = "routesBuilderClasses";
+
+    /**
+     * Key in the startup index which holds the configuration classes
+     */
+    public static final String CONFIGURATION_CLASSES = "configurationClasses";
+
+    private final Map<String, String> factories;
+    private final Set<String> routesBuilderClasses;
+    private final Set<String> configurationClasses;
+
+    public StartupIndex(Map<String, String> factories, Set<String> routesBuilderClasses, Set<String> configurationClasses) {
+        this.factories = Collections.unmodifiableMap(factories);
+        this.routesBuilderClasses = Collections.unmodifiableSet(routesBuilderClasses);
+        this.configurationClasses = Collections.unmodifiableSet(configurationClasses);
+    }
+
+    /**
+     * Loads the startup index from the classpath.
+     *
+     * @return the index, or <tt>null</tt> if there is no startup index on the classpath
+     */
+    public static StartupIndex loadStartupIndex(ClassResolver classResolver) throws IOException {
+        InputStream is = classResolver.loadResourceAsStream(RESOURCE);
+        if (is == null) {
+            return null;
+        }
+        Properties prop = new Properties();
+        try {
+            prop.load(IOHelper.buffered(is));
+        } finally {
+            IOHelper.close(is);
+        }
+
+        Map<String, String> factories = new LinkedHashMap<>();
+        for (String key : prop.stringPropertyNames()) {
+            if (key.startsWith(FACTORY_PREFIX)) {
+                factories.put(key.substring(FACTORY_PREFIX.length()), prop.getProperty(key));
+            }
+        }
+        return new StartupIndex(
+                factories, split(prop.getProperty(ROUTES_BUILDER_CLASSES)), split(prop.getProperty(CONFIGURATION_CLASSES)));
+    }
+
+    private static Set<String> split(String value) {
+        Set<String> answer = new LinkedHashSet<>();
+        if (ObjectHelper.isNotEmpty(value)) {
+            for (String part : value.split(",")) {
+                part = part.trim();
+                if (!part.isEmpty()) {
+                    answer.add(part);
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Gets the factory class of the given factory file
+     *
+     * @param  resource the location of the factory file, such as
+     *                  <tt>META-INF/services/org/apache/camel/component/timer</tt>
+     * @return          the factory class name, or <tt>null</tt> if the factory file is not in the index
+     */
+    public String getFactoryClass(String resource) {
+        return factories.get(resource);
+    }
+
+    /**
+     * The factory classes, keyed by the location of their factory file
+     */
+    public Map<String, String> getFactories() {
+        return factories;
+    }
+
+    /**
+     * The route builder classes of the application
+     */
+    public Set<String> getRoutesBuilderClasses() {
+        return routesBuilderClasses;
+    }
+
+    /**
+     * The configuration classes of the application
+     */
+    public Set<String> getConfigurationClasses() {
+        return configurationClasses;
+    }
+
+    /**
+     * Finds the classes from the given set which are in any of the packages (or their sub packages)
+     *
+     * @param  classResolver the class resolver
+     * @param  classes       the class names such as from {@link #getRoutesBuilderClasses()}
+     * @param  packageNames  the package names
+     * @return               the classes which are in any of the packages
+     */
+    public static Set<Class<?>> findClasses(ClassResolver classResolver, Set<String> classes, String... packageNames) {
+        Set<Class<?>> answer = new LinkedHashSet<>();
+        for (String name : classes) {
+            for (String pkg : packageNames) {
+                pkg = pkg.trim();
+                if (name.startsWith(pkg + ".")) {
+                    Class<?> clazz = classResolver.resolveClass(name);
+                    if (clazz != null) {
+                        answer.add(clazz);
+                    }
+                    break;
+                }
+            }
+        }
+        return answer;
+    }
+
+}
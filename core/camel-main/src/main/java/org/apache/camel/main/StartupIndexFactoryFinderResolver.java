@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.camel.impl.engine.BootstrapFactoryFinder;
+import org.apache.camel.impl.engine.DefaultFactoryFinder;
+import org.apache.camel.impl.engine.DefaultFactoryFinderResolver;
+import org.apache.camel.spi.ClassResolver;
+import org.apache.camel.spi.FactoryFinder;
+
+/**
+ * A {@link org.apache.camel.spi.FactoryFinderResolver} which looks up the factory classes in the {@link StartupIndex}
+ * before looking for the factory files on the classpath.
+ */
+public class StartupIndexFactoryFinderResolver extends DefaultFactoryFinderResolver {
+
+    private final StartupIndex index;
+
+    public StartupIndexFactoryFinderResolver(StartupIndex index) {
+        this.index = index;
+    }
+
+    public StartupIndex getIndex() {
+        return index;
+    }
+
+    @Override
+    public FactoryFinder resolveFactoryFinder(ClassResolver classResolver, String resourcePath) {
+        return new IndexedFactoryFinder(classResolver, resourcePath);
+    }
+
+    @Override
+    public FactoryFinder resolveBootstrapFactoryFinder(ClassResolver classResolver, String resourcePath) {
+        return new IndexedBootstrapFactoryFinder(classResolver, resourcePath);
+    }
+
+    private Class<?> findIndexedClass(
+            Map<String, Class<?>> classMap, ClassResolver classResolver, String resourcePath, String key) {
+        String className = index.getFactoryClass(resourcePath + key);
+        if (className == null) {
+            return null;
+        }
+        // the class may no longer be on the classpath, if the index is stale
+        return classMap.computeIfAbsent(key, k -> classResolver.resolveClass(className));
+    }
+
+    private final class IndexedFactoryFinder extends DefaultFactoryFinder {
+
+        IndexedFactoryFinder(ClassResolver classResolver, String resourcePath) {
+            super(classResolver, resourcePath);
+        }
+
+        @Override
+        public Optional<Class<?>> findClass(String key) {
+            Class<?> clazz = findIndexedClass(classMap, classResolver, getResourcePath(), key);
+            return clazz != null ? Optional.of(clazz) : super.findClass(key);
+        }
+
+        @Override
+        public Optional<Class<?>> findOptionalClass(String key) {
+            Class<?> clazz = findIndexedClass(classMap, classResolver, getResourcePath(), key);
+            return clazz != null ? Optional.of(clazz) : super.findOptionalClass(key);
+        }
+    }
+
+    private final class IndexedBootstrapFactoryFinder extends BootstrapFactoryFinder {
+
+        IndexedBootstrapFactoryFinder(ClassResolver classResolver, String resourcePath) {
+            super(classResolver, resourcePath);
+        }
+
+        @Override
+        public Optional<Class<?>> findClass(String key) {
+            Class<?> clazz = findIndexedClass(classMap, classResolver, getResourcePath(), key);
+            return clazz != null ? Optional.of(clazz) : super.findClass(key);
+        }
+
+        @Override
+        public Optional<Class<?>> findOptionalClass(String key) {
+            Class<?> clazz = findIndexedClass(classMap, classResolver, getResourcePath(), key);
+            return clazz != null ? Optional.of(clazz) : super.findOptionalClass(key);
+        }
+    }
+}
@@ -40,6 +40,7 @@ public class ThreadPoolConfigurationProperties implements BootstrapCloseable {
     private Integer maxQueueSize;
     private Boolean allowCoreThreadTimeOut;
     private ThreadPoolRejectedPolicy rejectedPolicy;
+    private Boolean virtualThreads;
 
     // profile specific values
     private Map<String, ThreadPoolProfileConfigurationProperties> config = new HashMap<>();
@@ -138,6 +139,20 @@ public class ThreadPoolConfigurationProperties implements BootstrapCloseable {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Whether to use virtual threads (requires Java 21 or newer).
+     *
+     * When enabled, the max pool size is used as a limit of the number of concurrent tasks, instead of the number of
+     * threads in the pool.
+     */
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     public Map<String, ThreadPoolProfileConfigurationProperties> getConfig() {
         return config;
     }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.io.InputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.engine.DefaultClassResolver;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class MainStartupIndexTest {
+
+    @Test
+    public void testStartupIndex() throws Exception {
+        Main main = new MyMain();
+        main.configure().withBasePackageScan("org.apache.camel.main.scan");
+        main.configure().withStartupIndexEnabled(true);
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        assertNotNull(camelContext);
+        assertInstanceOf(StartupIndexFactoryFinderResolver.class,
+                camelContext.adapt(ExtendedCamelContext.class).getFactoryFinderResolver());
+
+        // only the route builders from the index should be used instead of classpath scanning
+        assertEquals(2, camelContext.getRoutes().size());
+
+        MockEndpoint endpoint = camelContext.getEndpoint("mock:scan", MockEndpoint.class);
+        endpoint.expectedBodiesReceived("Hello World");
+        MockEndpoint endpoint2 = camelContext.getEndpoint("mock:concrete", MockEndpoint.class);
+        endpoint2.expectedBodiesReceived("Hola World");
+
+        main.getCamelTemplate().sendBody("direct:scan", "Hello World");
+        main.getCamelTemplate().sendBody("direct:concrete", "Hola World");
+
+        endpoint.assertIsSatisfied();
+        endpoint2.assertIsSatisfied();
+
+        // camel configuration from the index should be used
+        assertEquals("true", camelContext.getGlobalOption("scanConfigured"));
+        assertNull(camelContext.getRegistry().lookupByName("address"));
+
+        // the component is resolved from the index as there is no factory file for it
+        assertInstanceOf(MockEndpoint.class, camelContext.getEndpoint("indexed:foo"));
+        // the component is resolved from the classpath when the class in the index is not found
+        assertNotNull(camelContext.getEndpoint("seda:foo"));
+
+        main.stop();
+    }
+
+    @Test
+    public void testStartupIndexDisabled() throws Exception {
+        Main main = new MyMain();
+        main.configure().withBasePackageScan("org.apache.camel.main.scan");
+        // the startup index is disabled by default
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        assertNotNull(camelContext);
+        // classpath scanning is used
+        assertEquals(3, camelContext.getRoutes().size());
+
+        main.stop();
+    }
+
+    private static class MyMain extends Main {
+
+        @Override
+        protected CamelContext createCamelContext() {
+            CamelContext answer = super.createCamelContext();
+            answer.setClassResolver(new DefaultClassResolver(answer) {
+                @Override
+                public InputStream loadResourceAsStream(String uri) {
+                    if (StartupIndex.RESOURCE.equals(uri)) {
+                        uri = "org/apache/camel/main/startup-index.properties";
+                    }
+                    return super.loadResourceAsStream(uri);
+                }
+            });
+            return answer;
+        }
+    }
+
+}
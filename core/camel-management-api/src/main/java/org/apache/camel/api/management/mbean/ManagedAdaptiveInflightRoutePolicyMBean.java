@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.api.management.mbean;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+
+public interface ManagedAdaptiveInflightRoutePolicyMBean extends ManagedServiceMBean {
+
+    @ManagedAttribute(description = "Initial limit of inflight exchanges")
+    int getInitialLimit();
+
+    @ManagedAttribute(description = "Initial limit of inflight exchanges")
+    void setInitialLimit(int initialLimit);
+
+    @ManagedAttribute(description = "Minimum limit of inflight exchanges")
+    int getMinLimit();
+
+    @ManagedAttribute(description = "Minimum limit of inflight exchanges")
+    void setMinLimit(int minLimit);
+
+    @ManagedAttribute(description = "Maximum limit of inflight exchanges")
+    int getMaxLimit();
+
+    @ManagedAttribute(description = "Maximum limit of inflight exchanges")
+    void setMaxLimit(int maxLimit);
+
+    @ManagedAttribute(description = "Tolerance of the recent latency compared to the long term latency")
+    double getTolerance();
+
+    @ManagedAttribute(description = "Tolerance of the recent latency compared to the long term latency")
+    void setTolerance(double tolerance);
+
+    @ManagedAttribute(description = "Factor the limit is multiplied with when an exchange failed")
+    double getBackoffRatio();
+
+    @ManagedAttribute(description = "Factor the limit is multiplied with when an exchange failed")
+    void setBackoffRatio(double backoffRatio);
+
+    @ManagedAttribute(description = "Resume percentage of the current limit of inflight exchanges")
+    int getResumePercentOfLimit();
+
+    @ManagedAttribute(description = "Resume percentage of the current limit of inflight exchanges")
+    void setResumePercentOfLimit(int resumePercentOfLimit);
+
+    @ManagedAttribute(description = "Logging Level")
+    String getLoggingLevel();
+
+    @ManagedAttribute(description = "Logging Level")
+    void setLoggingLevel(String loggingLevel);
+
+    @ManagedOperation(description = "The current limit of inflight exchanges for the given route")
+    int currentLimit(String routeId);
+
+    @ManagedOperation(description = "Resets the limits of all the routes back to the initial limit")
+    void reset();
+
+}
@@ -42,6 +42,21 @@ public interface ManagedSendDynamicProcessorMBean extends ManagedProcessorMBean,
     @ManagedAttribute(description = "Whether an optimised component (SendDynamicAware) is in use")
     Boolean isOptimised();
 
+    @ManagedAttribute(description = "Whether the uri has no dynamic parts and has been normalized upfront")
+    Boolean isStaticUri();
+
+    @ManagedAttribute(description = "Number of times a computed uri was already normalized")
+    Long getNormalizedUriCacheHits();
+
+    @ManagedAttribute(description = "Number of times a computed uri had to be normalized")
+    Long getNormalizedUriCacheMisses();
+
+    @ManagedAttribute(description = "Number of times the endpoint to send to already existed")
+    Long getEndpointCacheHits();
+
+    @ManagedAttribute(description = "Number of times the endpoint to send to had to be created (endpoint cache churn)")
+    Long getEndpointCacheMisses();
+
     @Override
     @ManagedOperation(description = "Statistics of the endpoints which has been sent to")
     TabularData extendedInformation();
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.ManagedAdaptiveInflightRoutePolicyMBean;
+import org.apache.camel.throttling.AdaptiveInflightRoutePolicy;
+
+@ManagedResource(description = "Managed AdaptiveInflightRoutePolicy")
+public class ManagedAdaptiveInflightRoutePolicy extends ManagedService implements ManagedAdaptiveInflightRoutePolicyMBean {
+    private final AdaptiveInflightRoutePolicy policy;
+
+    public ManagedAdaptiveInflightRoutePolicy(CamelContext context, AdaptiveInflightRoutePolicy policy) {
+        super(context, policy);
+        this.policy = policy;
+    }
+
+    public AdaptiveInflightRoutePolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public int getInitialLimit() {
+        return getPolicy().getInitialLimit();
+    }
+
+    @Override
+    public void setInitialLimit(int initialLimit) {
+        getPolicy().setInitialLimit(initialLimit);
+    }
+
+    @Override
+    public int getMinLimit() {
+        return getPolicy().getMinLimit();
+    }
+
+    @Override
+    public void setMinLimit(int minLimit) {
+        getPolicy().setMinLimit(minLimit);
+    }
+
+    @Override
+    public int getMaxLimit() {
+        return getPolicy().getMaxLimit();
+    }
+
+    @Override
+    public void setMaxLimit(int maxLimit) {
+        getPolicy().setMaxLimit(maxLimit);
+    }
+
+    @Override
+    public double getTolerance() {
+        return getPolicy().getTolerance();
+    }
+
+    @Override
+    public void setTolerance(double tolerance) {
+        getPolicy().setTolerance(tolerance);
+    }
+
+    @Override
+    public double getBackoffRatio() {
+        return getPolicy().getBackoffRatio();
+    }
+
+    @Override
+    public void setBackoffRatio(double backoffRatio) {
+        getPolicy().setBackoffRatio(backoffRatio);
+    }
+
+    @Override
+    public int getResumePercentOfLimit() {
+        return getPolicy().getResumePercentOfLimit();
+    }
+
+    @Override
+    public void setResumePercentOfLimit(int resumePercentOfLimit) {
+        getPolicy().setResumePercentOfLimit(resumePercentOfLimit);
+    }
+
+    @Override
+    public String getLoggingLevel() {
+        return getPolicy().getLoggingLevel().name();
+    }
+
+    @Override
+    public void setLoggingLevel(String loggingLevel) {
+        LoggingLevel level = LoggingLevel.valueOf(loggingLevel);
+        getPolicy().setLoggingLevel(level);
+        getPolicy().getLogger().setLevel(level);
+    }
+
+    @Override
+    public int currentLimit(String routeId) {
+        return getPolicy().getLimit(routeId);
+    }
+
+    @Override
+    public void reset() {
+        getPolicy().reset();
+    }
+
+}
@@ -64,6 +64,7 @@ public class ManagedSendDynamicProcessor extends ManagedProcessor implements Man
         if (processor.getEndpointUtilizationStatistics() != null) {
             processor.getEndpointUtilizationStatistics().clear();
         }
+        processor.resetStatistics();
     }
 
     @Override
@@ -110,6 +111,31 @@ public class ManagedSendDynamicProcessor extends ManagedProcessor implements Man
         return processor.getDynamicAware() != null;
     }
 
+    @Override
+    public Boolean isStaticUri() {
+        return processor.isStaticUri();
+    }
+
+    @Override
+    public Long getNormalizedUriCacheHits() {
+        return processor.getNormalizedUriCacheHits();
+    }
+
+    @Override
+    public Long getNormalizedUriCacheMisses() {
+        return processor.getNormalizedUriCacheMisses();
+    }
+
+    @Override
+    public Long getEndpointCacheHits() {
+        return processor.getEndpointCacheHits();
+    }
+
+    @Override
+    public Long getEndpointCacheMisses() {
+        return processor.getEndpointCacheMisses();
+    }
+
     @Override
     public TabularData extendedInformation() {
         try {
@@ -23,6 +23,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedThreadPoolMBean;
 import org.apache.camel.spi.ManagementStrategy;
+import org.apache.camel.util.concurrent.VirtualThreadPoolExecutor;
 
 @ManagedResource(description = "Managed ThreadPool")
 public class ManagedThreadPool implements ManagedThreadPoolMBean {
@@ -133,7 +134,10 @@ public class ManagedThreadPool implements ManagedThreadPoolMBean {
 
     @Override
     public long getTaskQueueSize() {
-        if (threadPool.getQueue() != null) {
+        if (threadPool instanceof VirtualThreadPoolExecutor) {
+            // the tasks are waiting for a permit in their own thread
+            return ((VirtualThreadPoolExecutor) threadPool).getWaitingTaskCount();
+        } else if (threadPool.getQueue() != null) {
             return threadPool.getQueue().size();
         } else {
             return 0;
@@ -142,7 +146,9 @@ public class ManagedThreadPool implements ManagedThreadPoolMBean {
 
     @Override
     public boolean isTaskQueueEmpty() {
-        if (threadPool.getQueue() != null) {
+        if (threadPool instanceof VirtualThreadPoolExecutor) {
+            return ((VirtualThreadPoolExecutor) threadPool).getWaitingTaskCount() == 0;
+        } else if (threadPool.getQueue() != null) {
             return threadPool.getQueue().isEmpty();
         } else {
             return true;
@@ -181,7 +187,13 @@ public class ManagedThreadPool implements ManagedThreadPoolMBean {
 
     @Override
     public int getTaskQueueRemainingCapacity() {
-        if (threadPool.getQueue() != null) {
+        if (threadPool instanceof VirtualThreadPoolExecutor) {
+            VirtualThreadPoolExecutor pool = (VirtualThreadPoolExecutor) threadPool;
+            if (pool.getMaxQueueSize() <= 0) {
+                return Integer.MAX_VALUE;
+            }
+            return Math.max(0, pool.getMaxQueueSize() - pool.getWaitingTaskCount());
+        } else if (threadPool.getQueue() != null) {
             return threadPool.getQueue().remainingCapacity();
         } else {
             // no queue found, so no capacity
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.throttling.AdaptiveInflightRoutePolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedAdaptiveInflightRoutePolicyTest extends ManagementTestSupport {
+
+    @Test
+    public void testManagedPolicy() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+
+        // should have route policy
+        ObjectName route = getCamelObjectName(TYPE_ROUTE, "foo");
+        String policy = (String) mbeanServer.getAttribute(route, "RoutePolicyList");
+        assertNotNull(policy);
+        assertTrue(policy.startsWith("AdaptiveInflightRoutePolicy"), "Should be adaptive, was: " + policy);
+
+        // get the RoutePolicy
+        String mbeanName
+                = String.format("org.apache.camel:context=" + context.getManagementName() + ",name=%s,type=services", policy);
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName(mbeanName), null);
+        assertEquals(1, set.size());
+        ObjectName on = set.iterator().next();
+
+        assertEquals(10, mbeanServer.getAttribute(on, "InitialLimit"));
+        assertEquals(50, mbeanServer.getAttribute(on, "MaxLimit"));
+        assertEquals(10, mbeanServer.invoke(on, "currentLimit", new Object[] { "foo" }, new String[] { "java.lang.String" }));
+
+        mbeanServer.setAttribute(on, new Attribute("MaxLimit", 100));
+        assertEquals(100, mbeanServer.getAttribute(on, "MaxLimit"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                AdaptiveInflightRoutePolicy policy = new AdaptiveInflightRoutePolicy();
+                policy.setInitialLimit(10);
+                policy.setMaxLimit(50);
+
+                from("direct:start").routeId("foo").routePolicy(policy)
+                        .to("log:foo").to("mock:result");
+            }
+        };
+    }
+
+}
@@ -85,6 +85,21 @@ public class ManagedSendDynamicProcessorTest extends ManagementTestSupport {
         String pattern = (String) mbeanServer.getAttribute(on, "MessageExchangePattern");
         assertNull(pattern);
 
+        Boolean staticUri = (Boolean) mbeanServer.getAttribute(on, "StaticUri");
+        assertFalse(staticUri);
+
+        // the uri for foo is normalized once and then reused
+        Long hits = (Long) mbeanServer.getAttribute(on, "NormalizedUriCacheHits");
+        assertEquals(1, hits.longValue());
+        Long misses = (Long) mbeanServer.getAttribute(on, "NormalizedUriCacheMisses");
+        assertEquals(2, misses.longValue());
+
+        // the direct endpoints exist already
+        hits = (Long) mbeanServer.getAttribute(on, "EndpointCacheHits");
+        assertEquals(3, hits.longValue());
+        misses = (Long) mbeanServer.getAttribute(on, "EndpointCacheMisses");
+        assertEquals(0, misses.longValue());
+
         TabularData data = (TabularData) mbeanServer.invoke(on, "extendedInformation", null, null);
         assertNotNull(data);
         assertEquals(2, data.size());
@@ -62,6 +62,9 @@ class AbstractExchange implements ExtendedExchange {
 
     final CamelContext context;
     Map<String, Object> properties; // create properties on-demand as we use internal properties mostly
+    // volatile as the exchange may be copied by another thread than the one changing its properties
+    volatile boolean propertiesShared; // the properties are shared with a copy of this exchange (copy-on-write)
+    volatile boolean propertiesExposed; // the properties have been accessed as a map and can therefore not be shared
     // optimize for internal exchange properties (not intended for end users)
     final Object[] internalProperties = new Object[INTERNAL_LENGTH];
     long created;
@@ -136,13 +139,13 @@ class AbstractExchange implements ExtendedExchange {
 
         exchange.setIn(getIn().copy());
         copyBody(getIn(), exchange.getIn());
-        if (getIn().hasHeaders()) {
+        if (getIn().hasHeaders() && !isHeadersShared(exchange.getIn())) {
             exchange.getIn().setHeaders(safeCopyHeaders(getIn().getHeaders()));
         }
         if (hasOut()) {
             exchange.setOut(getOut().copy());
             copyBody(getOut(), exchange.getOut());
-            if (getOut().hasHeaders()) {
+            if (getOut().hasHeaders() && !isHeadersShared(exchange.getOut())) {
                 exchange.getOut().setHeaders(safeCopyHeaders(getOut().getHeaders()));
             }
         }
@@ -157,7 +160,9 @@ class AbstractExchange implements ExtendedExchange {
 
         // copy properties after body as body may trigger lazy init
         if (hasProperties()) {
-            copyProperties(getProperties(), exchange.getProperties());
+            if (!shareProperties(exchange)) {
+                copyProperties(properties, exchange.getProperties());
+            }
         }
 
         if (hasSafeCopyProperties()) {
@@ -180,6 +185,26 @@ class AbstractExchange implements ExtendedExchange {
         return exchange;
     }
 
+    private boolean shareProperties(AbstractExchange exchange) {
+        if (propertiesExposed) {
+            return false;
+        }
+        // share the properties until either exchange changes them (copy-on-write), so mark them as shared before
+        // handing out the map, and check again that the map has not been handed out meanwhile
+        propertiesShared = true;
+        if (propertiesExposed) {
+            return false;
+        }
+        exchange.properties = properties;
+        exchange.propertiesShared = true;
+        return true;
+    }
+
+    private static boolean isHeadersShared(Message message) {
+        // the headers are already shared with the original message (copy-on-write)
+        return message instanceof DefaultMessage && ((DefaultMessage) message).isHeadersShared();
+    }
+
     private Map<String, Object> safeCopyHeaders(Map<String, Object> headers) {
         if (headers == null) {
             return null;
@@ -348,17 +373,22 @@ class AbstractExchange implements ExtendedExchange {
             if (properties == null) {
                 this.properties = new ConcurrentHashMap<>(8);
             }
+            copyPropertiesOnWrite();
             properties.put(name, value);
         } else if (properties != null) {
             // if the value is null, we just remove the key from the map
-            properties.remove(name);
+            if (properties.containsKey(name)) {
+                copyPropertiesOnWrite();
+                properties.remove(name);
+            }
         }
     }
 
     @Override
     public void setProperties(Map<String, Object> properties) {
-        if (this.properties == null) {
+        if (this.properties == null || propertiesShared) {
             this.properties = new ConcurrentHashMap<>(8);
+            this.propertiesShared = false;
         } else {
             this.properties.clear();
         }
@@ -374,6 +404,12 @@ class AbstractExchange implements ExtendedExchange {
         if (!hasProperties()) {
             return null;
         }
+        if (propertiesShared) {
+            if (!properties.containsKey(name)) {
+                return null;
+            }
+            copyPropertiesOnWrite();
+        }
         return properties.remove(name);
     }
 
@@ -386,7 +422,10 @@ class AbstractExchange implements ExtendedExchange {
     public boolean removeProperties(String pattern, String... excludePatterns) {
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            if (properties != null) {
+            if (propertiesShared) {
+                properties = new ConcurrentHashMap<>(8);
+                propertiesShared = false;
+            } else if (properties != null) {
                 properties.clear();
             }
             // reset array by copying over from empty which is a very fast JVM optimized operation
@@ -423,6 +462,7 @@ class AbstractExchange implements ExtendedExchange {
             }
 
             if (matches && toBeRemoved != null) {
+                copyPropertiesOnWrite();
                 if (toBeRemoved.size() == properties.size()) {
                     // special optimization when all should be removed
                     properties.clear();
@@ -442,9 +482,20 @@ class AbstractExchange implements ExtendedExchange {
         if (properties == null) {
             this.properties = new ConcurrentHashMap<>(8);
         }
+        // the map can be changed directly so it can no longer be shared, and it must be our own
+        // (flag it before checking if it is shared, so a concurrent copy either sees the flag or has marked it as shared)
+        propertiesExposed = true;
+        copyPropertiesOnWrite();
         return properties;
     }
 
+    void copyPropertiesOnWrite() {
+        if (propertiesShared) {
+            properties = new ConcurrentHashMap<>(properties);
+            propertiesShared = false;
+        }
+    }
+
     Map<String, SafeCopyProperty> getSafeCopyProperties() {
         if (safeCopyProperties == null) {
             this.safeCopyProperties = new ConcurrentHashMap<>(2);
@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A base class for {@link org.apache.camel.Producer}s which send the exchanges in batches, for components where
+ * sending many messages at once is cheaper than sending them one at a time.
+ * <p/>
+ * The exchanges are accumulated into a batch, which is completed when it has reached the batch size, the (estimated)
+ * batch bytes, or when the batch timeout has elapsed since the first exchange was added. The completed batch is
+ * processed by {@link #processBatch(List)}, which is implemented by the component. The callbacks of the exchanges are
+ * invoked after the batch has been processed, and if processing the batch failed then the exception is set on each
+ * exchange of the batch.
+ * <p/>
+ * A batch completed by size or bytes is processed by the thread which added the last exchange, and a batch completed by
+ * timeout is processed by a background thread. This means {@link #processBatch(List)} can be invoked concurrently
+ * for different batches.
+ * <p/>
+ * The exchanges are only batched when they are sent concurrently, such as from a parallel splitter or from consumers
+ * with multiple threads, as a caller which waits for its exchange to complete does not send the next exchange until
+ * the batch has been processed.
+ */
+public abstract class BatchingProducer extends DefaultAsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchingProducer.class);
+
+    private int batchSize = 100;
+    private long batchBytes;
+    private long batchTimeout = 1000;
+    private List<BatchEntry> batch = new ArrayList<>();
+    private long bytes;
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> timeoutTask;
+
+    private final AtomicLong completedBatches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong batchedExchanges = new AtomicLong();
+    private final AtomicLong completedBySize = new AtomicLong();
+    private final AtomicLong completedByBytes = new AtomicLong();
+    private final AtomicLong completedByTimeout = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile long lastBatchProcessingTime;
+
+    public BatchingProducer(Endpoint endpoint) {
+        super(endpoint);
+    }
+
+    /**
+     * Processes the batch of exchanges.
+     * <p/>
+     * The result of each exchange should be set on the exchange itself, and so should the exception if only some of
+     * the exchanges failed. If the whole batch failed then an exception can be thrown, which is set on every exchange of
+     * the batch.
+     *
+     * @param  exchanges the exchanges of the batch, in the order they were added
+     * @throws Exception is thrown if the batch failed
+     */
+    protected abstract void processBatch(List<Exchange> exchanges) throws Exception;
+
+    /**
+     * Estimates the size in bytes of the exchange, which is used when a maximum of batch bytes is configured.
+     * <p/>
+     * The default implementation uses the length of the message body if it is a byte array, string or stream cache, and
+     * otherwise <tt>0</tt>.
+     */
+    protected long estimateBytes(Exchange exchange) {
+        Object body = exchange.getMessage().getBody();
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        } else if (body instanceof String) {
+            return ((String) body).length();
+        } else if (body instanceof StreamCache) {
+            return ((StreamCache) body).length();
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        long size = batchBytes > 0 ? estimateBytes(exchange) : 0;
+
+        List<BatchEntry> full = null;
+        synchronized (this) {
+            if (scheduler == null) {
+                // not started or has been stopped
+                exchange.setException(
+                        new RejectedExecutionException("Cannot add exchange to batch as producer is not started: " + this));
+                callback.done(true);
+                return true;
+            }
+            batch.add(new BatchEntry(exchange, callback));
+            bytes += size;
+            if (batch.size() >= batchSize) {
+                completedBySize.incrementAndGet();
+                full = takeBatch();
+            } else if (batchBytes > 0 && bytes >= batchBytes) {
+                completedByBytes.incrementAndGet();
+                full = takeBatch();
+            } else if (batch.size() == 1) {
+                final List<BatchEntry> current = batch;
+                timeoutTask = scheduler.schedule(() -> processOnTimeout(current), batchTimeout, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            doProcessBatch(full);
+        }
+        return false;
+    }
+
+    private synchronized List<BatchEntry> takeBatch() {
+        if (timeoutTask != null) {
+            timeoutTask.cancel(false);
+            timeoutTask = null;
+        }
+        if (batch.isEmpty()) {
+            return null;
+        }
+        List<BatchEntry> answer = batch;
+        batch = new ArrayList<>();
+        bytes = 0;
+        return answer;
+    }
+
+    private void processOnTimeout(List<BatchEntry> expected) {
+        List<BatchEntry> entries;
+        synchronized (this) {
+            // the task may have been cancelled while it was already running, so only take the batch
+            // if it is still the batch the task was scheduled for, and not the next batch
+            if (batch != expected) {
+                return;
+            }
+            entries = takeBatch();
+        }
+        if (entries != null) {
+            completedByTimeout.incrementAndGet();
+            doProcessBatch(entries);
+        }
+    }
+
+    private void doProcessBatch(List<BatchEntry> entries) {
+        List<Exchange> exchanges = new ArrayList<>(entries.size());
+        for (BatchEntry entry : entries) {
+            exchanges.add(entry.exchange);
+        }
+
+        long start = System.nanoTime();
+        try {
+            processBatch(Collections.unmodifiableList(exchanges));
+            LOG.debug("Processed batch of {} exchanges", exchanges.size());
+        } catch (Throwable e) {
+            failedBatches.incrementAndGet();
+            LOG.debug("Error processing batch of {} exchanges due to: {}", exchanges.size(), e.getMessage());
+            for (Exchange exchange : exchanges) {
+                exchange.setException(e);
+            }
+        }
+        lastBatchProcessingTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        lastBatchSize = exchanges.size();
+        completedBatches.incrementAndGet();
+        batchedExchanges.addAndGet(exchanges.size());
+
+        for (BatchEntry entry : entries) {
+            try {
+                entry.callback.done(false);
+            } catch (Throwable e) {
+                // must continue to complete the other exchanges
+                LOG.warn("Error completing exchange: {} of batch due to: {}. This exception is ignored.",
+                        entry.exchange.getExchangeId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of exchanges in a batch. The default is 100.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchBytes() {
+        return batchBytes;
+    }
+
+    /**
+     * The maximum (estimated) number of bytes of the exchanges in a batch, see {@link #estimateBytes(Exchange)}. The
+     * default is 0 which means no limit.
+     */
+    public void setBatchBytes(long batchBytes) {
+        this.batchBytes = batchBytes;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * The maximum time in millis a batch waits for more exchanges after the first exchange was added. The default is
+     * 1000.
+     */
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
+    /**
+     * The number of exchanges in the current batch, which is not yet completed.
+     */
+    public synchronized int getPendingExchanges() {
+        return batch.size();
+    }
+
+    /**
+     * The number of processed batches, including the failed batches.
+     */
+    public long getCompletedBatches() {
+        return completedBatches.get();
+    }
+
+    /**
+     * The number of batches where processing the batch failed.
+     */
+    public long getFailedBatches() {
+        return failedBatches.get();
+    }
+
+    /**
+     * The number of exchanges in the processed batches.
+     */
+    public long getBatchedExchanges() {
+        return batchedExchanges.get();
+    }
+
+    /**
+     * The number of batches completed because the batch size was reached.
+     */
+    public long getCompletedBySize() {
+        return completedBySize.get();
+    }
+
+    /**
+     * The number of batches completed because the batch bytes was reached.
+     */
+    public long getCompletedByBytes() {
+        return completedByBytes.get();
+    }
+
+    /**
+     * The number of batches completed because the batch timeout elapsed, or the producer was stopped.
+     */
+    public long getCompletedByTimeout() {
+        return completedByTimeout.get();
+    }
+
+    /**
+     * The number of exchanges in the last processed batch.
+     */
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    /**
+     * The time in millis it took to process the last batch.
+     */
+    public long getLastBatchProcessingTime() {
+        return lastBatchProcessingTime;
+    }
+
+    /**
+     * The average number of exchanges in the processed batches.
+     */
+    public double getAverageBatchSize() {
+        long batches = completedBatches.get();
+        return batches > 0 ? (double) batchedExchanges.get() / batches : 0;
+    }
+
+    /**
+     * Resets the batch metrics.
+     */
+    public void resetBatchStatistics() {
+        completedBatches.set(0);
+        failedBatches.set(0);
+        batchedExchanges.set(0);
+        completedBySize.set(0);
+        completedByBytes.set(0);
+        completedByTimeout.set(0);
+        lastBatchSize = 0;
+        lastBatchProcessingTime = 0;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("BatchSize must be a positive number, was: " + batchSize);
+        }
+        if (batchTimeout <= 0) {
+            throw new IllegalArgumentException("BatchTimeout must be a positive number, was: " + batchTimeout);
+        }
+        scheduler = getEndpoint().getCamelContext().getExecutorServiceManager()
+                .newSingleThreadScheduledExecutor(this, "BatchingProducer[" + getEndpoint().getEndpointKey() + "]");
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ScheduledExecutorService executor;
+        List<BatchEntry> entries;
+        synchronized (this) {
+            // no more exchanges are accepted when the scheduler is gone
+            executor = scheduler;
+            scheduler = null;
+            entries = takeBatch();
+        }
+        // process what is left before stopping
+        if (entries != null) {
+            completedByTimeout.incrementAndGet();
+            doProcessBatch(entries);
+        }
+        if (executor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(executor);
+        }
+        super.doStop();
+    }
+
+    private static final class BatchEntry {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+
+        private BatchEntry(Exchange exchange, AsyncCallback callback) {
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+    }
+}
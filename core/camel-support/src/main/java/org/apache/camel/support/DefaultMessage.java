@@ -16,6 +16,8 @@
  */
 package org.apache.camel.support;
 
+import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -25,6 +27,7 @@ import java.util.function.Supplier;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Message;
 import org.apache.camel.spi.HeadersMapFactory;
 
 /**
@@ -35,9 +38,37 @@ import org.apache.camel.spi.HeadersMapFactory;
  * about using exact keys. See more details at {@link org.apache.camel.util.CaseInsensitiveMap}. The implementation of
  * the map can be configured by the {@link HeadersMapFactory} which can be set on the {@link CamelContext}. The default
  * implementation uses the {@link org.apache.camel.util.CaseInsensitiveMap CaseInsensitiveMap}.
+ * <p/>
+ * When the message is copied then the headers are shared between the messages, and only copied when either message
+ * changes its headers (copy-on-write). Headers which have been accessed as a {@link Map} via {@link #getHeaders()} are
+ * copied eagerly, as the map may then be changed directly.
  */
 public class DefaultMessage extends MessageSupport {
+
+    // whether the headers can be shared, which is only if the class has not overridden how the headers are accessed
+    private static final Set<String> HEADER_METHODS = new HashSet<>(
+            Arrays.asList("getHeader", "getHeaders", "hasHeaders", "setHeader", "setHeaders", "removeHeader",
+                    "removeHeaders"));
+    private static final ClassValue<Boolean> SHAREABLE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Method method : type.getMethods()) {
+                Class<?> declaring = method.getDeclaringClass();
+                if (declaring != DefaultMessage.class && DefaultMessage.class.isAssignableFrom(declaring)
+                        && HEADER_METHODS.contains(method.getName())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    };
+
     private Map<String, Object> headers;
+    // the headers are shared with a copy of this message, and must be copied before being changed
+    // (volatile as the message may be copied by another thread than the one changing its headers)
+    private volatile boolean headersShared;
+    // the headers have been accessed as a map via getHeaders, and can therefore not be shared
+    private volatile boolean headersExposed;
 
     public DefaultMessage(Exchange exchange) {
         setExchange(exchange);
@@ -54,7 +85,10 @@ public class DefaultMessage extends MessageSupport {
     @Override
     public void reset() {
         super.reset();
-        if (headers != null) {
+        if (headersShared) {
+            headers = null;
+            headersShared = false;
+        } else if (headers != null) {
             headers.clear();
         }
     }
@@ -207,6 +241,7 @@ public class DefaultMessage extends MessageSupport {
         if (headers == null) {
             headers = createHeaders();
         }
+        copyHeadersOnWrite();
         headers.put(name, value);
     }
 
@@ -219,6 +254,12 @@ public class DefaultMessage extends MessageSupport {
         if (headers.isEmpty()) {
             return null;
         }
+        if (headersShared) {
+            if (!headers.containsKey(name)) {
+                return null;
+            }
+            copyHeadersOnWrite();
+        }
         return headers.remove(name);
     }
 
@@ -239,7 +280,12 @@ public class DefaultMessage extends MessageSupport {
 
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            headers.clear();
+            if (headersShared) {
+                headers = newHeadersMap(null);
+                headersShared = false;
+            } else {
+                headers.clear();
+            }
             return true;
         }
 
@@ -261,6 +307,7 @@ public class DefaultMessage extends MessageSupport {
         }
 
         if (matches) {
+            copyHeadersOnWrite();
             if (toBeRemoved.size() == headers.size()) {
                 // special optimization when all should be removed
                 headers.clear();
@@ -279,6 +326,10 @@ public class DefaultMessage extends MessageSupport {
         if (headers == null) {
             headers = createHeaders();
         }
+        // the map can be changed directly so it can no longer be shared, and it must be our own
+        // (flag it before checking if it is shared, so a concurrent copy either sees the flag or has marked it as shared)
+        headersExposed = true;
+        copyHeadersOnWrite();
         return headers;
     }
 
@@ -288,14 +339,19 @@ public class DefaultMessage extends MessageSupport {
         if (factory != null) {
             if (factory.isInstanceOf(headers)) {
                 this.headers = headers;
+                // the caller has the map
+                this.headersExposed = true;
             } else {
                 // create a new map
                 this.headers = camelContext.getHeadersMapFactory().newMap(headers);
+                this.headersExposed = false;
             }
         } else {
             // should not really happen but some tests rely on using camel context that is not started
             this.headers = new HashMap<>(headers);
+            this.headersExposed = false;
         }
+        this.headersShared = false;
     }
 
     @Override
@@ -307,6 +363,58 @@ public class DefaultMessage extends MessageSupport {
         return !headers.isEmpty();
     }
 
+    @Override
+    protected void copyHeadersFrom(Message that) {
+        if (that instanceof DefaultMessage && shareHeaders((DefaultMessage) that)) {
+            return;
+        }
+        super.copyHeadersFrom(that);
+    }
+
+    /**
+     * Whether the headers of this message are shared with another message, and will be copied on first change.
+     */
+    boolean isHeadersShared() {
+        return headersShared;
+    }
+
+    private boolean shareHeaders(DefaultMessage that) {
+        if (that.headers == null || that.headersExposed || camelContext == null
+                || !SHAREABLE.get(getClass()) || !SHAREABLE.get(that.getClass())) {
+            return false;
+        }
+        HeadersMapFactory factory = camelContext.getHeadersMapFactory();
+        if (factory == null || !factory.isInstanceOf(that.headers)) {
+            return false;
+        }
+        // both messages must copy the headers before changing them, so mark the other message before taking its map,
+        // and check again that the map has not been handed out meanwhile
+        that.headersShared = true;
+        Map<String, Object> map = that.headers;
+        if (that.headersExposed || map == null) {
+            return false;
+        }
+        this.headers = map;
+        this.headersShared = true;
+        this.headersExposed = false;
+        return true;
+    }
+
+    private void copyHeadersOnWrite() {
+        if (headersShared) {
+            headers = newHeadersMap(headers);
+            headersShared = false;
+        }
+    }
+
+    private Map<String, Object> newHeadersMap(Map<String, Object> map) {
+        HeadersMapFactory factory = camelContext != null ? camelContext.getHeadersMapFactory() : null;
+        if (factory != null) {
+            return map != null ? factory.newMap(map) : factory.newMap();
+        }
+        return map != null ? new HashMap<>(map) : new HashMap<>();
+    }
+
     @Override
     public DefaultMessage newInstance() {
         return new DefaultMessage(camelContext);
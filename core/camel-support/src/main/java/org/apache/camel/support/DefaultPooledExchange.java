@@ -82,7 +82,12 @@ public final class DefaultPooledExchange extends AbstractExchange implements Poo
     public void done(boolean forced) {
         if (created > 0 && (forced || autoRelease)) {
             this.created = 0; // by setting to 0 we also flag that this exchange is done and needs to be reset to use again
-            this.properties.clear();
+            if (this.propertiesShared) {
+                this.properties = new ConcurrentHashMap<>(8);
+                this.propertiesShared = false;
+            } else {
+                this.properties.clear();
+            }
             // reset array by copying over from empty which is a very fast JVM optimized operation
             System.arraycopy(EMPTY_INTERNAL_PROPERTIES, 0, this.internalProperties, 0, INTERNAL_LENGTH);
             if (this.safeCopyProperties != null) {
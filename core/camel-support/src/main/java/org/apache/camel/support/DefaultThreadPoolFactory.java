@@ -34,12 +34,18 @@ import org.apache.camel.StaticService;
 import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.ThreadHelper;
+import org.apache.camel.util.concurrent.VirtualThreadPoolExecutor;
 
 /**
  * Factory for thread pools that uses the JDK {@link Executors} for creating the thread pools.
+ * <p/>
+ * Thread pool profiles with virtual threads enabled creates a {@link VirtualThreadPoolExecutor} when running on Java 21
+ * or newer, which uses a new virtual thread per task, and limits the concurrency to the max pool size.
  */
 public class DefaultThreadPoolFactory extends ServiceSupport implements CamelContextAware, ThreadPoolFactory, StaticService {
 
@@ -62,6 +68,13 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
 
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (Boolean.TRUE.equals(profile.getVirtualThreads()) && ThreadHelper.isVirtualThreadsSupported()) {
+            return newVirtualThreadPool(profile.getMaxPoolSize(),
+                    profile.getMaxQueueSize(),
+                    profile.getRejectedExecutionHandler(),
+                    factory);
+        }
+
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
         return newThreadPool(profile.getPoolSize(),
@@ -117,6 +130,19 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
         return answer;
     }
 
+    public ExecutorService newVirtualThreadPool(
+            int concurrencyLimit, int maxQueueSize,
+            RejectedExecutionHandler rejectedExecutionHandler, ThreadFactory threadFactory) {
+
+        if (threadFactory instanceof CamelThreadFactory) {
+            threadFactory = ((CamelThreadFactory) threadFactory).toVirtual();
+        }
+        if (rejectedExecutionHandler == null) {
+            rejectedExecutionHandler = new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+        return new VirtualThreadPoolExecutor(concurrencyLimit, maxQueueSize, threadFactory, rejectedExecutionHandler);
+    }
+
     @Override
     public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
         RejectedExecutionHandler rejectedExecutionHandler = profile.getRejectedExecutionHandler();
@@ -71,7 +71,26 @@ public class ExpressionBuilder {
      * @return an expression object which will return the header value
      */
     public static Expression headerExpression(final String headerName) {
-        return headerExpression(simpleExpression(headerName));
+        if (LanguageSupport.hasSimpleFunction(headerName)) {
+            return headerExpression(simpleExpression(headerName));
+        }
+        // the name is constant so lookup the header directly
+        return new ExpressionAdapter() {
+            @Override
+            public Object evaluate(Exchange exchange) {
+                Object header = exchange.getIn().getHeader(headerName);
+                if (header == null) {
+                    // fall back on a property
+                    header = exchange.getProperty(headerName);
+                }
+                return header;
+            }
+
+            @Override
+            public String toString() {
+                return "header(" + headerName + ")";
+            }
+        };
     }
 
     /**
@@ -476,7 +495,21 @@ public class ExpressionBuilder {
      * @return an expression object which will return the property value
      */
     public static Expression exchangePropertyExpression(final String propertyName) {
-        return exchangePropertyExpression(simpleExpression(propertyName));
+        if (LanguageSupport.hasSimpleFunction(propertyName)) {
+            return exchangePropertyExpression(simpleExpression(propertyName));
+        }
+        // the name is constant so lookup the property directly
+        return new ExpressionAdapter() {
+            @Override
+            public Object evaluate(Exchange exchange) {
+                return exchange.getProperty(propertyName);
+            }
+
+            @Override
+            public String toString() {
+                return "exchangeProperty(" + propertyName + ")";
+            }
+        };
     }
 
     /**
@@ -0,0 +1,463 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.throttling;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Consumer;
+import org.apache.camel.Exchange;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.Route;
+import org.apache.camel.spi.CamelLogger;
+import org.apache.camel.support.RoutePolicySupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A throttle based {@link org.apache.camel.spi.RoutePolicy} which suspends and resumes the consumer of a route based on
+ * number of current inflight exchanges, where the limit of inflight exchanges is adapted to the observed latency of the
+ * route, instead of being a fixed limit as with {@link ThrottlingInflightRoutePolicy}.
+ * <p/>
+ * The limit is adjusted using a gradient algorithm: the latency of the recent exchanges (short window) is compared with
+ * the latency over a longer period (long window). While the recent latency is within the tolerance of the long term
+ * latency the limit is increased, and when the recent latency rises (the downstream systems are slowing down) the limit
+ * is decreased in proportion. A failed exchange decreases the limit by the backoff ratio. The limit is kept between
+ * the min and max limit.
+ * <p/>
+ * The policy can be shared by many routes, as a limit is kept for each route.
+ */
+public class AdaptiveInflightRoutePolicy extends RoutePolicySupport implements CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveInflightRoutePolicy.class);
+
+    private final Map<String, RouteLimit> limits = new ConcurrentHashMap<>();
+    private final Lock lock = new ReentrantLock();
+    private CamelContext camelContext;
+    private int initialLimit = 20;
+    private int minLimit = 1;
+    private int maxLimit = 1000;
+    private int shortWindow = 10;
+    private int longWindow = 600;
+    private double tolerance = 1.5;
+    private double smoothing = 0.2;
+    private double backoffRatio = 0.9;
+    private int resumePercentOfLimit = 70;
+    private LoggingLevel loggingLevel = LoggingLevel.INFO;
+    private CamelLogger logger;
+
+    public AdaptiveInflightRoutePolicy() {
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveInflightRoutePolicy[" + minLimit + " - " + maxLimit + " / " + resumePercentOfLimit + "%]";
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public void onInit(Route route) {
+        limits.computeIfAbsent(route.getId(), k -> new RouteLimit(k, initialLimit));
+    }
+
+    @Override
+    public void onRemove(Route route) {
+        limits.remove(route.getId());
+    }
+
+    @Override
+    public void onExchangeBegin(Route route, Exchange exchange) {
+        RouteLimit limit = limits.computeIfAbsent(route.getId(), k -> new RouteLimit(k, initialLimit));
+        // the latency is measured from when the exchange begins in the route (the exchange may have been created earlier
+        // and have waited in a queue, or been routed by other routes which use this policy)
+        exchange.setProperty(limit.startKey, System.nanoTime());
+    }
+
+    @Override
+    public void onExchangeDone(Route route, Exchange exchange) {
+        RouteLimit limit = limits.computeIfAbsent(route.getId(), k -> new RouteLimit(k, initialLimit));
+        Object start = exchange.removeProperty(limit.startKey);
+        if (start instanceof Long) {
+            int inflight = exchange.getContext().getInflightRepository().size(route.getId());
+            // use at least 1 millis as latency to avoid division by zero for very fast routes
+            long latency = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - (Long) start));
+            limit.update(latency, inflight, exchange.isFailed());
+        }
+
+        throttle(route, exchange, limit);
+    }
+
+    /**
+     * Throttles the route when {@link Exchange}s is done.
+     *
+     * @param route    the route
+     * @param exchange the exchange
+     * @param limit    the current limit of the route
+     */
+    protected void throttle(Route route, Exchange exchange, RouteLimit limit) {
+        Consumer consumer = route.getConsumer();
+
+        int max = limit.getLimit();
+        int size = exchange.getContext().getInflightRepository().size(route.getId());
+        boolean stop = size > max;
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("{} > {} evaluated as {}", size, max, stop);
+        }
+        if (stop) {
+            try {
+                lock.lock();
+                stopConsumer(size, max, consumer);
+            } catch (Exception e) {
+                handleException(e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // reload size in case a race condition with too many at once being invoked
+        // so we need to ensure that we read the most current size and start the consumer if we are already to low
+        size = exchange.getContext().getInflightRepository().size(route.getId());
+        int resume = Math.max(resumePercentOfLimit * max / 100, 1);
+        boolean start = size <= resume;
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("{} <= {} evaluated as {}", size, resume, start);
+        }
+        if (start) {
+            try {
+                lock.lock();
+                startConsumer(size, resume, consumer);
+            } catch (Exception e) {
+                handleException(e);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Gets the current limit of inflight exchanges for the given route
+     *
+     * @param  routeId the route id
+     * @return         the current limit, or <tt>-1</tt> if the policy is not in use by the route
+     */
+    public int getLimit(String routeId) {
+        RouteLimit limit = limits.get(routeId);
+        return limit != null ? limit.getLimit() : -1;
+    }
+
+    /**
+     * Gets the average latency in millis of the recent exchanges (short window) for the given route
+     *
+     * @param  routeId the route id
+     * @return         the latency, or <tt>-1</tt> if the policy is not in use by the route
+     */
+    public double getShortLatency(String routeId) {
+        RouteLimit limit = limits.get(routeId);
+        return limit != null ? limit.getShortLatency() : -1;
+    }
+
+    /**
+     * Gets the average latency in millis over the long window for the given route
+     *
+     * @param  routeId the route id
+     * @return         the latency, or <tt>-1</tt> if the policy is not in use by the route
+     */
+    public double getLongLatency(String routeId) {
+        RouteLimit limit = limits.get(routeId);
+        return limit != null ? limit.getLongLatency() : -1;
+    }
+
+    /**
+     * Resets the limits of all the routes back to the initial limit
+     */
+    public void reset() {
+        limits.replaceAll((k, v) -> new RouteLimit(k, initialLimit));
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * Sets the limit of inflight exchanges a route starts with before the limit has been adapted.
+     * <p/>
+     * Is default 20.
+     */
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * Sets the lowest limit of inflight exchanges the limit can be decreased to.
+     * <p/>
+     * Is default 1.
+     */
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Sets the highest limit of inflight exchanges the limit can be increased to.
+     * <p/>
+     * Is default 1000.
+     */
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public int getShortWindow() {
+        return shortWindow;
+    }
+
+    /**
+     * Sets the number of exchanges the recent latency is averaged over.
+     * <p/>
+     * Is default 10.
+     */
+    public void setShortWindow(int shortWindow) {
+        if (shortWindow < 1) {
+            throw new IllegalArgumentException("Must be a positive number of exchanges, was: " + shortWindow);
+        }
+        this.shortWindow = shortWindow;
+    }
+
+    public int getLongWindow() {
+        return longWindow;
+    }
+
+    /**
+     * Sets the number of exchanges the long term latency is averaged over.
+     * <p/>
+     * Is default 600.
+     */
+    public void setLongWindow(int longWindow) {
+        if (longWindow < 1) {
+            throw new IllegalArgumentException("Must be a positive number of exchanges, was: " + longWindow);
+        }
+        this.longWindow = longWindow;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Sets how much higher the recent latency can be compared to the long term latency, before the limit is decreased.
+     * <p/>
+     * Is default 1.5 (50% higher).
+     */
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    /**
+     * Sets how fast the limit moves towards the calculated new limit, as a factor between 0 and 1, where 1 means the
+     * new limit is used right away.
+     * <p/>
+     * Is default 0.2.
+     */
+    public void setSmoothing(double smoothing) {
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("Must be a factor between 0 and 1, was: " + smoothing);
+        }
+        this.smoothing = smoothing;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * Sets the factor the limit is multiplied with when an exchange failed.
+     * <p/>
+     * Is default 0.9.
+     */
+    public void setBackoffRatio(double backoffRatio) {
+        if (backoffRatio <= 0 || backoffRatio > 1) {
+            throw new IllegalArgumentException("Must be a factor between 0 and 1, was: " + backoffRatio);
+        }
+        this.backoffRatio = backoffRatio;
+    }
+
+    public int getResumePercentOfLimit() {
+        return resumePercentOfLimit;
+    }
+
+    /**
+     * Sets at which percentage of the current limit the throttler should start resuming the route.
+     * <p/>
+     * Will by default use 70%.
+     *
+     * @param resumePercentOfLimit the percentage must be between 0 and 100
+     */
+    public void setResumePercentOfLimit(int resumePercentOfLimit) {
+        if (resumePercentOfLimit < 0 || resumePercentOfLimit > 100) {
+            throw new IllegalArgumentException("Must be a percentage between 0 and 100, was: " + resumePercentOfLimit);
+        }
+        this.resumePercentOfLimit = resumePercentOfLimit;
+    }
+
+    public LoggingLevel getLoggingLevel() {
+        return loggingLevel;
+    }
+
+    /**
+     * Sets the logging level to report the throttling activity.
+     * <p/>
+     * Is default <tt>INFO</tt> level.
+     *
+     * @param loggingLevel the logging level
+     */
+    public void setLoggingLevel(LoggingLevel loggingLevel) {
+        this.loggingLevel = loggingLevel;
+    }
+
+    public CamelLogger getLogger() {
+        if (logger == null) {
+            logger = createLogger();
+        }
+        return logger;
+    }
+
+    /**
+     * Sets the logger to use for logging throttling activity.
+     *
+     * @param logger the logger
+     */
+    public void setLogger(CamelLogger logger) {
+        this.logger = logger;
+    }
+
+    protected CamelLogger createLogger() {
+        return new CamelLogger(LOG, getLoggingLevel());
+    }
+
+    private void startConsumer(int size, int resume, Consumer consumer) throws Exception {
+        boolean started = resumeOrStartConsumer(consumer);
+        if (started) {
+            getLogger().log("Throttling consumer: " + size + " <= " + resume
+                            + " inflight exchange by resuming consumer: " + consumer);
+        }
+    }
+
+    private void stopConsumer(int size, int limit, Consumer consumer) throws Exception {
+        boolean stopped = suspendOrStopConsumer(consumer);
+        if (stopped) {
+            getLogger().log("Throttling consumer: " + size + " > " + limit
+                            + " inflight exchange by suspending consumer: " + consumer);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(camelContext, "CamelContext", this);
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("MinLimit must be between 1 and maxLimit, was: " + minLimit);
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("InitialLimit must be between minLimit and maxLimit, was: " + initialLimit);
+        }
+    }
+
+    /**
+     * The adaptive limit of a route.
+     */
+    protected final class RouteLimit {
+
+        // the exchange property with the time the exchange began in the route
+        private final String startKey;
+        private double limit;
+        private double shortLatency;
+        private double longLatency;
+
+        RouteLimit(String routeId, int initialLimit) {
+            this.startKey = "CamelAdaptiveInflightRoutePolicyStart-" + routeId;
+            this.limit = initialLimit;
+        }
+
+        synchronized int getLimit() {
+            return (int) limit;
+        }
+
+        synchronized double getShortLatency() {
+            return shortLatency;
+        }
+
+        synchronized double getLongLatency() {
+            return longLatency;
+        }
+
+        synchronized void update(long latency, int inflight, boolean failed) {
+            if (longLatency == 0) {
+                // first sample
+                shortLatency = latency;
+                longLatency = latency;
+            } else {
+                shortLatency = shortLatency + (latency - shortLatency) / shortWindow;
+                longLatency = longLatency + (latency - longLatency) / longWindow;
+                // the long term latency should recover quickly when the latency drops (such as after an outage)
+                if (longLatency / shortLatency > 2) {
+                    longLatency = longLatency * 0.95;
+                }
+            }
+
+            double newLimit;
+            if (failed) {
+                newLimit = limit * backoffRatio;
+            } else if (inflight < limit / 2) {
+                // the route is not using its limit so there is no information to adapt the limit upon
+                return;
+            } else {
+                // the gradient is 1 (increase) while the recent latency is within the tolerance
+                // and down to 0.5 (decrease) as the recent latency rises
+                double gradient = Math.max(0.5, Math.min(1.0, tolerance * longLatency / shortLatency));
+                // allow a queue of sqrt(limit) so the limit can grow while the latency is stable
+                newLimit = limit * gradient + Math.sqrt(limit);
+                newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+            }
+            limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        }
+    }
+
+}
@@ -0,0 +1,447 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases.
+ * <p/>
+ * The map is an open-addressing hash table which stores the case-folded hash of each key, so a lookup only compares
+ * keys that have the same folded hash. The folded hash of well-known keys (such as header name constants) can be
+ * computed upfront in a {@link KnownKeys} table, which is looked up by identity. Using the same constant as the key
+ * then avoids case folding the key on each lookup. Other keys have their folded hash computed when used.
+ * <p/>
+ * The entries are kept in insertion order. The key {@code null} is not supported.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public class PrehashedCaseInsensitiveMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 3914375210652395146L;
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private final KnownKeys knownKeys;
+    // the entries in insertion order, where removed entries have a null key
+    private String[] keys;
+    private Object[] values;
+    private int[] hashes;
+    // the hash table with the index (+1) of the entry, where 0 is an empty slot
+    private int[] table;
+    // number of entry slots used (including removed entries)
+    private int used;
+    private int size;
+    private transient int modCount;
+    private transient Set<Entry<String, Object>> entrySet;
+
+    public PrehashedCaseInsensitiveMap() {
+        this(KnownKeys.NONE);
+    }
+
+    public PrehashedCaseInsensitiveMap(Map<? extends String, ?> map) {
+        this(KnownKeys.NONE, map);
+    }
+
+    public PrehashedCaseInsensitiveMap(KnownKeys knownKeys) {
+        this.knownKeys = knownKeys;
+        init(DEFAULT_CAPACITY);
+    }
+
+    public PrehashedCaseInsensitiveMap(KnownKeys knownKeys, Map<? extends String, ?> map) {
+        this.knownKeys = knownKeys;
+        if (map instanceof PrehashedCaseInsensitiveMap && ((PrehashedCaseInsensitiveMap) map).used == map.size()) {
+            // the hashes do not depend on the known keys, so the entries can be copied as-is
+            PrehashedCaseInsensitiveMap other = (PrehashedCaseInsensitiveMap) map;
+            this.keys = other.keys.clone();
+            this.values = other.values.clone();
+            this.hashes = other.hashes.clone();
+            this.table = other.table.clone();
+            this.used = other.used;
+            this.size = other.size;
+        } else {
+            init(capacityFor(map.size()));
+            putAll(map);
+        }
+    }
+
+    /**
+     * Computes the case insensitive hash of the given key, which is the same for keys that are equal ignoring case.
+     */
+    public static int foldedHash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < 128) {
+                if (c >= 'A' && c <= 'Z') {
+                    c += 'a' - 'A';
+                }
+            } else {
+                // same as String.equalsIgnoreCase
+                c = Character.toLowerCase(Character.toUpperCase(c));
+            }
+            h = 31 * h + c;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!(key instanceof String) || size == 0) {
+            return null;
+        }
+        String name = (String) key;
+        int index = indexOf(name, knownKeys.hash(name));
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (!(key instanceof String) || size == 0) {
+            return false;
+        }
+        String name = (String) key;
+        return indexOf(name, knownKeys.hash(name)) >= 0;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key, "key");
+        int hash = knownKeys.hash(key);
+        int index = indexOf(key, hash);
+        if (index >= 0) {
+            // keep the case of the existing key
+            Object answer = values[index];
+            values[index] = value;
+            return answer;
+        }
+        if (used == keys.length) {
+            // grow unless there are enough removed entries to make room for
+            resize(size >= keys.length / 2 ? keys.length * 2 : keys.length);
+        }
+        index = used++;
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+        insert(index, hash);
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (!(key instanceof String) || size == 0) {
+            return null;
+        }
+        String name = (String) key;
+        int index = indexOf(name, knownKeys.hash(name));
+        if (index < 0) {
+            return null;
+        }
+        Object answer = values[index];
+        removeAt(index);
+        return answer;
+    }
+
+    @Override
+    public void clear() {
+        if (used > 0) {
+            Arrays.fill(keys, 0, used, null);
+            Arrays.fill(values, 0, used, null);
+            Arrays.fill(table, 0);
+            used = 0;
+            size = 0;
+            modCount++;
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private void init(int capacity) {
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        // keep the load factor of the table at most 0.5 so there is always an empty slot
+        table = new int[capacity * 2];
+    }
+
+    private static int capacityFor(int size) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private int indexOf(String key, int hash) {
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            int index = entry - 1;
+            String k = keys[index];
+            if (k != null && hashes[index] == hash && (k == key || k.equalsIgnoreCase(key))) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(int index, int hash) {
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+    }
+
+    private void removeAt(int index) {
+        // the slot in the table is kept and skipped on lookup, until the table is rebuilt on resize
+        keys[index] = null;
+        values[index] = null;
+        size--;
+        modCount++;
+        if (size == 0) {
+            clear();
+        }
+    }
+
+    private void resize(int capacity) {
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        int oldUsed = used;
+        init(capacity);
+        used = 0;
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldKeys[i] != null) {
+                keys[used] = oldKeys[i];
+                values[used] = oldValues[i];
+                hashes[used] = oldHashes[i];
+                insert(used, oldHashes[i]);
+                used++;
+            }
+        }
+        modCount++;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            PrehashedCaseInsensitiveMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int next = advance(0);
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        private int advance(int index) {
+            while (index < used && keys[index] == null) {
+                index++;
+            }
+            return index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < used;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = advance(next + 1);
+            return new MapEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class MapEntry implements Entry<String, Object> {
+
+        private final int index;
+        private final String key;
+
+        MapEntry(int index) {
+            this.index = index;
+            this.key = keys[index];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            // the entry may have been removed or the map resized
+            return keys[index] == key ? values[index] : get(key);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (keys[index] == key) {
+                Object answer = values[index];
+                values[index] = value;
+                return answer;
+            }
+            return put(key, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            return key.equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+    /**
+     * A table of well-known keys with their case-folded hash computed upfront. The keys are matched by identity, so
+     * the table is meant for string constants, such as header names, which are used as-is when setting and getting
+     * the values.
+     */
+    public static final class KnownKeys implements Serializable {
+
+        public static final KnownKeys NONE = new KnownKeys(Collections.emptyList());
+
+        private static final long serialVersionUID = -5017245638114207493L;
+
+        private final String[] names;
+        private final int[] hashes;
+        private final int mask;
+        private final int size;
+
+        public KnownKeys(Collection<String> keys) {
+            int capacity = 2;
+            while (capacity < keys.size() * 2) {
+                capacity <<= 1;
+            }
+            this.names = new String[capacity];
+            this.hashes = new int[capacity];
+            this.mask = capacity - 1;
+            int count = 0;
+            for (String key : keys) {
+                int slot = key.hashCode() & mask;
+                while (names[slot] != null && names[slot] != key) {
+                    slot = (slot + 1) & mask;
+                }
+                if (names[slot] == null) {
+                    names[slot] = key;
+                    hashes[slot] = foldedHash(key);
+                    count++;
+                }
+            }
+            this.size = count;
+        }
+
+        /**
+         * The case-folded hash of the key, which is looked up if the key is a known key, and otherwise computed.
+         */
+        public int hash(String key) {
+            int slot = key.hashCode() & mask;
+            String name;
+            while ((name = names[slot]) != null) {
+                if (name == key) {
+                    return hashes[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return foldedHash(key);
+        }
+
+        /**
+         * Number of known keys
+         */
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -16,13 +16,14 @@
  */
 package org.apache.camel.util.concurrent;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 import org.apache.camel.util.StringHelper;
 
 /**
- * Various helper method for thread naming.
+ * Various helper method for thread naming, and creating virtual threads.
  */
 public final class ThreadHelper {
     public static final String DEFAULT_PATTERN = "Camel Thread ##counter# - #name#";
@@ -33,6 +34,34 @@ public final class ThreadHelper {
     private ThreadHelper() {
     }
 
+    /**
+     * Whether virtual threads are supported by the JVM (requires Java 21 or newer).
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VirtualThreads.OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates a new (unstarted) virtual thread.
+     *
+     * @param  name                          the thread name
+     * @param  runnable                      the task the thread should run
+     * @return                               the virtual thread
+     * @throws UnsupportedOperationException if virtual threads are not supported by the JVM
+     */
+    public static Thread newVirtualThread(String name, Runnable runnable) {
+        if (VirtualThreads.OF_VIRTUAL == null) {
+            throw new UnsupportedOperationException("Virtual threads requires Java 21 or newer");
+        }
+        try {
+            Object builder = VirtualThreads.OF_VIRTUAL.invoke(null);
+            builder = VirtualThreads.NAME.invoke(builder, name);
+            return (Thread) VirtualThreads.UNSTARTED.invoke(builder, runnable);
+        } catch (Exception e) {
+            throw new IllegalStateException("Error creating virtual thread: " + name, e);
+        }
+    }
+
     private static long nextThreadCounter() {
         return threadCounter.incrementAndGet();
     }
@@ -68,4 +97,32 @@ public final class ThreadHelper {
         return answer;
     }
 
+    /**
+     * Resolves the virtual thread builder API lazily, as this library is compiled for older Java versions.
+     */
+    private static final class VirtualThreads {
+        private static final Method OF_VIRTUAL;
+        private static final Method NAME;
+        private static final Method UNSTARTED;
+
+        static {
+            Method ofVirtual = null;
+            Method name = null;
+            Method unstarted = null;
+            try {
+                Class<?> builder = Class.forName("java.lang.Thread$Builder");
+                ofVirtual = Thread.class.getMethod("ofVirtual");
+                name = builder.getMethod("name", String.class);
+                unstarted = builder.getMethod("unstarted", Runnable.class);
+                // virtual threads may be a preview feature which is not enabled
+                ofVirtual.invoke(null);
+            } catch (Exception | LinkageError e) {
+                ofVirtual = null;
+            }
+            OF_VIRTUAL = ofVirtual;
+            NAME = name;
+            UNSTARTED = unstarted;
+        }
+    }
+
 }
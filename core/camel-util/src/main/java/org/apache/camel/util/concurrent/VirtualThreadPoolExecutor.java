@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An executor intended for virtual threads, which runs each task in a new thread (thread-per-task, threads are never
+ * pooled or reused) and limits the number of concurrent tasks using a {@link Semaphore}.
+ * <p/>
+ * Tasks beyond the concurrency limit wait for a permit in their own thread (which is cheap with virtual threads). These
+ * tasks are reported as queued, and the active count and maximum pool size reports the running tasks and the
+ * concurrency limit, so the thread pool statistics remain meaningful.
+ * <p/>
+ * This class extends {@link java.util.concurrent.ThreadPoolExecutor} only so it can be managed and monitored like the
+ * other thread pools, and all the task execution and lifecycle methods are implemented by this class.
+ */
+public class VirtualThreadPoolExecutor extends RejectableThreadPoolExecutor {
+
+    private final LimitSemaphore semaphore;
+    private final int maxQueueSize;
+    private final Object lock = new Object();
+    private final Map<Thread, Boolean> threads = new ConcurrentHashMap<>();
+    private final Map<Thread, Runnable> waitingTasks = new ConcurrentHashMap<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicLong taskCount = new AtomicLong();
+    private final AtomicLong completedTaskCount = new AtomicLong();
+    private volatile int largestPoolSize;
+    private volatile int concurrencyLimit;
+    private volatile boolean shutdown;
+
+    /**
+     * Creates the executor
+     *
+     * @param concurrencyLimit the maximum number of concurrent tasks, use 0 or negative for unlimited
+     * @param maxQueueSize     the maximum number of tasks waiting for a permit, use 0 or negative for unbounded
+     * @param threadFactory    the thread factory, which creates a new thread per task
+     * @param handler          the handler for tasks which cannot be executed
+     */
+    public VirtualThreadPoolExecutor(int concurrencyLimit, int maxQueueSize, ThreadFactory threadFactory,
+                                     RejectedExecutionHandler handler) {
+        super(0, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), threadFactory, handler);
+        this.concurrencyLimit = concurrencyLimit > 0 ? concurrencyLimit : Integer.MAX_VALUE;
+        this.semaphore = new LimitSemaphore(this.concurrencyLimit);
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command);
+        if (shutdown || maxQueueSize > 0 && waitingTasks.size() >= maxQueueSize && semaphore.availablePermits() <= 0) {
+            getRejectedExecutionHandler().rejectedExecution(command, this);
+            return;
+        }
+
+        Thread thread = getThreadFactory().newThread(() -> runTask(command));
+        if (thread == null) {
+            throw new RejectedExecutionException("Thread factory did not create a thread for task: " + command);
+        }
+        synchronized (lock) {
+            // must check again while holding the lock, so no thread is added after termination
+            if (shutdown) {
+                thread = null;
+            } else {
+                threads.put(thread, Boolean.TRUE);
+                waitingTasks.put(thread, command);
+                largestPoolSize = Math.max(largestPoolSize, threads.size());
+            }
+        }
+        if (thread == null) {
+            getRejectedExecutionHandler().rejectedExecution(command, this);
+            return;
+        }
+        taskCount.incrementAndGet();
+        thread.start();
+    }
+
+    private void runTask(Runnable command) {
+        Thread thread = Thread.currentThread();
+        try {
+            try {
+                semaphore.acquire();
+            } catch (InterruptedException e) {
+                // the executor was shutdown now, and the task is returned from shutdownNow
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (waitingTasks.remove(thread) == null) {
+                // the task was taken by shutdownNow while acquiring the permit
+                semaphore.release();
+                return;
+            }
+
+            running.incrementAndGet();
+            try {
+                beforeExecute(thread, command);
+                Throwable thrown = null;
+                try {
+                    command.run();
+                } catch (RuntimeException | Error e) {
+                    thrown = e;
+                    throw e;
+                } finally {
+                    afterExecute(command, thrown);
+                }
+            } finally {
+                running.decrementAndGet();
+                completedTaskCount.incrementAndGet();
+                semaphore.release();
+            }
+        } finally {
+            synchronized (lock) {
+                threads.remove(thread);
+                waitingTasks.remove(thread);
+                if (threads.isEmpty()) {
+                    lock.notifyAll();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (lock) {
+            shutdown = true;
+            lock.notifyAll();
+        }
+        super.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        List<Runnable> answer = new ArrayList<>();
+        for (Thread thread : threads.keySet()) {
+            Runnable task = waitingTasks.remove(thread);
+            if (task != null) {
+                answer.add(task);
+            }
+            thread.interrupt();
+        }
+        super.shutdownNow();
+        return answer;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminating() {
+        return shutdown && !threads.isEmpty();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && threads.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (lock) {
+            while (!isTerminated()) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    return false;
+                }
+                lock.wait(remaining);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The number of tasks waiting for a permit to run.
+     */
+    public int getWaitingTaskCount() {
+        return waitingTasks.size();
+    }
+
+    /**
+     * The maximum number of tasks waiting for a permit to run (0 or negative is unbounded).
+     */
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * The number of threads, which is the number of running and waiting tasks.
+     */
+    @Override
+    public int getPoolSize() {
+        return threads.size();
+    }
+
+    /**
+     * The largest number of threads that have simultaneously existed.
+     */
+    @Override
+    public int getLargestPoolSize() {
+        return largestPoolSize;
+    }
+
+    /**
+     * The number of tasks currently running.
+     */
+    @Override
+    public int getActiveCount() {
+        return running.get();
+    }
+
+    @Override
+    public long getTaskCount() {
+        return taskCount.get();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return completedTaskCount.get();
+    }
+
+    /**
+     * The concurrency limit.
+     */
+    @Override
+    public int getMaximumPoolSize() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * Changes the concurrency limit.
+     */
+    @Override
+    public synchronized void setMaximumPoolSize(int maximumPoolSize) {
+        int limit = maximumPoolSize > 0 ? maximumPoolSize : Integer.MAX_VALUE;
+        int delta = limit - concurrencyLimit;
+        if (delta > 0) {
+            semaphore.release(delta);
+        } else if (delta < 0) {
+            semaphore.reducePermits(-delta);
+        }
+        concurrencyLimit = limit;
+    }
+
+    @Override
+    public String toString() {
+        String state = isTerminated() ? "Terminated" : shutdown ? "Shutting down" : "Running";
+        String answer = getClass().getName() + "@" + Integer.toHexString(hashCode()) + "[" + state
+                        + ", pool size = " + getPoolSize() + ", active threads = " + getActiveCount()
+                        + ", queued tasks = " + getWaitingTaskCount() + ", completed tasks = " + getCompletedTaskCount()
+                        + "]";
+        // the thread factory often have more precise details what the thread pool is used for
+        if (getThreadFactory() instanceof CamelThreadFactory) {
+            answer += "[" + ((CamelThreadFactory) getThreadFactory()).getName() + "]";
+        }
+        return answer;
+    }
+
+    private static final class LimitSemaphore extends Semaphore {
+
+        LimitSemaphore(int permits) {
+            super(permits);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VirtualThreadPoolExecutorTest {
+
+    @Test
+    public void testConcurrencyLimit() throws Exception {
+        VirtualThreadPoolExecutor pool = new VirtualThreadPoolExecutor(
+                2, 0, new CamelThreadFactory(null, "test", true, true),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(5);
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            pool.execute(() -> {
+                maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                concurrent.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        // a thread per task, but only 2 tasks are running
+        assertEquals(5, pool.getPoolSize());
+        assertEquals(2, pool.getMaximumPoolSize());
+        awaitActiveCount(pool, 2);
+        assertEquals(3, pool.getWaitingTaskCount());
+
+        release.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(2, maxConcurrent.get());
+        assertEquals(0, pool.getWaitingTaskCount());
+
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(5, pool.getCompletedTaskCount());
+    }
+
+    @Test
+    public void testMaxQueueSize() throws Exception {
+        VirtualThreadPoolExecutor pool = new VirtualThreadPoolExecutor(
+                1, 1, new CamelThreadFactory(null, "test", true, true),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable task = () -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        pool.execute(task);
+        awaitActiveCount(pool, 1);
+        pool.execute(task);
+
+        assertThrows(RejectedExecutionException.class, () -> pool.execute(task));
+
+        release.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(2, pool.getCompletedTaskCount());
+    }
+
+    @Test
+    public void testChangeConcurrencyLimit() throws Exception {
+        VirtualThreadPoolExecutor pool = new VirtualThreadPoolExecutor(
+                1, 0, new CamelThreadFactory(null, "test", true, true),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable task = () -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        for (int i = 0; i < 3; i++) {
+            pool.execute(task);
+        }
+        awaitActiveCount(pool, 1);
+
+        pool.setMaximumPoolSize(3);
+        assertEquals(3, pool.getMaximumPoolSize());
+        awaitActiveCount(pool, 3);
+
+        release.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testThreadPerTask() throws Exception {
+        VirtualThreadPoolExecutor pool = new VirtualThreadPoolExecutor(
+                1, 0, new CamelThreadFactory(null, "test", true, true),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // the threads are never reused, even when the tasks run one at a time
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 5; i++) {
+            pool.submit(() -> threads.add(Thread.currentThread())).get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(5, threads.size());
+
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(0, pool.getPoolSize());
+    }
+
+    @Test
+    public void testShutdownNow() throws Exception {
+        VirtualThreadPoolExecutor pool = new VirtualThreadPoolExecutor(
+                1, 0, new CamelThreadFactory(null, "test", true, true),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        CountDownLatch started = new CountDownLatch(1);
+        Runnable task = () -> {
+            started.countDown();
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        pool.execute(task);
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        pool.execute(task);
+        pool.execute(task);
+
+        // the running task is interrupted, and the tasks waiting for a permit are returned
+        List<Runnable> waiting = pool.shutdownNow();
+        assertEquals(2, waiting.size());
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(pool.isTerminated());
+        assertThrows(RejectedExecutionException.class, () -> pool.execute(task));
+    }
+
+    @Test
+    public void testVirtualThreadFactory() throws Exception {
+        CamelThreadFactory factory = new CamelThreadFactory(null, "test", true).toVirtual();
+        assertEquals(ThreadHelper.isVirtualThreadsSupported(), factory.isVirtual());
+
+        Thread thread = factory.newThread(() -> {
+        });
+        assertTrue(thread.getName().endsWith(" - test"));
+        assertTrue(thread.isDaemon());
+    }
+
+    private static void awaitActiveCount(VirtualThreadPoolExecutor pool, int expected) throws InterruptedException {
+        for (int i = 0; i < 100 && pool.getActiveCount() != expected; i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(expected, pool.getActiveCount());
+    }
+}
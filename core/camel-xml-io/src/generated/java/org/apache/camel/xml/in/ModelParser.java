@@ -272,6 +272,7 @@ public class ModelParser extends BaseParser {
                 case "filter": def.setFilter(val); break;
                 case "key": def.setKey(val); break;
                 case "operation": def.setOperation(val); break;
+                case "repository": def.setRepository(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
             }
             return true;
@@ -2213,6 +2214,7 @@ public class ModelParser extends BaseParser {
                 case "unmarshalType": def.setUnmarshalTypeName(val); break;
                 case "useDefaultObjectMapper": def.setUseDefaultObjectMapper(val); break;
                 case "useList": def.setUseList(val); break;
+                case "usingIterator": def.setUsingIterator(val); break;
                 default: return identifiedTypeAttributeHandler().accept(def, key, val);
             }
             return true;
@@ -1173,6 +1173,27 @@ public interface ActivemqComponentBuilderFactory {
             doSetProperty("replyToDestinationSelectorName", replyToDestinationSelectorName);
             return this;
         }
+        /**
+         * Specifies the number of reply managers to use when doing
+         * request/reply over JMS. Each reply manager has its own reply
+         * consumer and correlation map, and the pending requests are spread
+         * among the reply managers by the hash of their correlation id. This
+         * reduces contention when many concurrent requests are in-flight on
+         * the same endpoint. When using temporary reply queues then each reply
+         * manager uses its own temporary queue.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer (advanced)
+         * 
+         * @param replyToShards the value to set
+         * @return the dsl builder
+         */
+        default ActivemqComponentBuilder replyToShards(int replyToShards) {
+            doSetProperty("replyToShards", replyToShards);
+            return this;
+        }
         /**
          * Sets whether StreamMessage type is enabled or not. Message payloads
          * of streaming kind such as files, InputStream, etc will either by sent
@@ -2119,6 +2140,7 @@ public interface ActivemqComponentBuilderFactory {
             case "includeSentJMSMessageID": getOrCreateConfiguration((ActiveMQComponent) component).setIncludeSentJMSMessageID((boolean) value); return true;
             case "replyToCacheLevelName": getOrCreateConfiguration((ActiveMQComponent) component).setReplyToCacheLevelName((java.lang.String) value); return true;
             case "replyToDestinationSelectorName": getOrCreateConfiguration((ActiveMQComponent) component).setReplyToDestinationSelectorName((java.lang.String) value); return true;
+            case "replyToShards": getOrCreateConfiguration((ActiveMQComponent) component).setReplyToShards((int) value); return true;
             case "streamMessageTypeEnabled": getOrCreateConfiguration((ActiveMQComponent) component).setStreamMessageTypeEnabled((boolean) value); return true;
             case "allowAutoWiredConnectionFactory": ((ActiveMQComponent) component).setAllowAutoWiredConnectionFactory((boolean) value); return true;
             case "allowAutoWiredDestinationResolver": ((ActiveMQComponent) component).setAllowAutoWiredDestinationResolver((boolean) value); return true;
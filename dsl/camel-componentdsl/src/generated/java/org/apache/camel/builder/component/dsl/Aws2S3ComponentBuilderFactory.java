@@ -553,6 +553,43 @@ public interface Aws2S3ComponentBuilderFactory {
             doSetProperty("prefix", prefix);
             return this;
         }
+        /**
+         * If set greater than 1, then objects larger than
+         * rangeDownloadPartSize are downloaded using this number of parallel
+         * byte range requests. The ranges are downloaded when the body is
+         * read, and at most this number of ranges are kept in memory at the
+         * same time.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param rangeDownloadConcurrency the value to set
+         * @return the dsl builder
+         */
+        default Aws2S3ComponentBuilder rangeDownloadConcurrency(
+                int rangeDownloadConcurrency) {
+            doSetProperty("rangeDownloadConcurrency", rangeDownloadConcurrency);
+            return this;
+        }
+        /**
+         * The size of each of the byte ranges when downloading objects in
+         * parallel using rangeDownloadConcurrency, the default size is 25M.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 26214400
+         * Group: consumer
+         * 
+         * @param rangeDownloadPartSize the value to set
+         * @return the dsl builder
+         */
+        default Aws2S3ComponentBuilder rangeDownloadPartSize(
+                long rangeDownloadPartSize) {
+            doSetProperty("rangeDownloadPartSize", rangeDownloadPartSize);
+            return this;
+        }
         /**
          * If this option is true and includeBody is false, then the
          * S3Object.close() method will be called on exchange completion. This
@@ -673,6 +710,25 @@ public interface Aws2S3ComponentBuilderFactory {
             doSetProperty("multiPartUpload", multiPartUpload);
             return this;
         }
+        /**
+         * The number of parts to upload in parallel when using multi part
+         * upload. The parts being uploaded are read from the file, so the
+         * memory used is bounded by this number of parts of partSize. The
+         * default is 1, which uploads the parts one by one.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer
+         * 
+         * @param multiPartUploadConcurrency the value to set
+         * @return the dsl builder
+         */
+        default Aws2S3ComponentBuilder multiPartUploadConcurrency(
+                int multiPartUploadConcurrency) {
+            doSetProperty("multiPartUploadConcurrency", multiPartUploadConcurrency);
+            return this;
+        }
         /**
          * The naming strategy to use in streaming upload mode.
          * 
@@ -949,6 +1005,8 @@ public interface Aws2S3ComponentBuilderFactory {
             case "includeFolders": getOrCreateConfiguration((AWS2S3Component) component).setIncludeFolders((boolean) value); return true;
             case "moveAfterRead": getOrCreateConfiguration((AWS2S3Component) component).setMoveAfterRead((boolean) value); return true;
             case "prefix": getOrCreateConfiguration((AWS2S3Component) component).setPrefix((java.lang.String) value); return true;
+            case "rangeDownloadConcurrency": getOrCreateConfiguration((AWS2S3Component) component).setRangeDownloadConcurrency((int) value); return true;
+            case "rangeDownloadPartSize": getOrCreateConfiguration((AWS2S3Component) component).setRangeDownloadPartSize((long) value); return true;
             case "autocloseBody": getOrCreateConfiguration((AWS2S3Component) component).setAutocloseBody((boolean) value); return true;
             case "batchMessageNumber": getOrCreateConfiguration((AWS2S3Component) component).setBatchMessageNumber((int) value); return true;
             case "batchSize": getOrCreateConfiguration((AWS2S3Component) component).setBatchSize((int) value); return true;
@@ -956,6 +1014,7 @@ public interface Aws2S3ComponentBuilderFactory {
             case "keyName": getOrCreateConfiguration((AWS2S3Component) component).setKeyName((java.lang.String) value); return true;
             case "lazyStartProducer": ((AWS2S3Component) component).setLazyStartProducer((boolean) value); return true;
             case "multiPartUpload": getOrCreateConfiguration((AWS2S3Component) component).setMultiPartUpload((boolean) value); return true;
+            case "multiPartUploadConcurrency": getOrCreateConfiguration((AWS2S3Component) component).setMultiPartUploadConcurrency((int) value); return true;
             case "namingStrategy": getOrCreateConfiguration((AWS2S3Component) component).setNamingStrategy((org.apache.camel.component.aws2.s3.stream.AWSS3NamingStrategyEnum) value); return true;
             case "operation": getOrCreateConfiguration((AWS2S3Component) component).setOperation((org.apache.camel.component.aws2.s3.AWS2S3Operations) value); return true;
             case "partSize": getOrCreateConfiguration((AWS2S3Component) component).setPartSize((long) value); return true;
@@ -292,6 +292,28 @@ public interface MllpComponentBuilderFactory {
             doSetProperty("maxConcurrentConsumers", maxConcurrentConsumers);
             return this;
         }
+        /**
+         * TCP Server Only - Use a non-blocking transport for the TCP Server,
+         * where a single selector thread reads from all the client connections
+         * and the messages are processed using a thread pool. By default each
+         * client connection is read by a dedicated thread, which is costly
+         * when many (mostly idle) clients are connected. When enabled the
+         * connections are not bound to a thread, and the
+         * maxConcurrentConsumers option still limits the number of client
+         * connections.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param nioTransport the value to set
+         * @return the dsl builder
+         */
+        default MllpComponentBuilder nioTransport(boolean nioTransport) {
+            doSetProperty("nioTransport", nioTransport);
+            return this;
+        }
         /**
          * Enable/disable the SO_REUSEADDR socket option.
          * 
@@ -599,6 +621,7 @@ public interface MllpComponentBuilderFactory {
             case "bridgeErrorHandler": getOrCreateConfiguration((MllpComponent) component).setBridgeErrorHandler((boolean) value); return true;
             case "lenientBind": getOrCreateConfiguration((MllpComponent) component).setLenientBind((boolean) value); return true;
             case "maxConcurrentConsumers": getOrCreateConfiguration((MllpComponent) component).setMaxConcurrentConsumers((int) value); return true;
+            case "nioTransport": getOrCreateConfiguration((MllpComponent) component).setNioTransport((boolean) value); return true;
             case "reuseAddress": getOrCreateConfiguration((MllpComponent) component).setReuseAddress((java.lang.Boolean) value); return true;
             case "exchangePattern": getOrCreateConfiguration((MllpComponent) component).setExchangePattern((org.apache.camel.ExchangePattern) value); return true;
             case "connectTimeout": getOrCreateConfiguration((MllpComponent) component).setConnectTimeout((int) value); return true;
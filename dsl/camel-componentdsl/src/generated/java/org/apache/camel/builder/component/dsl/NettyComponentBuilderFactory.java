@@ -691,6 +691,31 @@ public interface NettyComponentBuilderFactory {
             doSetProperty("producerPoolMinIdle", producerPoolMinIdle);
             return this;
         }
+        /**
+         * Whether the channels of the producer pool are shared by concurrent
+         * requests (request pipelining), instead of being used by a single
+         * request at a time. When enabled the producer uses a fixed number of
+         * channels (the producerPoolMaxTotal option, or a single channel if
+         * not set), and each request is sent on the next channel in a
+         * round-robin fashion, without waiting for the replies of the previous
+         * requests. As the replies of many requests are received on the same
+         * channel, you need to implement NettyCamelStateCorrelationManager as
+         * correlation manager and configure it via the correlationManager
+         * option.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param producerPoolPipelining the value to set
+         * @return the dsl builder
+         */
+        default NettyComponentBuilder producerPoolPipelining(
+                boolean producerPoolPipelining) {
+            doSetProperty("producerPoolPipelining", producerPoolPipelining);
+            return this;
+        }
         /**
          * This option supports connection less udp sending which is a real fire
          * and forget. A connected udp send receive the PortUnreachableException
@@ -1375,6 +1400,7 @@ public interface NettyComponentBuilderFactory {
             case "producerPoolMaxTotal": getOrCreateConfiguration((NettyComponent) component).setProducerPoolMaxTotal((int) value); return true;
             case "producerPoolMinEvictableIdle": getOrCreateConfiguration((NettyComponent) component).setProducerPoolMinEvictableIdle((long) value); return true;
             case "producerPoolMinIdle": getOrCreateConfiguration((NettyComponent) component).setProducerPoolMinIdle((int) value); return true;
+            case "producerPoolPipelining": getOrCreateConfiguration((NettyComponent) component).setProducerPoolPipelining((boolean) value); return true;
             case "udpConnectionlessSending": getOrCreateConfiguration((NettyComponent) component).setUdpConnectionlessSending((boolean) value); return true;
             case "useByteBuf": getOrCreateConfiguration((NettyComponent) component).setUseByteBuf((boolean) value); return true;
             case "hostnameVerification": getOrCreateConfiguration((NettyComponent) component).setHostnameVerification((boolean) value); return true;
@@ -842,6 +842,80 @@ public interface AWS2S3EndpointBuilderFactory {
             doSetProperty("prefix", prefix);
             return this;
         }
+        /**
+         * If set greater than 1, then objects larger than
+         * rangeDownloadPartSize are downloaded using this number of parallel
+         * byte range requests. The ranges are downloaded when the body is
+         * read, and at most this number of ranges are kept in memory at the
+         * same time.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param rangeDownloadConcurrency the value to set
+         * @return the dsl builder
+         */
+        default AWS2S3EndpointConsumerBuilder rangeDownloadConcurrency(
+                int rangeDownloadConcurrency) {
+            doSetProperty("rangeDownloadConcurrency", rangeDownloadConcurrency);
+            return this;
+        }
+        /**
+         * If set greater than 1, then objects larger than
+         * rangeDownloadPartSize are downloaded using this number of parallel
+         * byte range requests. The ranges are downloaded when the body is
+         * read, and at most this number of ranges are kept in memory at the
+         * same time.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param rangeDownloadConcurrency the value to set
+         * @return the dsl builder
+         */
+        default AWS2S3EndpointConsumerBuilder rangeDownloadConcurrency(
+                String rangeDownloadConcurrency) {
+            doSetProperty("rangeDownloadConcurrency", rangeDownloadConcurrency);
+            return this;
+        }
+        /**
+         * The size of each of the byte ranges when downloading objects in
+         * parallel using rangeDownloadConcurrency, the default size is 25M.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 26214400
+         * Group: consumer
+         * 
+         * @param rangeDownloadPartSize the value to set
+         * @return the dsl builder
+         */
+        default AWS2S3EndpointConsumerBuilder rangeDownloadPartSize(
+                long rangeDownloadPartSize) {
+            doSetProperty("rangeDownloadPartSize", rangeDownloadPartSize);
+            return this;
+        }
+        /**
+         * The size of each of the byte ranges when downloading objects in
+         * parallel using rangeDownloadConcurrency, the default size is 25M.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 26214400
+         * Group: consumer
+         * 
+         * @param rangeDownloadPartSize the value to set
+         * @return the dsl builder
+         */
+        default AWS2S3EndpointConsumerBuilder rangeDownloadPartSize(
+                String rangeDownloadPartSize) {
+            doSetProperty("rangeDownloadPartSize", rangeDownloadPartSize);
+            return this;
+        }
         /**
          * If the polling consumer did not poll any files, you can enable this
          * option to send an empty message (no body) instead.
@@ -2161,6 +2235,44 @@ public interface AWS2S3EndpointBuilderFactory {
             doSetProperty("multiPartUpload", multiPartUpload);
             return this;
         }
+        /**
+         * The number of parts to upload in parallel when using multi part
+         * upload. The parts being uploaded are read from the file, so the
+         * memory used is bounded by this number of parts of partSize. The
+         * default is 1, which uploads the parts one by one.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer
+         * 
+         * @param multiPartUploadConcurrency the value to set
+         * @return the dsl builder
+         */
+        default AWS2S3EndpointProducerBuilder multiPartUploadConcurrency(
+                int multiPartUploadConcurrency) {
+            doSetProperty("multiPartUploadConcurrency", multiPartUploadConcurrency);
+            return this;
+        }
+        /**
+         * The number of parts to upload in parallel when using multi part
+         * upload. The parts being uploaded are read from the file, so the
+         * memory used is bounded by this number of parts of partSize. The
+         * default is 1, which uploads the parts one by one.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer
+         * 
+         * @param multiPartUploadConcurrency the value to set
+         * @return the dsl builder
+         */
+        default AWS2S3EndpointProducerBuilder multiPartUploadConcurrency(
+                String multiPartUploadConcurrency) {
+            doSetProperty("multiPartUploadConcurrency", multiPartUploadConcurrency);
+            return this;
+        }
         /**
          * The naming strategy to use in streaming upload mode.
          * 
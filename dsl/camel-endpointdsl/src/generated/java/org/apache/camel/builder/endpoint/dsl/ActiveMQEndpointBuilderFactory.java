@@ -3901,6 +3901,50 @@ public interface ActiveMQEndpointBuilderFactory {
             doSetProperty("replyToDestinationSelectorName", replyToDestinationSelectorName);
             return this;
         }
+        /**
+         * Specifies the number of reply managers to use when doing
+         * request/reply over JMS. Each reply manager has its own reply
+         * consumer and correlation map, and the pending requests are spread
+         * among the reply managers by the hash of their correlation id. This
+         * reduces contention when many concurrent requests are in-flight on
+         * the same endpoint. When using temporary reply queues then each reply
+         * manager uses its own temporary queue.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer (advanced)
+         * 
+         * @param replyToShards the value to set
+         * @return the dsl builder
+         */
+        default AdvancedActiveMQEndpointProducerBuilder replyToShards(
+                int replyToShards) {
+            doSetProperty("replyToShards", replyToShards);
+            return this;
+        }
+        /**
+         * Specifies the number of reply managers to use when doing
+         * request/reply over JMS. Each reply manager has its own reply
+         * consumer and correlation map, and the pending requests are spread
+         * among the reply managers by the hash of their correlation id. This
+         * reduces contention when many concurrent requests are in-flight on
+         * the same endpoint. When using temporary reply queues then each reply
+         * manager uses its own temporary queue.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer (advanced)
+         * 
+         * @param replyToShards the value to set
+         * @return the dsl builder
+         */
+        default AdvancedActiveMQEndpointProducerBuilder replyToShards(
+                String replyToShards) {
+            doSetProperty("replyToShards", replyToShards);
+            return this;
+        }
         /**
          * Sets whether StreamMessage type is enabled or not. Message payloads
          * of streaming kind such as files, InputStream, etc will either by sent
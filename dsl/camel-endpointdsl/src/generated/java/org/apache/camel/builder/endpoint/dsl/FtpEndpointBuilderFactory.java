@@ -2596,6 +2596,50 @@ public interface FtpEndpointBuilderFactory {
             doSetProperty("onCompletionExceptionHandler", onCompletionExceptionHandler);
             return this;
         }
+        /**
+         * Number of additional connections the consumer uses to download the
+         * files of a poll in parallel. The files are still routed one at a
+         * time in the order they were polled, and the commit (move, delete,
+         * idempotent) is still done on the consumer connection, but the next
+         * files are downloaded ahead while the current file is being routed.
+         * Parallel downloads are only in use when readLock=none and preMove is
+         * not in use, and cannot be used together with streamDownload. Use 0
+         * or 1 to download the files one by one.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param parallelDownloads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFtpEndpointConsumerBuilder parallelDownloads(
+                int parallelDownloads) {
+            doSetProperty("parallelDownloads", parallelDownloads);
+            return this;
+        }
+        /**
+         * Number of additional connections the consumer uses to download the
+         * files of a poll in parallel. The files are still routed one at a
+         * time in the order they were polled, and the commit (move, delete,
+         * idempotent) is still done on the consumer connection, but the next
+         * files are downloaded ahead while the current file is being routed.
+         * Parallel downloads are only in use when readLock=none and preMove is
+         * not in use, and cannot be used together with streamDownload. Use 0
+         * or 1 to download the files one by one.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param parallelDownloads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFtpEndpointConsumerBuilder parallelDownloads(
+                String parallelDownloads) {
+            doSetProperty("parallelDownloads", parallelDownloads);
+            return this;
+        }
         /**
          * A pluggable org.apache.camel.PollingConsumerPollingStrategy allowing
          * you to provide your custom implementation to control error handling
@@ -872,6 +872,49 @@ public interface HttpEndpointBuilderFactory {
         default HttpEndpointBuilder basic() {
             return (HttpEndpointBuilder) this;
         }
+        /**
+         * Whether the producer should send the requests using the
+         * non-blocking Apache HttpAsyncClient. When enabled the calling thread
+         * is not blocked while waiting for the response, which allows a small
+         * number of threads to have many HTTP requests in flight. The response
+         * body is cached in a stream cache (spooled to disk if large) as it is
+         * received. The maximum number of connections is configured with the
+         * maxTotalConnections and connectionsPerRoute options.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param asyncProducer the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder asyncProducer(boolean asyncProducer) {
+            doSetProperty("asyncProducer", asyncProducer);
+            return this;
+        }
+        /**
+         * Whether the producer should send the requests using the
+         * non-blocking Apache HttpAsyncClient. When enabled the calling thread
+         * is not blocked while waiting for the response, which allows a small
+         * number of threads to have many HTTP requests in flight. The response
+         * body is cached in a stream cache (spooled to disk if large) as it is
+         * received. The maximum number of connections is configured with the
+         * maxTotalConnections and connectionsPerRoute options.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param asyncProducer the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder asyncProducer(String asyncProducer) {
+            doSetProperty("asyncProducer", asyncProducer);
+            return this;
+        }
         /**
          * Configure a cookie handler to maintain a HTTP session.
          * 
@@ -1017,6 +1060,40 @@ public interface HttpEndpointBuilderFactory {
             doSetProperty("getWithBody", getWithBody);
             return this;
         }
+        /**
+         * Sets a custom HttpAsyncClient to be used by the producer when
+         * asyncProducer is enabled. The client must be started.
+         * 
+         * The option is a:
+         * &lt;code&gt;org.apache.http.nio.client.HttpAsyncClient&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param httpAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder httpAsyncClient(
+                org.apache.http.nio.client.HttpAsyncClient httpAsyncClient) {
+            doSetProperty("httpAsyncClient", httpAsyncClient);
+            return this;
+        }
+        /**
+         * Sets a custom HttpAsyncClient to be used by the producer when
+         * asyncProducer is enabled. The client must be started.
+         * 
+         * The option will be converted to a
+         * &lt;code&gt;org.apache.http.nio.client.HttpAsyncClient&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param httpAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder httpAsyncClient(
+                String httpAsyncClient) {
+            doSetProperty("httpAsyncClient", httpAsyncClient);
+            return this;
+        }
         /**
          * The status codes which are considered a success response. The values
          * are inclusive. Multiple ranges can be defined, separated by comma,
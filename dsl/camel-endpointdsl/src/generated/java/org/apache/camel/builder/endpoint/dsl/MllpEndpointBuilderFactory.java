@@ -515,6 +515,53 @@ public interface MllpEndpointBuilderFactory {
             doSetProperty("maxConcurrentConsumers", maxConcurrentConsumers);
             return this;
         }
+        /**
+         * TCP Server Only - Use a non-blocking transport for the TCP Server,
+         * where a single selector thread reads from all the client connections
+         * and the messages are processed using a thread pool. By default each
+         * client connection is read by a dedicated thread, which is costly
+         * when many (mostly idle) clients are connected. When enabled the
+         * connections are not bound to a thread, and the
+         * maxConcurrentConsumers option still limits the number of client
+         * connections.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param nioTransport the value to set
+         * @return the dsl builder
+         */
+        default AdvancedMllpEndpointConsumerBuilder nioTransport(
+                boolean nioTransport) {
+            doSetProperty("nioTransport", nioTransport);
+            return this;
+        }
+        /**
+         * TCP Server Only - Use a non-blocking transport for the TCP Server,
+         * where a single selector thread reads from all the client connections
+         * and the messages are processed using a thread pool. By default each
+         * client connection is read by a dedicated thread, which is costly
+         * when many (mostly idle) clients are connected. When enabled the
+         * connections are not bound to a thread, and the
+         * maxConcurrentConsumers option still limits the number of client
+         * connections.
+         * 
+         * The option will be converted to a
+         * &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param nioTransport the value to set
+         * @return the dsl builder
+         */
+        default AdvancedMllpEndpointConsumerBuilder nioTransport(
+                String nioTransport) {
+            doSetProperty("nioTransport", nioTransport);
+            return this;
+        }
         /**
          * Enable/disable the SO_REUSEADDR socket option.
          * 
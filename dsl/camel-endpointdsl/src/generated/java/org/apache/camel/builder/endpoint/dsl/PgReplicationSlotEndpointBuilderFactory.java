@@ -119,6 +119,88 @@ public interface PgReplicationSlotEndpointBuilderFactory {
             doSetProperty("bridgeErrorHandler", bridgeErrorHandler);
             return this;
         }
+        /**
+         * Maximum number of messages to read from the replication stream per
+         * poll. When more than one, the consumer streams the messages: all the
+         * pending messages (up to this number) are routed in each poll, and
+         * the LSNs are acknowledged in batches, in order, once the messages
+         * have been routed. When a message fails then the stream is restarted
+         * from the last acknowledged LSN so the message is received again.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param maxMessagesPerPoll the value to set
+         * @return the dsl builder
+         */
+        default PgReplicationSlotEndpointBuilder maxMessagesPerPoll(
+                int maxMessagesPerPoll) {
+            doSetProperty("maxMessagesPerPoll", maxMessagesPerPoll);
+            return this;
+        }
+        /**
+         * Maximum number of messages to read from the replication stream per
+         * poll. When more than one, the consumer streams the messages: all the
+         * pending messages (up to this number) are routed in each poll, and
+         * the LSNs are acknowledged in batches, in order, once the messages
+         * have been routed. When a message fails then the stream is restarted
+         * from the last acknowledged LSN so the message is received again.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param maxMessagesPerPoll the value to set
+         * @return the dsl builder
+         */
+        default PgReplicationSlotEndpointBuilder maxMessagesPerPoll(
+                String maxMessagesPerPoll) {
+            doSetProperty("maxMessagesPerPoll", maxMessagesPerPoll);
+            return this;
+        }
+        /**
+         * Maximum number of messages that has been read from the replication
+         * stream but not yet completed by the route, when streaming
+         * (maxMessagesPerPoll is more than one). When the limit is reached the
+         * consumer stops reading from the stream until the routes have caught
+         * up. Use 0 for no limit.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: consumer
+         * 
+         * @param maxPendingMessages the value to set
+         * @return the dsl builder
+         */
+        default PgReplicationSlotEndpointBuilder maxPendingMessages(
+                int maxPendingMessages) {
+            doSetProperty("maxPendingMessages", maxPendingMessages);
+            return this;
+        }
+        /**
+         * Maximum number of messages that has been read from the replication
+         * stream but not yet completed by the route, when streaming
+         * (maxMessagesPerPoll is more than one). When the limit is reached the
+         * consumer stops reading from the stream until the routes have caught
+         * up. Use 0 for no limit.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: consumer
+         * 
+         * @param maxPendingMessages the value to set
+         * @return the dsl builder
+         */
+        default PgReplicationSlotEndpointBuilder maxPendingMessages(
+                String maxPendingMessages) {
+            doSetProperty("maxPendingMessages", maxPendingMessages);
+            return this;
+        }
         /**
          * If the polling consumer did not poll any files, you can enable this
          * option to send an empty message (no body) instead.
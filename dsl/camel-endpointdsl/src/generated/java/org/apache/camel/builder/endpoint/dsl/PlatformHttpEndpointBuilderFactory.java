@@ -302,6 +302,45 @@ public interface PlatformHttpEndpointBuilderFactory {
             doSetProperty("fileNameExtWhitelist", fileNameExtWhitelist);
             return this;
         }
+        /**
+         * Whether the HTTP request body should be read as a stream instead of
+         * being fully loaded into memory before the exchange is routed.
+         * Streaming is only supported by engines that can provide the request
+         * body as a stream, such as camel-platform-http-vertx.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param useStreaming the value to set
+         * @return the dsl builder
+         */
+        default AdvancedPlatformHttpEndpointBuilder useStreaming(
+                boolean useStreaming) {
+            doSetProperty("useStreaming", useStreaming);
+            return this;
+        }
+        /**
+         * Whether the HTTP request body should be read as a stream instead of
+         * being fully loaded into memory before the exchange is routed.
+         * Streaming is only supported by engines that can provide the request
+         * body as a stream, such as camel-platform-http-vertx.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param useStreaming the value to set
+         * @return the dsl builder
+         */
+        default AdvancedPlatformHttpEndpointBuilder useStreaming(
+                String useStreaming) {
+            doSetProperty("useStreaming", useStreaming);
+            return this;
+        }
         /**
          * To use a custom HeaderFilterStrategy to filter headers to and from
          * Camel message.
@@ -1811,6 +1811,83 @@ public interface Sjms2EndpointBuilderFactory {
             doSetProperty("allowNullBody", allowNullBody);
             return this;
         }
+        /**
+         * Sets the maximum number of InOnly messages the producer sends in a
+         * single batch using a shared JMS session. When the endpoint is
+         * transacted, the session is committed once per batch, and the
+         * exchanges are completed after the commit. A batch is sent when it is
+         * full or when the batchTimeout has elapsed. Batching is only
+         * effective when multiple exchanges are sent to the producer
+         * concurrently, such as from a thread pool or an asynchronous caller.
+         * Batching is disabled when the value is 1 or less.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSjms2EndpointProducerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * Sets the maximum number of InOnly messages the producer sends in a
+         * single batch using a shared JMS session. When the endpoint is
+         * transacted, the session is committed once per batch, and the
+         * exchanges are completed after the commit. A batch is sent when it is
+         * full or when the batchTimeout has elapsed. Batching is only
+         * effective when multiple exchanges are sent to the producer
+         * concurrently, such as from a thread pool or an asynchronous caller.
+         * Batching is disabled when the value is 1 or less.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSjms2EndpointProducerBuilder batchSize(
+                String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum time in milliseconds to wait for a batch to become full
+         * before it is sent anyway. Only in use when batchSize is configured.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: producer (advanced)
+         * 
+         * @param batchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSjms2EndpointProducerBuilder batchTimeout(
+                long batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
+        /**
+         * The maximum time in milliseconds to wait for a batch to become full
+         * before it is sent anyway. Only in use when batchSize is configured.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: producer (advanced)
+         * 
+         * @param batchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSjms2EndpointProducerBuilder batchTimeout(
+                String batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
         /**
          * Use this option to force disabling time to live. For example when you
          * do request/reply over JMS, then Camel will by default use the
@@ -1118,6 +1118,44 @@ public interface SqlEndpointBuilderFactory {
             doSetProperty("exchangePattern", exchangePattern);
             return this;
         }
+        /**
+         * If set greater than zero, then the onConsume and onConsumeFailed
+         * queries are not executed for each row, but are collected and
+         * executed as JDBC batches of up to this number of rows. Any remaining
+         * rows are executed before the onConsumeBatchComplete query at the end
+         * of the poll.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param onConsumeBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointConsumerBuilder onConsumeBatchSize(
+                int onConsumeBatchSize) {
+            doSetProperty("onConsumeBatchSize", onConsumeBatchSize);
+            return this;
+        }
+        /**
+         * If set greater than zero, then the onConsume and onConsumeFailed
+         * queries are not executed for each row, but are collected and
+         * executed as JDBC batches of up to this number of rows. Any remaining
+         * rows are executed before the onConsumeBatchComplete query at the end
+         * of the poll.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param onConsumeBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointConsumerBuilder onConsumeBatchSize(
+                String onConsumeBatchSize) {
+            doSetProperty("onConsumeBatchSize", onConsumeBatchSize);
+            return this;
+        }
         /**
          * A pluggable org.apache.camel.PollingConsumerPollingStrategy allowing
          * you to provide your custom implementation to control error handling
@@ -1809,6 +1847,84 @@ public interface SqlEndpointBuilderFactory {
             doSetProperty("alwaysPopulateStatement", alwaysPopulateStatement);
             return this;
         }
+        /**
+         * If set greater than one, then the producer collects the statements
+         * of concurrent exchanges into micro batches of up to this number of
+         * statements, which are executed as JDBC batches in a single
+         * transaction. The batch is executed when it is full, or when the
+         * microBatchTimeout has elapsed. This can only be used with statements
+         * which do not return a result set, such as INSERT, UPDATE or DELETE
+         * statements, and is not used when batch is enabled or when retrieving
+         * generated keys.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param microBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder microBatchSize(
+                int microBatchSize) {
+            doSetProperty("microBatchSize", microBatchSize);
+            return this;
+        }
+        /**
+         * If set greater than one, then the producer collects the statements
+         * of concurrent exchanges into micro batches of up to this number of
+         * statements, which are executed as JDBC batches in a single
+         * transaction. The batch is executed when it is full, or when the
+         * microBatchTimeout has elapsed. This can only be used with statements
+         * which do not return a result set, such as INSERT, UPDATE or DELETE
+         * statements, and is not used when batch is enabled or when retrieving
+         * generated keys.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param microBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder microBatchSize(
+                String microBatchSize) {
+            doSetProperty("microBatchSize", microBatchSize);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for a micro batch to be filled
+         * before it is executed.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param microBatchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder microBatchTimeout(
+                long microBatchTimeout) {
+            doSetProperty("microBatchTimeout", microBatchTimeout);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for a micro batch to be filled
+         * before it is executed.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param microBatchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder microBatchTimeout(
+                String microBatchTimeout) {
+            doSetProperty("microBatchTimeout", microBatchTimeout);
+            return this;
+        }
         /**
          * If set greater than zero, then Camel will use this count value of
          * parameters to replace instead of querying via JDBC metadata API. This
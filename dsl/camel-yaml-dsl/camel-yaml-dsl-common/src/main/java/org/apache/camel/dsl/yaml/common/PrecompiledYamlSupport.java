@@ -0,0 +1,337 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.yaml.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.snakeyaml.engine.v2.common.FlowStyle;
+import org.snakeyaml.engine.v2.common.ScalarStyle;
+import org.snakeyaml.engine.v2.exceptions.Mark;
+import org.snakeyaml.engine.v2.nodes.MappingNode;
+import org.snakeyaml.engine.v2.nodes.Node;
+import org.snakeyaml.engine.v2.nodes.NodeTuple;
+import org.snakeyaml.engine.v2.nodes.ScalarNode;
+import org.snakeyaml.engine.v2.nodes.SequenceNode;
+import org.snakeyaml.engine.v2.nodes.Tag;
+
+/**
+ * Support for precompiled YAML routes, which are YAML documents that have been parsed at build time and stored in a
+ * compact binary form of the composed YAML nodes.
+ * <p/>
+ * Loading a precompiled document skips scanning, parsing and composing the YAML text, which is the most expensive part
+ * of loading YAML routes. The nodes keep their tags, styles and source start positions (line and column), so the routes are
+ * created from the nodes in the same way as when the YAML text is parsed, including the line numbers of the EIPs and
+ * the positions in error messages. Nodes which are referred to from several places (YAML aliases) are shared as when
+ * composing the YAML text.
+ */
+public final class PrecompiledYamlSupport {
+
+    private static final byte[] MAGIC = new byte[] { 0, 'C', 'Y', 'B' };
+    private static final int VERSION = 1;
+
+    private static final int REFERENCE = 0;
+    private static final int SCALAR = 1;
+    private static final int SEQUENCE = 2;
+    private static final int MAPPING = 3;
+
+    private static final int FLAG_START_MARK = 1;
+    private static final int FLAG_RECURSIVE = 2;
+    private static final int FLAG_MERGED = 4;
+
+    private static final ScalarStyle[] SCALAR_STYLES = ScalarStyle.values();
+    private static final FlowStyle[] FLOW_STYLES = FlowStyle.values();
+
+    private PrecompiledYamlSupport() {
+    }
+
+    /**
+     * Whether the input stream is a precompiled YAML document. The stream must support mark and reset, as the stream
+     * is reset to its current position.
+     */
+    public static boolean isPrecompiled(InputStream is) throws IOException {
+        is.mark(MAGIC.length);
+        try {
+            for (byte b : MAGIC) {
+                if (is.read() != b) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            is.reset();
+        }
+    }
+
+    /**
+     * Writes the YAML node as a precompiled YAML document
+     *
+     * @param node the root node, such as composed from a YAML document
+     * @param os   the stream to write to
+     */
+    public static void write(Node node, OutputStream os) throws IOException {
+        DataOutputStream out = new DataOutputStream(os);
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        new Writer(out).writeNode(node);
+        out.flush();
+    }
+
+    /**
+     * Writes the YAML node as a precompiled YAML document
+     *
+     * @param  node the root node, such as composed from a YAML document
+     * @return      the precompiled document
+     */
+    public static byte[] write(Node node) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        write(node, bos);
+        return bos.toByteArray();
+    }
+
+    /**
+     * Reads the YAML node from a precompiled YAML document
+     *
+     * @param  name the name of the document (such as the resource location) which is used in the positions of the
+     *              nodes
+     * @param  is   the stream to read from
+     * @return      the root node
+     */
+    public static Node read(String name, InputStream is) throws IOException {
+        DataInputStream in = new DataInputStream(is);
+        for (byte b : MAGIC) {
+            if (in.readByte() != b) {
+                throw new IOException("Not a precompiled YAML document: " + name);
+            }
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported precompiled YAML document version: " + version + " in: " + name);
+        }
+        return new Reader(name, in).readNode();
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed precompiled YAML document");
+    }
+
+    private static final class Writer {
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final Map<Node, Integer> nodes = new IdentityHashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void writeNode(Node node) throws IOException {
+            Integer id = nodes.get(node);
+            if (id != null) {
+                // the node has already been written (an alias)
+                out.writeByte(REFERENCE);
+                writeVarInt(out, id);
+                return;
+            }
+            nodes.put(node, nodes.size());
+
+            int flags = 0;
+            if (node.getStartMark().isPresent()) {
+                flags |= FLAG_START_MARK;
+            }
+            if (node.isRecursive()) {
+                flags |= FLAG_RECURSIVE;
+            }
+            if (node instanceof MappingNode && ((MappingNode) node).isMerged()) {
+                flags |= FLAG_MERGED;
+            }
+
+            if (node instanceof ScalarNode) {
+                out.writeByte(SCALAR);
+            } else if (node instanceof SequenceNode) {
+                out.writeByte(SEQUENCE);
+            } else if (node instanceof MappingNode) {
+                out.writeByte(MAPPING);
+            } else {
+                throw new IOException("Unsupported node: " + node);
+            }
+            out.writeByte(flags);
+            writeString(node.getTag().getValue());
+            if (node.getStartMark().isPresent()) {
+                writeMark(node.getStartMark().get());
+            }
+
+            if (node instanceof ScalarNode) {
+                ScalarNode scalar = (ScalarNode) node;
+                out.writeByte(scalar.getScalarStyle().ordinal());
+                writeString(scalar.getValue());
+            } else if (node instanceof SequenceNode) {
+                SequenceNode seq = (SequenceNode) node;
+                out.writeByte(seq.getFlowStyle().ordinal());
+                writeVarInt(out, seq.getValue().size());
+                for (Node child : seq.getValue()) {
+                    writeNode(child);
+                }
+            } else {
+                MappingNode map = (MappingNode) node;
+                out.writeByte(map.getFlowStyle().ordinal());
+                writeVarInt(out, map.getValue().size());
+                for (NodeTuple tuple : map.getValue()) {
+                    writeNode(tuple.getKeyNode());
+                    writeNode(tuple.getValueNode());
+                }
+            }
+        }
+
+        private void writeMark(Mark mark) throws IOException {
+            writeVarInt(out, mark.getIndex());
+            writeVarInt(out, mark.getLine());
+            writeVarInt(out, mark.getColumn());
+        }
+
+        private void writeString(String value) throws IOException {
+            // the same strings (such as the keys) are used many times, so they are only written the first time
+            Integer id = strings.get(value);
+            if (id != null) {
+                writeVarInt(out, id + 1);
+            } else {
+                strings.put(value, strings.size());
+                byte[] data = value.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(out, 0);
+                writeVarInt(out, data.length);
+                out.write(data);
+            }
+        }
+    }
+
+    private static final class Reader {
+        private static final int[] NO_BUFFER = new int[0];
+
+        private final String name;
+        private final DataInputStream in;
+        private final List<String> strings = new ArrayList<>();
+        private final List<Node> nodes = new ArrayList<>();
+        private final Map<String, Tag> tags = new HashMap<>();
+
+        Reader(String name, DataInputStream in) {
+            this.name = name;
+            this.in = in;
+        }
+
+        Node readNode() throws IOException {
+            int kind = in.readUnsignedByte();
+            if (kind == REFERENCE) {
+                int id = readVarInt(in);
+                if (id >= nodes.size()) {
+                    throw new IOException("Malformed precompiled YAML document: " + name);
+                }
+                return nodes.get(id);
+            }
+
+            int flags = in.readUnsignedByte();
+            Tag tag = tags.computeIfAbsent(readString(), Tag::new);
+            Optional<Mark> start = (flags & FLAG_START_MARK) != 0 ? Optional.of(readMark()) : Optional.empty();
+            // only the start positions are kept, as they are used for line numbers and error messages
+            Optional<Mark> end = Optional.empty();
+
+            Node answer;
+            if (kind == SCALAR) {
+                ScalarStyle style = SCALAR_STYLES[in.readUnsignedByte()];
+                answer = new ScalarNode(tag, true, readString(), style, start, end);
+                nodes.add(answer);
+            } else if (kind == SEQUENCE) {
+                FlowStyle style = FLOW_STYLES[in.readUnsignedByte()];
+                int size = readVarInt(in);
+                List<Node> children = new ArrayList<>(size);
+                answer = new SequenceNode(tag, true, children, style, start, end);
+                // register the node before the children, as they may refer to the node (recursive)
+                nodes.add(answer);
+                for (int i = 0; i < size; i++) {
+                    children.add(readNode());
+                }
+            } else if (kind == MAPPING) {
+                FlowStyle style = FLOW_STYLES[in.readUnsignedByte()];
+                int size = readVarInt(in);
+                List<NodeTuple> children = new ArrayList<>(size);
+                MappingNode map = new MappingNode(tag, true, children, style, start, end);
+                map.setMerged((flags & FLAG_MERGED) != 0);
+                answer = map;
+                // register the node before the children, as they may refer to the node (recursive)
+                nodes.add(answer);
+                for (int i = 0; i < size; i++) {
+                    Node key = readNode();
+                    Node value = readNode();
+                    children.add(new NodeTuple(key, value));
+                }
+            } else {
+                throw new IOException("Malformed precompiled YAML document: " + name);
+            }
+            answer.setRecursive((flags & FLAG_RECURSIVE) != 0);
+            return answer;
+        }
+
+        private Mark readMark() throws IOException {
+            int index = readVarInt(in);
+            int line = readVarInt(in);
+            int column = readVarInt(in);
+            // there is no source to create snippets from
+            return new Mark(name, index, line, column, NO_BUFFER, 0);
+        }
+
+        private String readString() throws IOException {
+            int id = readVarInt(in);
+            if (id > 0) {
+                if (id > strings.size()) {
+                    throw new IOException("Malformed precompiled YAML document: " + name);
+                }
+                return strings.get(id - 1);
+            }
+            byte[] data = new byte[readVarInt(in)];
+            in.readFully(data);
+            String answer = new String(data, StandardCharsets.UTF_8);
+            strings.add(answer);
+            return answer;
+        }
+    }
+
+}
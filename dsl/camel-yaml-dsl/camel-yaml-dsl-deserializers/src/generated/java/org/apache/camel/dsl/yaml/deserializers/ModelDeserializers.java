@@ -1739,7 +1739,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
                     @YamlProperty(name = "key", type = "string"),
-                    @YamlProperty(name = "operation", type = "enum:Get,GetAndRemove,Set,Push,Pop", required = true)
+                    @YamlProperty(name = "operation", type = "enum:Get,GetAndRemove,Set,Push,Pop", required = true),
+                    @YamlProperty(name = "repository", type = "string")
             }
     )
     public static class ClaimCheckDefinitionDeserializer extends YamlDeserializerBase<ClaimCheckDefinition> {
@@ -1786,6 +1787,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setOperation(val);
                     break;
                 }
+                case "repository": {
+                    String val = asText(node);
+                    target.setRepository(val);
+                    break;
+                }
                 case "id": {
                     String val = asText(node);
                     target.setId(val);
@@ -7082,7 +7088,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "timezone", type = "string"),
                     @YamlProperty(name = "unmarshal-type", type = "string"),
                     @YamlProperty(name = "use-default-object-mapper", type = "boolean"),
-                    @YamlProperty(name = "use-list", type = "boolean")
+                    @YamlProperty(name = "use-list", type = "boolean"),
+                    @YamlProperty(name = "using-iterator", type = "boolean")
             }
     )
     public static class JsonDataFormatDeserializer extends YamlDeserializerBase<JsonDataFormat> {
@@ -7218,6 +7225,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setUseList(val);
                     break;
                 }
+                case "using-iterator": {
+                    String val = asText(node);
+                    target.setUsingIterator(val);
+                    break;
+                }
                 default: {
                     return false;
                 }
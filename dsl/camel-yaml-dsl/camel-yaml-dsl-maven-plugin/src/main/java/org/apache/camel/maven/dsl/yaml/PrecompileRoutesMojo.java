@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven.dsl.yaml;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import org.apache.camel.dsl.yaml.common.PrecompiledYamlSupport;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.codehaus.plexus.util.DirectoryScanner;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.api.YamlUnicodeReader;
+import org.snakeyaml.engine.v2.composer.Composer;
+import org.snakeyaml.engine.v2.nodes.Node;
+import org.snakeyaml.engine.v2.parser.ParserImpl;
+import org.snakeyaml.engine.v2.scanner.StreamReader;
+
+/**
+ * Precompiles the YAML routes (and Kamelets) in the output directory of the project, so they are loaded faster at
+ * startup. The YAML documents are parsed at build time and replaced by a compact binary form of the YAML nodes, which
+ * the YAML DSL loads directly without parsing the YAML text.
+ */
+@Mojo(
+      name = "precompile-routes",
+      defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+      threadSafe = true)
+public class PrecompileRoutesMojo extends AbstractMojo {
+
+    /**
+     * The directory with the YAML routes to precompile (in place).
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}")
+    private File directory;
+
+    /**
+     * The YAML routes to precompile. By default only the YAML files in the camel directory (the default location of
+     * the routes in Camel Main) are precompiled, as other YAML files such as application.yaml must be kept as YAML
+     * text.
+     */
+    @Parameter
+    private String[] includes = new String[] { "camel/**/*.yaml" };
+
+    /**
+     * The YAML files which should not be precompiled
+     */
+    @Parameter
+    private String[] excludes;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (!directory.isDirectory()) {
+            return;
+        }
+
+        DirectoryScanner scanner = new DirectoryScanner();
+        scanner.setBasedir(directory);
+        scanner.setIncludes(includes);
+        scanner.setExcludes(excludes);
+        scanner.scan();
+
+        int count = 0;
+        for (String name : scanner.getIncludedFiles()) {
+            File file = new File(directory, name);
+            try {
+                if (precompile(name.replace(File.separatorChar, '/'), file)) {
+                    count++;
+                }
+            } catch (Exception e) {
+                throw new MojoFailureException("Error precompiling YAML file: " + file, e);
+            }
+        }
+        getLog().info("Precompiled " + count + " YAML routes in " + directory);
+    }
+
+    private boolean precompile(String name, File file) throws IOException {
+        byte[] data = Files.readAllBytes(file.toPath());
+        try (InputStream is = new BufferedInputStream(new ByteArrayInputStream(data))) {
+            if (PrecompiledYamlSupport.isPrecompiled(is)) {
+                // already precompiled (such as by a previous build)
+                return false;
+            }
+
+            LoadSettings settings = LoadSettings.builder().setLabel(name).build();
+            StreamReader reader = new StreamReader(settings, new YamlUnicodeReader(is));
+            Composer composer = new Composer(settings, new ParserImpl(settings, reader));
+            Node node = composer.getSingleNode().orElse(null);
+            if (node == null) {
+                // an empty document
+                return false;
+            }
+            Files.write(file.toPath(), PrecompiledYamlSupport.write(node));
+            return true;
+        }
+    }
+
+}
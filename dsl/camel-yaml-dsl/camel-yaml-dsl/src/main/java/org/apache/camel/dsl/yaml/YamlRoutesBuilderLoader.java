@@ -66,16 +66,11 @@ import org.apache.camel.util.URISupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.snakeyaml.engine.v2.api.LoadSettings;
-import org.snakeyaml.engine.v2.api.YamlUnicodeReader;
-import org.snakeyaml.engine.v2.composer.Composer;
 import org.snakeyaml.engine.v2.nodes.MappingNode;
 import org.snakeyaml.engine.v2.nodes.Node;
 import org.snakeyaml.engine.v2.nodes.NodeTuple;
 import org.snakeyaml.engine.v2.nodes.NodeType;
 import org.snakeyaml.engine.v2.nodes.SequenceNode;
-import org.snakeyaml.engine.v2.parser.Parser;
-import org.snakeyaml.engine.v2.parser.ParserImpl;
-import org.snakeyaml.engine.v2.scanner.StreamReader;
 
 import static org.apache.camel.dsl.yaml.common.YamlDeserializerSupport.asMap;
 import static org.apache.camel.dsl.yaml.common.YamlDeserializerSupport.asMappingNode;
@@ -668,12 +663,9 @@ public class YamlRoutesBuilderLoader extends YamlRoutesBuilderLoaderSupport {
         try (InputStream is = resource.getInputStream()) {
             LoadSettings local = LoadSettings.builder().setLabel(resource.getLocation()).build();
             final YamlDeserializationContext ctx = newYamlDeserializationContext(local, resource);
-            final StreamReader reader = new StreamReader(local, new YamlUnicodeReader(is));
-            final Parser parser = new ParserImpl(local, reader);
-            final Composer composer = new Composer(local, parser);
 
             try {
-                composer.getSingleNode()
+                parse(local, resource, is)
                         .map(node -> preParseNode(ctx, node));
             } catch (Exception e) {
                 throw new RuntimeCamelException("Error pre-parsing resource: " + ctx.getResource().getLocation(), e);
@@ -17,21 +17,25 @@
 package org.apache.camel.dsl.yaml;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.dsl.support.RouteBuilderLoaderSupport;
+import org.apache.camel.dsl.yaml.common.PrecompiledYamlSupport;
 import org.apache.camel.dsl.yaml.common.YamlDeserializationContext;
 import org.apache.camel.dsl.yaml.common.YamlDeserializationMode;
 import org.apache.camel.dsl.yaml.common.exception.YamlDeserializationException;
 import org.apache.camel.dsl.yaml.deserializers.CustomResolver;
 import org.apache.camel.dsl.yaml.deserializers.ModelDeserializersResolver;
 import org.apache.camel.spi.Resource;
+import org.apache.camel.util.IOHelper;
 import org.snakeyaml.engine.v2.api.LoadSettings;
 import org.snakeyaml.engine.v2.api.YamlUnicodeReader;
 import org.snakeyaml.engine.v2.composer.Composer;
@@ -81,16 +85,34 @@ public abstract class YamlRoutesBuilderLoaderSupport extends RouteBuilderLoaderS
             // can show parsing errors referring to actual resource file being parsed.
             LoadSettings local = LoadSettings.builder().setLabel(resource.getLocation()).build();
             final YamlDeserializationContext ctx = newYamlDeserializationContext(local, resource);
-            final StreamReader reader = new StreamReader(local, new YamlUnicodeReader(is));
-            final Parser parser = new ParserImpl(local, reader);
-            final Composer composer = new Composer(local, parser);
 
-            return composer.getSingleNode()
+            return parse(local, resource, is)
                     .map(node -> builder(ctx, node))
                     .orElseThrow(() -> new YamlDeserializationException("Unable to parse resource: " + resource.getLocation()));
         }
     }
 
+    /**
+     * Parses the YAML document of the resource, or reads the YAML nodes directly if the resource is a precompiled YAML
+     * document.
+     *
+     * @param  settings the load settings
+     * @param  resource the resource
+     * @param  is       the input stream of the resource
+     * @return          the root node, or empty if the document has no content
+     */
+    protected Optional<Node> parse(LoadSettings settings, Resource resource, InputStream is) throws IOException {
+        final InputStream in = IOHelper.buffered(is);
+        if (PrecompiledYamlSupport.isPrecompiled(in)) {
+            return Optional.of(PrecompiledYamlSupport.read(resource.getLocation(), in));
+        }
+
+        final StreamReader reader = new StreamReader(settings, new YamlUnicodeReader(in));
+        final Parser parser = new ParserImpl(settings, reader);
+        final Composer composer = new Composer(settings, parser);
+        return composer.getSingleNode();
+    }
+
     protected abstract RouteBuilder builder(YamlDeserializationContext ctx, Node node);
 
     protected boolean anyTupleMatches(List<NodeTuple> list, String aKey, String aValue) {
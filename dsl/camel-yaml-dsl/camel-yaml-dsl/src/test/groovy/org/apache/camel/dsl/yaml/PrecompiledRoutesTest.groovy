@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License") you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.yaml
+
+import org.apache.camel.component.mock.MockEndpoint
+import org.apache.camel.dsl.yaml.common.PrecompiledYamlSupport
+import org.apache.camel.dsl.yaml.support.YamlTestSupport
+import org.apache.camel.model.FromDefinition
+import org.apache.camel.model.LogDefinition
+import org.apache.camel.model.ToDefinition
+import org.apache.camel.spi.Resource
+import org.apache.camel.support.ResourceHelper
+import org.snakeyaml.engine.v2.api.LoadSettings
+import org.snakeyaml.engine.v2.composer.Composer
+import org.snakeyaml.engine.v2.parser.ParserImpl
+import org.snakeyaml.engine.v2.scanner.StreamReader
+
+class PrecompiledRoutesTest extends YamlTestSupport {
+
+    static Resource precompile(String location, String content) {
+        def settings = LoadSettings.builder().setLabel(location).build()
+        def composer = new Composer(settings, new ParserImpl(settings, new StreamReader(settings, content.stripIndent())))
+        return ResourceHelper.fromBytes(location, PrecompiledYamlSupport.write(composer.singleNode.get()))
+    }
+
+    def "load precompiled routes"() {
+        setup:
+            def resource = precompile('route.yaml', '''
+                - from:
+                    uri: "direct:start"
+                    steps:
+                      - log:
+                         message: "test"
+                      - to: "mock:result"
+            ''')
+        when:
+            context.routesLoader.loadRoutes(resource)
+        then:
+            context.routeDefinitions.size() == 1
+
+            with(context.routeDefinitions[0].input, FromDefinition) {
+                uri == "direct:start"
+                lineNumber == 2
+            }
+            with(context.routeDefinitions[0].outputs[0], LogDefinition) {
+                message == 'test'
+                lineNumber == 5
+            }
+            with(context.routeDefinitions[0].outputs[1], ToDefinition) {
+                uri == "mock:result"
+                lineNumber == 7
+            }
+        when:
+            context.start()
+
+            withMock('mock:result') {
+                expectedBodiesReceived 'Hello World'
+            }
+
+            context.createProducerTemplate().sendBody('direct:start', 'Hello World')
+        then:
+            MockEndpoint.assertIsSatisfied(context)
+    }
+
+    def "load precompiled routes with aliases"() {
+        setup:
+            def resource = precompile('route.yaml', '''
+                - from:
+                    uri: "direct:a"
+                    steps: &steps
+                      - to: "mock:result"
+                - from:
+                    uri: "direct:b"
+                    steps: *steps
+            ''')
+        when:
+            context.routesLoader.loadRoutes(resource)
+        then:
+            context.routeDefinitions.size() == 2
+
+            with(context.routeDefinitions[0].outputs[0], ToDefinition) {
+                uri == "mock:result"
+            }
+            with(context.routeDefinitions[1].outputs[0], ToDefinition) {
+                uri == "mock:result"
+            }
+    }
+
+    def "load precompiled kamelet"() {
+        setup:
+            def resource = precompile('my-source.kamelet.yaml', '''
+                apiVersion: camel.apache.org/v1alpha1
+                kind: Kamelet
+                metadata:
+                  name: my-source
+                spec:
+                  definition:
+                    properties:
+                      message:
+                        default: "Hello"
+                  template:
+                    from:
+                      uri: "kamelet:source"
+                      steps:
+                        - set-body:
+                            constant: "{{message}}"
+            ''')
+        when:
+            loadKamelets(resource)
+        then:
+            context.routeTemplateDefinitions.size() == 1
+
+            with(context.routeTemplateDefinitions[0]) {
+                id == 'my-source'
+                templateParameters.any { it.name == 'message' && it.defaultValue == 'Hello' }
+            }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.camel.main.StartupIndex;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Prepares a startup index for Camel Main, which holds the factory classes found in the Camel factory files on the
+ * classpath, and the route builder and configuration classes of the project. This allows Camel Main to start without
+ * looking up the factory files and without classpath scanning.
+ */
+@Mojo(name = "prepare-startup-index", threadSafe = true, requiresDependencyResolution = ResolutionScope.RUNTIME,
+      defaultPhase = LifecyclePhase.PREPARE_PACKAGE)
+public class PrepareStartupIndexMojo extends AbstractMojo {
+
+    private static final String GENERATED_MSG = "Generated by camel build tools - do NOT edit this file!";
+    private static final String NL = "\n";
+
+    private static final String META_INF_SERVICES = "META-INF/services/org/apache/camel/";
+
+    @Parameter(property = "project", required = true, readonly = true)
+    private MavenProject project;
+    @Parameter(defaultValue = "${project.build.outputDirectory}")
+    private File classesDirectory;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        List<String> elements;
+        try {
+            elements = project.getRuntimeClasspathElements();
+        } catch (DependencyResolutionRequiredException e) {
+            throw new MojoExecutionException("Error resolving the project classpath", e);
+        }
+
+        // the first factory file on the classpath wins, as when Camel looks up the factory files
+        Map<String, String> factories = new TreeMap<>();
+        for (String element : elements) {
+            try {
+                findFactories(new File(element), factories);
+            } catch (IOException e) {
+                throw new MojoFailureException("Error reading factory files from " + element, e);
+            }
+        }
+
+        Set<String> routesBuilders = new TreeSet<>();
+        Set<String> configurations = new TreeSet<>();
+        findProjectClasses(elements, routesBuilders, configurations);
+
+        getLog().info("Found " + factories.size() + " Camel factories, " + routesBuilders.size() + " route builders and "
+                      + configurations.size() + " configurations for the startup index");
+
+        // prepare output to generate
+        StringBuilder sb = new StringBuilder();
+        sb.append("# ");
+        sb.append(GENERATED_MSG);
+        sb.append(NL);
+        for (Map.Entry<String, String> entry : factories.entrySet()) {
+            sb.append(StartupIndex.FACTORY_PREFIX).append(entry.getKey()).append("=").append(entry.getValue()).append(NL);
+        }
+        sb.append(StartupIndex.ROUTES_BUILDER_CLASSES).append("=").append(String.join(",", routesBuilders)).append(NL);
+        sb.append(StartupIndex.CONFIGURATION_CLASSES).append("=").append(String.join(",", configurations)).append(NL);
+
+        File file = new File(classesDirectory, StartupIndex.RESOURCE);
+        try {
+            writeFile(file, sb.toString());
+        } catch (IOException e) {
+            throw new MojoFailureException("Error updating " + file, e);
+        }
+    }
+
+    private void writeFile(File file, String data) throws IOException {
+        Path path = file.toPath();
+        Files.createDirectories(path.getParent());
+        Files.write(path, data.getBytes(StandardCharsets.UTF_8), StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Finds the factory files in the given classpath element (a directory or JAR) and adds their factory class
+     */
+    protected void findFactories(File element, Map<String, String> factories) throws IOException {
+        if (element.isDirectory()) {
+            Path root = element.toPath();
+            Path dir = root.resolve(META_INF_SERVICES);
+            if (!Files.isDirectory(dir)) {
+                return;
+            }
+            List<Path> files;
+            try (Stream<Path> stream = Files.walk(dir)) {
+                files = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                String name = root.relativize(file).toString().replace(File.separatorChar, '/');
+                if (!factories.containsKey(name)) {
+                    try (InputStream is = Files.newInputStream(file)) {
+                        addFactory(name, is, factories);
+                    }
+                }
+            }
+        } else if (element.isFile() && element.getName().endsWith(".jar")) {
+            try (JarFile jar = new JarFile(element)) {
+                Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    JarEntry entry = entries.nextElement();
+                    String name = entry.getName();
+                    if (!entry.isDirectory() && name.startsWith(META_INF_SERVICES) && !factories.containsKey(name)) {
+                        try (InputStream is = jar.getInputStream(entry)) {
+                            addFactory(name, is, factories);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void addFactory(String name, InputStream is, Map<String, String> factories) throws IOException {
+        if (StartupIndex.RESOURCE.equals(name)) {
+            return;
+        }
+        Properties prop = new Properties();
+        prop.load(is);
+        // only factory files with a factory class (not the type converter files etc.)
+        String className = prop.getProperty("class");
+        if (className != null) {
+            factories.put(name, className.trim());
+        }
+    }
+
+    /**
+     * Finds the route builder and configuration classes from the classes of the project
+     */
+    protected void findProjectClasses(List<String> elements, Set<String> routesBuilders, Set<String> configurations)
+            throws MojoExecutionException {
+        Path root = classesDirectory.toPath();
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+
+        List<URL> urls = new ArrayList<>();
+        try {
+            for (String element : elements) {
+                urls.add(new File(element).toURI().toURL());
+            }
+        } catch (MalformedURLException e) {
+            throw new MojoExecutionException("Error during setting up classpath", e);
+        }
+
+        List<String> names;
+        try (Stream<Path> stream = Files.walk(root)) {
+            names = stream.filter(p -> p.toString().endsWith(".class"))
+                    .map(p -> root.relativize(p).toString().replace(File.separatorChar, '.'))
+                    .map(n -> n.substring(0, n.length() - 6))
+                    .filter(n -> !n.endsWith("package-info") && !n.endsWith("module-info"))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Error finding classes in " + root, e);
+        }
+
+        try (DynamicClassLoader cl = DynamicClassLoader.createDynamicClassLoaderFromUrls(urls)) {
+            Class<?> routesBuilder = loadClass(cl, "org.apache.camel.RoutesBuilder");
+            Class<?> configuration = loadClass(cl, "org.apache.camel.CamelConfiguration");
+            Class<?> annotation = loadClass(cl, "org.apache.camel.Configuration");
+            if (routesBuilder == null) {
+                getLog().warn("Camel is not on the project classpath. Cannot find route builder classes");
+                return;
+            }
+            for (String name : names) {
+                Class<?> clazz = loadClass(cl, name);
+                if (clazz == null || clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers())) {
+                    continue;
+                }
+                // only classes which can be created by Camel
+                if (clazz.isAnonymousClass() || clazz.isLocalClass()
+                        || clazz.isMemberClass() && !Modifier.isStatic(clazz.getModifiers())) {
+                    continue;
+                }
+                if (routesBuilder.isAssignableFrom(clazz)) {
+                    routesBuilders.add(name);
+                }
+                if (configuration != null && configuration.isAssignableFrom(clazz)
+                        || annotation != null && clazz.isAnnotationPresent(annotation.asSubclass(Annotation.class))) {
+                    configurations.add(name);
+                }
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Error closing classloader", e);
+        }
+    }
+
+    private Class<?> loadClass(ClassLoader cl, String name) {
+        try {
+            return Class.forName(name, false, cl);
+        } catch (Throwable e) {
+            getLog().debug("Cannot load class: " + name + " due to " + e.getMessage());
+            return null;
+        }
+    }
+
+}